@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks;
+
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.DecimalType;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Generates synthetic tables and {@link DataChangeEvent} streams for the benchmarks. */
+public final class SyntheticEvents {
+
+    /** The shape of the schemas of the generated tables. */
+    public enum SchemaWidth {
+        /** A primary key and four payload columns. */
+        NARROW,
+        /** A primary key and 63 payload columns of various types. */
+        WIDE
+    }
+
+    private static final int WIDE_SCHEMA_PAYLOAD_COLUMNS = 63;
+
+    private static final DataType[] WIDE_SCHEMA_PAYLOAD_TYPES =
+            new DataType[] {
+                DataTypes.INT(),
+                DataTypes.BIGINT(),
+                DataTypes.DOUBLE(),
+                DataTypes.STRING(),
+                DataTypes.DECIMAL(10, 2),
+                DataTypes.TIMESTAMP(3),
+                DataTypes.BOOLEAN()
+            };
+
+    private SyntheticEvents() {}
+
+    /** Returns the tableIds of {@code numTables} tables of the same database. */
+    public static TableId[] createTableIds(int numTables) {
+        TableId[] tableIds = new TableId[numTables];
+        for (int i = 0; i < numTables; i++) {
+            tableIds[i] = TableId.tableId("my_company", "my_branch", "table_" + i);
+        }
+        return tableIds;
+    }
+
+    public static Schema createSchema(SchemaWidth schemaWidth) {
+        Schema.Builder builder = Schema.newBuilder().physicalColumn("id", DataTypes.INT());
+        switch (schemaWidth) {
+            case NARROW:
+                builder.physicalColumn("name", DataTypes.STRING())
+                        .physicalColumn("category", DataTypes.STRING())
+                        .physicalColumn("price", DataTypes.DOUBLE())
+                        .physicalColumn("quantity", DataTypes.INT());
+                break;
+            case WIDE:
+                for (int i = 0; i < WIDE_SCHEMA_PAYLOAD_COLUMNS; i++) {
+                    builder.physicalColumn(
+                            "col_" + i,
+                            WIDE_SCHEMA_PAYLOAD_TYPES[i % WIDE_SCHEMA_PAYLOAD_TYPES.length]);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown schema width " + schemaWidth);
+        }
+        return builder.primaryKey("id").build();
+    }
+
+    /** Returns a copy of the schema without its last column. */
+    public static Schema dropLastColumn(Schema schema) {
+        List<Column> columns = schema.getColumns();
+        return schema.copy(new ArrayList<>(columns.subList(0, columns.size() - 1)));
+    }
+
+    /**
+     * Generates {@code numEvents} events distributed over the given tables in a round-robin
+     * fashion. Every fourth event is an insertion and the others are updates.
+     */
+    public static DataChangeEvent[] createDataChangeEvents(
+            TableId[] tableIds, Schema[] schemas, int numEvents) {
+        BinaryRecordDataGenerator[] generators = new BinaryRecordDataGenerator[schemas.length];
+        for (int i = 0; i < schemas.length; i++) {
+            generators[i] = new BinaryRecordDataGenerator((RowType) schemas[i].toRowDataType());
+        }
+        DataChangeEvent[] events = new DataChangeEvent[numEvents];
+        for (int i = 0; i < numEvents; i++) {
+            int table = i % tableIds.length;
+            Schema schema = schemas[table];
+            BinaryRecordDataGenerator generator = generators[table];
+            events[i] =
+                    i % 4 == 0
+                            ? DataChangeEvent.insertEvent(
+                                    tableIds[table], generator.generate(createFields(schema, i)))
+                            : DataChangeEvent.updateEvent(
+                                    tableIds[table],
+                                    generator.generate(createFields(schema, i)),
+                                    generator.generate(createFields(schema, i + 1)));
+        }
+        return events;
+    }
+
+    /** Generates the internal field values of a record, whose primary key is {@code seed}. */
+    public static Object[] createFields(Schema schema, int seed) {
+        List<DataType> types = schema.getColumnDataTypes();
+        Object[] fields = new Object[types.size()];
+        fields[0] = seed;
+        for (int i = 1; i < fields.length; i++) {
+            fields[i] = createField(types.get(i), seed + i);
+        }
+        return fields;
+    }
+
+    private static Object createField(DataType type, int seed) {
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+                return seed % 2 == 0;
+            case INTEGER:
+                return seed % 1000;
+            case BIGINT:
+                return seed * 1000003L;
+            case DOUBLE:
+                return seed * 1.5;
+            case VARCHAR:
+                return BinaryStringData.fromString("value-" + (seed % 16) + "-" + seed);
+            case DECIMAL:
+                DecimalType decimalType = (DecimalType) type;
+                return DecimalData.fromBigDecimal(
+                        BigDecimal.valueOf(seed % 100000, decimalType.getScale()),
+                        decimalType.getPrecision(),
+                        decimalType.getScale());
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                return TimestampData.fromMillis(1704067200000L + seed);
+            default:
+                throw new IllegalArgumentException("Unsupported type " + type);
+        }
+    }
+}
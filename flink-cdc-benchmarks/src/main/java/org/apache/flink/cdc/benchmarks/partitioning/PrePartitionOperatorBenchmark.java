@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks.partitioning;
+
+import org.apache.flink.cdc.benchmarks.SyntheticEvents;
+import org.apache.flink.cdc.benchmarks.SyntheticEvents.SchemaWidth;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.sink.DefaultDataChangeEventHashFunctionProvider;
+import org.apache.flink.cdc.runtime.partitioning.PartitioningEvent;
+import org.apache.flink.cdc.runtime.partitioning.PrePartitionOperator;
+import org.apache.flink.cdc.runtime.testutils.operators.EventOperatorTestHarness;
+import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.flink.cdc.runtime.testutils.operators.EventOperatorTestHarness.SCHEMA_OPERATOR_ID;
+
+/**
+ * Benchmark for the hash partitioning of data change events in {@link PrePartitionOperator},
+ * reported as records per second.
+ *
+ * <p>Run it with {@code java -jar flink-cdc-benchmarks/target/benchmarks.jar
+ * PrePartitionOperatorBenchmark -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PrePartitionOperatorBenchmark {
+
+    private static final int RECORDS_PER_INVOCATION = 1024;
+
+    private static final int DOWNSTREAM_PARALLELISM = 4;
+
+    /** The schema of the tables. */
+    @Param({"NARROW", "WIDE"})
+    public SchemaWidth schemaWidth;
+
+    /** The number of tables. */
+    @Param({"1", "64"})
+    public int numTables;
+
+    private EventOperatorTestHarness<PrePartitionOperator, PartitioningEvent> testHarness;
+    private PrePartitionOperator operator;
+    private StreamRecord<Event>[] records;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        operator =
+                new PrePartitionOperator(
+                        SCHEMA_OPERATOR_ID,
+                        DOWNSTREAM_PARALLELISM,
+                        new DefaultDataChangeEventHashFunctionProvider());
+        testHarness = new EventOperatorTestHarness<>(operator, DOWNSTREAM_PARALLELISM);
+        testHarness.open();
+
+        TableId[] tableIds = SyntheticEvents.createTableIds(numTables);
+        Schema[] schemas = new Schema[numTables];
+        Arrays.fill(schemas, SyntheticEvents.createSchema(schemaWidth));
+        for (int i = 0; i < numTables; i++) {
+            testHarness.registerTableSchema(tableIds[i], schemas[i]);
+        }
+
+        DataChangeEvent[] events =
+                SyntheticEvents.createDataChangeEvents(tableIds, schemas, RECORDS_PER_INVOCATION);
+        records = new StreamRecord[events.length];
+        for (int i = 0; i < events.length; i++) {
+            records[i] = new StreamRecord<>(events[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        testHarness.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS_PER_INVOCATION)
+    public void partitionDataChangeEvents() throws Exception {
+        for (StreamRecord<Event> record : records) {
+            operator.processElement(record);
+        }
+        testHarness.clearOutputRecords();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options =
+                new OptionsBuilder()
+                        .include(PrePartitionOperatorBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks.schema;
+
+import org.apache.flink.cdc.benchmarks.SyntheticEvents;
+import org.apache.flink.cdc.benchmarks.SyntheticEvents.SchemaWidth;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.route.RouteRule;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.runtime.operators.schema.SchemaOperator;
+import org.apache.flink.cdc.runtime.testutils.operators.EventOperatorTestHarness;
+import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the data change event processing of {@link SchemaOperator}, reported as records per
+ * second.
+ *
+ * <p>Run it with {@code java -jar flink-cdc-benchmarks/target/benchmarks.jar
+ * SchemaOperatorBenchmark -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SchemaOperatorBenchmark {
+
+    private static final int RECORDS_PER_INVOCATION = 1024;
+
+    private static final TableId MERGED_TABLE_ID =
+            TableId.tableId("my_company", "my_branch", "merged");
+
+    /** The schema of the upstream tables. */
+    @Param({"NARROW", "WIDE"})
+    public SchemaWidth schemaWidth;
+
+    /** The number of upstream tables. */
+    @Param({"1", "64"})
+    public int numTables;
+
+    /**
+     * The route applied to the upstream tables. {@code MANY_TO_ONE} merges all tables into one sink
+     * table, while every other table lacks the last column and has to be normalized.
+     */
+    @Param({"NONE", "ONE_TO_ONE", "MANY_TO_ONE"})
+    public String route;
+
+    private EventOperatorTestHarness<SchemaOperator, Event> testHarness;
+    private SchemaOperator operator;
+    private StreamRecord<Event>[] records;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        TableId[] tableIds = SyntheticEvents.createTableIds(numTables);
+        Schema schema = SyntheticEvents.createSchema(schemaWidth);
+        Schema[] schemas = new Schema[numTables];
+        List<RouteRule> routingRules;
+        switch (route) {
+            case "NONE":
+                routingRules = new ArrayList<>();
+                break;
+            case "ONE_TO_ONE":
+                routingRules =
+                        Collections.singletonList(
+                                new RouteRule(
+                                        "my_company.my_branch.table_\\.*",
+                                        "my_company.sink_branch.<>",
+                                        "<>"));
+                break;
+            case "MANY_TO_ONE":
+                routingRules =
+                        Collections.singletonList(
+                                new RouteRule(
+                                        "my_company.my_branch.table_\\.*",
+                                        MERGED_TABLE_ID.identifier(),
+                                        null));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown route " + route);
+        }
+        for (int i = 0; i < numTables; i++) {
+            schemas[i] =
+                    "MANY_TO_ONE".equals(route) && i % 2 == 1
+                            ? SyntheticEvents.dropLastColumn(schema)
+                            : schema;
+        }
+
+        operator = new SchemaOperator(routingRules);
+        testHarness = new EventOperatorTestHarness<>(operator, 1, null, routingRules);
+        testHarness.open();
+        for (int i = 0; i < numTables; i++) {
+            operator.processElement(
+                    new StreamRecord<>(new CreateTableEvent(tableIds[i], schemas[i])));
+        }
+
+        DataChangeEvent[] events =
+                SyntheticEvents.createDataChangeEvents(tableIds, schemas, RECORDS_PER_INVOCATION);
+        records = new StreamRecord[events.length];
+        for (int i = 0; i < events.length; i++) {
+            records[i] = new StreamRecord<>(events[i]);
+        }
+        testHarness.clearOutputRecords();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        testHarness.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS_PER_INVOCATION)
+    public void processDataChangeEvents() throws Exception {
+        for (StreamRecord<Event> record : records) {
+            operator.processElement(record);
+        }
+        testHarness.clearOutputRecords();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options =
+                new OptionsBuilder()
+                        .include(SchemaOperatorBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks.serializer;
+
+import org.apache.flink.cdc.benchmarks.SyntheticEvents;
+import org.apache.flink.cdc.benchmarks.SyntheticEvents.SchemaWidth;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for building records with {@link BinaryRecordDataGenerator}, reported as records per
+ * second.
+ *
+ * <p>Run it with {@code java -jar flink-cdc-benchmarks/target/benchmarks.jar
+ * BinaryRecordDataGeneratorBenchmark -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BinaryRecordDataGeneratorBenchmark {
+
+    private static final int RECORDS_PER_INVOCATION = 1024;
+
+    /** The schema of the generated records. */
+    @Param({"NARROW", "WIDE"})
+    public SchemaWidth schemaWidth;
+
+    private BinaryRecordDataGenerator generator;
+    private Object[][] rows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Schema schema = SyntheticEvents.createSchema(schemaWidth);
+        generator = new BinaryRecordDataGenerator((RowType) schema.toRowDataType());
+        rows = new Object[RECORDS_PER_INVOCATION][];
+        for (int i = 0; i < RECORDS_PER_INVOCATION; i++) {
+            rows[i] = SyntheticEvents.createFields(schema, i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS_PER_INVOCATION)
+    public void generate(Blackhole blackhole) {
+        for (Object[] row : rows) {
+            blackhole.consume(generator.generate(row));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options =
+                new OptionsBuilder()
+                        .include(BinaryRecordDataGeneratorBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build();
+        new Runner(options).run();
+    }
+}
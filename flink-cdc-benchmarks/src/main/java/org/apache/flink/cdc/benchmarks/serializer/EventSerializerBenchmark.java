@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks.serializer;
+
+import org.apache.flink.cdc.benchmarks.SyntheticEvents;
+import org.apache.flink.cdc.benchmarks.SyntheticEvents.SchemaWidth;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.runtime.serializer.event.EventSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for serializing, deserializing and copying data change events with {@link
+ * EventSerializer}, reported as records per second. The serialization also reports the serialized
+ * bytes per second as a secondary result, so its ratio to the primary one is the size of a record.
+ *
+ * <p>Run it with {@code java -jar flink-cdc-benchmarks/target/benchmarks.jar
+ * EventSerializerBenchmark -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EventSerializerBenchmark {
+
+    private static final int RECORDS_PER_INVOCATION = 1024;
+
+    /** The schema of the tables. */
+    @Param({"NARROW", "WIDE"})
+    public SchemaWidth schemaWidth;
+
+    /** The number of tables. */
+    @Param({"1", "64"})
+    public int numTables;
+
+    private final EventSerializer serializer = EventSerializer.INSTANCE;
+    private final DataOutputSerializer outputView = new DataOutputSerializer(64 * 1024);
+    private final DataInputDeserializer inputView = new DataInputDeserializer();
+
+    private DataChangeEvent[] events;
+    private byte[] serializedEvents;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        TableId[] tableIds = SyntheticEvents.createTableIds(numTables);
+        Schema[] schemas = new Schema[numTables];
+        Arrays.fill(schemas, SyntheticEvents.createSchema(schemaWidth));
+        events = SyntheticEvents.createDataChangeEvents(tableIds, schemas, RECORDS_PER_INVOCATION);
+
+        outputView.clear();
+        for (DataChangeEvent event : events) {
+            serializer.serialize(event, outputView);
+        }
+        serializedEvents = outputView.getCopyOfBuffer();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS_PER_INVOCATION)
+    public void serialize(SerializedSize serializedSize) throws IOException {
+        outputView.clear();
+        for (DataChangeEvent event : events) {
+            serializer.serialize(event, outputView);
+        }
+        serializedSize.serializedBytes += outputView.length();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS_PER_INVOCATION)
+    public void deserialize(Blackhole blackhole) throws IOException {
+        inputView.setBuffer(serializedEvents);
+        for (int i = 0; i < RECORDS_PER_INVOCATION; i++) {
+            blackhole.consume(serializer.deserialize(inputView));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS_PER_INVOCATION)
+    public void copy(Blackhole blackhole) {
+        for (Event event : events) {
+            blackhole.consume(serializer.copy(event));
+        }
+    }
+
+    /** The secondary result of the serialized bytes. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class SerializedSize {
+
+        public long serializedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            serializedBytes = 0;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options =
+                new OptionsBuilder()
+                        .include(EventSerializerBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks.transform;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.runtime.operators.transform.PostTransformOperator;
+import org.apache.flink.cdc.runtime.testutils.operators.EventOperatorTestHarness;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the data change event processing of {@link PostTransformOperator}, reported as
+ * records per second.
+ *
+ * <p>Run it with {@code java -jar flink-cdc-benchmarks/target/benchmarks.jar
+ * PostTransformOperatorBenchmark -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PostTransformOperatorBenchmark {
+
+    private static final int RECORDS_PER_INVOCATION = 1024;
+
+    private static final TableId TABLE_ID = TableId.tableId("my_company", "my_branch", "orders");
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("category", DataTypes.STRING())
+                    .physicalColumn("price", DataTypes.DOUBLE())
+                    .physicalColumn("quantity", DataTypes.INT())
+                    .primaryKey("id")
+                    .build();
+
+    /** The transform rule applied to the benchmark table. */
+    @Param({"NONE", "FILTER", "PROJECTION", "FILTER_AND_PROJECTION", "UDF"})
+    public String transform;
+
+    /** Whether the transform rules are compiled into generated classes. */
+    @Param({"false", "true"})
+    public boolean codegen;
+
+    private EventOperatorTestHarness<PostTransformOperator, Event> testHarness;
+    private PostTransformOperator operator;
+    private StreamRecord<Event>[] records;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        PostTransformOperator.Builder builder =
+                PostTransformOperator.newBuilder().enableCodegen(codegen);
+        switch (transform) {
+            case "NONE":
+                break;
+            case "FILTER":
+                builder.addTransform(TABLE_ID.identifier(), null, "id > 0");
+                break;
+            case "PROJECTION":
+                builder.addTransform(TABLE_ID.identifier(), "*, price * quantity AS amount", null);
+                break;
+            case "FILTER_AND_PROJECTION":
+                builder.addTransform(
+                        TABLE_ID.identifier(),
+                        "*, price * quantity AS amount, UPPER(category) AS upper_category",
+                        "id > 0 AND quantity > 0");
+                break;
+            case "UDF":
+                builder.addTransform(
+                                TABLE_ID.identifier(),
+                                "*, format('%s-%s', name, category) AS label, addone(quantity) AS next_quantity",
+                                "id > 0")
+                        .addUdfFunctions(
+                                Arrays.asList(
+                                        Tuple2.of(
+                                                "format",
+                                                "org.apache.flink.cdc.udf.examples.java.FormatFunctionClass"),
+                                        Tuple2.of(
+                                                "addone",
+                                                "org.apache.flink.cdc.udf.examples.java.AddOneFunctionClass")));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown transform " + transform);
+        }
+        operator = builder.build();
+        testHarness = new EventOperatorTestHarness<>(operator, 1);
+        testHarness.open();
+        operator.processElement(new StreamRecord<>(new CreateTableEvent(TABLE_ID, SCHEMA)));
+
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator((RowType) SCHEMA.toRowDataType());
+        records = new StreamRecord[RECORDS_PER_INVOCATION];
+        for (int i = 0; i < RECORDS_PER_INVOCATION; i++) {
+            Object[] before =
+                    new Object[] {
+                        i + 1,
+                        BinaryStringData.fromString("name-" + i),
+                        BinaryStringData.fromString("category-" + (i % 16)),
+                        i * 1.5,
+                        i % 8
+                    };
+            Object[] after = before.clone();
+            after[4] = i % 8 + 1;
+            DataChangeEvent event =
+                    i % 4 == 0
+                            ? DataChangeEvent.insertEvent(TABLE_ID, generator.generate(after))
+                            : DataChangeEvent.updateEvent(
+                                    TABLE_ID,
+                                    generator.generate(before),
+                                    generator.generate(after));
+            records[i] = new StreamRecord<>(event);
+        }
+        testHarness.clearOutputRecords();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        testHarness.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS_PER_INVOCATION)
+    public void processDataChangeEvents() throws Exception {
+        for (StreamRecord<Event> record : records) {
+            operator.processElement(record);
+        }
+        testHarness.clearOutputRecords();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options =
+                new OptionsBuilder()
+                        .include(PostTransformOperatorBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build();
+        new Runner(options).run();
+    }
+}
@@ -198,6 +198,32 @@ public final class BinaryRecordData extends BinarySection implements RecordData,
         return BinarySegmentUtils.readBinary(segments, offset, fieldOffset, offsetAndLen);
     }
 
+    /**
+     * Returns the hash code of the string or binary field without materializing it. For string
+     * fields it equals to {@code getString(pos).hashCode()}.
+     */
+    public int hashVariableLengthField(int pos) {
+        assertIndexIsValid(pos);
+        int fieldOffset = getFieldOffset(pos);
+        final long offsetAndLen = segments[0].getLong(fieldOffset);
+        return BinarySegmentUtils.hashVariableLengthData(
+                segments, offset, fieldOffset, offsetAndLen);
+    }
+
+    /**
+     * Returns the hash code of the timestamp or local zoned timestamp field without materializing
+     * it, which equals to {@code getTimestamp(pos, precision).hashCode()}.
+     */
+    public int hashTimestampField(int pos) {
+        assertIndexIsValid(pos);
+        final long offsetAndNanoOfMilli = segments[0].getLong(getFieldOffset(pos));
+        final int nanoOfMillisecond = (int) offsetAndNanoOfMilli;
+        final int subOffset = (int) (offsetAndNanoOfMilli >> 32);
+        final long millisecond = BinarySegmentUtils.getLong(segments, offset + subOffset);
+        int ret = (int) millisecond ^ (int) (millisecond >> 32);
+        return 31 * ret + nanoOfMillisecond;
+    }
+
     @Override
     public ArrayData getArray(int pos) {
         throw new UnsupportedOperationException("Not support ArrayData");
@@ -1094,6 +1094,37 @@ public final class BinarySegmentUtils {
         }
     }
 
+    /**
+     * Hash binary or binary string without copying it, the result equals to the hash code of the
+     * {@link BinaryStringData} read by {@link #readStringData}.
+     *
+     * <p>Note: Need to consider the ByteOrder.
+     *
+     * @param baseOffset base offset of composite binary format.
+     * @param fieldOffset absolute start offset of 'variablePartOffsetAndLen'.
+     * @param variablePartOffsetAndLen a long value, real data or offset and len.
+     */
+    public static int hashVariableLengthData(
+            MemorySegment[] segments,
+            int baseOffset,
+            int fieldOffset,
+            long variablePartOffsetAndLen) {
+        long mark = variablePartOffsetAndLen & HIGHEST_FIRST_BIT;
+        if (mark == 0) {
+            final int subOffset = (int) (variablePartOffsetAndLen >> 32);
+            final int len = (int) variablePartOffsetAndLen;
+            return hash(segments, baseOffset + subOffset, len);
+        } else {
+            int len = (int) ((variablePartOffsetAndLen & HIGHEST_SECOND_TO_EIGHTH_BIT) >>> 56);
+            if (BinarySegmentUtils.LITTLE_ENDIAN) {
+                return hash(segments, fieldOffset, len);
+            } else {
+                // fieldOffset + 1 to skip header.
+                return hash(segments, fieldOffset + 1, len);
+            }
+        }
+    }
+
     /** Gets an instance of {@link RecordData} from underlying {@link MemorySegment}. */
     public static RecordData readRecordData(
             MemorySegment[] segments, int numFields, int baseOffset, long offsetAndSize) {
@@ -100,5 +100,13 @@ public class PipelineOptions {
                     .withDescription(
                             "The timeout time for SchemaOperator to wait downstream SchemaChangeEvent applying finished, the default value is 3 minutes.");
 
+    public static final ConfigOption<Boolean> PIPELINE_TRANSFORM_CODEGEN_ENABLED =
+            ConfigOptions.key("transform.codegen.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to compile the filter and projection of each transform rule into one generated class per table. "
+                                    + "Rules failing to be generated fall back to the interpreted evaluation.");
+
     private PipelineOptions() {}
 }
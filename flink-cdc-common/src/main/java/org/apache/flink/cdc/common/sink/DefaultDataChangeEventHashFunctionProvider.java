@@ -17,22 +17,24 @@
 
 package org.apache.flink.cdc.common.sink;
 
+import org.apache.flink.cdc.common.data.DecimalData;
 import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.data.RecordData.FieldGetter;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinarySegmentUtils;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.OperationType;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.function.HashFunction;
 import org.apache.flink.cdc.common.function.HashFunctionProvider;
 import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypeChecks;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
 
 import javax.annotation.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-
 /** The default {@link HashFunctionProvider} implementation for data change event. */
 public class DefaultDataChangeEventHashFunctionProvider
         implements HashFunctionProvider<DataChangeEvent> {
@@ -44,38 +46,133 @@ public class DefaultDataChangeEventHashFunctionProvider
         return new DefaultDataChangeEventHashFunction(schema);
     }
 
-    /** The default {@link HashFunction} implementation for data change event. */
+    /**
+     * The default {@link HashFunction} implementation for data change event.
+     *
+     * <p>The hash code equals to {@code Objects.hash(namespace, schemaName, tableName, pk1, pk2,
+     * ...)} with the null namespace and schema name skipped, so that the partition assignment is
+     * stable across versions and restarts. The hash of the table id is cached, and the primary key
+     * fields of {@link BinaryRecordData} are hashed directly from the memory segments without
+     * materializing them.
+     */
     static class DefaultDataChangeEventHashFunction implements HashFunction<DataChangeEvent> {
 
-        private final List<FieldGetter> primaryKeyGetters;
+        private final int[] primaryKeyPositions;
+        private final DataType[] primaryKeyTypes;
+        private final FieldGetter[] primaryKeyGetters;
+
+        private TableId cachedTableId;
+        private int cachedTableIdHash;
 
         public DefaultDataChangeEventHashFunction(Schema schema) {
-            primaryKeyGetters = createFieldGetters(schema);
+            primaryKeyPositions = getPrimaryKeyPositions(schema);
+            primaryKeyTypes = new DataType[primaryKeyPositions.length];
+            primaryKeyGetters = new FieldGetter[primaryKeyPositions.length];
+            for (int i = 0; i < primaryKeyPositions.length; i++) {
+                primaryKeyTypes[i] = schema.getColumns().get(primaryKeyPositions[i]).getType();
+                primaryKeyGetters[i] =
+                        RecordData.createFieldGetter(primaryKeyTypes[i], primaryKeyPositions[i]);
+            }
         }
 
         @Override
         public int hashcode(DataChangeEvent event) {
-            List<Object> objectsToHash = new ArrayList<>();
             // Table ID
-            TableId tableId = event.tableId();
-            Optional.ofNullable(tableId.getNamespace()).ifPresent(objectsToHash::add);
-            Optional.ofNullable(tableId.getSchemaName()).ifPresent(objectsToHash::add);
-            objectsToHash.add(tableId.getTableName());
+            int hash = hashTableId(event.tableId());
 
             // Primary key
             RecordData data =
                     event.op().equals(OperationType.DELETE) ? event.before() : event.after();
-            for (FieldGetter primaryKeyGetter : primaryKeyGetters) {
-                objectsToHash.add(primaryKeyGetter.getFieldOrNull(data));
+            if (data instanceof BinaryRecordData) {
+                BinaryRecordData binaryData = (BinaryRecordData) data;
+                for (int i = 0; i < primaryKeyPositions.length; i++) {
+                    hash = 31 * hash + hashBinaryField(binaryData, i);
+                }
+            } else {
+                for (FieldGetter primaryKeyGetter : primaryKeyGetters) {
+                    hash = 31 * hash + hashObject(primaryKeyGetter.getFieldOrNull(data));
+                }
+            }
+            return (hash * 31) & 0x7FFFFFFF;
+        }
+
+        private int hashTableId(TableId tableId) {
+            if (tableId != cachedTableId) {
+                if (!tableId.equals(cachedTableId)) {
+                    int hash = 1;
+                    if (tableId.getNamespace() != null) {
+                        hash = 31 * hash + tableId.getNamespace().hashCode();
+                    }
+                    if (tableId.getSchemaName() != null) {
+                        hash = 31 * hash + tableId.getSchemaName().hashCode();
+                    }
+                    cachedTableIdHash = 31 * hash + tableId.getTableName().hashCode();
+                }
+                cachedTableId = tableId;
+            }
+            return cachedTableIdHash;
+        }
+
+        private int hashBinaryField(BinaryRecordData data, int index) {
+            int pos = primaryKeyPositions[index];
+            if (data.isNullAt(pos)) {
+                return 0;
             }
+            DataType type = primaryKeyTypes[index];
+            switch (type.getTypeRoot()) {
+                case CHAR:
+                case VARCHAR:
+                case BINARY:
+                case VARBINARY:
+                    return data.hashVariableLengthField(pos);
+                case BOOLEAN:
+                    return Boolean.hashCode(data.getBoolean(pos));
+                case TINYINT:
+                    return Byte.hashCode(data.getByte(pos));
+                case SMALLINT:
+                    return Short.hashCode(data.getShort(pos));
+                case INTEGER:
+                case DATE:
+                case TIME_WITHOUT_TIME_ZONE:
+                    return data.getInt(pos);
+                case BIGINT:
+                    return Long.hashCode(data.getLong(pos));
+                case FLOAT:
+                    return Float.hashCode(data.getFloat(pos));
+                case DOUBLE:
+                    return Double.hashCode(data.getDouble(pos));
+                case DECIMAL:
+                    if (DecimalData.isCompact(DataTypeChecks.getPrecision(type))) {
+                        return hashCompactDecimal(data.getLong(pos), DataTypeChecks.getScale(type));
+                    }
+                    return hashObject(primaryKeyGetters[index].getFieldOrNull(data));
+                case TIMESTAMP_WITHOUT_TIME_ZONE:
+                case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                    return data.hashTimestampField(pos);
+                default:
+                    return hashObject(primaryKeyGetters[index].getFieldOrNull(data));
+            }
+        }
 
-            // Calculate hash
-            return (Objects.hash(objectsToHash.toArray()) * 31) & 0x7FFFFFFF;
+        /** Same as {@code BigDecimal.valueOf(unscaledValue, scale).hashCode()}. */
+        private static int hashCompactDecimal(long unscaledValue, int scale) {
+            long absValue = unscaledValue < 0 ? -unscaledValue : unscaledValue;
+            int temp = (int) (((int) (absValue >>> 32)) * 31 + (absValue & 0xFFFFFFFFL));
+            return 31 * (unscaledValue < 0 ? -temp : temp) + scale;
+        }
+
+        private static int hashObject(@Nullable Object value) {
+            if (value instanceof byte[]) {
+                // keep consistent with the hash of binary fields in BinaryRecordData
+                byte[] bytes = (byte[]) value;
+                return BinarySegmentUtils.hash(
+                        new MemorySegment[] {MemorySegmentFactory.wrap(bytes)}, 0, bytes.length);
+            }
+            return value == null ? 0 : value.hashCode();
         }
 
-        private List<FieldGetter> createFieldGetters(Schema schema) {
-            List<FieldGetter> fieldGetters = new ArrayList<>(schema.primaryKeys().size());
-            schema.primaryKeys().stream()
+        private static int[] getPrimaryKeyPositions(Schema schema) {
+            return schema.primaryKeys().stream()
                     .mapToInt(
                             pk -> {
                                 int index = schema.getColumnNames().indexOf(pk);
@@ -87,15 +184,7 @@ public class DefaultDataChangeEventHashFunctionProvider
                                 }
                                 return index;
                             })
-                    .forEach(
-                            primaryKeyPosition ->
-                                    fieldGetters.add(
-                                            RecordData.createFieldGetter(
-                                                    schema.getColumns()
-                                                            .get(primaryKeyPosition)
-                                                            .getType(),
-                                                    primaryKeyPosition)));
-            return fieldGetters;
+                    .toArray();
         }
     }
 }
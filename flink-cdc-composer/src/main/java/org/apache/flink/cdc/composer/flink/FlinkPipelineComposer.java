@@ -123,6 +123,9 @@ public class FlinkPipelineComposer implements PipelineComposer {
                         stream,
                         pipelineDef.getTransforms(),
                         pipelineDef.getConfig().get(PipelineOptions.PIPELINE_LOCAL_TIME_ZONE),
+                        pipelineDef
+                                .getConfig()
+                                .get(PipelineOptions.PIPELINE_TRANSFORM_CODEGEN_ENABLED),
                         pipelineDef.getUdfs());
 
         // Build DataSink in advance as schema operator requires MetadataApplier
@@ -66,6 +66,7 @@ public class TransformTranslator {
             DataStream<Event> input,
             List<TransformDef> transforms,
             String timezone,
+            boolean codegenEnabled,
             List<UdfDef> udfFunctions) {
         if (transforms.isEmpty()) {
             return input;
@@ -85,6 +86,7 @@ public class TransformTranslator {
             }
         }
         postTransformFunctionBuilder.addTimezone(timezone);
+        postTransformFunctionBuilder.enableCodegen(codegenEnabled);
         postTransformFunctionBuilder.addUdfFunctions(
                 udfFunctions.stream()
                         .map(udf -> Tuple2.of(udf.getName(), udf.getClasspath()))
@@ -26,10 +26,13 @@ import org.apache.flink.cdc.common.pipeline.PipelineOptions;
 import org.apache.flink.cdc.common.sink.DataSink;
 import org.apache.flink.cdc.connectors.doris.sink.DorisDataSink;
 import org.apache.flink.cdc.connectors.doris.sink.DorisDataSinkOptions;
+import org.apache.flink.cdc.connectors.doris.sink.DorisEventSerializer;
+import org.apache.flink.table.api.ValidationException;
 
 import org.apache.doris.flink.cfg.DorisExecutionOptions;
 import org.apache.doris.flink.cfg.DorisOptions;
 import org.apache.doris.flink.cfg.DorisReadOptions;
+import org.apache.doris.flink.sink.writer.LoadConstants;
 
 import java.time.ZoneId;
 import java.util.HashSet;
@@ -111,6 +114,30 @@ public class DorisDataSinkFactory implements DataSinkFactory {
         Map<String, String> streamLoadProp =
                 DorisDataSinkOptions.getPropertiesByPrefix(config, STREAM_LOAD_PROP_PREFIX);
         properties.putAll(streamLoadProp);
+        String format = properties.getProperty(LoadConstants.FORMAT_KEY);
+        if (!LoadConstants.JSON.equals(format) && !LoadConstants.CSV.equals(format)) {
+            throw new ValidationException(
+                    String.format(
+                            "Unsupported stream load format '%s' for the doris pipeline sink, "
+                                    + "only '%s' and '%s' are supported.",
+                            format, LoadConstants.JSON, LoadConstants.CSV));
+        }
+        if (LoadConstants.CSV.equals(format)
+                && !(DorisEventSerializer.isSingleAsciiCharacter(
+                                properties.getProperty(DorisEventSerializer.ENCLOSE_KEY))
+                        && DorisEventSerializer.isSingleAsciiCharacter(
+                                properties.getProperty(DorisEventSerializer.ESCAPE_KEY)))) {
+            throw new ValidationException(
+                    String.format(
+                            "The stream load format '%s' requires the single character stream "
+                                    + "load properties '%s%s' and '%s%s', so that values "
+                                    + "containing the separators are enclosed.",
+                            LoadConstants.CSV,
+                            STREAM_LOAD_PROP_PREFIX,
+                            DorisEventSerializer.ENCLOSE_KEY,
+                            STREAM_LOAD_PROP_PREFIX,
+                            DorisEventSerializer.ESCAPE_KEY));
+        }
         executionBuilder.setStreamLoadProp(properties);
 
         return new DorisDataSink(
@@ -26,29 +26,55 @@ import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypeRoot;
 import org.apache.flink.cdc.common.utils.Preconditions;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
 
-import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.SerializableString;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.io.SerializedString;
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.apache.doris.flink.cfg.DorisExecutionOptions;
+import org.apache.doris.flink.sink.EscapeHandler;
 import org.apache.doris.flink.sink.writer.serializer.DorisRecord;
 import org.apache.doris.flink.sink.writer.serializer.DorisRecordSerializer;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
-import static org.apache.doris.flink.sink.util.DeleteOperation.addDeleteSign;
+import static org.apache.doris.flink.sink.writer.LoadConstants.CSV;
+import static org.apache.doris.flink.sink.writer.LoadConstants.DORIS_DELETE_SIGN;
+import static org.apache.doris.flink.sink.writer.LoadConstants.FIELD_DELIMITER_DEFAULT;
+import static org.apache.doris.flink.sink.writer.LoadConstants.FIELD_DELIMITER_KEY;
+import static org.apache.doris.flink.sink.writer.LoadConstants.FORMAT_KEY;
+import static org.apache.doris.flink.sink.writer.LoadConstants.JSON;
+import static org.apache.doris.flink.sink.writer.LoadConstants.NULL_VALUE;
 
-/** A serializer for Event to DorisRecord. */
+/**
+ * A serializer for Event to DorisRecord.
+ *
+ * <p>Rows are written in the stream load format configured by {@code sink.properties.format}, which
+ * is either {@code json} (the default) or {@code csv}. The converters of each table are created
+ * once per schema and rows are written straight to UTF-8 bytes.
+ *
+ * <p>CSV rows require the {@code enclose} and {@code escape} stream load properties. Every non-null
+ * value is enclosed, and the enclose and escape characters in it are escaped, so that values may
+ * contain the column separator or the line delimiter. Null is written as {@code \N} without
+ * enclose, which distinguishes it from a string value {@code \N}.
+ */
 public class DorisEventSerializer implements DorisRecordSerializer<Event> {
-    private ObjectMapper objectMapper = new ObjectMapper();
-    private Map<TableId, Schema> schemaMaps = new HashMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<TableId, TableSchemaInfo> schemaMaps = new HashMap<>();
 
     /** Format DATE type data. */
     public static final DateTimeFormatter DATE_FORMATTER =
@@ -58,11 +84,86 @@ public class DorisEventSerializer implements DorisRecordSerializer<Event> {
     public static final DateTimeFormatter DATE_TIME_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
 
+    private static final SerializableString DELETE_SIGN_FIELD_NAME =
+            new SerializedString(DORIS_DELETE_SIGN);
+
+    private static final byte[] NULL_VALUE_BYTES = NULL_VALUE.getBytes(StandardCharsets.UTF_8);
+
+    /** The stream load property of the character to enclose CSV values. */
+    public static final String ENCLOSE_KEY = "enclose";
+
+    /** The stream load property of the character to escape the enclose character in values. */
+    public static final String ESCAPE_KEY = "escape";
+
     /** ZoneId from pipeline config to support timestamp with local time zone. */
     public final ZoneId pipelineZoneId;
 
+    /** Whether rows are written as CSV instead of JSON. */
+    private final boolean csvFormat;
+
+    /** The column separator of CSV rows. */
+    private final byte[] fieldDelimiter;
+
+    /** The character to enclose CSV values, and the character to escape it in values. */
+    private final byte enclose;
+
+    private final byte escape;
+
+    /** Whether the delete sign is appended to CSV rows as a hidden column. */
+    private final boolean deletable;
+
+    private transient ByteArrayOutputStream outputBuffer;
+    private transient JsonGenerator jsonGenerator;
+
     public DorisEventSerializer(ZoneId zoneId) {
-        pipelineZoneId = zoneId;
+        this(zoneId, JSON, FIELD_DELIMITER_DEFAULT, null, null, true);
+    }
+
+    public DorisEventSerializer(ZoneId zoneId, DorisExecutionOptions executionOptions) {
+        this(
+                zoneId,
+                executionOptions.getStreamLoadProp().getProperty(FORMAT_KEY, JSON),
+                getFieldDelimiter(executionOptions.getStreamLoadProp()),
+                executionOptions.getStreamLoadProp().getProperty(ENCLOSE_KEY),
+                executionOptions.getStreamLoadProp().getProperty(ESCAPE_KEY),
+                Boolean.TRUE.equals(executionOptions.getDeletable()));
+    }
+
+    public DorisEventSerializer(
+            ZoneId zoneId,
+            String format,
+            String fieldDelimiter,
+            String enclose,
+            String escape,
+            boolean deletable) {
+        Preconditions.checkArgument(
+                JSON.equals(format) || CSV.equals(format),
+                "Unsupported stream load format %s, only json and csv are supported.",
+                format);
+        this.pipelineZoneId = zoneId;
+        this.csvFormat = CSV.equals(format);
+        this.fieldDelimiter = fieldDelimiter.getBytes(StandardCharsets.UTF_8);
+        this.deletable = deletable;
+        if (csvFormat) {
+            Preconditions.checkArgument(
+                    isSingleAsciiCharacter(enclose) && isSingleAsciiCharacter(escape),
+                    "The stream load properties %s and %s must be single ASCII characters "
+                            + "to write csv rows, but they are %s and %s.",
+                    ENCLOSE_KEY,
+                    ESCAPE_KEY,
+                    enclose,
+                    escape);
+            this.enclose = (byte) enclose.charAt(0);
+            this.escape = (byte) escape.charAt(0);
+        } else {
+            this.enclose = 0;
+            this.escape = 0;
+        }
+    }
+
+    /** Whether the value of the enclose or escape stream load property is valid for csv rows. */
+    public static boolean isSingleAsciiCharacter(String value) {
+        return value != null && value.length() == 1 && value.charAt(0) < 0x80;
     }
 
     @Override
@@ -73,62 +174,172 @@ public class DorisEventSerializer implements DorisRecordSerializer<Event> {
             SchemaChangeEvent schemaChangeEvent = (SchemaChangeEvent) event;
             TableId tableId = schemaChangeEvent.tableId();
             if (event instanceof CreateTableEvent) {
-                schemaMaps.put(tableId, ((CreateTableEvent) event).getSchema());
+                schemaMaps.put(
+                        tableId,
+                        new TableSchemaInfo(
+                                ((CreateTableEvent) event).getSchema(), csvFormat, pipelineZoneId));
             } else {
                 if (!schemaMaps.containsKey(tableId)) {
                     throw new RuntimeException("schema of " + tableId + " is not existed.");
                 }
                 schemaMaps.put(
                         tableId,
-                        SchemaUtils.applySchemaChangeEvent(
-                                schemaMaps.get(tableId), schemaChangeEvent));
+                        new TableSchemaInfo(
+                                SchemaUtils.applySchemaChangeEvent(
+                                        schemaMaps.get(tableId).schema, schemaChangeEvent),
+                                csvFormat,
+                                pipelineZoneId));
             }
         }
         return null;
     }
 
-    private DorisRecord applyDataChangeEvent(DataChangeEvent event) throws JsonProcessingException {
+    private DorisRecord applyDataChangeEvent(DataChangeEvent event) throws IOException {
         TableId tableId = event.tableId();
-        Schema schema = schemaMaps.get(tableId);
-        Preconditions.checkNotNull(schema, event.tableId() + " is not existed");
-        Map<String, Object> valueMap;
+        TableSchemaInfo tableSchemaInfo = schemaMaps.get(tableId);
+        Preconditions.checkNotNull(tableSchemaInfo, event.tableId() + " is not existed");
+        RecordData recordData;
+        boolean delete;
         OperationType op = event.op();
         switch (op) {
             case INSERT:
             case UPDATE:
             case REPLACE:
-                valueMap = serializerRecord(event.after(), schema);
-                addDeleteSign(valueMap, false);
+                recordData = event.after();
+                delete = false;
                 break;
             case DELETE:
-                valueMap = serializerRecord(event.before(), schema);
-                addDeleteSign(valueMap, true);
+                recordData = event.before();
+                delete = true;
                 break;
             default:
                 throw new UnsupportedOperationException("Unsupport Operation " + op);
         }
+        Preconditions.checkState(
+                tableSchemaInfo.getArity() == recordData.getArity(),
+                "Column size does not match the data size");
+
+        if (outputBuffer == null) {
+            outputBuffer = new ByteArrayOutputStream();
+            jsonGenerator = objectMapper.getFactory().createGenerator(outputBuffer);
+            jsonGenerator.setRootValueSeparator(null);
+        }
+        outputBuffer.reset();
+        if (csvFormat) {
+            writeCsvRow(recordData, tableSchemaInfo, delete);
+        } else {
+            writeJsonRow(recordData, tableSchemaInfo, delete);
+        }
 
         return DorisRecord.of(
-                tableId.getSchemaName(),
-                tableId.getTableName(),
-                objectMapper.writeValueAsString(valueMap).getBytes(StandardCharsets.UTF_8));
+                tableId.getSchemaName(), tableId.getTableName(), outputBuffer.toByteArray());
     }
 
-    /** serializer RecordData to Doris Value. */
-    public Map<String, Object> serializerRecord(RecordData recordData, Schema schema) {
-        List<Column> columns = schema.getColumns();
-        Map<String, Object> record = new HashMap<>();
-        Preconditions.checkState(
-                columns.size() == recordData.getArity(),
-                "Column size does not match the data size");
+    private void writeJsonRow(
+            RecordData recordData, TableSchemaInfo tableSchemaInfo, boolean delete)
+            throws IOException {
+        jsonGenerator.writeStartObject();
+        for (int i = 0; i < tableSchemaInfo.getArity(); i++) {
+            jsonGenerator.writeFieldName(tableSchemaInfo.fieldNames[i]);
+            tableSchemaInfo.jsonFieldWriters[i].write(i, recordData, jsonGenerator);
+        }
+        jsonGenerator.writeFieldName(DELETE_SIGN_FIELD_NAME);
+        jsonGenerator.writeString(delete ? "1" : "0");
+        jsonGenerator.writeEndObject();
+        jsonGenerator.flush();
+    }
+
+    private void writeCsvRow(RecordData recordData, TableSchemaInfo tableSchemaInfo, boolean delete)
+            throws IOException {
+        for (int i = 0; i < tableSchemaInfo.getArity(); i++) {
+            if (i > 0) {
+                outputBuffer.write(fieldDelimiter);
+            }
+            if (recordData.isNullAt(i)) {
+                outputBuffer.write(NULL_VALUE_BYTES);
+            } else if (tableSchemaInfo.stringFields[i]) {
+                writeCsvValue(recordData.getString(i).toBytes());
+            } else {
+                Object field = tableSchemaInfo.converters[i].serialize(i, recordData);
+                writeCsvValue(toCsvText(field).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        if (deletable) {
+            outputBuffer.write(fieldDelimiter);
+            outputBuffer.write(delete ? '1' : '0');
+        }
+    }
+
+    // the enclose and escape characters are ASCII, so they never match a byte of a multi-byte
+    // UTF-8 character.
+    private void writeCsvValue(byte[] value) {
+        outputBuffer.write(enclose);
+        int start = 0;
+        for (int i = 0; i < value.length; i++) {
+            if (value[i] == enclose || value[i] == escape) {
+                outputBuffer.write(value, start, i - start);
+                outputBuffer.write(escape);
+                start = i;
+            }
+        }
+        outputBuffer.write(value, start, value.length - start);
+        outputBuffer.write(enclose);
+    }
+
+    private String toCsvText(Object field) throws IOException {
+        if (field instanceof String) {
+            return (String) field;
+        } else if (field instanceof Number || field instanceof Boolean) {
+            return field.toString();
+        } else if (field instanceof byte[]) {
+            return Base64.getEncoder().encodeToString((byte[]) field);
+        } else {
+            return objectMapper.writeValueAsString(field);
+        }
+    }
+
+    private static String getFieldDelimiter(Properties streamLoadProp) {
+        return EscapeHandler.escapeString(
+                streamLoadProp.getProperty(FIELD_DELIMITER_KEY, FIELD_DELIMITER_DEFAULT));
+    }
+
+    /** The schema of a table with the converters to serialize its rows. */
+    private static class TableSchemaInfo implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Schema schema;
+        private final SerializableString[] fieldNames;
+        private final DorisRowConverter.JsonFieldWriter[] jsonFieldWriters;
+        private final DorisRowConverter.SerializationConverter[] converters;
+        private final boolean[] stringFields;
+
+        private TableSchemaInfo(Schema schema, boolean csvFormat, ZoneId pipelineZoneId) {
+            this.schema = schema;
+            List<Column> columns = schema.getColumns();
+            this.fieldNames = new SerializableString[columns.size()];
+            this.jsonFieldWriters = new DorisRowConverter.JsonFieldWriter[columns.size()];
+            this.converters = new DorisRowConverter.SerializationConverter[columns.size()];
+            this.stringFields = new boolean[columns.size()];
+            for (int i = 0; i < columns.size(); i++) {
+                Column column = columns.get(i);
+                fieldNames[i] = new SerializedString(column.getName());
+                if (csvFormat) {
+                    converters[i] =
+                            DorisRowConverter.createExternalConverter(
+                                    column.getType(), pipelineZoneId);
+                    DataTypeRoot typeRoot = column.getType().getTypeRoot();
+                    stringFields[i] =
+                            typeRoot == DataTypeRoot.CHAR || typeRoot == DataTypeRoot.VARCHAR;
+                } else {
+                    jsonFieldWriters[i] =
+                            DorisRowConverter.createNullableJsonFieldWriter(
+                                    column.getType(), pipelineZoneId);
+                }
+            }
+        }
 
-        for (int i = 0; i < recordData.getArity(); i++) {
-            DorisRowConverter.SerializationConverter converter =
-                    DorisRowConverter.createNullableExternalConverter(
-                            columns.get(i).getType(), pipelineZoneId);
-            Object field = converter.serialize(i, recordData);
-            record.put(columns.get(i).getName(), field);
+        private int getArity() {
+            return fieldNames.length;
         }
-        return record;
     }
 }
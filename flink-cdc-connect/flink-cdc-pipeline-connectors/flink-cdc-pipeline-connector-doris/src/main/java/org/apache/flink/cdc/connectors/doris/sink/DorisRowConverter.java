@@ -29,6 +29,7 @@ import org.apache.flink.cdc.common.types.DecimalType;
 import org.apache.flink.cdc.common.types.RowType;
 import org.apache.flink.cdc.common.types.ZonedTimestampType;
 
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonGenerator;
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
@@ -52,6 +53,12 @@ public class DorisRowConverter implements Serializable {
         Object serialize(int index, RecordData field);
     }
 
+    /** Runtime converter to write a field of {@link RecordData} to a {@link JsonGenerator}. */
+    @FunctionalInterface
+    interface JsonFieldWriter extends Serializable {
+        void write(int index, RecordData field, JsonGenerator generator) throws IOException;
+    }
+
     static SerializationConverter createNullableExternalConverter(
             DataType type, ZoneId pipelineZoneId) {
         return wrapIntoNullableExternalConverter(createExternalConverter(type, pipelineZoneId));
@@ -128,6 +135,58 @@ public class DorisRowConverter implements Serializable {
         }
     }
 
+    static JsonFieldWriter createNullableJsonFieldWriter(DataType type, ZoneId pipelineZoneId) {
+        final JsonFieldWriter jsonFieldWriter = createJsonFieldWriter(type, pipelineZoneId);
+        return (index, val, generator) -> {
+            if (val == null || val.isNullAt(index)) {
+                generator.writeNull();
+            } else {
+                jsonFieldWriter.write(index, val, generator);
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link JsonFieldWriter} which writes the same JSON value as serializing the result
+     * of {@link #createExternalConverter} would, without boxing numbers and decoding strings.
+     */
+    static JsonFieldWriter createJsonFieldWriter(DataType type, ZoneId pipelineZoneId) {
+        switch (type.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return (index, val, generator) -> {
+                    byte[] bytes = val.getString(index).toBytes();
+                    generator.writeUTF8String(bytes, 0, bytes.length);
+                };
+            case BOOLEAN:
+                return (index, val, generator) -> generator.writeBoolean(val.getBoolean(index));
+            case DECIMAL:
+                final int decimalPrecision = ((DecimalType) type).getPrecision();
+                final int decimalScale = ((DecimalType) type).getScale();
+                return (index, val, generator) ->
+                        generator.writeNumber(
+                                val.getDecimal(index, decimalPrecision, decimalScale)
+                                        .toBigDecimal());
+            case TINYINT:
+                return (index, val, generator) -> generator.writeNumber(val.getByte(index));
+            case SMALLINT:
+                return (index, val, generator) -> generator.writeNumber(val.getShort(index));
+            case INTEGER:
+                return (index, val, generator) -> generator.writeNumber(val.getInt(index));
+            case BIGINT:
+                return (index, val, generator) -> generator.writeNumber(val.getLong(index));
+            case FLOAT:
+                return (index, val, generator) -> generator.writeNumber(val.getFloat(index));
+            case DOUBLE:
+                return (index, val, generator) -> generator.writeNumber(val.getDouble(index));
+            default:
+                final SerializationConverter converter =
+                        createExternalConverter(type, pipelineZoneId);
+                return (index, val, generator) ->
+                        generator.writeObject(converter.serialize(index, val));
+        }
+    }
+
     private static List<Object> convertArrayData(ArrayData array, DataType type) {
         if (array instanceof GenericArrayData) {
             return Arrays.asList(((GenericArrayData) array).toObjectArray());
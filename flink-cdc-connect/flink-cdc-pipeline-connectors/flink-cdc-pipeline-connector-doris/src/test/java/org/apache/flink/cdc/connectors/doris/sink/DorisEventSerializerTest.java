@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.doris.sink;
+
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.doris.flink.sink.writer.serializer.DorisRecord;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+
+/** A test for {@link DorisEventSerializer}. */
+public class DorisEventSerializerTest {
+
+    private static final TableId TABLE_ID = TableId.tableId("doris_database", "doris_table");
+
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("price", DataTypes.DECIMAL(10, 2))
+                    .physicalColumn("weight", DataTypes.DOUBLE())
+                    .physicalColumn("created_at", DataTypes.TIMESTAMP(3))
+                    .primaryKey("id")
+                    .build();
+
+    private static final BinaryRecordDataGenerator GENERATOR =
+            new BinaryRecordDataGenerator((RowType) SCHEMA.toRowDataType());
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testSerializeJson() throws Exception {
+        DorisEventSerializer serializer = new DorisEventSerializer(ZoneId.of("UTC"));
+        serializer.serialize(new CreateTableEvent(TABLE_ID, SCHEMA));
+
+        DorisRecord insert = serializer.serialize(createInsertEvent(1, "say \"hi\"\n"));
+        Assert.assertEquals("doris_database", insert.getDatabase());
+        Assert.assertEquals("doris_table", insert.getTable());
+        Assert.assertEquals(
+                objectMapper.readTree(
+                        "{\"id\":1,\"name\":\"say \\\"hi\\\"\\n\",\"price\":12.30,"
+                                + "\"weight\":1.5,\"created_at\":\"2024-01-01 08:00:00.000000\","
+                                + "\"__DORIS_DELETE_SIGN__\":\"0\"}"),
+                objectMapper.readTree(insert.getRow()));
+
+        DorisRecord delete =
+                serializer.serialize(
+                        DataChangeEvent.deleteEvent(
+                                TABLE_ID, GENERATOR.generate(createFields(2, null))));
+        JsonNode deleted = objectMapper.readTree(delete.getRow());
+        Assert.assertEquals(2, deleted.get("id").asInt());
+        Assert.assertTrue(deleted.get("name").isNull());
+        Assert.assertEquals("1", deleted.get("__DORIS_DELETE_SIGN__").asText());
+
+        // rows written after a schema change contain the new column
+        serializer.serialize(
+                new AddColumnEvent(
+                        TABLE_ID,
+                        Collections.singletonList(
+                                new AddColumnEvent.ColumnWithPosition(
+                                        Column.physicalColumn("note", DataTypes.STRING())))));
+        Object[] fields = createFields(3, "name");
+        Object[] evolvedFields = new Object[fields.length + 1];
+        System.arraycopy(fields, 0, evolvedFields, 0, fields.length);
+        evolvedFields[fields.length] = BinaryStringData.fromString("note");
+        BinaryRecordDataGenerator evolvedGenerator =
+                new BinaryRecordDataGenerator(
+                        RowType.of(
+                                DataTypes.INT(),
+                                DataTypes.STRING(),
+                                DataTypes.DECIMAL(10, 2),
+                                DataTypes.DOUBLE(),
+                                DataTypes.TIMESTAMP(3),
+                                DataTypes.STRING()));
+        DorisRecord evolved =
+                serializer.serialize(
+                        DataChangeEvent.insertEvent(
+                                TABLE_ID, evolvedGenerator.generate(evolvedFields)));
+        Assert.assertEquals("note", objectMapper.readTree(evolved.getRow()).get("note").asText());
+    }
+
+    @Test
+    public void testSerializeCsv() throws Exception {
+        DorisEventSerializer serializer =
+                new DorisEventSerializer(ZoneId.of("UTC"), "csv", "\t", "\"", "\\", true);
+        serializer.serialize(new CreateTableEvent(TABLE_ID, SCHEMA));
+
+        DorisRecord insert = serializer.serialize(createInsertEvent(1, "doris"));
+        Assert.assertEquals(
+                "\"1\"\t\"doris\"\t\"12.30\"\t\"1.5\"\t\"2024-01-01 08:00:00.000000\"\t0",
+                new String(insert.getRow(), StandardCharsets.UTF_8));
+
+        DorisRecord delete =
+                serializer.serialize(
+                        DataChangeEvent.deleteEvent(
+                                TABLE_ID, GENERATOR.generate(createFields(2, null))));
+        Assert.assertEquals(
+                "\"2\"\t\\N\t\"12.30\"\t\"1.5\"\t\"2024-01-01 08:00:00.000000\"\t1",
+                new String(delete.getRow(), StandardCharsets.UTF_8));
+
+        DorisEventSerializer nonDeletableSerializer =
+                new DorisEventSerializer(ZoneId.of("UTC"), "csv", ",", "'", "\\", false);
+        nonDeletableSerializer.serialize(new CreateTableEvent(TABLE_ID, SCHEMA));
+        Assert.assertEquals(
+                "'1','doris','12.30','1.5','2024-01-01 08:00:00.000000'",
+                new String(
+                        nonDeletableSerializer.serialize(createInsertEvent(1, "doris")).getRow(),
+                        StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSerializeCsvWithSpecialCharacters() throws Exception {
+        DorisEventSerializer serializer =
+                new DorisEventSerializer(ZoneId.of("UTC"), "csv", "\t", "\"", "\\", false);
+        serializer.serialize(new CreateTableEvent(TABLE_ID, SCHEMA));
+
+        // the separators are enclosed
+        Assert.assertEquals(
+                "\"1\"\t\"a\tb\nc\"\t\"12.30\"\t\"1.5\"\t\"2024-01-01 08:00:00.000000\"",
+                new String(
+                        serializer.serialize(createInsertEvent(1, "a\tb\nc")).getRow(),
+                        StandardCharsets.UTF_8));
+        // a string \N is enclosed, unlike null, and its escape character is escaped
+        Assert.assertEquals(
+                "\"2\"\t\"\\\\N\"\t\"12.30\"\t\"1.5\"\t\"2024-01-01 08:00:00.000000\"",
+                new String(
+                        serializer.serialize(createInsertEvent(2, "\\N")).getRow(),
+                        StandardCharsets.UTF_8));
+        // the enclose character is escaped, and multi-byte characters are kept
+        Assert.assertEquals(
+                "\"3\"\t\"say \\\"你好\\\"\"\t\"12.30\"\t\"1.5\"\t\"2024-01-01 08:00:00.000000\"",
+                new String(
+                        serializer.serialize(createInsertEvent(3, "say \"你好\"")).getRow(),
+                        StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCsvWithoutEnclose() {
+        new DorisEventSerializer(ZoneId.of("UTC"), "csv", "\t", null, null, true);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedFormat() {
+        new DorisEventSerializer(ZoneId.of("UTC"), "arrow", "\t", null, null, true);
+    }
+
+    private static DataChangeEvent createInsertEvent(int id, String name) {
+        return DataChangeEvent.insertEvent(TABLE_ID, GENERATOR.generate(createFields(id, name)));
+    }
+
+    private static Object[] createFields(int id, String name) {
+        return new Object[] {
+            id,
+            name == null ? null : BinaryStringData.fromString(name),
+            DecimalData.fromBigDecimal(new BigDecimal("12.30"), 10, 2),
+            1.5D,
+            TimestampData.fromLocalDateTime(LocalDateTime.of(2024, 1, 1, 8, 0))
+        };
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.avro;
+
+import org.apache.flink.annotation.Internal;
+
+import java.nio.charset.StandardCharsets;
+
+/** Utilities to derive Avro schemas, which are written as JSON, from the CDC schemas. */
+@Internal
+public class AvroSchemaUtils {
+
+    /** The marker of the Avro single object encoding, followed by the schema fingerprint. */
+    public static final byte[] SINGLE_OBJECT_MARKER = new byte[] {(byte) 0xC3, (byte) 0x01};
+
+    private static final long EMPTY_FINGERPRINT = 0xc15d213aa4d7a795L;
+
+    private static final long[] FINGERPRINT_TABLE = new long[256];
+
+    static {
+        for (int i = 0; i < FINGERPRINT_TABLE.length; i++) {
+            long fingerprint = i;
+            for (int j = 0; j < 8; j++) {
+                fingerprint = (fingerprint >>> 1) ^ (EMPTY_FINGERPRINT & -(fingerprint & 1L));
+            }
+            FINGERPRINT_TABLE[i] = fingerprint;
+        }
+    }
+
+    private AvroSchemaUtils() {}
+
+    /**
+     * Computes the CRC-64-AVRO fingerprint of a schema in Parsing Canonical Form, which is the
+     * fingerprint used by the single object encoding.
+     */
+    public static long fingerprint64(String canonicalSchema) {
+        long fingerprint = EMPTY_FINGERPRINT;
+        for (byte b : canonicalSchema.getBytes(StandardCharsets.UTF_8)) {
+            fingerprint = (fingerprint >>> 8) ^ FINGERPRINT_TABLE[(int) (fingerprint ^ b) & 0xff];
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Converts an identifier to a valid Avro name, replacing the illegal characters by {@code _}.
+     * Names that start with a digit are prefixed by {@code _}.
+     */
+    public static String toAvroName(String identifier) {
+        StringBuilder builder = new StringBuilder(identifier.length() + 1);
+        if (identifier.isEmpty() || Character.isDigit(identifier.charAt(0))) {
+            builder.append('_');
+        }
+        for (int i = 0; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+            boolean valid =
+                    (c >= 'a' && c <= 'z')
+                            || (c >= 'A' && c <= 'Z')
+                            || (c >= '0' && c <= '9')
+                            || c == '_';
+            builder.append(valid ? c : '_');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Appends the start of a record schema. The attributes are ordered as the Parsing Canonical
+     * Form requires, so that the full and the canonical schemas are written the same way.
+     */
+    public static void appendRecordStart(StringBuilder builder, String fullName) {
+        builder.append("{\"name\":\"")
+                .append(fullName)
+                .append("\",\"type\":\"record\",\"fields\":[");
+    }
+
+    public static void appendRecordEnd(StringBuilder builder) {
+        builder.append("]}");
+    }
+
+    /**
+     * Appends a field of a record schema, whose type is a union with {@code null} if the field is
+     * optional. Default values are not part of the canonical schema.
+     */
+    public static void appendField(
+            StringBuilder builder,
+            String name,
+            String type,
+            boolean optional,
+            boolean canonical,
+            boolean first) {
+        if (!first) {
+            builder.append(',');
+        }
+        builder.append("{\"name\":\"").append(name).append("\",\"type\":");
+        if (optional) {
+            builder.append("[\"null\",").append(type).append(']');
+            if (!canonical) {
+                builder.append(",\"default\":null");
+            }
+        } else {
+            builder.append(type);
+        }
+        builder.append('}');
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.avro;
+
+import org.apache.flink.annotation.Internal;
+import org.apache.flink.core.fs.FSDataInputStream;
+import org.apache.flink.core.fs.FSDataOutputStream;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.util.IOUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * A schema registry backed by a directory of any Flink file system, which stores every Avro schema
+ * as {@code <fingerprint>.avsc}. Consumers resolve the fingerprint of a single object encoded
+ * message to the file of its writer schema.
+ */
+@Internal
+public class FileSchemaRegistry implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String directory;
+
+    public FileSchemaRegistry(String directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Stores the schema unless a schema with the same fingerprint exists. The file is written to a
+     * temporary path first, so that concurrent writers never expose a partial schema.
+     */
+    public void register(long fingerprint, String schema) throws IOException {
+        Path path = getSchemaPath(fingerprint);
+        FileSystem fileSystem = path.getFileSystem();
+        if (fileSystem.exists(path)) {
+            return;
+        }
+        fileSystem.mkdirs(path.getParent());
+        Path temporaryPath = new Path(directory, "." + path.getName() + "." + UUID.randomUUID());
+        try (FSDataOutputStream outputStream =
+                fileSystem.create(temporaryPath, FileSystem.WriteMode.NO_OVERWRITE)) {
+            outputStream.write(schema.getBytes(StandardCharsets.UTF_8));
+        }
+        if (!fileSystem.rename(temporaryPath, path)) {
+            fileSystem.delete(temporaryPath, false);
+            if (!fileSystem.exists(path)) {
+                throw new IOException("Could not register the Avro schema at " + path);
+            }
+        }
+    }
+
+    /** Returns the schema with the fingerprint, or {@code null} if it is not registered. */
+    public String lookup(long fingerprint) throws IOException {
+        Path path = getSchemaPath(fingerprint);
+        FileSystem fileSystem = path.getFileSystem();
+        if (!fileSystem.exists(path)) {
+            return null;
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (FSDataInputStream inputStream = fileSystem.open(path)) {
+            IOUtils.copyBytes(inputStream, outputStream, false);
+        }
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private Path getSchemaPath(long fingerprint) {
+        return new Path(directory, String.format("%016x.avsc", fingerprint));
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.avro;
+
+import org.apache.flink.annotation.Internal;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getPrecision;
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getScale;
+
+/**
+ * Encodes the {@link RecordData} of a table as an Avro record in binary encoding.
+ *
+ * <p>The encoder is compiled once per table schema, and derives the Avro record schema from it:
+ * nullable columns are unions with {@code null}, and temporal and decimal columns use the Avro
+ * logical types. Timestamps with a precision above 3 are encoded in microseconds.
+ */
+@Internal
+public class RecordDataAvroEncoder implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Schema schema;
+
+    private final String fullName;
+
+    private final String[] fieldNames;
+
+    private final String[] fieldTypes;
+
+    private final String[] canonicalFieldTypes;
+
+    private final boolean[] optional;
+
+    private final FieldEncoder[] fieldEncoders;
+
+    public RecordDataAvroEncoder(Schema schema, String fullName) {
+        this.schema = schema;
+        this.fullName = fullName;
+        List<Column> columns = schema.getColumns();
+        this.fieldNames = new String[columns.size()];
+        this.fieldTypes = new String[columns.size()];
+        this.canonicalFieldTypes = new String[columns.size()];
+        this.optional = new boolean[columns.size()];
+        this.fieldEncoders = new FieldEncoder[columns.size()];
+        Set<String> uniqueNames = new HashSet<>();
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            fieldNames[i] = AvroSchemaUtils.toAvroName(column.getName());
+            if (!uniqueNames.add(fieldNames[i])) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "Column '%s' of %s is mapped to the Avro field name '%s', which is already used by another column.",
+                                column.getName(), fullName, fieldNames[i]));
+            }
+            DataType type = column.getType();
+            canonicalFieldTypes[i] = getCanonicalType(type);
+            fieldTypes[i] = getType(type, canonicalFieldTypes[i]);
+            optional[i] = type.isNullable();
+            fieldEncoders[i] = createFieldEncoder(type, i);
+        }
+    }
+
+    /** Writes the fields of a non-null record. */
+    public void encode(RecordData recordData, AvroBinaryOutput output) {
+        for (int i = 0; i < fieldEncoders.length; i++) {
+            if (recordData.isNullAt(i)) {
+                if (!optional[i]) {
+                    throw new IllegalArgumentException(
+                            String.format(
+                                    "Field '%s' of %s is declared as not null, but the value is null.",
+                                    fieldNames[i], fullName));
+                }
+                output.writeInt(0);
+            } else {
+                if (optional[i]) {
+                    output.writeInt(1);
+                }
+                fieldEncoders[i].encode(recordData, output);
+            }
+        }
+    }
+
+    /**
+     * Appends the Avro record schema, in Parsing Canonical Form if {@code canonical} is true, which
+     * leaves out the logical types and default values.
+     */
+    public void appendSchema(StringBuilder builder, boolean canonical) {
+        AvroSchemaUtils.appendRecordStart(builder, fullName);
+        for (int i = 0; i < fieldNames.length; i++) {
+            AvroSchemaUtils.appendField(
+                    builder,
+                    fieldNames[i],
+                    canonical ? canonicalFieldTypes[i] : fieldTypes[i],
+                    optional[i],
+                    canonical,
+                    i == 0);
+        }
+        AvroSchemaUtils.appendRecordEnd(builder);
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    /** Writes a non-null field of {@link RecordData} in Avro binary encoding. */
+    @FunctionalInterface
+    private interface FieldEncoder extends Serializable {
+        void encode(RecordData record, AvroBinaryOutput output);
+    }
+
+    private static String getCanonicalType(DataType fieldType) {
+        switch (fieldType.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return "\"string\"";
+            case BOOLEAN:
+                return "\"boolean\"";
+            case BINARY:
+            case VARBINARY:
+            case DECIMAL:
+                return "\"bytes\"";
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                return "\"int\"";
+            case BIGINT:
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return "\"long\"";
+            case FLOAT:
+                return "\"float\"";
+            case DOUBLE:
+                return "\"double\"";
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported type of Avro format: " + fieldType);
+        }
+    }
+
+    private static String getType(DataType fieldType, String canonicalType) {
+        switch (fieldType.getTypeRoot()) {
+            case DECIMAL:
+                return String.format(
+                        "{\"type\":\"bytes\",\"logicalType\":\"decimal\",\"precision\":%d,\"scale\":%d}",
+                        getPrecision(fieldType), getScale(fieldType));
+            case DATE:
+                return "{\"type\":\"int\",\"logicalType\":\"date\"}";
+            case TIME_WITHOUT_TIME_ZONE:
+                return "{\"type\":\"int\",\"logicalType\":\"time-millis\"}";
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                return getPrecision(fieldType) <= 3
+                        ? "{\"type\":\"long\",\"logicalType\":\"local-timestamp-millis\"}"
+                        : "{\"type\":\"long\",\"logicalType\":\"local-timestamp-micros\"}";
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return getPrecision(fieldType) <= 3
+                        ? "{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}"
+                        : "{\"type\":\"long\",\"logicalType\":\"timestamp-micros\"}";
+            default:
+                return canonicalType;
+        }
+    }
+
+    private static FieldEncoder createFieldEncoder(DataType fieldType, int fieldPos) {
+        // ordered by type root definition
+        switch (fieldType.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return (record, output) -> output.writeBytes(record.getString(fieldPos).toBytes());
+            case BOOLEAN:
+                return (record, output) -> output.writeBoolean(record.getBoolean(fieldPos));
+            case BINARY:
+            case VARBINARY:
+                return (record, output) -> output.writeBytes(record.getBinary(fieldPos));
+            case DECIMAL:
+                final int decimalPrecision = getPrecision(fieldType);
+                final int decimalScale = getScale(fieldType);
+                // the two's-complement unscaled value, in the scale of the column
+                return (record, output) ->
+                        output.writeBytes(
+                                record.getDecimal(fieldPos, decimalPrecision, decimalScale)
+                                        .toBigDecimal()
+                                        .unscaledValue()
+                                        .toByteArray());
+            case TINYINT:
+                return (record, output) -> output.writeInt(record.getByte(fieldPos));
+            case SMALLINT:
+                return (record, output) -> output.writeInt(record.getShort(fieldPos));
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                return (record, output) -> output.writeInt(record.getInt(fieldPos));
+            case BIGINT:
+                return (record, output) -> output.writeLong(record.getLong(fieldPos));
+            case FLOAT:
+                return (record, output) -> output.writeFloat(record.getFloat(fieldPos));
+            case DOUBLE:
+                return (record, output) -> output.writeDouble(record.getDouble(fieldPos));
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                final int timestampPrecision = getPrecision(fieldType);
+                if (timestampPrecision <= 3) {
+                    return (record, output) ->
+                            output.writeLong(
+                                    record.getTimestamp(fieldPos, timestampPrecision)
+                                            .getMillisecond());
+                }
+                return (record, output) -> {
+                    TimestampData timestamp = record.getTimestamp(fieldPos, timestampPrecision);
+                    output.writeLong(
+                            timestamp.getMillisecond() * 1000
+                                    + timestamp.getNanoOfMillisecond() / 1000);
+                };
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final int localZonedTimestampPrecision = getPrecision(fieldType);
+                if (localZonedTimestampPrecision <= 3) {
+                    return (record, output) ->
+                            output.writeLong(
+                                    record.getLocalZonedTimestampData(
+                                                    fieldPos, localZonedTimestampPrecision)
+                                            .getEpochMillisecond());
+                }
+                return (record, output) -> {
+                    LocalZonedTimestampData timestamp =
+                            record.getLocalZonedTimestampData(
+                                    fieldPos, localZonedTimestampPrecision);
+                    output.writeLong(
+                            timestamp.getEpochMillisecond() * 1000
+                                    + timestamp.getEpochNanoOfMillisecond() / 1000);
+                };
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported type of Avro format: " + fieldType);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.avro.debezium;
+
+import org.apache.flink.api.common.serialization.SerializationSchema;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.SchemaChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.utils.SchemaUtils;
+import org.apache.flink.cdc.connectors.kafka.avro.AvroBinaryOutput;
+import org.apache.flink.cdc.connectors.kafka.avro.AvroSchemaUtils;
+import org.apache.flink.cdc.connectors.kafka.avro.FileSchemaRegistry;
+import org.apache.flink.cdc.connectors.kafka.avro.RecordDataAvroEncoder;
+
+import javax.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Serialization schema from FlinkCDC pipeline internal data structure {@link Event} to the Debezium
+ * envelope in Avro binary encoding.
+ *
+ * <p>The envelope contains the same {@code before}, {@code after}, {@code op} and {@code source}
+ * elements as the Debezium JSON format. Every message uses the Avro single object encoding, whose
+ * header carries the CRC-64-AVRO fingerprint of the writer schema of the table, so that consumers
+ * can resolve the schema, for example from a {@link FileSchemaRegistry}.
+ *
+ * @see <a href="https://avro.apache.org/docs/1.11.1/specification/#single-object-encoding">Avro
+ *     single object encoding</a>
+ */
+public class DebeziumAvroSerializationSchema implements SerializationSchema<Event> {
+    private static final long serialVersionUID = 1L;
+
+    private static final byte[] OP_INSERT = "c".getBytes(StandardCharsets.UTF_8); // insert
+    private static final byte[] OP_DELETE = "d".getBytes(StandardCharsets.UTF_8); // delete
+    private static final byte[] OP_UPDATE = "u".getBytes(StandardCharsets.UTF_8); // update
+
+    /** A map of {@link TableId} and the encoding of the current schema version of the table. */
+    private final Map<TableId, EnvelopeEncoder> envelopeEncoders;
+
+    @Nullable private final FileSchemaRegistry schemaRegistry;
+
+    private transient AvroBinaryOutput output;
+
+    public DebeziumAvroSerializationSchema(@Nullable FileSchemaRegistry schemaRegistry) {
+        this.schemaRegistry = schemaRegistry;
+        envelopeEncoders = new HashMap<>();
+    }
+
+    @Override
+    public void open(InitializationContext context) throws Exception {
+        output = new AvroBinaryOutput(256);
+    }
+
+    @Override
+    public byte[] serialize(Event event) {
+        if (event instanceof SchemaChangeEvent) {
+            Schema schema;
+            SchemaChangeEvent schemaChangeEvent = (SchemaChangeEvent) event;
+            if (event instanceof CreateTableEvent) {
+                CreateTableEvent createTableEvent = (CreateTableEvent) event;
+                schema = createTableEvent.getSchema();
+            } else {
+                schema =
+                        SchemaUtils.applySchemaChangeEvent(
+                                envelopeEncoders
+                                        .get(schemaChangeEvent.tableId())
+                                        .valueEncoder
+                                        .getSchema(),
+                                schemaChangeEvent);
+            }
+            EnvelopeEncoder envelopeEncoder =
+                    new EnvelopeEncoder(schemaChangeEvent.tableId(), schema);
+            if (schemaRegistry != null) {
+                try {
+                    schemaRegistry.register(envelopeEncoder.fingerprint, envelopeEncoder.schema);
+                } catch (Exception e) {
+                    throw new RuntimeException(
+                            format(
+                                    "Could not register the Avro schema of table %s.",
+                                    schemaChangeEvent.tableId()),
+                            e);
+                }
+            }
+            envelopeEncoders.put(schemaChangeEvent.tableId(), envelopeEncoder);
+            return null;
+        }
+
+        DataChangeEvent dataChangeEvent = (DataChangeEvent) event;
+        EnvelopeEncoder envelopeEncoder = envelopeEncoders.get(dataChangeEvent.tableId());
+        try {
+            output.reset();
+            output.writeFixed(envelopeEncoder.header);
+            switch (dataChangeEvent.op()) {
+                case INSERT:
+                    writeNull();
+                    envelopeEncoder.writeValue(dataChangeEvent.after(), output);
+                    output.writeBytes(OP_INSERT);
+                    break;
+                case DELETE:
+                    envelopeEncoder.writeValue(dataChangeEvent.before(), output);
+                    writeNull();
+                    output.writeBytes(OP_DELETE);
+                    break;
+                case UPDATE:
+                case REPLACE:
+                    envelopeEncoder.writeValue(dataChangeEvent.before(), output);
+                    envelopeEncoder.writeValue(dataChangeEvent.after(), output);
+                    output.writeBytes(OP_UPDATE);
+                    break;
+                default:
+                    throw new UnsupportedOperationException(
+                            format(
+                                    "Unsupported operation '%s' for OperationType.",
+                                    dataChangeEvent.op()));
+            }
+            output.writeFixed(envelopeEncoder.source);
+            return output.toByteArray();
+        } catch (Throwable t) {
+            throw new RuntimeException(format("Could not serialize event '%s'.", event), t);
+        }
+    }
+
+    private void writeNull() {
+        output.writeInt(0);
+    }
+
+    /** The Avro schema and encoders of the Debezium envelope of a table schema version. */
+    private static final class EnvelopeEncoder {
+
+        private final RecordDataAvroEncoder valueEncoder;
+
+        /** The full schema of the envelope, with logical types. */
+        private final String schema;
+
+        private final long fingerprint;
+
+        /** The single object encoding marker and the schema fingerprint. */
+        private final byte[] header;
+
+        /** The encoded source record, which is the same for every message of the table. */
+        private final byte[] source;
+
+        private EnvelopeEncoder(TableId tableId, Schema schema) {
+            // Refer to https://debezium.io/documentation/reference/1.9/connectors/mysql.html
+            StringBuilder namespace = new StringBuilder();
+            if (tableId.getNamespace() != null) {
+                namespace.append(AvroSchemaUtils.toAvroName(tableId.getNamespace())).append('.');
+            }
+            if (tableId.getSchemaName() != null) {
+                namespace.append(AvroSchemaUtils.toAvroName(tableId.getSchemaName())).append('.');
+            }
+            namespace.append(AvroSchemaUtils.toAvroName(tableId.getTableName())).append('.');
+            this.valueEncoder = new RecordDataAvroEncoder(schema, namespace + "Value");
+            this.schema = createSchema(namespace.toString(), false);
+            this.fingerprint =
+                    AvroSchemaUtils.fingerprint64(createSchema(namespace.toString(), true));
+
+            AvroBinaryOutput headerOutput = new AvroBinaryOutput(10);
+            headerOutput.writeFixed(AvroSchemaUtils.SINGLE_OBJECT_MARKER);
+            headerOutput.writeFixedLong(fingerprint);
+            this.header = headerOutput.toByteArray();
+
+            AvroBinaryOutput sourceOutput = new AvroBinaryOutput(64);
+            if (tableId.getSchemaName() == null) {
+                sourceOutput.writeInt(0);
+            } else {
+                sourceOutput.writeInt(1);
+                sourceOutput.writeBytes(tableId.getSchemaName().getBytes(StandardCharsets.UTF_8));
+            }
+            sourceOutput.writeBytes(tableId.getTableName().getBytes(StandardCharsets.UTF_8));
+            this.source = sourceOutput.toByteArray();
+        }
+
+        private void writeValue(RecordData recordData, AvroBinaryOutput output) {
+            output.writeInt(1);
+            valueEncoder.encode(recordData, output);
+        }
+
+        private String createSchema(String namespace, boolean canonical) {
+            StringBuilder valueSchema = new StringBuilder();
+            valueEncoder.appendSchema(valueSchema, canonical);
+            StringBuilder sourceSchema = new StringBuilder();
+            AvroSchemaUtils.appendRecordStart(sourceSchema, namespace + "Source");
+            AvroSchemaUtils.appendField(sourceSchema, "db", "\"string\"", true, canonical, true);
+            AvroSchemaUtils.appendField(
+                    sourceSchema, "table", "\"string\"", false, canonical, false);
+            AvroSchemaUtils.appendRecordEnd(sourceSchema);
+
+            StringBuilder builder = new StringBuilder();
+            AvroSchemaUtils.appendRecordStart(builder, namespace + "Envelope");
+            AvroSchemaUtils.appendField(
+                    builder, "before", valueSchema.toString(), true, canonical, true);
+            // the value record is referenced by name once it is defined
+            AvroSchemaUtils.appendField(
+                    builder,
+                    "after",
+                    "\"" + valueEncoder.getFullName() + "\"",
+                    true,
+                    canonical,
+                    false);
+            AvroSchemaUtils.appendField(builder, "op", "\"string\"", false, canonical, false);
+            AvroSchemaUtils.appendField(
+                    builder, "source", sourceSchema.toString(), false, canonical, false);
+            AvroSchemaUtils.appendRecordEnd(builder);
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.json;
+
+import org.apache.flink.annotation.Internal;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.formats.common.TimestampFormat;
+import org.apache.flink.formats.json.JsonRowDataSerializationSchema;
+
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.SerializableString;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.List;
+
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getPrecision;
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getScale;
+
+/**
+ * Encodes the {@link RecordData} of a table as a JSON object, which is written straight to a {@link
+ * JsonGenerator}.
+ *
+ * <p>The encoder is compiled once per table schema and produces the same JSON as converting the
+ * record with {@link TableSchemaInfo} and serializing it with {@link
+ * JsonRowDataSerializationSchema}, without creating intermediate rows or a JSON tree.
+ */
+@Internal
+public class RecordDataJsonEncoder implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // the formats of temporal values, which are the ones used by the flink-json format
+
+    private static final DateTimeFormatter SQL_TIME_FORMAT =
+            new DateTimeFormatterBuilder()
+                    .appendPattern("HH:mm:ss")
+                    .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true)
+                    .toFormatter();
+
+    private static final DateTimeFormatter SQL_TIMESTAMP_FORMAT =
+            new DateTimeFormatterBuilder()
+                    .append(DateTimeFormatter.ISO_LOCAL_DATE)
+                    .appendLiteral(' ')
+                    .append(SQL_TIME_FORMAT)
+                    .toFormatter();
+
+    private static final DateTimeFormatter SQL_TIMESTAMP_WITH_LOCAL_TIMEZONE_FORMAT =
+            new DateTimeFormatterBuilder()
+                    .append(DateTimeFormatter.ISO_LOCAL_DATE)
+                    .appendLiteral(' ')
+                    .append(SQL_TIME_FORMAT)
+                    .appendPattern("'Z'")
+                    .toFormatter();
+
+    private static final DateTimeFormatter ISO8601_TIMESTAMP_FORMAT =
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private static final DateTimeFormatter ISO8601_TIMESTAMP_WITH_LOCAL_TIMEZONE_FORMAT =
+            new DateTimeFormatterBuilder()
+                    .append(DateTimeFormatter.ISO_LOCAL_DATE)
+                    .appendLiteral('T')
+                    .append(DateTimeFormatter.ISO_LOCAL_TIME)
+                    .appendPattern("'Z'")
+                    .toFormatter();
+
+    private final Schema schema;
+
+    private final SerializableString[] fieldNames;
+
+    private final FieldEncoder[] fieldEncoders;
+
+    public RecordDataJsonEncoder(Schema schema, TimestampFormat timestampFormat, ZoneId zoneId) {
+        this.schema = schema;
+        List<Column> columns = schema.getColumns();
+        this.fieldNames = new SerializableString[columns.size()];
+        this.fieldEncoders = new FieldEncoder[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            fieldNames[i] = new SerializedString(columns.get(i).getName());
+            fieldEncoders[i] =
+                    createFieldEncoder(columns.get(i).getType(), i, timestampFormat, zoneId);
+        }
+    }
+
+    /** Writes the record as a JSON object, or {@code null} if the record is null. */
+    public void encode(RecordData recordData, JsonGenerator generator) throws IOException {
+        if (recordData == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (int i = 0; i < fieldEncoders.length; i++) {
+            generator.writeFieldName(fieldNames[i]);
+            if (recordData.isNullAt(i)) {
+                generator.writeNull();
+            } else {
+                fieldEncoders[i].encode(recordData, generator);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    /** Writes a non-null field of {@link RecordData} as a JSON value. */
+    @FunctionalInterface
+    private interface FieldEncoder extends Serializable {
+        void encode(RecordData record, JsonGenerator generator) throws IOException;
+    }
+
+    private static FieldEncoder createFieldEncoder(
+            DataType fieldType, int fieldPos, TimestampFormat timestampFormat, ZoneId zoneId) {
+        // ordered by type root definition
+        switch (fieldType.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return (record, generator) -> {
+                    byte[] bytes = record.getString(fieldPos).toBytes();
+                    generator.writeUTF8String(bytes, 0, bytes.length);
+                };
+            case BOOLEAN:
+                return (record, generator) -> generator.writeBoolean(record.getBoolean(fieldPos));
+            case BINARY:
+            case VARBINARY:
+                return (record, generator) -> generator.writeBinary(record.getBinary(fieldPos));
+            case DECIMAL:
+                final int decimalPrecision = getPrecision(fieldType);
+                final int decimalScale = getScale(fieldType);
+                // trailing zeros are stripped as the JSON tree of flink-json does
+                return (record, generator) ->
+                        generator.writeNumber(
+                                record.getDecimal(fieldPos, decimalPrecision, decimalScale)
+                                        .toBigDecimal()
+                                        .stripTrailingZeros());
+            case TINYINT:
+                return (record, generator) -> generator.writeNumber(record.getByte(fieldPos));
+            case SMALLINT:
+                return (record, generator) -> generator.writeNumber(record.getShort(fieldPos));
+            case INTEGER:
+                return (record, generator) -> generator.writeNumber(record.getInt(fieldPos));
+            case BIGINT:
+                return (record, generator) -> generator.writeNumber(record.getLong(fieldPos));
+            case FLOAT:
+                return (record, generator) -> generator.writeNumber(record.getFloat(fieldPos));
+            case DOUBLE:
+                return (record, generator) -> generator.writeNumber(record.getDouble(fieldPos));
+            case DATE:
+                return (record, generator) ->
+                        generator.writeString(
+                                DateTimeFormatter.ISO_LOCAL_DATE.format(
+                                        LocalDate.ofEpochDay(record.getInt(fieldPos))));
+            case TIME_WITHOUT_TIME_ZONE:
+                return (record, generator) ->
+                        generator.writeString(
+                                SQL_TIME_FORMAT.format(
+                                        LocalTime.ofSecondOfDay(record.getInt(fieldPos) / 1000L)));
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                final int timestampPrecision = getPrecision(fieldType);
+                final DateTimeFormatter timestampFormatter =
+                        timestampFormat == TimestampFormat.ISO_8601
+                                ? ISO8601_TIMESTAMP_FORMAT
+                                : SQL_TIMESTAMP_FORMAT;
+                return (record, generator) ->
+                        generator.writeString(
+                                timestampFormatter.format(
+                                        record.getTimestamp(fieldPos, timestampPrecision)
+                                                .toLocalDateTime()));
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final int localZonedTimestampPrecision = getPrecision(fieldType);
+                final DateTimeFormatter localZonedTimestampFormatter =
+                        timestampFormat == TimestampFormat.ISO_8601
+                                ? ISO8601_TIMESTAMP_WITH_LOCAL_TIMEZONE_FORMAT
+                                : SQL_TIMESTAMP_WITH_LOCAL_TIMEZONE_FORMAT;
+                // the local date time in the pipeline time zone, which is marked as UTC
+                return (record, generator) ->
+                        generator.writeString(
+                                localZonedTimestampFormatter.format(
+                                        LocalDateTime.ofInstant(
+                                                record.getLocalZonedTimestampData(
+                                                                fieldPos,
+                                                                localZonedTimestampPrecision)
+                                                        .toInstant(),
+                                                zoneId)));
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported type of JSON format: " + fieldType);
+        }
+    }
+}
@@ -18,33 +18,30 @@
 package org.apache.flink.cdc.connectors.kafka.json.canal;
 
 import org.apache.flink.api.common.serialization.SerializationSchema;
+import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.schema.Schema;
-import org.apache.flink.cdc.common.types.utils.DataTypeUtils;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
-import org.apache.flink.cdc.connectors.kafka.json.TableSchemaInfo;
+import org.apache.flink.cdc.connectors.kafka.json.RecordDataJsonEncoder;
 import org.apache.flink.formats.common.TimestampFormat;
 import org.apache.flink.formats.json.JsonFormatOptions;
-import org.apache.flink.formats.json.JsonRowDataSerializationSchema;
-import org.apache.flink.table.api.DataTypes;
-import org.apache.flink.table.data.GenericArrayData;
-import org.apache.flink.table.data.GenericRowData;
-import org.apache.flink.table.data.RowData;
-import org.apache.flink.table.data.StringData;
-import org.apache.flink.table.types.DataType;
-import org.apache.flink.table.types.logical.LogicalType;
-import org.apache.flink.table.types.logical.RowType;
 
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonFactory;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.SerializableString;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.Map;
 
 import static java.lang.String.format;
-import static org.apache.flink.table.types.utils.TypeConversions.fromLogicalToDataType;
 
 /**
  * Serialization schema that serializes an object of FlinkCDC pipeline internal data structure
@@ -56,27 +53,27 @@ public class CanalJsonSerializationSchema implements SerializationSchema<Event>
 
     private static final long serialVersionUID = 1L;
 
-    private static final StringData OP_INSERT = StringData.fromString("INSERT");
-    private static final StringData OP_DELETE = StringData.fromString("DELETE");
-    private static final StringData OP_UPDATE = StringData.fromString("UPDATE");
-
-    private transient GenericRowData reuseGenericRowData;
+    private static final SerializableString OP_INSERT = new SerializedString("INSERT");
+    private static final SerializableString OP_DELETE = new SerializedString("DELETE");
+    private static final SerializableString OP_UPDATE = new SerializedString("UPDATE");
 
-    /** The serializer to serialize Canal JSON data. */
-    private final Map<TableId, TableSchemaInfo> jsonSerializers;
+    /** The encoders to serialize Canal JSON data. */
+    private final Map<TableId, RecordDataJsonEncoder> jsonEncoders;
 
-    private final TimestampFormat timestampFormat;
+    private transient ByteArrayOutputStream outputBuffer;
 
-    private final JsonFormatOptions.MapNullKeyMode mapNullKeyMode;
+    private transient JsonGenerator jsonGenerator;
 
-    private final String mapNullKeyLiteral;
+    private final TimestampFormat timestampFormat;
 
     private final boolean encodeDecimalAsPlainNumber;
 
     private final ZoneId zoneId;
 
-    private InitializationContext context;
-
+    /**
+     * Creates the schema. The map null key options only apply to map types, which the JSON formats
+     * of the pipeline do not support.
+     */
     public CanalJsonSerializationSchema(
             TimestampFormat timestampFormat,
             JsonFormatOptions.MapNullKeyMode mapNullKeyMode,
@@ -84,17 +81,18 @@ public class CanalJsonSerializationSchema implements SerializationSchema<Event>
             ZoneId zoneId,
             boolean encodeDecimalAsPlainNumber) {
         this.timestampFormat = timestampFormat;
-        this.mapNullKeyMode = mapNullKeyMode;
-        this.mapNullKeyLiteral = mapNullKeyLiteral;
         this.encodeDecimalAsPlainNumber = encodeDecimalAsPlainNumber;
         this.zoneId = zoneId;
-        jsonSerializers = new HashMap<>();
+        jsonEncoders = new HashMap<>();
     }
 
     @Override
-    public void open(InitializationContext context) {
-        this.context = context;
-        reuseGenericRowData = new GenericRowData(6);
+    public void open(InitializationContext context) throws Exception {
+        outputBuffer = new ByteArrayOutputStream();
+        jsonGenerator = new JsonFactory().createGenerator(outputBuffer);
+        jsonGenerator.configure(
+                JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN, encodeDecimalAsPlainNumber);
+        jsonGenerator.setRootValueSeparator(null);
     }
 
     @Override
@@ -108,126 +106,68 @@ public class CanalJsonSerializationSchema implements SerializationSchema<Event>
             } else {
                 schema =
                         SchemaUtils.applySchemaChangeEvent(
-                                jsonSerializers.get(schemaChangeEvent.tableId()).getSchema(),
+                                jsonEncoders.get(schemaChangeEvent.tableId()).getSchema(),
                                 schemaChangeEvent);
             }
-            LogicalType rowType =
-                    DataTypeUtils.toFlinkDataType(schema.toRowDataType()).getLogicalType();
-            JsonRowDataSerializationSchema jsonSerializer =
-                    new JsonRowDataSerializationSchema(
-                            createJsonRowType(fromLogicalToDataType(rowType)),
-                            timestampFormat,
-                            mapNullKeyMode,
-                            mapNullKeyLiteral,
-                            encodeDecimalAsPlainNumber);
-            try {
-                jsonSerializer.open(context);
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
-            jsonSerializers.put(
+            jsonEncoders.put(
                     schemaChangeEvent.tableId(),
-                    new TableSchemaInfo(
-                            schemaChangeEvent.tableId(), schema, jsonSerializer, zoneId));
+                    new RecordDataJsonEncoder(schema, timestampFormat, zoneId));
             return null;
         }
 
         DataChangeEvent dataChangeEvent = (DataChangeEvent) event;
-        reuseGenericRowData.setField(
-                3, StringData.fromString(dataChangeEvent.tableId().getSchemaName()));
-        reuseGenericRowData.setField(
-                4, StringData.fromString(dataChangeEvent.tableId().getTableName()));
-        reuseGenericRowData.setField(
-                5,
-                new GenericArrayData(
-                        jsonSerializers.get(dataChangeEvent.tableId()).getSchema().primaryKeys()
-                                .stream()
-                                .map(StringData::fromString)
-                                .toArray()));
+        RecordDataJsonEncoder jsonEncoder = jsonEncoders.get(dataChangeEvent.tableId());
         try {
+            outputBuffer.reset();
+            jsonGenerator.writeStartObject();
             switch (dataChangeEvent.op()) {
                 case INSERT:
-                    reuseGenericRowData.setField(0, null);
-                    reuseGenericRowData.setField(
-                            1,
-                            new GenericArrayData(
-                                    new RowData[] {
-                                        jsonSerializers
-                                                .get(dataChangeEvent.tableId())
-                                                .getRowDataFromRecordData(
-                                                        dataChangeEvent.after(), false)
-                                    }));
-                    reuseGenericRowData.setField(2, OP_INSERT);
-                    return jsonSerializers
-                            .get(dataChangeEvent.tableId())
-                            .getSerializationSchema()
-                            .serialize(reuseGenericRowData);
+                    jsonGenerator.writeNullField("old");
+                    writeRecords("data", dataChangeEvent.after(), jsonEncoder);
+                    jsonGenerator.writeFieldName("type");
+                    jsonGenerator.writeString(OP_INSERT);
+                    break;
                 case DELETE:
-                    reuseGenericRowData.setField(
-                            0,
-                            new GenericArrayData(
-                                    new RowData[] {
-                                        jsonSerializers
-                                                .get(dataChangeEvent.tableId())
-                                                .getRowDataFromRecordData(
-                                                        dataChangeEvent.before(), false)
-                                    }));
-                    reuseGenericRowData.setField(1, null);
-                    reuseGenericRowData.setField(2, OP_DELETE);
-                    return jsonSerializers
-                            .get(dataChangeEvent.tableId())
-                            .getSerializationSchema()
-                            .serialize(reuseGenericRowData);
+                    writeRecords("old", dataChangeEvent.before(), jsonEncoder);
+                    jsonGenerator.writeNullField("data");
+                    jsonGenerator.writeFieldName("type");
+                    jsonGenerator.writeString(OP_DELETE);
+                    break;
                 case UPDATE:
                 case REPLACE:
-                    reuseGenericRowData.setField(
-                            0,
-                            new GenericArrayData(
-                                    new RowData[] {
-                                        jsonSerializers
-                                                .get(dataChangeEvent.tableId())
-                                                .getRowDataFromRecordData(
-                                                        dataChangeEvent.before(), false)
-                                    }));
-                    reuseGenericRowData.setField(
-                            1,
-                            new GenericArrayData(
-                                    new RowData[] {
-                                        jsonSerializers
-                                                .get(dataChangeEvent.tableId())
-                                                .getRowDataFromRecordData(
-                                                        dataChangeEvent.after(), false)
-                                    }));
-                    reuseGenericRowData.setField(2, OP_UPDATE);
-                    return jsonSerializers
-                            .get(dataChangeEvent.tableId())
-                            .getSerializationSchema()
-                            .serialize(reuseGenericRowData);
+                    writeRecords("old", dataChangeEvent.before(), jsonEncoder);
+                    writeRecords("data", dataChangeEvent.after(), jsonEncoder);
+                    jsonGenerator.writeFieldName("type");
+                    jsonGenerator.writeString(OP_UPDATE);
+                    break;
                 default:
                     throw new UnsupportedOperationException(
                             format(
                                     "Unsupported operation '%s' for OperationType.",
                                     dataChangeEvent.op()));
             }
+            // Refer to
+            // https://nightlies.apache.org/flink/flink-docs-master/docs/connectors/table/formats/canal/#available-metadata
+            jsonGenerator.writeStringField("database", dataChangeEvent.tableId().getSchemaName());
+            jsonGenerator.writeStringField("table", dataChangeEvent.tableId().getTableName());
+            jsonGenerator.writeArrayFieldStart("pkNames");
+            for (String primaryKey : jsonEncoder.getSchema().primaryKeys()) {
+                jsonGenerator.writeString(primaryKey);
+            }
+            jsonGenerator.writeEndArray();
+            jsonGenerator.writeEndObject();
+            jsonGenerator.flush();
+            return outputBuffer.toByteArray();
         } catch (Throwable t) {
             throw new RuntimeException(format("Could not serialize event '%s'.", event), t);
         }
     }
 
-    /**
-     * Refer to <a
-     * href="https://nightlies.apache.org/flink/flink-docs-master/docs/connectors/table/formats/canal/#available-metadata">Canal
-     * | Apache Flink</a> for more details.
-     */
-    private static RowType createJsonRowType(DataType databaseSchema) {
-        return (RowType)
-                DataTypes.ROW(
-                                DataTypes.FIELD("old", DataTypes.ARRAY(databaseSchema)),
-                                DataTypes.FIELD("data", DataTypes.ARRAY(databaseSchema)),
-                                DataTypes.FIELD("type", DataTypes.STRING()),
-                                DataTypes.FIELD("database", DataTypes.STRING()),
-                                DataTypes.FIELD("table", DataTypes.STRING()),
-                                DataTypes.FIELD("pkNames", DataTypes.ARRAY(DataTypes.STRING())))
-                        .getLogicalType();
+    private void writeRecords(
+            String fieldName, RecordData recordData, RecordDataJsonEncoder jsonEncoder)
+            throws IOException {
+        jsonGenerator.writeArrayFieldStart(fieldName);
+        jsonEncoder.encode(recordData, jsonGenerator);
+        jsonGenerator.writeEndArray();
     }
 }
@@ -24,25 +24,22 @@ import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.schema.Schema;
-import org.apache.flink.cdc.common.types.utils.DataTypeUtils;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
-import org.apache.flink.cdc.connectors.kafka.json.TableSchemaInfo;
+import org.apache.flink.cdc.connectors.kafka.json.RecordDataJsonEncoder;
 import org.apache.flink.formats.common.TimestampFormat;
 import org.apache.flink.formats.json.JsonFormatOptions;
-import org.apache.flink.formats.json.JsonRowDataSerializationSchema;
-import org.apache.flink.table.api.DataTypes;
-import org.apache.flink.table.data.GenericRowData;
-import org.apache.flink.table.data.StringData;
-import org.apache.flink.table.types.DataType;
-import org.apache.flink.table.types.logical.LogicalType;
-import org.apache.flink.table.types.logical.RowType;
 
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonFactory;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.SerializableString;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.ByteArrayOutputStream;
 import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.Map;
 
 import static java.lang.String.format;
-import static org.apache.flink.table.types.utils.TypeConversions.fromLogicalToDataType;
 
 /**
  * Serialization schema from FlinkCDC pipeline internal data structure {@link Event} to Debezium
@@ -53,29 +50,30 @@ import static org.apache.flink.table.types.utils.TypeConversions.fromLogicalToDa
 public class DebeziumJsonSerializationSchema implements SerializationSchema<Event> {
     private static final long serialVersionUID = 1L;
 
-    private static final StringData OP_INSERT = StringData.fromString("c"); // insert
-    private static final StringData OP_DELETE = StringData.fromString("d"); // delete
-    private static final StringData OP_UPDATE = StringData.fromString("u"); // update
+    private static final SerializableString OP_INSERT = new SerializedString("c"); // insert
+    private static final SerializableString OP_DELETE = new SerializedString("d"); // delete
+    private static final SerializableString OP_UPDATE = new SerializedString("u"); // update
 
     /**
-     * A map of {@link TableId} and its {@link SerializationSchema} to serialize Debezium JSON data.
+     * A map of {@link TableId} and its {@link RecordDataJsonEncoder} to serialize Debezium JSON
+     * data.
      */
-    private final Map<TableId, TableSchemaInfo> jsonSerializers;
-
-    private transient GenericRowData reuseGenericRowData;
+    private final Map<TableId, RecordDataJsonEncoder> jsonEncoders;
 
-    private final TimestampFormat timestampFormat;
+    private transient ByteArrayOutputStream outputBuffer;
 
-    private final JsonFormatOptions.MapNullKeyMode mapNullKeyMode;
+    private transient JsonGenerator jsonGenerator;
 
-    private final String mapNullKeyLiteral;
+    private final TimestampFormat timestampFormat;
 
     private final boolean encodeDecimalAsPlainNumber;
 
     private final ZoneId zoneId;
 
-    private InitializationContext context;
-
+    /**
+     * Creates the schema. The map null key options only apply to map types, which the JSON formats
+     * of the pipeline do not support.
+     */
     public DebeziumJsonSerializationSchema(
             TimestampFormat timestampFormat,
             JsonFormatOptions.MapNullKeyMode mapNullKeyMode,
@@ -83,17 +81,18 @@ public class DebeziumJsonSerializationSchema implements SerializationSchema<Even
             ZoneId zoneId,
             boolean encodeDecimalAsPlainNumber) {
         this.timestampFormat = timestampFormat;
-        this.mapNullKeyMode = mapNullKeyMode;
-        this.mapNullKeyLiteral = mapNullKeyLiteral;
         this.encodeDecimalAsPlainNumber = encodeDecimalAsPlainNumber;
         this.zoneId = zoneId;
-        jsonSerializers = new HashMap<>();
+        jsonEncoders = new HashMap<>();
     }
 
     @Override
-    public void open(InitializationContext context) {
-        reuseGenericRowData = new GenericRowData(4);
-        this.context = context;
+    public void open(InitializationContext context) throws Exception {
+        outputBuffer = new ByteArrayOutputStream();
+        jsonGenerator = new JsonFactory().createGenerator(outputBuffer);
+        jsonGenerator.configure(
+                JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN, encodeDecimalAsPlainNumber);
+        jsonGenerator.setRootValueSeparator(null);
     }
 
     @Override
@@ -107,106 +106,61 @@ public class DebeziumJsonSerializationSchema implements SerializationSchema<Even
             } else {
                 schema =
                         SchemaUtils.applySchemaChangeEvent(
-                                jsonSerializers.get(schemaChangeEvent.tableId()).getSchema(),
+                                jsonEncoders.get(schemaChangeEvent.tableId()).getSchema(),
                                 schemaChangeEvent);
             }
-            LogicalType rowType =
-                    DataTypeUtils.toFlinkDataType(schema.toRowDataType()).getLogicalType();
-            JsonRowDataSerializationSchema jsonSerializer =
-                    new JsonRowDataSerializationSchema(
-                            createJsonRowType(fromLogicalToDataType(rowType)),
-                            timestampFormat,
-                            mapNullKeyMode,
-                            mapNullKeyLiteral,
-                            encodeDecimalAsPlainNumber);
-            try {
-                jsonSerializer.open(context);
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
-            jsonSerializers.put(
+            jsonEncoders.put(
                     schemaChangeEvent.tableId(),
-                    new TableSchemaInfo(
-                            schemaChangeEvent.tableId(), schema, jsonSerializer, zoneId));
+                    new RecordDataJsonEncoder(schema, timestampFormat, zoneId));
             return null;
         }
 
         DataChangeEvent dataChangeEvent = (DataChangeEvent) event;
-        reuseGenericRowData.setField(
-                3,
-                GenericRowData.of(
-                        StringData.fromString(dataChangeEvent.tableId().getSchemaName()),
-                        StringData.fromString(dataChangeEvent.tableId().getTableName())));
+        RecordDataJsonEncoder jsonEncoder = jsonEncoders.get(dataChangeEvent.tableId());
         try {
+            outputBuffer.reset();
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeFieldName("before");
             switch (dataChangeEvent.op()) {
                 case INSERT:
-                    reuseGenericRowData.setField(0, null);
-                    reuseGenericRowData.setField(
-                            1,
-                            jsonSerializers
-                                    .get(dataChangeEvent.tableId())
-                                    .getRowDataFromRecordData(dataChangeEvent.after(), false));
-                    reuseGenericRowData.setField(2, OP_INSERT);
-                    return jsonSerializers
-                            .get(dataChangeEvent.tableId())
-                            .getSerializationSchema()
-                            .serialize(reuseGenericRowData);
+                    jsonGenerator.writeNull();
+                    jsonGenerator.writeFieldName("after");
+                    jsonEncoder.encode(dataChangeEvent.after(), jsonGenerator);
+                    jsonGenerator.writeFieldName("op");
+                    jsonGenerator.writeString(OP_INSERT);
+                    break;
                 case DELETE:
-                    reuseGenericRowData.setField(
-                            0,
-                            jsonSerializers
-                                    .get(dataChangeEvent.tableId())
-                                    .getRowDataFromRecordData(dataChangeEvent.before(), false));
-                    reuseGenericRowData.setField(1, null);
-                    reuseGenericRowData.setField(2, OP_DELETE);
-                    return jsonSerializers
-                            .get(dataChangeEvent.tableId())
-                            .getSerializationSchema()
-                            .serialize(reuseGenericRowData);
+                    jsonEncoder.encode(dataChangeEvent.before(), jsonGenerator);
+                    jsonGenerator.writeFieldName("after");
+                    jsonGenerator.writeNull();
+                    jsonGenerator.writeFieldName("op");
+                    jsonGenerator.writeString(OP_DELETE);
+                    break;
                 case UPDATE:
                 case REPLACE:
-                    reuseGenericRowData.setField(
-                            0,
-                            jsonSerializers
-                                    .get(dataChangeEvent.tableId())
-                                    .getRowDataFromRecordData(dataChangeEvent.before(), false));
-                    reuseGenericRowData.setField(
-                            1,
-                            jsonSerializers
-                                    .get(dataChangeEvent.tableId())
-                                    .getRowDataFromRecordData(dataChangeEvent.after(), false));
-                    reuseGenericRowData.setField(2, OP_UPDATE);
-                    return jsonSerializers
-                            .get(dataChangeEvent.tableId())
-                            .getSerializationSchema()
-                            .serialize(reuseGenericRowData);
+                    jsonEncoder.encode(dataChangeEvent.before(), jsonGenerator);
+                    jsonGenerator.writeFieldName("after");
+                    jsonEncoder.encode(dataChangeEvent.after(), jsonGenerator);
+                    jsonGenerator.writeFieldName("op");
+                    jsonGenerator.writeString(OP_UPDATE);
+                    break;
                 default:
                     throw new UnsupportedOperationException(
                             format(
                                     "Unsupported operation '%s' for OperationType.",
                                     dataChangeEvent.op()));
             }
+            // Refer to https://debezium.io/documentation/reference/1.9/connectors/mysql.html
+            jsonGenerator.writeFieldName("source");
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeStringField("db", dataChangeEvent.tableId().getSchemaName());
+            jsonGenerator.writeStringField("table", dataChangeEvent.tableId().getTableName());
+            jsonGenerator.writeEndObject();
+            jsonGenerator.writeEndObject();
+            jsonGenerator.flush();
+            return outputBuffer.toByteArray();
         } catch (Throwable t) {
             throw new RuntimeException(format("Could not serialize event '%s'.", event), t);
         }
     }
-
-    /**
-     * Refer to <a
-     * href="https://debezium.io/documentation/reference/1.9/connectors/mysql.html">Debezium
-     * docs</a> for more details.
-     */
-    private static RowType createJsonRowType(DataType databaseSchema) {
-        return (RowType)
-                DataTypes.ROW(
-                                DataTypes.FIELD("before", databaseSchema),
-                                DataTypes.FIELD("after", databaseSchema),
-                                DataTypes.FIELD("op", DataTypes.STRING()),
-                                DataTypes.FIELD(
-                                        "source",
-                                        DataTypes.ROW(
-                                                DataTypes.FIELD("db", DataTypes.STRING()),
-                                                DataTypes.FIELD("table", DataTypes.STRING()))))
-                        .getLogicalType();
-    }
 }
@@ -24,6 +24,8 @@ import org.apache.flink.cdc.common.factories.DataSinkFactory;
 import org.apache.flink.cdc.common.factories.FactoryHelper;
 import org.apache.flink.cdc.common.pipeline.PipelineOptions;
 import org.apache.flink.cdc.common.sink.DataSink;
+import org.apache.flink.cdc.connectors.kafka.avro.FileSchemaRegistry;
+import org.apache.flink.cdc.connectors.kafka.avro.debezium.DebeziumAvroSerializationSchema;
 import org.apache.flink.cdc.connectors.kafka.json.ChangeLogJsonFormatFactory;
 import org.apache.flink.cdc.connectors.kafka.json.JsonSerializationType;
 import org.apache.flink.configuration.Configuration;
@@ -36,6 +38,7 @@ import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 
+import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.DEBEZIUM_AVRO_SCHEMA_DIRECTORY;
 import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.KEY_FORMAT;
 import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.PARTITION_STRATEGY;
 import static org.apache.flink.cdc.connectors.kafka.sink.KafkaDataSinkOptions.PROPERTIES_PREFIX;
@@ -69,11 +72,31 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
         KeyFormat keyFormat = context.getFactoryConfiguration().get(KEY_FORMAT);
         SerializationSchema<Event> keySerialization =
                 KeySerializationFactory.createSerializationSchema(configuration, keyFormat, zoneId);
-        JsonSerializationType jsonSerializationType =
+        ValueFormat valueFormat =
                 context.getFactoryConfiguration().get(KafkaDataSinkOptions.VALUE_FORMAT);
-        SerializationSchema<Event> valueSerialization =
-                ChangeLogJsonFormatFactory.createSerializationSchema(
-                        configuration, jsonSerializationType, zoneId);
+        SerializationSchema<Event> valueSerialization;
+        switch (valueFormat) {
+            case DEBEZIUM_JSON:
+                valueSerialization =
+                        ChangeLogJsonFormatFactory.createSerializationSchema(
+                                configuration, JsonSerializationType.DEBEZIUM_JSON, zoneId);
+                break;
+            case CANAL_JSON:
+                valueSerialization =
+                        ChangeLogJsonFormatFactory.createSerializationSchema(
+                                configuration, JsonSerializationType.CANAL_JSON, zoneId);
+                break;
+            case DEBEZIUM_AVRO:
+                valueSerialization =
+                        new DebeziumAvroSerializationSchema(
+                                context.getFactoryConfiguration()
+                                        .getOptional(DEBEZIUM_AVRO_SCHEMA_DIRECTORY)
+                                        .map(FileSchemaRegistry::new)
+                                        .orElse(null));
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported value format " + valueFormat);
+        }
         final Properties kafkaProperties = new Properties();
         Map<String, String> allOptions = context.getFactoryConfiguration().toMap();
         allOptions.keySet().stream()
@@ -119,6 +142,7 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
         Set<ConfigOption<?>> options = new HashSet<>();
         options.add(KEY_FORMAT);
         options.add(VALUE_FORMAT);
+        options.add(DEBEZIUM_AVRO_SCHEMA_DIRECTORY);
         options.add(PARTITION_STRATEGY);
         options.add(TOPIC);
         options.add(SINK_ADD_TABLEID_TO_HEADER_ENABLED);
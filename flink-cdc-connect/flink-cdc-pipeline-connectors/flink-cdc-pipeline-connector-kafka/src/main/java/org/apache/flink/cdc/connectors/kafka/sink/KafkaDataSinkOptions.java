@@ -18,7 +18,6 @@
 package org.apache.flink.cdc.connectors.kafka.sink;
 
 import org.apache.flink.cdc.common.configuration.ConfigOption;
-import org.apache.flink.cdc.connectors.kafka.json.JsonSerializationType;
 import org.apache.flink.connector.base.DeliveryGuarantee;
 
 import static org.apache.flink.cdc.common.configuration.ConfigOptions.key;
@@ -51,13 +50,21 @@ public class KafkaDataSinkOptions {
                             "Defines the format identifier for encoding key data, "
                                     + "available options are `csv` and `json`, default option is `json`.");
 
-    public static final ConfigOption<JsonSerializationType> VALUE_FORMAT =
+    public static final ConfigOption<ValueFormat> VALUE_FORMAT =
             key("value.format")
-                    .enumType(JsonSerializationType.class)
-                    .defaultValue(JsonSerializationType.DEBEZIUM_JSON)
+                    .enumType(ValueFormat.class)
+                    .defaultValue(ValueFormat.DEBEZIUM_JSON)
                     .withDescription(
                             "Defines the format identifier for encoding value data, "
-                                    + "available options are `debezium-json` and `canal-json`, default option is `debezium-json`.");
+                                    + "available options are `debezium-json`, `canal-json` and `debezium-avro`, default option is `debezium-json`.");
+
+    public static final ConfigOption<String> DEBEZIUM_AVRO_SCHEMA_DIRECTORY =
+            key("debezium-avro.schema-directory")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Optional. The directory where the `debezium-avro` value format writes the Avro schema of each table version as `<fingerprint>.avsc`, "
+                                    + "so that consumers can resolve the schema fingerprint embedded in each record. Any path of a Flink supported file system can be used.");
 
     public static final ConfigOption<String> TOPIC =
             key("topic")
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.sink;
+
+import org.apache.flink.api.common.serialization.SerializationSchema;
+import org.apache.flink.cdc.connectors.kafka.avro.debezium.DebeziumAvroSerializationSchema;
+import org.apache.flink.cdc.connectors.kafka.json.JsonSerializationType;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+
+/** Enum class for building the value {@link SerializationSchema} of {@link ProducerRecord}. */
+public enum ValueFormat {
+
+    /** Use the {@link JsonSerializationType#DEBEZIUM_JSON} format. */
+    DEBEZIUM_JSON("debezium-json"),
+
+    /** Use the {@link JsonSerializationType#CANAL_JSON} format. */
+    CANAL_JSON("canal-json"),
+
+    /**
+     * Use {@link DebeziumAvroSerializationSchema}, which writes the Debezium envelope in Avro
+     * binary encoding.
+     */
+    DEBEZIUM_AVRO("debezium-avro");
+
+    private final String value;
+
+    ValueFormat(String value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
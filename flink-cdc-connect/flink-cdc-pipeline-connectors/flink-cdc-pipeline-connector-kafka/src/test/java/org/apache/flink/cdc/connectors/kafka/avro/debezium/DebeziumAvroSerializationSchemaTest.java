@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.avro.debezium;
+
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.common.utils.SchemaUtils;
+import org.apache.flink.cdc.connectors.kafka.avro.FileSchemaRegistry;
+import org.apache.flink.cdc.connectors.kafka.json.MockInitializationContext;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DecoderFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+
+/** Tests for {@link DebeziumAvroSerializationSchema}. */
+public class DebeziumAvroSerializationSchemaTest {
+
+    public static final TableId TABLE_1 =
+            TableId.tableId("default_namespace", "default_schema", "table-1");
+
+    @TempDir private Path schemaDirectory;
+
+    @Test
+    public void testSerialize() throws Exception {
+        FileSchemaRegistry schemaRegistry = new FileSchemaRegistry(schemaDirectory.toString());
+        DebeziumAvroSerializationSchema serializationSchema =
+                new DebeziumAvroSerializationSchema(schemaRegistry);
+        serializationSchema.open(new MockInitializationContext());
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT().notNull())
+                        .physicalColumn("name", DataTypes.STRING())
+                        .physicalColumn("flag", DataTypes.BOOLEAN())
+                        .physicalColumn("small", DataTypes.SMALLINT())
+                        .physicalColumn("big", DataTypes.BIGINT())
+                        .physicalColumn("ratio", DataTypes.FLOAT())
+                        .physicalColumn("weight", DataTypes.DOUBLE())
+                        .physicalColumn("price", DataTypes.DECIMAL(10, 2))
+                        .physicalColumn("payload", DataTypes.BYTES())
+                        .physicalColumn("day", DataTypes.DATE())
+                        .physicalColumn("time", DataTypes.TIME())
+                        .physicalColumn("created_at", DataTypes.TIMESTAMP(3))
+                        .physicalColumn("updated_at", DataTypes.TIMESTAMP(6))
+                        .physicalColumn("event_time", DataTypes.TIMESTAMP_LTZ(6))
+                        .physicalColumn("1st column", DataTypes.STRING())
+                        .primaryKey("id")
+                        .build();
+        Assertions.assertNull(serializationSchema.serialize(new CreateTableEvent(TABLE_1, schema)));
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator((RowType) schema.toRowDataType());
+        Object[] fields =
+                new Object[] {
+                    1,
+                    BinaryStringData.fromString("né"),
+                    true,
+                    (short) -2,
+                    -3_000_000_000L,
+                    1.5f,
+                    -2.25,
+                    DecimalData.fromBigDecimal(new BigDecimal("-12.30"), 10, 2),
+                    new byte[] {1, 2, 3},
+                    19_000,
+                    3_723_000,
+                    TimestampData.fromLocalDateTime(
+                            LocalDateTime.of(2024, 1, 1, 8, 0, 0, 123_000_000)),
+                    TimestampData.fromLocalDateTime(
+                            LocalDateTime.of(2024, 1, 1, 8, 0, 0, 123_456_789)),
+                    LocalZonedTimestampData.fromInstant(
+                            Instant.parse("2024-01-01T00:00:00.000001Z")),
+                    null
+                };
+
+        byte[] insert =
+                serializationSchema.serialize(
+                        DataChangeEvent.insertEvent(TABLE_1, generator.generate(fields)));
+        org.apache.avro.Schema writerSchema = getWriterSchema(insert, schemaRegistry);
+        Assertions.assertEquals(
+                "default_namespace.default_schema.table_1.Envelope", writerSchema.getFullName());
+        GenericRecord envelope = decode(insert, writerSchema);
+        Assertions.assertNull(envelope.get("before"));
+        Assertions.assertEquals("c", envelope.get("op").toString());
+        GenericRecord source = (GenericRecord) envelope.get("source");
+        Assertions.assertEquals("default_schema", source.get("db").toString());
+        Assertions.assertEquals("table-1", source.get("table").toString());
+
+        GenericRecord after = (GenericRecord) envelope.get("after");
+        Assertions.assertEquals(1, after.get("id"));
+        Assertions.assertEquals("né", after.get("name").toString());
+        Assertions.assertEquals(true, after.get("flag"));
+        Assertions.assertEquals(-2, after.get("small"));
+        Assertions.assertEquals(-3_000_000_000L, after.get("big"));
+        Assertions.assertEquals(1.5f, after.get("ratio"));
+        Assertions.assertEquals(-2.25, after.get("weight"));
+        org.apache.avro.Schema priceSchema =
+                writerSchema
+                        .getField("after")
+                        .schema()
+                        .getTypes()
+                        .get(1)
+                        .getField("price")
+                        .schema();
+        Assertions.assertEquals(
+                "decimal", priceSchema.getTypes().get(1).getLogicalType().getName());
+        Assertions.assertEquals(
+                new BigDecimal("-12.30"),
+                new BigDecimal(new BigInteger(toBytes(after.get("price"))), 2));
+        Assertions.assertArrayEquals(new byte[] {1, 2, 3}, toBytes(after.get("payload")));
+        Assertions.assertEquals(19_000, after.get("day"));
+        Assertions.assertEquals(3_723_000, after.get("time"));
+        Assertions.assertEquals(
+                LocalDateTime.of(2024, 1, 1, 8, 0, 0, 123_000_000)
+                        .toInstant(ZoneOffset.UTC)
+                        .toEpochMilli(),
+                after.get("created_at"));
+        Assertions.assertEquals(
+                LocalDateTime.of(2024, 1, 1, 8, 0, 0, 123_000_000)
+                                        .toInstant(ZoneOffset.UTC)
+                                        .toEpochMilli()
+                                * 1000
+                        + 456,
+                after.get("updated_at"));
+        Assertions.assertEquals(
+                Instant.parse("2024-01-01T00:00:00Z").toEpochMilli() * 1000 + 1,
+                after.get("event_time"));
+        Assertions.assertNull(after.get("_1st_column"));
+
+        GenericRecord delete =
+                decode(
+                        serializationSchema.serialize(
+                                DataChangeEvent.deleteEvent(TABLE_1, generator.generate(fields))),
+                        writerSchema);
+        Assertions.assertEquals("d", delete.get("op").toString());
+        Assertions.assertNull(delete.get("after"));
+        Assertions.assertEquals(1, ((GenericRecord) delete.get("before")).get("id"));
+
+        // a schema change creates a new writer schema with another fingerprint
+        AddColumnEvent addColumnEvent =
+                new AddColumnEvent(
+                        TABLE_1,
+                        Collections.singletonList(
+                                new AddColumnEvent.ColumnWithPosition(
+                                        Column.physicalColumn("note", DataTypes.STRING()))));
+        Assertions.assertNull(serializationSchema.serialize(addColumnEvent));
+        Object[] evolvedFields = Arrays.copyOf(fields, fields.length + 1);
+        evolvedFields[fields.length] = BinaryStringData.fromString("note");
+        BinaryRecordDataGenerator evolvedGenerator =
+                new BinaryRecordDataGenerator(
+                        (RowType)
+                                SchemaUtils.applySchemaChangeEvent(schema, addColumnEvent)
+                                        .toRowDataType());
+        byte[] update =
+                serializationSchema.serialize(
+                        DataChangeEvent.updateEvent(
+                                TABLE_1,
+                                evolvedGenerator.generate(evolvedFields),
+                                evolvedGenerator.generate(evolvedFields)));
+        org.apache.avro.Schema evolvedSchema = getWriterSchema(update, schemaRegistry);
+        Assertions.assertNotEquals(writerSchema, evolvedSchema);
+        GenericRecord updated = decode(update, evolvedSchema);
+        Assertions.assertEquals("u", updated.get("op").toString());
+        Assertions.assertEquals(
+                "note", ((GenericRecord) updated.get("after")).get("note").toString());
+    }
+
+    @Test
+    public void testRejectNullOfRequiredField() throws Exception {
+        DebeziumAvroSerializationSchema serializationSchema =
+                new DebeziumAvroSerializationSchema(null);
+        serializationSchema.open(new MockInitializationContext());
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT().notNull())
+                        .primaryKey("id")
+                        .build();
+        serializationSchema.serialize(new CreateTableEvent(TABLE_1, schema));
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(RowType.of(DataTypes.INT()));
+        Assertions.assertThrows(
+                RuntimeException.class,
+                () ->
+                        serializationSchema.serialize(
+                                DataChangeEvent.insertEvent(
+                                        TABLE_1, generator.generate(new Object[] {null}))));
+    }
+
+    /**
+     * Resolves the writer schema by the fingerprint of the single object encoding header, and
+     * checks that the fingerprint is the one the Avro library computes for the schema.
+     */
+    private static org.apache.avro.Schema getWriterSchema(
+            byte[] message, FileSchemaRegistry schemaRegistry) throws Exception {
+        Assertions.assertEquals((byte) 0xC3, message[0]);
+        Assertions.assertEquals((byte) 0x01, message[1]);
+        long fingerprint = ByteBuffer.wrap(message, 2, 8).order(ByteOrder.LITTLE_ENDIAN).getLong();
+        String schema = schemaRegistry.lookup(fingerprint);
+        Assertions.assertNotNull(schema);
+        org.apache.avro.Schema writerSchema = new org.apache.avro.Schema.Parser().parse(schema);
+        Assertions.assertEquals(
+                SchemaNormalization.parsingFingerprint64(writerSchema), fingerprint);
+        return writerSchema;
+    }
+
+    private static GenericRecord decode(byte[] message, org.apache.avro.Schema writerSchema)
+            throws Exception {
+        return new GenericDatumReader<GenericRecord>(writerSchema, writerSchema, GenericData.get())
+                .read(
+                        null,
+                        DecoderFactory.get().binaryDecoder(message, 10, message.length - 10, null));
+    }
+
+    private static byte[] toBytes(Object value) {
+        ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
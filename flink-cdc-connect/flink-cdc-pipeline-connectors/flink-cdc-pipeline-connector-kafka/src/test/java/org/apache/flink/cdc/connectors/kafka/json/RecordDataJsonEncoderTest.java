@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.kafka.json;
+
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.utils.DataTypeUtils;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.apache.flink.formats.common.TimestampFormat;
+import org.apache.flink.formats.json.JsonFormatOptions;
+import org.apache.flink.formats.json.JsonRowDataSerializationSchema;
+import org.apache.flink.table.types.logical.RowType;
+
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonFactory;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonGenerator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/** Tests for {@link RecordDataJsonEncoder}. */
+public class RecordDataJsonEncoderTest {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("UTC+8");
+
+    @Test
+    public void testEncodeAsJsonRowDataSerializationSchema() throws Exception {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("col1", DataTypes.STRING())
+                        .physicalColumn("boolean", DataTypes.BOOLEAN())
+                        .physicalColumn("binary", DataTypes.BINARY(3))
+                        .physicalColumn("varbinary", DataTypes.VARBINARY(10))
+                        .physicalColumn("bytes", DataTypes.BYTES())
+                        .physicalColumn("tinyint", DataTypes.TINYINT())
+                        .physicalColumn("smallint", DataTypes.SMALLINT())
+                        .physicalColumn("int", DataTypes.INT())
+                        .physicalColumn("big_int", DataTypes.BIGINT())
+                        .physicalColumn("float", DataTypes.FLOAT())
+                        .physicalColumn("double", DataTypes.DOUBLE())
+                        .physicalColumn("decimal", DataTypes.DECIMAL(6, 3))
+                        .physicalColumn("big_decimal", DataTypes.DECIMAL(38, 0))
+                        .physicalColumn("decimal_with_zeros", DataTypes.DECIMAL(10, 4))
+                        .physicalColumn("char", DataTypes.CHAR(5))
+                        .physicalColumn("varchar", DataTypes.VARCHAR(10))
+                        .physicalColumn("string", DataTypes.STRING())
+                        .physicalColumn("date", DataTypes.DATE())
+                        .physicalColumn("time", DataTypes.TIME())
+                        .physicalColumn("time_with_precision", DataTypes.TIME(6))
+                        .physicalColumn("timestamp", DataTypes.TIMESTAMP())
+                        .physicalColumn("timestamp_with_precision", DataTypes.TIMESTAMP(3))
+                        .physicalColumn("timestamp_ltz", DataTypes.TIMESTAMP_LTZ())
+                        .physicalColumn("timestamp_ltz_with_precision", DataTypes.TIMESTAMP_LTZ(3))
+                        .physicalColumn("null_string", DataTypes.STRING())
+                        .primaryKey("col1")
+                        .build();
+        BinaryRecordData recordData =
+                new BinaryRecordDataGenerator(schema.getColumnDataTypes().toArray(new DataType[0]))
+                        .generate(
+                                new Object[] {
+                                    BinaryStringData.fromString("pk"),
+                                    true,
+                                    new byte[] {1, 2},
+                                    new byte[] {3, 4},
+                                    new byte[] {5, 6, 7},
+                                    (byte) 1,
+                                    (short) 2,
+                                    3,
+                                    4L,
+                                    5.1f,
+                                    6.2,
+                                    DecimalData.fromBigDecimal(new BigDecimal("7.123"), 6, 3),
+                                    DecimalData.fromBigDecimal(new BigDecimal("1E+20"), 38, 0),
+                                    DecimalData.fromBigDecimal(new BigDecimal("1.5000"), 10, 4),
+                                    BinaryStringData.fromString("test1"),
+                                    BinaryStringData.fromString("\"quoted\"\né中"),
+                                    BinaryStringData.fromString("test3"),
+                                    100,
+                                    3723000,
+                                    3723456,
+                                    TimestampData.fromTimestamp(
+                                            Timestamp.valueOf("2023-01-01 00:00:00.000")),
+                                    TimestampData.fromTimestamp(
+                                            Timestamp.valueOf("2023-01-01 00:00:00.123")),
+                                    LocalZonedTimestampData.fromInstant(
+                                            Instant.parse("2023-01-01T00:00:00.000Z")),
+                                    LocalZonedTimestampData.fromInstant(
+                                            Instant.parse("2023-01-01T00:00:00.123Z")),
+                                    null
+                                });
+
+        for (TimestampFormat timestampFormat : TimestampFormat.values()) {
+            for (boolean encodeDecimalAsPlainNumber : new boolean[] {true, false}) {
+                JsonRowDataSerializationSchema serializationSchema =
+                        new JsonRowDataSerializationSchema(
+                                (RowType)
+                                        DataTypeUtils.toFlinkDataType(schema.toRowDataType())
+                                                .getLogicalType(),
+                                timestampFormat,
+                                JsonFormatOptions.MapNullKeyMode.FAIL,
+                                "null",
+                                encodeDecimalAsPlainNumber);
+                serializationSchema.open(new MockInitializationContext());
+                TableSchemaInfo tableSchemaInfo =
+                        new TableSchemaInfo(
+                                TableId.parse("testDatabase.testTable"),
+                                schema,
+                                serializationSchema,
+                                ZONE_ID);
+                String expected =
+                        new String(
+                                serializationSchema.serialize(
+                                        tableSchemaInfo.getRowDataFromRecordData(
+                                                recordData, false)),
+                                StandardCharsets.UTF_8);
+
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                JsonGenerator generator = new JsonFactory().createGenerator(outputStream);
+                generator.configure(
+                        JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN,
+                        encodeDecimalAsPlainNumber);
+                new RecordDataJsonEncoder(schema, timestampFormat, ZONE_ID)
+                        .encode(recordData, generator);
+                generator.flush();
+
+                Assertions.assertEquals(
+                        expected, new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+            }
+        }
+    }
+}
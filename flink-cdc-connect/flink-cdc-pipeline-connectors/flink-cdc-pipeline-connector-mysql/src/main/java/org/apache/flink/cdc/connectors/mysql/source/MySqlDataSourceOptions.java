@@ -272,4 +272,12 @@ public class MySqlDataSourceOptions {
                                     + "The difference between scan.newly-added-table.enabled and scan.binlog.newly-added-table.enabled options is: \n"
                                     + "scan.newly-added-table.enabled: do re-snapshot & binlog-reading for newly added table when restored; \n"
                                     + "scan.binlog.newly-added-table.enabled: only do binlog-reading for newly added table during binlog reading phase.");
+
+    @Experimental
+    public static final ConfigOption<Long> SCAN_INCREMENTAL_SNAPSHOT_SPILL_MEMORY_BUDGET =
+            ConfigOptions.key("scan.incremental.snapshot.spill.memory-budget")
+                    .longType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The memory budget in bytes for normalizing the records of a snapshot chunk with its backfill binlog events. When set, snapshot records exceeding the budget are spilled to local disk and emitted lazily instead of keeping the whole chunk in memory, the backfill binlog events are spilled the same way. If the keys changed by the backfill events exceed the budget as well, the chunk falls back to being normalized in memory. By default the whole chunk is kept in memory.");
 }
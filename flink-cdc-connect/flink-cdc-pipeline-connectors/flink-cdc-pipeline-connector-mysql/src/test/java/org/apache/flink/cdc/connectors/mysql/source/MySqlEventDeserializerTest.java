@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.source;
+
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.debezium.table.DebeziumChangelogMode;
+
+import io.debezium.data.Envelope;
+import io.debezium.time.ZonedTimestamp;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link MySqlEventDeserializer}. */
+public class MySqlEventDeserializerTest {
+
+    private static final TableId TABLE_ID = TableId.tableId("inventory", "products");
+
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("io.debezium.connector.mysql.Source")
+                    .field("db", Schema.STRING_SCHEMA)
+                    .build();
+
+    @Test
+    public void testDeserializeRecordsAcrossSchemaChanges() throws Exception {
+        MySqlEventDeserializer deserializer =
+                new MySqlEventDeserializer(DebeziumChangelogMode.ALL, false);
+        Schema schema =
+                SchemaBuilder.struct()
+                        .name("mysql_binlog_source.inventory.products.Value")
+                        .field("id", Schema.INT32_SCHEMA)
+                        .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                        .build();
+        Envelope envelope = createEnvelope(schema);
+
+        RecordData first =
+                deserializeAfter(
+                        deserializer,
+                        envelope,
+                        envelope.create(createRow(schema, 1, "scooter"), source(), Instant.now()));
+        assertThat(first.getInt(0)).isEqualTo(1);
+        assertThat(first.getString(1).toString()).isEqualTo("scooter");
+
+        List<? extends Event> events =
+                deserializer.deserialize(
+                        createSourceRecord(
+                                envelope,
+                                envelope.update(
+                                        createRow(schema, 2, "car battery"),
+                                        createRow(schema, 2, "12V car battery"),
+                                        source(),
+                                        Instant.now())));
+        DataChangeEvent update = (DataChangeEvent) events.get(0);
+        assertThat(update.before().getString(1).toString()).isEqualTo("car battery");
+        assertThat(update.after().getString(1).toString()).isEqualTo("12V car battery");
+
+        // A column with a default value is added to the table
+        Schema evolvedSchema =
+                SchemaBuilder.struct()
+                        .name("mysql_binlog_source.inventory.products.Value")
+                        .field("id", Schema.INT32_SCHEMA)
+                        .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                        .field("weight", SchemaBuilder.int32().optional().defaultValue(7).build())
+                        .build();
+        Envelope evolvedEnvelope = createEnvelope(evolvedSchema);
+
+        Struct evolvedRow = createRow(evolvedSchema, 3, "hammer").put("weight", 14);
+        RecordData evolved =
+                deserializeAfter(
+                        deserializer,
+                        evolvedEnvelope,
+                        evolvedEnvelope.create(evolvedRow, source(), Instant.now()));
+        assertThat(evolved.getArity()).isEqualTo(3);
+        assertThat(evolved.getString(1).toString()).isEqualTo("hammer");
+        assertThat(evolved.getInt(2)).isEqualTo(14);
+
+        // The default value is not applied to null values
+        RecordData withNull =
+                deserializeAfter(
+                        deserializer,
+                        evolvedEnvelope,
+                        evolvedEnvelope.create(
+                                createRow(evolvedSchema, 4, "rocks"), source(), Instant.now()));
+        assertThat(withNull.isNullAt(2)).isTrue();
+    }
+
+    @Test
+    public void testDeserializeValueDependentTypes() throws Exception {
+        MySqlEventDeserializer deserializer =
+                new MySqlEventDeserializer(DebeziumChangelogMode.ALL, false);
+        Schema schema =
+                SchemaBuilder.struct()
+                        .name("mysql_binlog_source.inventory.products.Value")
+                        .field("id", Schema.INT32_SCHEMA)
+                        .field("updated_at", ZonedTimestamp.builder().optional().build())
+                        .build();
+        Envelope envelope = createEnvelope(schema);
+
+        // The precision of zoned timestamps is inferred from the values
+        for (String timestamp :
+                new String[] {
+                    "2024-01-01T00:00:00Z", "2024-01-01T00:00:00.123456Z", "2024-01-01T00:00:01Z"
+                }) {
+            Struct row = new Struct(schema).put("id", 1).put("updated_at", timestamp);
+            RecordData recordData =
+                    deserializeAfter(
+                            deserializer, envelope, envelope.create(row, source(), Instant.now()));
+            assertThat(recordData.getLocalZonedTimestampData(1, 6))
+                    .isEqualTo(LocalZonedTimestampData.fromInstant(Instant.parse(timestamp)));
+        }
+    }
+
+    private static RecordData deserializeAfter(
+            MySqlEventDeserializer deserializer, Envelope envelope, Struct value) throws Exception {
+        List<? extends Event> events =
+                deserializer.deserialize(createSourceRecord(envelope, value));
+        assertThat(events).hasSize(1);
+        return ((DataChangeEvent) events.get(0)).after();
+    }
+
+    private static Envelope createEnvelope(Schema schema) {
+        return Envelope.defineSchema()
+                .withName("mysql_binlog_source.inventory.products.Envelope")
+                .withRecord(schema)
+                .withSource(SOURCE_SCHEMA)
+                .build();
+    }
+
+    private static Struct createRow(Schema schema, int id, String name) {
+        return new Struct(schema).put("id", id).put("name", name);
+    }
+
+    private static Struct source() {
+        return new Struct(SOURCE_SCHEMA).put("db", TABLE_ID.getSchemaName());
+    }
+
+    private static SourceRecord createSourceRecord(Envelope envelope, Struct value) {
+        return new SourceRecord(
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                "mysql_binlog_source." + TABLE_ID.getSchemaName() + "." + TABLE_ID.getTableName(),
+                envelope.schema(),
+                value);
+    }
+}
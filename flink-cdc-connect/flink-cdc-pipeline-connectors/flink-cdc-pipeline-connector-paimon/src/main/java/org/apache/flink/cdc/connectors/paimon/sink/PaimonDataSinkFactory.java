@@ -27,9 +27,11 @@ import org.apache.flink.cdc.common.sink.DataSink;
 import org.apache.flink.cdc.common.utils.Preconditions;
 import org.apache.flink.cdc.connectors.paimon.sink.v2.PaimonRecordEventSerializer;
 import org.apache.flink.cdc.connectors.paimon.sink.v2.PaimonRecordSerializer;
+import org.apache.flink.cdc.connectors.paimon.sink.v2.PaimonWriterOptions;
 
 import org.apache.paimon.catalog.Catalog;
 import org.apache.paimon.flink.FlinkCatalogFactory;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 
 import java.time.ZoneId;
@@ -103,6 +105,17 @@ public class PaimonDataSinkFactory implements DataSinkFactory {
                 }
             }
         }
+        String writerBufferSize =
+                context.getFactoryConfiguration().get(PaimonDataSinkOptions.WRITER_BUFFER_SIZE);
+        PaimonWriterOptions writerOptions =
+                new PaimonWriterOptions(
+                        writerBufferSize == null
+                                ? null
+                                : MemorySize.parse(writerBufferSize).getBytes(),
+                        context.getFactoryConfiguration()
+                                .get(PaimonDataSinkOptions.WRITER_BUFFER_OFF_HEAP),
+                        context.getFactoryConfiguration()
+                                .get(PaimonDataSinkOptions.WRITER_IDLE_TIMEOUT));
         PaimonRecordSerializer<Event> serializer = new PaimonRecordEventSerializer(zoneId);
         String schemaOperatorUid =
                 context.getPipelineConfiguration()
@@ -114,7 +127,8 @@ public class PaimonDataSinkFactory implements DataSinkFactory {
                 partitionMaps,
                 serializer,
                 zoneId,
-                schemaOperatorUid);
+                schemaOperatorUid,
+                writerOptions);
     }
 
     @Override
@@ -136,6 +150,9 @@ public class PaimonDataSinkFactory implements DataSinkFactory {
         options.add(PaimonDataSinkOptions.URI);
         options.add(PaimonDataSinkOptions.COMMIT_USER);
         options.add(PaimonDataSinkOptions.PARTITION_KEY);
+        options.add(PaimonDataSinkOptions.WRITER_BUFFER_SIZE);
+        options.add(PaimonDataSinkOptions.WRITER_BUFFER_OFF_HEAP);
+        options.add(PaimonDataSinkOptions.WRITER_IDLE_TIMEOUT);
         return options;
     }
 }
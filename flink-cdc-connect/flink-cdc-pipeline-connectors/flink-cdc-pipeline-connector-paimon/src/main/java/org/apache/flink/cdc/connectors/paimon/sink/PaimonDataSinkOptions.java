@@ -21,6 +21,8 @@ import org.apache.flink.cdc.common.configuration.ConfigOption;
 
 import org.apache.paimon.options.CatalogOptions;
 
+import java.time.Duration;
+
 import static org.apache.flink.cdc.common.configuration.ConfigOptions.key;
 
 /** copy from {@link CatalogOptions}. Options for {@link PaimonDataSink}. */
@@ -64,4 +66,29 @@ public class PaimonDataSinkOptions {
                             "Partition keys for each partitioned table, allow setting multiple primary keys for multiTables. "
                                     + "Tables are separated by ';', and partition keys are separated by ','. "
                                     + "For example, we can set partition.key of two tables by 'testdb.table1:id1,id2;testdb.table2:name'.");
+
+    public static final ConfigOption<String> WRITER_BUFFER_SIZE =
+            key("writer.buffer-size")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Total size of the write buffer shared by the tables written by one sink subtask, e.g. '512mb'. "
+                                    + "When the buffer is nearly exhausted, the buffered data of the least recently written tables is flushed to files. "
+                                    + "By default, the 'write-buffer-size' of the first written table is used.");
+
+    public static final ConfigOption<Boolean> WRITER_BUFFER_OFF_HEAP =
+            key("writer.buffer-off-heap")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to allocate the shared write buffer from off-heap memory, "
+                                    + "which should be covered by the task off-heap memory of Flink.");
+
+    public static final ConfigOption<Duration> WRITER_IDLE_TIMEOUT =
+            key("writer.idle-timeout")
+                    .durationType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Table writers that have not received any record for this duration are closed on the next checkpoint, "
+                                    + "and are opened again when new records of the table arrive. By default, table writers are never closed.");
 }
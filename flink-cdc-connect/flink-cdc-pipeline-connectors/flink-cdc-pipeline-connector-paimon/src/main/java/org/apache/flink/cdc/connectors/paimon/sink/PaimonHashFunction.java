@@ -23,6 +23,7 @@ import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.function.HashFunction;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.connectors.paimon.sink.v2.PaimonWriterHelper;
+import org.apache.flink.cdc.connectors.paimon.sink.v2.bucket.GlobalDynamicBucketAssigner;
 
 import org.apache.paimon.catalog.Catalog;
 import org.apache.paimon.catalog.Identifier;
@@ -30,7 +31,11 @@ import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.flink.FlinkCatalogFactory;
 import org.apache.paimon.flink.sink.RowAssignerChannelComputer;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.table.BucketMode;
 import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.sink.RowPartitionKeyExtractor;
+
+import javax.annotation.Nullable;
 
 import java.io.Serializable;
 import java.time.ZoneId;
@@ -38,7 +43,9 @@ import java.util.List;
 
 /**
  * A {@link HashFunction} implementation for {@link PaimonDataSink}. Shuffle {@link DataChangeEvent}
- * by hash of PrimaryKey.
+ * by hash of PrimaryKey. The events of tables in {@link BucketMode#GLOBAL_DYNAMIC} mode are
+ * shuffled by the primary key only, so that a key is always assigned by the same subtask when it
+ * moves to another partition.
  */
 public class PaimonHashFunction implements HashFunction<DataChangeEvent>, Serializable {
 
@@ -48,6 +55,11 @@ public class PaimonHashFunction implements HashFunction<DataChangeEvent>, Serial
 
     private final RowAssignerChannelComputer channelComputer;
 
+    // the key extractor of a table in GLOBAL_DYNAMIC bucket mode, null for other modes.
+    @Nullable private final RowPartitionKeyExtractor globalDynamicKeyExtractor;
+
+    private final int parallelism;
+
     public PaimonHashFunction(
             Options options, TableId tableId, Schema schema, ZoneId zoneId, int parallelism) {
         Catalog catalog = FlinkCatalogFactory.createPaimonCatalog(options);
@@ -60,11 +72,20 @@ public class PaimonHashFunction implements HashFunction<DataChangeEvent>, Serial
         this.fieldGetters = PaimonWriterHelper.createFieldGetters(schema, zoneId);
         channelComputer = new RowAssignerChannelComputer(table.schema(), parallelism);
         channelComputer.setup(parallelism);
+        this.globalDynamicKeyExtractor =
+                table.bucketMode() == BucketMode.GLOBAL_DYNAMIC
+                        ? new RowPartitionKeyExtractor(table.schema())
+                        : null;
+        this.parallelism = parallelism;
     }
 
     @Override
     public int hashcode(DataChangeEvent event) {
         GenericRow genericRow = PaimonWriterHelper.convertEventToGenericRow(event, fieldGetters);
+        if (globalDynamicKeyExtractor != null) {
+            return GlobalDynamicBucketAssigner.computeChannel(
+                    globalDynamicKeyExtractor.trimmedPrimaryKey(genericRow), parallelism);
+        }
         return channelComputer.channel(genericRow);
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.paimon.sink.v2;
+
+import org.apache.paimon.memory.HeapMemorySegmentPool;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.MemorySegmentPool;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * A {@link MemorySegmentPool} of off-heap {@link MemorySegment}s, which are allocated lazily like
+ * {@link HeapMemorySegmentPool}.
+ */
+public class OffHeapMemorySegmentPool implements MemorySegmentPool {
+
+    private final LinkedList<MemorySegment> segments;
+    private final int pageSize;
+
+    // number of pages which have not been allocated yet.
+    private int numPage;
+
+    public OffHeapMemorySegmentPool(long maxMemory, int pageSize) {
+        this.segments = new LinkedList<>();
+        this.pageSize = pageSize;
+        this.numPage = (int) (maxMemory / pageSize);
+    }
+
+    @Override
+    public MemorySegment nextSegment() {
+        if (!segments.isEmpty()) {
+            return segments.poll();
+        } else if (numPage > 0) {
+            numPage--;
+            return MemorySegment.allocateOffHeapMemory(pageSize);
+        }
+        return null;
+    }
+
+    @Override
+    public int pageSize() {
+        return pageSize;
+    }
+
+    @Override
+    public void returnAll(List<MemorySegment> memory) {
+        segments.addAll(memory);
+    }
+
+    @Override
+    public int freePages() {
+        return segments.size() + numPage;
+    }
+}
@@ -18,7 +18,7 @@
 package org.apache.flink.cdc.connectors.paimon.sink.v2;
 
 import org.apache.paimon.catalog.Identifier;
-import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
 
 /** Contains the data to be written for {@link PaimonWriter}. */
 public class PaimonEvent {
@@ -27,28 +27,28 @@ public class PaimonEvent {
     Identifier tableId;
 
     // The actual record to be written to Paimon table.
-    GenericRow genericRow;
+    InternalRow row;
 
-    // if true, means that table schema has changed right before this genericRow.
+    // if true, means that table schema has changed right before this row.
     boolean shouldRefreshSchema;
     int bucket;
 
-    public PaimonEvent(Identifier tableId, GenericRow genericRow) {
+    public PaimonEvent(Identifier tableId, InternalRow row) {
         this.tableId = tableId;
-        this.genericRow = genericRow;
+        this.row = row;
         this.shouldRefreshSchema = false;
     }
 
-    public PaimonEvent(Identifier tableId, GenericRow genericRow, boolean shouldRefreshSchema) {
+    public PaimonEvent(Identifier tableId, InternalRow row, boolean shouldRefreshSchema) {
         this.tableId = tableId;
-        this.genericRow = genericRow;
+        this.row = row;
         this.shouldRefreshSchema = shouldRefreshSchema;
     }
 
     public PaimonEvent(
-            Identifier tableId, GenericRow genericRow, boolean shouldRefreshSchema, int bucket) {
+            Identifier tableId, InternalRow row, boolean shouldRefreshSchema, int bucket) {
         this.tableId = tableId;
-        this.genericRow = genericRow;
+        this.row = row;
         this.shouldRefreshSchema = shouldRefreshSchema;
         this.bucket = bucket;
     }
@@ -69,12 +69,12 @@ public class PaimonEvent {
         this.shouldRefreshSchema = shouldRefreshSchema;
     }
 
-    public GenericRow getGenericRow() {
-        return genericRow;
+    public InternalRow getRow() {
+        return row;
     }
 
-    public void setGenericRow(GenericRow genericRow) {
-        this.genericRow = genericRow;
+    public void setRow(InternalRow row) {
+        this.row = row;
     }
 
     public int getBucket() {
@@ -45,7 +45,23 @@ public class PaimonEventSink extends PaimonSink<Event> implements WithPreWriteTo
             PaimonRecordSerializer<Event> serializer,
             String schemaOperatorUid,
             ZoneId zoneId) {
-        super(catalogOptions, commitUser, serializer);
+        this(
+                catalogOptions,
+                commitUser,
+                serializer,
+                schemaOperatorUid,
+                zoneId,
+                PaimonWriterOptions.defaults());
+    }
+
+    public PaimonEventSink(
+            Options catalogOptions,
+            String commitUser,
+            PaimonRecordSerializer<Event> serializer,
+            String schemaOperatorUid,
+            ZoneId zoneId,
+            PaimonWriterOptions writerOptions) {
+        super(catalogOptions, commitUser, serializer, writerOptions);
         this.schemaOperatorUid = schemaOperatorUid;
         this.zoneId = zoneId;
     }
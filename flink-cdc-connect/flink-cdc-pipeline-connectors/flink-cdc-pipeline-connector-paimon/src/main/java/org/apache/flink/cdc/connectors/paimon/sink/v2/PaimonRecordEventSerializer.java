@@ -25,6 +25,7 @@ import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
 import org.apache.flink.cdc.connectors.paimon.sink.v2.bucket.BucketWrapperChangeEvent;
+import org.apache.flink.cdc.connectors.paimon.sink.v2.bucket.BucketWrapperRowEvent;
 
 import org.apache.paimon.catalog.Identifier;
 import org.apache.paimon.data.GenericRow;
@@ -52,6 +53,15 @@ public class PaimonRecordEventSerializer implements PaimonRecordSerializer<Event
 
     @Override
     public PaimonEvent serialize(Event event) {
+        if (event instanceof BucketWrapperRowEvent) {
+            // the row has been converted by BucketAssignOperator already.
+            BucketWrapperRowEvent bucketWrapperRowEvent = (BucketWrapperRowEvent) event;
+            return new PaimonEvent(
+                    Identifier.fromString(bucketWrapperRowEvent.tableId().toString()),
+                    bucketWrapperRowEvent.getRow(),
+                    false,
+                    bucketWrapperRowEvent.getBucket());
+        }
         int bucket = 0;
         if (event instanceof BucketWrapperChangeEvent) {
             bucket = ((BucketWrapperChangeEvent) event).getBucket();
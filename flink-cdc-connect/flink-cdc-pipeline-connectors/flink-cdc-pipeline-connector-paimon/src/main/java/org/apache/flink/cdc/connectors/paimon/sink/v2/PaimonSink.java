@@ -46,22 +46,32 @@ public class PaimonSink<InputT> implements WithPreCommitTopology<InputT, MultiTa
 
     private final PaimonRecordSerializer<InputT> serializer;
 
+    private final PaimonWriterOptions writerOptions;
+
     public PaimonSink(Options catalogOptions, PaimonRecordSerializer<InputT> serializer) {
-        this.catalogOptions = catalogOptions;
-        this.serializer = serializer;
-        commitUser = DEFAULT_COMMIT_USER;
+        this(catalogOptions, DEFAULT_COMMIT_USER, serializer);
     }
 
     public PaimonSink(
             Options catalogOptions, String commitUser, PaimonRecordSerializer<InputT> serializer) {
+        this(catalogOptions, commitUser, serializer, PaimonWriterOptions.defaults());
+    }
+
+    public PaimonSink(
+            Options catalogOptions,
+            String commitUser,
+            PaimonRecordSerializer<InputT> serializer,
+            PaimonWriterOptions writerOptions) {
         this.catalogOptions = catalogOptions;
         this.commitUser = commitUser;
         this.serializer = serializer;
+        this.writerOptions = writerOptions;
     }
 
     @Override
     public PaimonWriter<InputT> createWriter(InitContext context) {
-        return new PaimonWriter<>(catalogOptions, context.metricGroup(), commitUser, serializer);
+        return new PaimonWriter<>(
+                catalogOptions, context.metricGroup(), commitUser, serializer, writerOptions);
     }
 
     @Override
@@ -32,6 +32,7 @@ import org.apache.paimon.flink.sink.MultiTableCommittable;
 import org.apache.paimon.flink.sink.StoreSinkWrite;
 import org.apache.paimon.memory.HeapMemorySegmentPool;
 import org.apache.paimon.memory.MemoryPoolFactory;
+import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.utils.ExecutorThreadFactory;
@@ -40,6 +41,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
@@ -59,6 +62,12 @@ public class PaimonWriter<InputT>
     // all table write should share one write buffer so that writers can preempt memory
     // from those of other tables
     private MemoryPoolFactory memoryPoolFactory;
+    private MemorySegmentPool memoryPool;
+    // the buffered data of the least recently written tables is flushed when the free pages of the
+    // write buffer is less than this number, so that tables of few records are not preempted by
+    // the largest ones into many small files.
+    private int minFreePages;
+    private final PaimonWriterOptions writerOptions;
 
     // deserializer that converts Input into PaimonEvent.
     private final PaimonRecordSerializer<InputT> serializer;
@@ -67,12 +76,26 @@ public class PaimonWriter<InputT>
     private final ExecutorService compactExecutor;
     private final MetricGroup metricGroup;
     private final List<MultiTableCommittable> committables;
+    // the time of the last record of the tables written since they were flushed, in the order of
+    // access so that the least recently written table comes first.
+    private final LinkedHashMap<Identifier, Long> pendingWriteTimes;
+    // the time of the last record of the tables which have been flushed.
+    private final Map<Identifier, Long> lastWriteTimes;
 
     public PaimonWriter(
             Options catalogOptions,
             MetricGroup metricGroup,
             String commitUser,
             PaimonRecordSerializer<InputT> serializer) {
+        this(catalogOptions, metricGroup, commitUser, serializer, PaimonWriterOptions.defaults());
+    }
+
+    public PaimonWriter(
+            Options catalogOptions,
+            MetricGroup metricGroup,
+            String commitUser,
+            PaimonRecordSerializer<InputT> serializer,
+            PaimonWriterOptions writerOptions) {
         catalog = FlinkCatalogFactory.createPaimonCatalog(catalogOptions);
         this.metricGroup = metricGroup;
         this.commitUser = commitUser;
@@ -85,6 +108,9 @@ public class PaimonWriter<InputT>
                         new ExecutorThreadFactory(
                                 Thread.currentThread().getName() + "-CdcMultiWrite-Compaction"));
         this.serializer = serializer;
+        this.writerOptions = writerOptions;
+        this.pendingWriteTimes = new LinkedHashMap<>(16, 0.75f, true);
+        this.lastWriteTimes = new HashMap<>();
     }
 
     @Override
@@ -103,17 +129,14 @@ public class PaimonWriter<InputT>
             // DataChangeEvent.
             writes.remove(tableId);
             tables.remove(tableId);
+            pendingWriteTimes.remove(tableId);
+            lastWriteTimes.remove(tableId);
         }
-        if (paimonEvent.getGenericRow() != null) {
+        if (paimonEvent.getRow() != null) {
             FileStoreTable table;
             table = getTable(tableId);
             if (memoryPoolFactory == null) {
-                memoryPoolFactory =
-                        new MemoryPoolFactory(
-                                // currently, the options of all tables are the same in CDC
-                                new HeapMemorySegmentPool(
-                                        table.coreOptions().writeBufferSize(),
-                                        table.coreOptions().pageSize()));
+                createMemoryPool(table);
             }
             StoreSinkWrite write =
                     writes.computeIfAbsent(
@@ -133,13 +156,62 @@ public class PaimonWriter<InputT>
                                 return storeSinkWrite;
                             });
             try {
-                write.write(paimonEvent.getGenericRow(), paimonEvent.getBucket());
+                write.write(paimonEvent.getRow(), paimonEvent.getBucket());
             } catch (Exception e) {
                 throw new IOException(e);
             }
+            pendingWriteTimes.put(tableId, System.currentTimeMillis());
+            if (memoryPool.freePages() < minFreePages) {
+                flushLeastRecentlyWrittenTables(tableId);
+            }
         }
     }
 
+    private void createMemoryPool(FileStoreTable table) {
+        // currently, the options of all tables are the same in CDC
+        long bufferSize =
+                writerOptions.getBufferSize() != null
+                        ? writerOptions.getBufferSize()
+                        : table.coreOptions().writeBufferSize();
+        int pageSize = table.coreOptions().pageSize();
+        memoryPool =
+                writerOptions.isBufferOffHeap()
+                        ? new OffHeapMemorySegmentPool(bufferSize, pageSize)
+                        : new HeapMemorySegmentPool(bufferSize, pageSize);
+        minFreePages = memoryPool.freePages() / 10;
+        memoryPoolFactory = new MemoryPoolFactory(memoryPool);
+    }
+
+    /**
+     * Flushes the buffered data of the tables in the order of their last write, until enough pages
+     * are released. The table that is being written is never flushed here.
+     */
+    private void flushLeastRecentlyWrittenTables(Identifier currentTableId) throws IOException {
+        Iterator<Map.Entry<Identifier, Long>> iterator = pendingWriteTimes.entrySet().iterator();
+        while (iterator.hasNext() && memoryPool.freePages() < minFreePages) {
+            Map.Entry<Identifier, Long> entry = iterator.next();
+            if (entry.getKey().equals(currentTableId)) {
+                // the current table is the most recently written one
+                break;
+            }
+            lastWriteTimes.put(entry.getKey(), entry.getValue());
+            iterator.remove();
+            prepareCommit(entry.getKey(), writes.get(entry.getKey()));
+        }
+    }
+
+    private void prepareCommit(Identifier tableId, StoreSinkWrite write) throws IOException {
+        boolean waitCompaction = false;
+        // checkpointId will be updated correctly by PreCommitOperator.
+        long checkpointId = 1L;
+        committables.addAll(
+                write.prepareCommit(waitCompaction, checkpointId).stream()
+                        .map(
+                                committable ->
+                                        MultiTableCommittable.fromCommittable(tableId, committable))
+                        .collect(Collectors.toList()));
+    }
+
     private FileStoreTable getTable(Identifier tableId) {
         return tables.computeIfAbsent(
                 tableId,
@@ -163,17 +235,36 @@ public class PaimonWriter<InputT>
     @Override
     public void flush(boolean endOfInput) throws IOException {
         for (Map.Entry<Identifier, StoreSinkWrite> entry : writes.entrySet()) {
-            Identifier key = entry.getKey();
-            StoreSinkWrite write = entry.getValue();
-            boolean waitCompaction = false;
-            // checkpointId will be updated correctly by PreCommitOperator.
-            long checkpointId = 1L;
-            committables.addAll(
-                    write.prepareCommit(waitCompaction, checkpointId).stream()
-                            .map(
-                                    committable ->
-                                            MultiTableCommittable.fromCommittable(key, committable))
-                            .collect(Collectors.toList()));
+            prepareCommit(entry.getKey(), entry.getValue());
+        }
+        lastWriteTimes.putAll(pendingWriteTimes);
+        pendingWriteTimes.clear();
+        if (writerOptions.getIdleTimeout() != null) {
+            closeIdleWrites(writerOptions.getIdleTimeout().toMillis());
+        }
+    }
+
+    /**
+     * Closes the writers of the tables which have not been written for the idle timeout, whose data
+     * has been prepared for committing. They are created again when new records arrive.
+     */
+    private void closeIdleWrites(long idleTimeoutMillis) throws IOException {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<Identifier, Long>> iterator = lastWriteTimes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Identifier, Long> entry = iterator.next();
+            if (now - entry.getValue() < idleTimeoutMillis) {
+                continue;
+            }
+            iterator.remove();
+            StoreSinkWrite write = writes.remove(entry.getKey());
+            if (write != null) {
+                try {
+                    write.close();
+                } catch (Exception e) {
+                    throw new IOException(e);
+                }
+            }
         }
     }
 
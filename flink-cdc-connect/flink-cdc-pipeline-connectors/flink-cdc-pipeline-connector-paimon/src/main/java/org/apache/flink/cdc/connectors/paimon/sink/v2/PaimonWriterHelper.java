@@ -24,11 +24,14 @@ import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.types.DataType;
 import org.apache.flink.cdc.common.types.DataTypeChecks;
+import org.apache.flink.cdc.common.types.utils.DataTypeUtils;
 
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.Decimal;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.flink.LogicalTypeConversion;
 import org.apache.paimon.types.RowKind;
 
 import java.time.ZoneId;
@@ -51,6 +54,23 @@ public class PaimonWriterHelper {
         return fieldGetters;
     }
 
+    /**
+     * create an {@link InternalRowSerializer} to convert the {@link GenericRow}s of the given
+     * {@link Schema} to binary rows, using the Paimon types of the columns.
+     */
+    public static InternalRowSerializer createRowSerializer(Schema schema) {
+        List<Column> columns = schema.getColumns();
+        org.apache.paimon.types.DataType[] types =
+                new org.apache.paimon.types.DataType[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            types[i] =
+                    LogicalTypeConversion.toDataType(
+                            DataTypeUtils.toFlinkDataType(columns.get(i).getType())
+                                    .getLogicalType());
+        }
+        return new InternalRowSerializer(types);
+    }
+
     private static RecordData.FieldGetter createFieldGetter(
             DataType fieldType, int fieldPos, ZoneId zoneId) {
         final RecordData.FieldGetter fieldGetter;
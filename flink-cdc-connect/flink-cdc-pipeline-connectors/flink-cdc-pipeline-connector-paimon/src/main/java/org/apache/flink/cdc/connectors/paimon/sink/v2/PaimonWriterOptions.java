@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.paimon.sink.v2;
+
+import javax.annotation.Nullable;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/** Options of the write buffer and the table writers of {@link PaimonWriter}. */
+public class PaimonWriterOptions implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // total size of the write buffer shared by all tables, null to use the one of the first table.
+    @Nullable private final Long bufferSize;
+
+    private final boolean bufferOffHeap;
+
+    // null if table writers are never closed.
+    @Nullable private final Duration idleTimeout;
+
+    public PaimonWriterOptions(
+            @Nullable Long bufferSize, boolean bufferOffHeap, @Nullable Duration idleTimeout) {
+        this.bufferSize = bufferSize;
+        this.bufferOffHeap = bufferOffHeap;
+        this.idleTimeout = idleTimeout;
+    }
+
+    public static PaimonWriterOptions defaults() {
+        return new PaimonWriterOptions(null, false, null);
+    }
+
+    @Nullable
+    public Long getBufferSize() {
+        return bufferSize;
+    }
+
+    public boolean isBufferOffHeap() {
+        return bufferOffHeap;
+    }
+
+    @Nullable
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+}
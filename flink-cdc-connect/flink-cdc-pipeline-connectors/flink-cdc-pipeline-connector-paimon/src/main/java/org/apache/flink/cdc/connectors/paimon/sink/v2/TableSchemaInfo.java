@@ -20,6 +20,8 @@ package org.apache.flink.cdc.connectors.paimon.sink.v2;
 import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.schema.Schema;
 
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+
 import java.time.ZoneId;
 import java.util.List;
 
@@ -30,6 +32,9 @@ public class TableSchemaInfo {
 
     private final List<RecordData.FieldGetter> fieldGetters;
 
+    // created on first use, as only the bucket assigner converts rows to binary rows.
+    private InternalRowSerializer rowSerializer;
+
     public TableSchemaInfo(Schema schema, ZoneId zoneId) {
         this.schema = schema;
         this.fieldGetters = PaimonWriterHelper.createFieldGetters(schema, zoneId);
@@ -42,4 +47,11 @@ public class TableSchemaInfo {
     public List<RecordData.FieldGetter> getFieldGetters() {
         return fieldGetters;
     }
+
+    public InternalRowSerializer getRowSerializer() {
+        if (rowSerializer == null) {
+            rowSerializer = PaimonWriterHelper.createRowSerializer(schema);
+        }
+        return rowSerializer;
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.flink.cdc.connectors.paimon.sink.v2.bucket;
 
+import org.apache.flink.api.common.state.ListState;
+import org.apache.flink.api.common.state.ListStateDescriptor;
 import org.apache.flink.api.java.tuple.Tuple4;
 import org.apache.flink.cdc.common.event.ChangeEvent;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
@@ -33,6 +35,8 @@ import org.apache.flink.cdc.connectors.paimon.sink.v2.PaimonWriterHelper;
 import org.apache.flink.cdc.connectors.paimon.sink.v2.TableSchemaInfo;
 import org.apache.flink.cdc.runtime.operators.sink.SchemaEvolutionClient;
 import org.apache.flink.runtime.jobgraph.tasks.TaskOperatorEventGateway;
+import org.apache.flink.runtime.state.StateInitializationContext;
+import org.apache.flink.runtime.state.StateSnapshotContext;
 import org.apache.flink.streaming.api.graph.StreamConfig;
 import org.apache.flink.streaming.api.operators.AbstractStreamOperator;
 import org.apache.flink.streaming.api.operators.ChainingStrategy;
@@ -44,6 +48,9 @@ import org.apache.flink.streaming.runtime.tasks.StreamTask;
 import org.apache.paimon.catalog.Catalog;
 import org.apache.paimon.catalog.Identifier;
 import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.disk.IOManagerImpl;
 import org.apache.paimon.flink.FlinkCatalogFactory;
 import org.apache.paimon.index.BucketAssigner;
 import org.apache.paimon.index.HashBucketAssigner;
@@ -55,9 +62,14 @@ import org.apache.paimon.table.sink.RowPartitionKeyExtractor;
 import org.apache.paimon.utils.MathUtils;
 
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /** Assign bucket for every given {@link DataChangeEvent}. */
 public class BucketAssignOperator extends AbstractStreamOperator<Event>
@@ -85,6 +97,21 @@ public class BucketAssignOperator extends AbstractStreamOperator<Event>
 
     private final ZoneId zoneId;
 
+    // assigners of the tables in GLOBAL_DYNAMIC bucket mode.
+    private transient Map<TableId, GlobalDynamicBucketAssigner> globalDynamicBucketAssigners;
+
+    // created when the first table in GLOBAL_DYNAMIC bucket mode is seen.
+    private transient IOManager ioManager;
+
+    // the tables in GLOBAL_DYNAMIC bucket mode and the parallelism that assigned their buckets.
+    private transient ListState<String> globalDynamicTablesState;
+
+    private transient ListState<Integer> globalDynamicParallelismState;
+
+    private transient Set<TableId> restoredGlobalDynamicTables;
+
+    private transient boolean sameParallelismRestored;
+
     public BucketAssignOperator(
             Options catalogOptions, String schemaOperatorUid, ZoneId zoneId, String commitUser) {
         this.catalogOptions = catalogOptions;
@@ -94,6 +121,33 @@ public class BucketAssignOperator extends AbstractStreamOperator<Event>
         this.zoneId = zoneId;
     }
 
+    @Override
+    public void initializeState(StateInitializationContext context) throws Exception {
+        super.initializeState(context);
+        globalDynamicTablesState =
+                context.getOperatorStateStore()
+                        .getUnionListState(
+                                new ListStateDescriptor<>(
+                                        "global-dynamic-bucket-tables", String.class));
+        globalDynamicParallelismState =
+                context.getOperatorStateStore()
+                        .getUnionListState(
+                                new ListStateDescriptor<>(
+                                        "global-dynamic-bucket-parallelism", Integer.class));
+        restoredGlobalDynamicTables = new HashSet<>();
+        Set<Integer> restoredParallelism = new HashSet<>();
+        if (context.isRestored()) {
+            for (String tableId : globalDynamicTablesState.get()) {
+                restoredGlobalDynamicTables.add(TableId.parse(tableId));
+            }
+            globalDynamicParallelismState.get().forEach(restoredParallelism::add);
+        }
+        sameParallelismRestored =
+                restoredParallelism.size() == 1
+                        && restoredParallelism.contains(
+                                getRuntimeContext().getNumberOfParallelSubtasks());
+    }
+
     @Override
     public void open() throws Exception {
         super.open();
@@ -102,6 +156,29 @@ public class BucketAssignOperator extends AbstractStreamOperator<Event>
         this.totalTasksNumber = getRuntimeContext().getNumberOfParallelSubtasks();
         this.currentTaskNumber = getRuntimeContext().getIndexOfThisSubtask();
         this.schemaMaps = new HashMap<>();
+        this.globalDynamicBucketAssigners = new HashMap<>();
+        // bootstrap the indexes of the restored tables before processing any record, instead of
+        // blocking the mailbox when their first record comes.
+        for (TableId tableId : restoredGlobalDynamicTables) {
+            Optional<FileStoreTable> table = getTableIfExists(tableId);
+            if (table.isPresent() && table.get().bucketMode() == BucketMode.GLOBAL_DYNAMIC) {
+                globalDynamicBucketAssigners.put(
+                        tableId,
+                        createGlobalDynamicBucketAssigner(
+                                tableId, table.get(), sameParallelismRestored));
+            }
+        }
+    }
+
+    @Override
+    public void snapshotState(StateSnapshotContext context) throws Exception {
+        super.snapshotState(context);
+        List<String> tableIds = new ArrayList<>();
+        for (TableId tableId : globalDynamicBucketAssigners.keySet()) {
+            tableIds.add(tableId.toString());
+        }
+        globalDynamicTablesState.update(tableIds);
+        globalDynamicParallelismState.update(Collections.singletonList(totalTasksNumber));
     }
 
     @Override
@@ -146,10 +223,10 @@ public class BucketAssignOperator extends AbstractStreamOperator<Event>
                     bucketAssignerMap.computeIfAbsent(
                             dataChangeEvent.tableId(), this::getTableInfo);
             int bucket;
+            TableSchemaInfo tableSchemaInfo = schemaMaps.get(dataChangeEvent.tableId());
             GenericRow genericRow =
                     PaimonWriterHelper.convertEventToGenericRow(
-                            dataChangeEvent,
-                            schemaMaps.get(dataChangeEvent.tableId()).getFieldGetters());
+                            dataChangeEvent, tableSchemaInfo.getFieldGetters());
             switch (tuple4.f0) {
                 case DYNAMIC:
                     {
@@ -171,13 +248,31 @@ public class BucketAssignOperator extends AbstractStreamOperator<Event>
                         break;
                     }
                 case GLOBAL_DYNAMIC:
+                    {
+                        TableId tableId = dataChangeEvent.tableId();
+                        globalDynamicBucketAssigners
+                                .computeIfAbsent(
+                                        tableId,
+                                        id ->
+                                                createGlobalDynamicBucketAssigner(
+                                                        id, getTable(id), false))
+                                .assign(
+                                        genericRow,
+                                        tableSchemaInfo.getSchema(),
+                                        (row, assignedBucket) ->
+                                                collectRow(
+                                                        tableId,
+                                                        tableSchemaInfo,
+                                                        row,
+                                                        assignedBucket));
+                        return;
+                    }
                 default:
                     {
                         throw new RuntimeException("Unsupported bucket mode: " + tuple4.f0);
                     }
             }
-            output.collect(
-                    new StreamRecord<>(new BucketWrapperChangeEvent(bucket, (ChangeEvent) event)));
+            collectRow(dataChangeEvent.tableId(), tableSchemaInfo, genericRow, bucket);
         } else if (event instanceof CreateTableEvent) {
             CreateTableEvent createTableEvent = (CreateTableEvent) event;
             schemaMaps.put(
@@ -193,21 +288,80 @@ public class BucketAssignOperator extends AbstractStreamOperator<Event>
                             schemaMaps.get(schemaChangeEvent.tableId()).getSchema(),
                             schemaChangeEvent);
             schemaMaps.put(schemaChangeEvent.tableId(), new TableSchemaInfo(schema, zoneId));
+            // the assigner of a GLOBAL_DYNAMIC table projects the rows of the new schema to the
+            // schema of its index, so it's kept with its index.
             output.collect(
                     new StreamRecord<>(
                             new BucketWrapperChangeEvent(currentTaskNumber, (ChangeEvent) event)));
         }
     }
 
-    private Tuple4<BucketMode, RowKeyExtractor, BucketAssigner, RowPartitionKeyExtractor>
-            getTableInfo(TableId tableId) {
+    @Override
+    public void close() throws Exception {
+        super.close();
+        if (globalDynamicBucketAssigners != null) {
+            for (GlobalDynamicBucketAssigner assigner : globalDynamicBucketAssigners.values()) {
+                assigner.close();
+            }
+        }
+        if (ioManager != null) {
+            ioManager.close();
+        }
+    }
+
+    // forward the converted row, so that the writer doesn't need to convert the event again.
+    private void collectRow(
+            TableId tableId, TableSchemaInfo tableSchemaInfo, InternalRow row, int bucket) {
+        output.collect(
+                new StreamRecord<>(
+                        new BucketWrapperRowEvent(
+                                bucket,
+                                tableId,
+                                tableSchemaInfo.getRowSerializer().toBinaryRow(row).copy())));
+    }
+
+    private GlobalDynamicBucketAssigner createGlobalDynamicBucketAssigner(
+            TableId tableId, FileStoreTable table, boolean ownBucketsOnly) {
+        if (ioManager == null) {
+            ioManager =
+                    new IOManagerImpl(
+                            getContainingTask()
+                                    .getEnvironment()
+                                    .getIOManager()
+                                    .getSpillingDirectoriesPaths());
+        }
+        try {
+            return new GlobalDynamicBucketAssigner(
+                    table, ioManager, totalTasksNumber, currentTaskNumber, ownBucketsOnly);
+        } catch (Exception e) {
+            throw new RuntimeException(
+                    "Failed to create the bucket assigner of GLOBAL_DYNAMIC bucket mode for "
+                            + tableId,
+                    e);
+        }
+    }
+
+    private FileStoreTable getTable(TableId tableId) {
         Preconditions.checkNotNull(tableId, "Invalid tableId in given event.");
-        FileStoreTable table;
         try {
-            table = (FileStoreTable) catalog.getTable(Identifier.fromString(tableId.toString()));
+            return (FileStoreTable) catalog.getTable(Identifier.fromString(tableId.toString()));
         } catch (Catalog.TableNotExistException e) {
             throw new RuntimeException(e);
         }
+    }
+
+    private Optional<FileStoreTable> getTableIfExists(TableId tableId) {
+        try {
+            return Optional.of(
+                    (FileStoreTable) catalog.getTable(Identifier.fromString(tableId.toString())));
+        } catch (Catalog.TableNotExistException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Tuple4<BucketMode, RowKeyExtractor, BucketAssigner, RowPartitionKeyExtractor>
+            getTableInfo(TableId tableId) {
+        FileStoreTable table = getTable(tableId);
         long targetRowNum = table.coreOptions().dynamicBucketTargetRowNum();
         Integer numAssigners = table.coreOptions().dynamicBucketInitialBuckets();
         return new Tuple4<>(
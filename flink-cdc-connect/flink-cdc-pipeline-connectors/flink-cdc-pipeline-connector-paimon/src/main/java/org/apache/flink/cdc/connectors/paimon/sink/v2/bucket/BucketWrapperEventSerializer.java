@@ -21,6 +21,7 @@ import org.apache.flink.api.common.typeutils.SimpleTypeSerializerSnapshot;
 import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
 import org.apache.flink.cdc.common.event.ChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.runtime.serializer.EnumSerializer;
 import org.apache.flink.cdc.runtime.serializer.TableIdSerializer;
 import org.apache.flink.cdc.runtime.serializer.TypeSerializerSingleton;
@@ -28,9 +29,16 @@ import org.apache.flink.cdc.runtime.serializer.event.EventSerializer;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.memory.MemorySegment;
+
 import java.io.IOException;
 
-/** A {@link TypeSerializerSingleton} for {@link BucketWrapperChangeEvent}. */
+/**
+ * A {@link TypeSerializerSingleton} for {@link BucketWrapperChangeEvent}, {@link
+ * BucketWrapperRowEvent} and {@link BucketWrapperFlushEvent}. The rows of {@link
+ * BucketWrapperRowEvent} are written as the bytes of the binary row.
+ */
 public class BucketWrapperEventSerializer extends TypeSerializerSingleton<Event> {
 
     private static final long serialVersionUID = 1L;
@@ -82,6 +90,15 @@ public class BucketWrapperEventSerializer extends TypeSerializerSingleton<Event>
             BucketWrapperFlushEvent bucketWrapperFlushEvent = (BucketWrapperFlushEvent) event;
             dataOutputView.writeInt(bucketWrapperFlushEvent.getBucket());
             tableIdSerializer.serialize(bucketWrapperFlushEvent.getTableId(), dataOutputView);
+        } else if (event instanceof BucketWrapperRowEvent) {
+            enumSerializer.serialize(EventClass.BUCKET_WRAPPER_ROW_EVENT, dataOutputView);
+            BucketWrapperRowEvent bucketWrapperRowEvent = (BucketWrapperRowEvent) event;
+            dataOutputView.writeInt(bucketWrapperRowEvent.getBucket());
+            tableIdSerializer.serialize(bucketWrapperRowEvent.tableId(), dataOutputView);
+            BinaryRow row = bucketWrapperRowEvent.getRow();
+            dataOutputView.writeInt(row.getFieldCount());
+            dataOutputView.writeInt(row.getSizeInBytes());
+            dataOutputView.write(row.toBytes());
         }
     }
 
@@ -91,6 +108,14 @@ public class BucketWrapperEventSerializer extends TypeSerializerSingleton<Event>
         if (eventClass.equals(EventClass.BUCKET_WRAPPER_FLUSH_EVENT)) {
             return new BucketWrapperFlushEvent(
                     source.readInt(), tableIdSerializer.deserialize(source));
+        } else if (eventClass.equals(EventClass.BUCKET_WRAPPER_ROW_EVENT)) {
+            int bucket = source.readInt();
+            TableId tableId = tableIdSerializer.deserialize(source);
+            BinaryRow row = new BinaryRow(source.readInt());
+            byte[] bytes = new byte[source.readInt()];
+            source.readFully(bytes);
+            row.pointTo(MemorySegment.wrap(bytes), 0, bytes.length);
+            return new BucketWrapperRowEvent(bucket, tableId, row);
         } else {
             return new BucketWrapperChangeEvent(
                     source.readInt(), (ChangeEvent) eventSerializer.deserialize(source));
@@ -123,6 +148,7 @@ public class BucketWrapperEventSerializer extends TypeSerializerSingleton<Event>
 
     enum EventClass {
         BUCKET_WRAPPER_CHANGE_EVENT,
-        BUCKET_WRAPPER_FLUSH_EVENT
+        BUCKET_WRAPPER_FLUSH_EVENT,
+        BUCKET_WRAPPER_ROW_EVENT
     }
 }
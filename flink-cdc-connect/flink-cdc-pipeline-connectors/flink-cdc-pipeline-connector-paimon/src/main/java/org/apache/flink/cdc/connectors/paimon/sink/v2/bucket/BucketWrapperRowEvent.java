@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.paimon.sink.v2.bucket;
+
+import org.apache.flink.cdc.common.event.ChangeEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+
+import org.apache.paimon.data.BinaryRow;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A wrapper class for the Paimon row of a {@link DataChangeEvent} to attach bucket id. The row is
+ * converted once by {@link BucketAssignOperator} and written by the writer as it is.
+ */
+public class BucketWrapperRowEvent implements ChangeEvent, BucketWrapper, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int bucket;
+
+    private final TableId tableId;
+
+    // The row to be written, whose row kind is the operation of the DataChangeEvent.
+    private final BinaryRow row;
+
+    public BucketWrapperRowEvent(int bucket, TableId tableId, BinaryRow row) {
+        this.bucket = bucket;
+        this.tableId = tableId;
+        this.row = row;
+    }
+
+    @Override
+    public int getBucket() {
+        return bucket;
+    }
+
+    public BinaryRow getRow() {
+        return row;
+    }
+
+    @Override
+    public TableId tableId() {
+        return tableId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BucketWrapperRowEvent that = (BucketWrapperRowEvent) o;
+        return bucket == that.bucket
+                && Objects.equals(tableId, that.tableId)
+                && Objects.equals(row, that.row);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bucket, tableId, row);
+    }
+
+    @Override
+    public String toString() {
+        return "BucketWrapperRowEvent{"
+                + "bucket="
+                + bucket
+                + ", tableId="
+                + tableId
+                + ", row="
+                + row
+                + '}';
+    }
+}
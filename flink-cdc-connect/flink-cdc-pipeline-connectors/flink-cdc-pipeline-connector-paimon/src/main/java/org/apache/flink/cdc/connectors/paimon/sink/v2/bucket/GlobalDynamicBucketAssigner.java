@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.paimon.sink.v2.bucket;
+
+import org.apache.flink.cdc.common.schema.Schema;
+
+import org.apache.paimon.crosspartition.GlobalIndexAssigner;
+import org.apache.paimon.crosspartition.IndexBootstrap;
+import org.apache.paimon.crosspartition.KeyPartPartitionKeyExtractor;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.table.BucketMode;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.types.RowType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Assign bucket for the rows of a table in {@link BucketMode#GLOBAL_DYNAMIC} mode, whose primary
+ * keys don't contain all partition keys, so that a key can move to another partition.
+ *
+ * <p>A {@link GlobalIndexAssigner} keeps the partition and bucket of every key in a local RocksDB
+ * index, which is bootstrapped from the existing data of the table when the assigner is created.
+ * The rows are shuffled by {@link #computeChannel}, so each subtask indexes a disjoint set of keys.
+ * The new buckets of an assigner are the buckets {@code bucket % numAssigners == assignId}, so as
+ * long as the parallelism doesn't change, the keys of an assigner are all in its own buckets and
+ * only these buckets need to be read to bootstrap the index.
+ *
+ * <p>The index is built with the schema of the table when the assigner is created, and the rows of
+ * later schemas are projected to it by column names.
+ */
+public class GlobalDynamicBucketAssigner implements Closeable {
+
+    private final GlobalIndexAssigner assigner;
+
+    // partition keys and their getters in the schema of the table when the assigner is created.
+    private final List<String> partitionKeys;
+
+    private final InternalRow.FieldGetter[] partitionGetters;
+
+    // field names of the table when the assigner is created, and the primary and partition keys.
+    private final List<String> fieldNames;
+
+    private final Set<String> keyFieldNames;
+
+    // the schema of the last row, and the positions of the fields of the index in it, which is
+    // null if the row doesn't need to be projected.
+    private Schema projectedSchema;
+
+    private int[] projection;
+
+    private GenericRow currentRow;
+
+    private InternalRow currentInput;
+
+    private Schema currentSchema;
+
+    private BiConsumer<InternalRow, Integer> currentCollector;
+
+    /**
+     * Create the assigner and bootstrap its index.
+     *
+     * @param ownBucketsOnly whether the existing buckets of the table were assigned by the same
+     *     number of assigners, so that only the buckets of this assigner need to be read. Otherwise
+     *     the keys of all buckets are read, and only the keys shuffled to this assigner are kept.
+     */
+    public GlobalDynamicBucketAssigner(
+            FileStoreTable table,
+            IOManager ioManager,
+            int numAssigners,
+            int assignId,
+            boolean ownBucketsOnly)
+            throws Exception {
+        this.assigner = new GlobalIndexAssigner(table);
+        this.partitionKeys = table.partitionKeys();
+        RowType rowType = table.rowType();
+        this.fieldNames = rowType.getFieldNames();
+        this.keyFieldNames = new HashSet<>(table.primaryKeys());
+        keyFieldNames.addAll(partitionKeys);
+        this.partitionGetters = new InternalRow.FieldGetter[partitionKeys.size()];
+        for (int i = 0; i < partitionKeys.size(); i++) {
+            int fieldPos = rowType.getFieldNames().indexOf(partitionKeys.get(i));
+            partitionGetters[i] =
+                    InternalRow.createFieldGetter(rowType.getTypeAt(fieldPos), fieldPos);
+        }
+        // the RocksDB block cache falls back to the size configured for the table.
+        assigner.open(0L, ioManager, numAssigners, assignId, this::collect);
+
+        // the keys are still filtered by channel, as a key of another channel in the buckets of
+        // this assigner would never be updated by this subtask.
+        KeyPartPartitionKeyExtractor keyPartExtractor =
+                new KeyPartPartitionKeyExtractor(table.schema());
+        new IndexBootstrap(table)
+                .bootstrap(
+                        ownBucketsOnly ? numAssigners : 1,
+                        ownBucketsOnly ? assignId : 0,
+                        keyPart -> {
+                            if (computeChannel(
+                                            keyPartExtractor.trimmedPrimaryKey(keyPart),
+                                            numAssigners)
+                                    == assignId) {
+                                try {
+                                    assigner.bootstrapKey(keyPart);
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            }
+                        });
+        assigner.endBoostrap(false);
+    }
+
+    /**
+     * Assign bucket for the row, and pass the rows to be written with their buckets to the
+     * collector. If the key has moved from another partition, the collector also receives a row of
+     * the previous partition, which is a delete unless the merge engine keeps the old partition.
+     */
+    public void assign(GenericRow row, Schema schema, BiConsumer<InternalRow, Integer> collector)
+            throws Exception {
+        if (schema != projectedSchema) {
+            updateProjection(schema);
+        }
+        currentRow = row;
+        currentInput = projection == null ? row : project(row);
+        currentSchema = schema;
+        currentCollector = collector;
+        try {
+            assigner.processInput(currentInput);
+        } finally {
+            currentRow = null;
+            currentInput = null;
+            currentSchema = null;
+            currentCollector = null;
+        }
+    }
+
+    private void updateProjection(Schema schema) {
+        List<String> columnNames = schema.getColumnNames();
+        if (columnNames.equals(fieldNames)) {
+            projection = null;
+        } else {
+            projection = new int[fieldNames.size()];
+            for (int i = 0; i < fieldNames.size(); i++) {
+                projection[i] = columnNames.indexOf(fieldNames.get(i));
+                if (projection[i] < 0 && keyFieldNames.contains(fieldNames.get(i))) {
+                    throw new IllegalStateException(
+                            String.format(
+                                    "Key field %s is not found in the schema %s.",
+                                    fieldNames.get(i), schema));
+                }
+            }
+        }
+        projectedSchema = schema;
+    }
+
+    // the fields dropped from the table are null, which are not used by the index.
+    private GenericRow project(GenericRow row) {
+        GenericRow projected = new GenericRow(row.getRowKind(), projection.length);
+        for (int i = 0; i < projection.length; i++) {
+            projected.setField(i, projection[i] < 0 ? null : row.getField(projection[i]));
+        }
+        return projected;
+    }
+
+    /** The channel of a key, which is used to shuffle both the rows and the bootstrapped keys. */
+    public static int computeChannel(BinaryRow trimmedPrimaryKey, int numChannels) {
+        return Math.abs(trimmedPrimaryKey.hashCode() % numChannels);
+    }
+
+    private void collect(InternalRow row, int bucket) {
+        if (row != currentInput) {
+            // the row of the previous partition is built with the schema of the table when the
+            // assigner was created, so it is rebuilt from the current row to follow schema changes.
+            GenericRow previousPartitionRow =
+                    new GenericRow(row.getRowKind(), currentRow.getFieldCount());
+            for (int i = 0; i < currentRow.getFieldCount(); i++) {
+                previousPartitionRow.setField(i, currentRow.getField(i));
+            }
+            List<String> columnNames = currentSchema.getColumnNames();
+            for (int i = 0; i < partitionKeys.size(); i++) {
+                previousPartitionRow.setField(
+                        columnNames.indexOf(partitionKeys.get(i)),
+                        partitionGetters[i].getFieldOrNull(row));
+            }
+            row = previousPartitionRow;
+        } else {
+            row = currentRow;
+        }
+        currentCollector.accept(row, bucket);
+    }
+
+    @Override
+    public void close() throws IOException {
+        assigner.close();
+    }
+}
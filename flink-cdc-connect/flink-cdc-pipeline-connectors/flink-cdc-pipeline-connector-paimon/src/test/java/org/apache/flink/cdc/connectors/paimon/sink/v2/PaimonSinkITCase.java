@@ -52,12 +52,14 @@ import org.apache.paimon.flink.FlinkCatalogFactory;
 import org.apache.paimon.flink.sink.MultiTableCommittable;
 import org.apache.paimon.options.Options;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -454,6 +456,141 @@ public class PaimonSinkITCase {
                 Collections.singletonList(Row.ofKind(RowKind.INSERT, "1", "1")), result);
     }
 
+    @Test
+    public void testSinkWithBufferBudgetAndIdleTimeout() throws Exception {
+        initialize("filesystem");
+        TableId table2 = TableId.tableId("test", "table2");
+        generator =
+                new BinaryRecordDataGenerator(RowType.of(DataTypes.STRING(), DataTypes.STRING()));
+        // a buffer of 64 pages of 64 kb, the least recently written tables are prepared for
+        // commit when less than 6 pages are free, and every table is idle on flush
+        PaimonSink<Event> paimonSink =
+                new PaimonSink<>(
+                        catalogOptions,
+                        "test-user",
+                        new PaimonRecordEventSerializer(ZoneId.systemDefault()),
+                        new PaimonWriterOptions(4L * 1024 * 1024, false, Duration.ofMillis(1)));
+        PaimonWriter<Event> writer = paimonSink.createWriter(new MockInitContext());
+        Committer<MultiTableCommittable> committer = paimonSink.createCommitter();
+        PaimonMetadataApplier metadataApplier = new PaimonMetadataApplier(catalogOptions);
+        for (TableId tableId : Arrays.asList(table1, table2)) {
+            // append tables, so that data committed twice would show up as duplicated rows
+            CreateTableEvent createTableEvent =
+                    new CreateTableEvent(
+                            tableId,
+                            Schema.newBuilder()
+                                    .physicalColumn("col1", DataTypes.STRING())
+                                    .physicalColumn("col2", DataTypes.STRING())
+                                    .option("bucket", "1")
+                                    .option("bucket-key", "col1")
+                                    .option("write-buffer-for-append", "true")
+                                    .build());
+            metadataApplier.applySchemaChange(createTableEvent);
+            writer.write(createTableEvent, null);
+        }
+
+        // table1 takes a quarter of the buffer, table2 fills the rest
+        writeRows(writer, table1, 0, 1000);
+        Assertions.assertEquals(0, countDataFiles(table1));
+        writeRows(writer, table2, 0, 3000);
+        // the buffered data of table1 has been prepared for commit, but not committed yet
+        Assertions.assertTrue(countDataFiles(table1) > 0);
+        Assertions.assertEquals(0, countRows(table1));
+
+        checkpoint(writer, committer, 1L);
+        assertRows(table1, 1000);
+        assertRows(table2, 3000);
+
+        // the writers of both tables are closed as idle on the flush of the checkpoint above, and
+        // opened again for the next records
+        Thread.sleep(10);
+        writeRows(writer, table1, 1000, 1100);
+        writeRows(writer, table2, 3000, 3100);
+        checkpoint(writer, committer, 2L);
+        assertRows(table1, 1100);
+        assertRows(table2, 3100);
+
+        // a checkpoint without records doesn't commit anything again
+        Thread.sleep(10);
+        checkpoint(writer, committer, 3L);
+        assertRows(table1, 1100);
+        assertRows(table2, 3100);
+        writer.close();
+        committer.close();
+    }
+
+    private void writeRows(PaimonWriter<Event> writer, TableId tableId, int from, int to)
+            throws IOException {
+        char[] padding = new char[1024];
+        Arrays.fill(padding, 'x');
+        for (int i = from; i < to; i++) {
+            writer.write(
+                    DataChangeEvent.insertEvent(
+                            tableId,
+                            generator.generate(
+                                    new Object[] {
+                                        BinaryStringData.fromString(String.valueOf(i)),
+                                        BinaryStringData.fromString(new String(padding))
+                                    })),
+                    null);
+        }
+    }
+
+    /** Flushes the writer and commits its committables, as a checkpoint does. */
+    private static void checkpoint(
+            PaimonWriter<Event> writer,
+            Committer<MultiTableCommittable> committer,
+            long checkpointId)
+            throws IOException, InterruptedException {
+        writer.flush(false);
+        committer.commit(
+                writer.prepareCommit().stream()
+                        .map(
+                                committable ->
+                                        new MultiTableCommittable(
+                                                committable.getDatabase(),
+                                                committable.getTable(),
+                                                checkpointId,
+                                                committable.kind(),
+                                                committable.wrappedCommittable()))
+                        .map(MockCommitRequestImpl::new)
+                        .collect(Collectors.toList()));
+    }
+
+    private long countDataFiles(TableId tableId) {
+        File[] files =
+                new File(
+                                warehouse,
+                                String.format(
+                                        "%s.db/%s/bucket-0",
+                                        tableId.getSchemaName(), tableId.getTableName()))
+                        .listFiles((dir, name) -> name.startsWith("data-"));
+        return files == null ? 0 : files.length;
+    }
+
+    private long countRows(TableId tableId) {
+        return (long) queryCounts(tableId).getField(0);
+    }
+
+    /** Asserts that every row of the table is committed exactly once. */
+    private void assertRows(TableId tableId, long expectedRows) {
+        Row counts = queryCounts(tableId);
+        Assertions.assertEquals(expectedRows, counts.getField(0));
+        Assertions.assertEquals(expectedRows, counts.getField(1));
+    }
+
+    private Row queryCounts(TableId tableId) {
+        List<Row> result = new ArrayList<>();
+        tEnv.sqlQuery(
+                        String.format(
+                                "select count(*), count(distinct col1) from paimon_catalog.%s.%s",
+                                tableId.getSchemaName(), tableId.getTableName()))
+                .execute()
+                .collect()
+                .forEachRemaining(result::add);
+        return result.get(0);
+    }
+
     private static class MockCommitRequestImpl<CommT> extends CommitRequestImpl<CommT> {
 
         protected MockCommitRequestImpl(CommT committable) {
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.paimon.sink.v2.bucket;
+
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.connectors.paimon.sink.PaimonMetadataApplier;
+import org.apache.flink.cdc.runtime.serializer.event.EventSerializer;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.apache.flink.runtime.checkpoint.OperatorSubtaskState;
+import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+import org.apache.flink.streaming.util.OneInputStreamOperatorTestHarness;
+
+import org.apache.paimon.catalog.Catalog;
+import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.flink.FlinkCatalogFactory;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.table.BucketMode;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.sink.BatchTableCommit;
+import org.apache.paimon.table.sink.BatchTableWrite;
+import org.apache.paimon.table.sink.BatchWriteBuilder;
+import org.apache.paimon.types.RowKind;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/** Tests for {@link BucketAssignOperator} with tables in GLOBAL_DYNAMIC bucket mode. */
+public class BucketAssignOperatorTest {
+
+    @TempDir public static java.nio.file.Path temporaryFolder;
+
+    private static final TableId TABLE_ID = TableId.tableId("test", "table1");
+
+    private Options catalogOptions;
+
+    private PaimonMetadataApplier metadataApplier;
+
+    @BeforeEach
+    public void initialize() throws Exception {
+        catalogOptions = new Options();
+        catalogOptions.setString("metastore", "filesystem");
+        catalogOptions.setString(
+                "warehouse",
+                new File(temporaryFolder.toFile(), UUID.randomUUID().toString()).toString());
+        metadataApplier = new PaimonMetadataApplier(catalogOptions);
+    }
+
+    @Test
+    public void testCrossPartitionUpdate() throws Exception {
+        CreateTableEvent createTableEvent = createTable();
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(
+                        RowType.of(DataTypes.INT(), DataTypes.STRING(), DataTypes.STRING()));
+        try (OneInputStreamOperatorTestHarness<Event, Event> harness = createHarness()) {
+            harness.open();
+            harness.processElement(new StreamRecord<>(createTableEvent));
+            harness.processElement(
+                    new StreamRecord<>(
+                            DataChangeEvent.insertEvent(
+                                    TABLE_ID, generator.generate(fields(1, "a", "x")))));
+            harness.processElement(
+                    new StreamRecord<>(
+                            DataChangeEvent.updateEvent(
+                                    TABLE_ID,
+                                    generator.generate(fields(1, "a", "x")),
+                                    generator.generate(fields(1, "b", "y")))));
+
+            List<BucketWrapperRowEvent> rows = collectRows(harness);
+            Assertions.assertEquals(3, rows.size());
+            Assertions.assertEquals("+I[1, a, x]", toString(rows.get(0), 3));
+            // the row of the old partition is deleted, with the latest values of the other fields.
+            Assertions.assertEquals("-D[1, a, y]", toString(rows.get(1), 3));
+            Assertions.assertEquals(rows.get(0).getBucket(), rows.get(1).getBucket());
+            Assertions.assertEquals("+I[1, b, y]", toString(rows.get(2), 3));
+        }
+    }
+
+    @Test
+    public void testCrossPartitionUpdateAfterSchemaChange() throws Exception {
+        CreateTableEvent createTableEvent = createTable();
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(
+                        RowType.of(DataTypes.INT(), DataTypes.STRING(), DataTypes.STRING()));
+        try (OneInputStreamOperatorTestHarness<Event, Event> harness = createHarness()) {
+            harness.open();
+            harness.processElement(new StreamRecord<>(createTableEvent));
+            harness.processElement(
+                    new StreamRecord<>(
+                            DataChangeEvent.insertEvent(
+                                    TABLE_ID, generator.generate(fields(1, "a", "x")))));
+
+            // the positions of the key and the partition change.
+            AddColumnEvent addColumnEvent =
+                    new AddColumnEvent(
+                            TABLE_ID,
+                            Collections.singletonList(
+                                    AddColumnEvent.first(
+                                            Column.physicalColumn("col0", DataTypes.STRING()))));
+            metadataApplier.applySchemaChange(addColumnEvent);
+            harness.processElement(new StreamRecord<>(addColumnEvent));
+
+            BinaryRecordDataGenerator newGenerator =
+                    new BinaryRecordDataGenerator(
+                            RowType.of(
+                                    DataTypes.STRING(),
+                                    DataTypes.INT(),
+                                    DataTypes.STRING(),
+                                    DataTypes.STRING()));
+            harness.processElement(
+                    new StreamRecord<>(
+                            DataChangeEvent.insertEvent(
+                                    TABLE_ID,
+                                    newGenerator.generate(
+                                            new Object[] {
+                                                BinaryStringData.fromString("c0"),
+                                                1,
+                                                BinaryStringData.fromString("b"),
+                                                BinaryStringData.fromString("y")
+                                            }))));
+
+            List<BucketWrapperRowEvent> rows = collectRows(harness);
+            Assertions.assertEquals(3, rows.size());
+            Assertions.assertEquals("+I[1, a, x]", toString(rows.get(0), 3));
+            Assertions.assertEquals("-D[c0, 1, a, y]", toString(rows.get(1), 4));
+            Assertions.assertEquals(rows.get(0).getBucket(), rows.get(1).getBucket());
+            Assertions.assertEquals("+I[c0, 1, b, y]", toString(rows.get(2), 4));
+        }
+    }
+
+    @Test
+    public void testBootstrapRestoredTable() throws Exception {
+        CreateTableEvent createTableEvent = createTable();
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(
+                        RowType.of(DataTypes.INT(), DataTypes.STRING(), DataTypes.STRING()));
+        OperatorSubtaskState state;
+        try (OneInputStreamOperatorTestHarness<Event, Event> harness = createHarness()) {
+            harness.open();
+            harness.processElement(new StreamRecord<>(createTableEvent));
+            harness.processElement(
+                    new StreamRecord<>(
+                            DataChangeEvent.insertEvent(
+                                    TABLE_ID, generator.generate(fields(1, "a", "x")))));
+            state = harness.snapshot(1L, 1L);
+        }
+
+        // the row is committed to the table by the writer.
+        Catalog catalog = FlinkCatalogFactory.createPaimonCatalog(catalogOptions);
+        FileStoreTable table =
+                (FileStoreTable) catalog.getTable(Identifier.fromString(TABLE_ID.toString()));
+        Assertions.assertEquals(BucketMode.GLOBAL_DYNAMIC, table.bucketMode());
+        BatchWriteBuilder writeBuilder = table.newBatchWriteBuilder();
+        try (BatchTableWrite write = writeBuilder.newWrite();
+                BatchTableCommit commit = writeBuilder.newCommit()) {
+            write.write(
+                    GenericRow.of(1, BinaryString.fromString("a"), BinaryString.fromString("x")),
+                    0);
+            commit.commit(write.prepareCommit());
+        }
+
+        try (OneInputStreamOperatorTestHarness<Event, Event> harness = createHarness()) {
+            harness.initializeState(state);
+            harness.open();
+            harness.processElement(new StreamRecord<>(createTableEvent));
+            harness.processElement(
+                    new StreamRecord<>(
+                            DataChangeEvent.updateEvent(
+                                    TABLE_ID,
+                                    generator.generate(fields(1, "a", "x")),
+                                    generator.generate(fields(1, "b", "y")))));
+
+            List<BucketWrapperRowEvent> rows = collectRows(harness);
+            Assertions.assertEquals(2, rows.size());
+            Assertions.assertEquals("-D[1, a, y]", toString(rows.get(0), 3));
+            Assertions.assertEquals(0, rows.get(0).getBucket());
+            Assertions.assertEquals("+I[1, b, y]", toString(rows.get(1), 3));
+        }
+    }
+
+    private CreateTableEvent createTable() throws Exception {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT().notNull())
+                        .physicalColumn("pt", DataTypes.STRING())
+                        .physicalColumn("name", DataTypes.STRING())
+                        .primaryKey("id")
+                        .partitionKey("pt")
+                        .option("bucket", "-1")
+                        .build();
+        CreateTableEvent createTableEvent = new CreateTableEvent(TABLE_ID, schema);
+        metadataApplier.applySchemaChange(createTableEvent);
+        return createTableEvent;
+    }
+
+    private OneInputStreamOperatorTestHarness<Event, Event> createHarness() throws Exception {
+        OneInputStreamOperatorTestHarness<Event, Event> harness =
+                new OneInputStreamOperatorTestHarness<>(
+                        new BucketAssignOperator(
+                                catalogOptions,
+                                "schemaOperatorUid",
+                                ZoneId.systemDefault(),
+                                UUID.randomUUID().toString()),
+                        EventSerializer.INSTANCE);
+        harness.setup(BucketWrapperEventSerializer.INSTANCE);
+        return harness;
+    }
+
+    private static Object[] fields(int id, String pt, String name) {
+        return new Object[] {
+            id, BinaryStringData.fromString(pt), BinaryStringData.fromString(name)
+        };
+    }
+
+    private static List<BucketWrapperRowEvent> collectRows(
+            OneInputStreamOperatorTestHarness<Event, Event> harness) {
+        List<BucketWrapperRowEvent> rows = new ArrayList<>();
+        for (Event event : harness.extractOutputValues()) {
+            if (event instanceof BucketWrapperRowEvent) {
+                rows.add((BucketWrapperRowEvent) event);
+            }
+        }
+        return rows;
+    }
+
+    // the string of the row, whose fields are strings except the integer id before the partition.
+    private static String toString(BucketWrapperRowEvent event, int fieldCount) {
+        BinaryRow row = event.getRow();
+        String[] fields = new String[fieldCount];
+        int idPos = fieldCount - 3;
+        for (int i = 0; i < fieldCount; i++) {
+            fields[i] = i == idPos ? String.valueOf(row.getInt(i)) : row.getString(i).toString();
+        }
+        RowKind rowKind = row.getRowKind();
+        return rowKind.shortString() + Arrays.toString(fields);
+    }
+}
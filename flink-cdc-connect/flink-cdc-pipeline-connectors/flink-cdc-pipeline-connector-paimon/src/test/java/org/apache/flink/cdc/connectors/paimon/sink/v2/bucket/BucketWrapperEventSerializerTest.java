@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.paimon.sink.v2.bucket;
+
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.connectors.paimon.sink.v2.PaimonWriterHelper;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.util.InstantiationUtil;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.Decimal;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.types.RowKind;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+/** Tests for {@link BucketWrapperEventSerializer}. */
+public class BucketWrapperEventSerializerTest {
+
+    @Test
+    public void testSerializeBucketWrapperRowEvent() throws Exception {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT())
+                        .physicalColumn("name", DataTypes.STRING())
+                        .primaryKey("id")
+                        .build();
+        GenericRow genericRow = GenericRow.ofKind(RowKind.DELETE, 1, BinaryString.fromString("a"));
+        BinaryRow row =
+                PaimonWriterHelper.createRowSerializer(schema).toBinaryRow(genericRow).copy();
+        BucketWrapperRowEvent event =
+                new BucketWrapperRowEvent(3, TableId.tableId("database", "table"), row);
+
+        DataOutputSerializer outputView = new DataOutputSerializer(64);
+        BucketWrapperEventSerializer.INSTANCE.serialize(event, outputView);
+        Event deserialized =
+                BucketWrapperEventSerializer.INSTANCE.deserialize(
+                        new DataInputDeserializer(outputView.getCopyOfBuffer()));
+
+        Assertions.assertEquals(event, deserialized);
+        BinaryRow deserializedRow = ((BucketWrapperRowEvent) deserialized).getRow();
+        Assertions.assertEquals(RowKind.DELETE, deserializedRow.getRowKind());
+        Assertions.assertEquals(1, deserializedRow.getInt(0));
+        Assertions.assertEquals("a", deserializedRow.getString(1).toString());
+    }
+
+    @Test
+    public void testSerializeBucketWrapperRowEventWithVariableLengthFields() throws Exception {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT())
+                        .physicalColumn("name", DataTypes.STRING())
+                        .physicalColumn("payload", DataTypes.BYTES())
+                        .physicalColumn("price", DataTypes.DECIMAL(38, 10))
+                        .physicalColumn("updated", DataTypes.TIMESTAMP(9))
+                        .physicalColumn("comment", DataTypes.STRING())
+                        .primaryKey("id")
+                        .build();
+        // values longer than 7 bytes are stored in the variable-length part of the row
+        String name = "a name which doesn't fit into the fixed-length part";
+        byte[] payload = new byte[1024];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) i;
+        }
+        Decimal price = Decimal.fromBigDecimal(new BigDecimal("1234567890.0123456789"), 38, 10);
+        Timestamp updated = Timestamp.fromEpochMillis(1700000000123L, 456789);
+        GenericRow genericRow =
+                GenericRow.ofKind(
+                        RowKind.UPDATE_AFTER,
+                        1,
+                        BinaryString.fromString(name),
+                        payload,
+                        price,
+                        updated,
+                        null);
+        BinaryRow row =
+                PaimonWriterHelper.createRowSerializer(schema).toBinaryRow(genericRow).copy();
+        BucketWrapperRowEvent event =
+                new BucketWrapperRowEvent(5, TableId.tableId("database", "table"), row);
+
+        DataOutputSerializer outputView = new DataOutputSerializer(64);
+        BucketWrapperEventSerializer.INSTANCE.serialize(event, outputView);
+        BucketWrapperEventSerializer.INSTANCE.serialize(event, outputView);
+        DataInputDeserializer inputView = new DataInputDeserializer(outputView.getCopyOfBuffer());
+        for (int i = 0; i < 2; i++) {
+            Event deserialized = BucketWrapperEventSerializer.INSTANCE.deserialize(inputView);
+            Assertions.assertEquals(event, deserialized);
+            assertRow(
+                    ((BucketWrapperRowEvent) deserialized).getRow(), name, payload, price, updated);
+        }
+        Assertions.assertEquals(0, inputView.available());
+
+        // the event is serializable with java serialization as well
+        BucketWrapperRowEvent cloned = InstantiationUtil.clone(event);
+        Assertions.assertEquals(event, cloned);
+        assertRow(cloned.getRow(), name, payload, price, updated);
+    }
+
+    private static void assertRow(
+            BinaryRow row, String name, byte[] payload, Decimal price, Timestamp updated) {
+        Assertions.assertEquals(RowKind.UPDATE_AFTER, row.getRowKind());
+        Assertions.assertEquals(1, row.getInt(0));
+        Assertions.assertEquals(name, row.getString(1).toString());
+        Assertions.assertArrayEquals(payload, row.getBinary(2));
+        Assertions.assertEquals(price, row.getDecimal(3, 38, 10));
+        Assertions.assertEquals(updated, row.getTimestamp(4, 9));
+        Assertions.assertTrue(row.isNullAt(5));
+    }
+}
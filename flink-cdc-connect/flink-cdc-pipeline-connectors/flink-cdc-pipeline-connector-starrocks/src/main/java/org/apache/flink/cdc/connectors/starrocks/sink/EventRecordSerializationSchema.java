@@ -18,13 +18,11 @@
 package org.apache.flink.cdc.connectors.starrocks.sink;
 
 import org.apache.flink.api.common.serialization.SerializationSchema;
-import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
-import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.utils.Preconditions;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
@@ -33,14 +31,15 @@ import com.starrocks.connector.flink.table.data.DefaultStarRocksRowData;
 import com.starrocks.connector.flink.table.data.StarRocksRowData;
 import com.starrocks.connector.flink.table.sink.v2.RecordSerializationSchema;
 import com.starrocks.connector.flink.table.sink.v2.StarRocksSinkContext;
-import com.starrocks.connector.flink.tools.JsonWrapper;
 
 import java.time.ZoneId;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
-/** Serializer for the input {@link Event}. It will serialize a row to a json string. */
+/**
+ * Serializer for the input {@link Event}. It will serialize a row to a json string with the {@link
+ * StarRocksJsonEncoder} of its table, and the rows are loaded in batches of json arrays.
+ */
 public class EventRecordSerializationSchema implements RecordSerializationSchema<Event> {
 
     private static final long serialVersionUID = 1L;
@@ -50,11 +49,10 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
      */
     private final ZoneId zoneId;
 
-    /** keep the relationship of TableId and table information. */
-    private transient Map<TableId, TableInfo> tableInfoMap;
+    /** keep the relationship of TableId and the encoder of its schema. */
+    private transient Map<TableId, StarRocksJsonEncoder> encoderMap;
 
     private transient DefaultStarRocksRowData reusableRowData;
-    private transient JsonWrapper jsonWrapper;
 
     public EventRecordSerializationSchema(ZoneId zoneId) {
         this.zoneId = zoneId;
@@ -63,9 +61,8 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
     @Override
     public void open(
             SerializationSchema.InitializationContext context, StarRocksSinkContext sinkContext) {
-        this.tableInfoMap = new HashMap<>();
+        this.encoderMap = new HashMap<>();
         this.reusableRowData = new DefaultStarRocksRowData();
-        this.jsonWrapper = new JsonWrapper();
     }
 
     @Override
@@ -86,26 +83,18 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
         if (event instanceof CreateTableEvent) {
             newSchema = ((CreateTableEvent) event).getSchema();
         } else {
-            TableInfo tableInfo = tableInfoMap.get(tableId);
-            if (tableInfo == null) {
+            StarRocksJsonEncoder encoder = encoderMap.get(tableId);
+            if (encoder == null) {
                 throw new RuntimeException("schema of " + tableId + " is not existed.");
             }
-            newSchema = SchemaUtils.applySchemaChangeEvent(tableInfo.schema, event);
-        }
-        TableInfo tableInfo = new TableInfo();
-        tableInfo.schema = newSchema;
-        tableInfo.fieldGetters = new RecordData.FieldGetter[newSchema.getColumnCount()];
-        for (int i = 0; i < newSchema.getColumnCount(); i++) {
-            tableInfo.fieldGetters[i] =
-                    StarRocksUtils.createFieldGetter(
-                            newSchema.getColumns().get(i).getType(), i, zoneId);
+            newSchema = SchemaUtils.applySchemaChangeEvent(encoder.getSchema(), event);
         }
-        tableInfoMap.put(tableId, tableInfo);
+        encoderMap.put(tableId, new StarRocksJsonEncoder(newSchema, zoneId));
     }
 
     private StarRocksRowData applyDataChangeEvent(DataChangeEvent event) {
-        TableInfo tableInfo = tableInfoMap.get(event.tableId());
-        Preconditions.checkNotNull(tableInfo, event.tableId() + " is not existed");
+        StarRocksJsonEncoder encoder = encoderMap.get(event.tableId());
+        Preconditions.checkNotNull(encoder, event.tableId() + " is not existed");
         reusableRowData.setDatabase(event.tableId().getSchemaName());
         reusableRowData.setTable(event.tableId().getTableName());
         String value;
@@ -113,10 +102,10 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
             case INSERT:
             case UPDATE:
             case REPLACE:
-                value = serializeRecord(tableInfo, event.after(), false);
+                value = encoder.encode(event.after(), false);
                 break;
             case DELETE:
-                value = serializeRecord(tableInfo, event.before(), true);
+                value = encoder.encode(event.before(), true);
                 break;
             default:
                 throw new UnsupportedOperationException(
@@ -126,23 +115,6 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
         return reusableRowData;
     }
 
-    private String serializeRecord(TableInfo tableInfo, RecordData record, boolean isDelete) {
-        List<Column> columns = tableInfo.schema.getColumns();
-        Preconditions.checkArgument(columns.size() == record.getArity());
-        Map<String, Object> rowMap = new HashMap<>(record.getArity() + 1);
-        for (int i = 0; i < record.getArity(); i++) {
-            rowMap.put(columns.get(i).getName(), tableInfo.fieldGetters[i].getFieldOrNull(record));
-        }
-        rowMap.put("__op", isDelete ? 1 : 0);
-        return jsonWrapper.toJSONString(rowMap);
-    }
-
     @Override
     public void close() {}
-
-    /** Table information. */
-    private static class TableInfo {
-        Schema schema;
-        RecordData.FieldGetter[] fieldGetters;
-    }
 }
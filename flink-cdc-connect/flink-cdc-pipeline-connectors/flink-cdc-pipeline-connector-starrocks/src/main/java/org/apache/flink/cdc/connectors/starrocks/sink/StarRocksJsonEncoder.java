@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.starrocks.sink;
+
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.utils.Preconditions;
+
+import com.starrocks.shade.com.alibaba.fastjson.util.RyuDouble;
+import com.starrocks.shade.com.alibaba.fastjson.util.RyuFloat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getPrecision;
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getScale;
+import static org.apache.flink.cdc.connectors.starrocks.sink.StarRocksUtils.DATETIME_FORMATTER;
+import static org.apache.flink.cdc.connectors.starrocks.sink.StarRocksUtils.DATE_FORMATTER;
+
+/**
+ * Encodes the {@link RecordData} of a table as a JSON object for the stream load of StarRocks,
+ * whose values are the same as the ones of {@link StarRocksUtils#createFieldGetter}.
+ *
+ * <p>The field writers are resolved once per table schema, and the JSON text is appended to a
+ * reused buffer without creating a map or boxing the values of the row. The text is the same as the
+ * one written by the {@code JsonWrapper} of the StarRocks connector for a map of the fields in the
+ * order of the columns, that is, null fields are omitted, NaN and infinite numbers are written as
+ * null, and floating point numbers are formatted by Ryu. The only difference is that decimals are
+ * written with {@link java.math.BigDecimal#toPlainString()}, so a value like {@code 0E-10} is
+ * written as {@code 0.0000000000} instead of in the scientific notation.
+ */
+public class StarRocksJsonEncoder {
+
+    private static final String OP_FIELD = "\"__op\":";
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private final Schema schema;
+
+    // the quoted field names followed by a colon
+    private final String[] fieldPrefixes;
+
+    private final FieldWriter[] fieldWriters;
+
+    private final StringBuilder buffer;
+
+    // the scratch of the Ryu formatting of floating point numbers
+    private final char[] numberChars;
+
+    public StarRocksJsonEncoder(Schema schema, ZoneId zoneId) {
+        this.schema = schema;
+        this.numberChars = new char[24];
+        List<Column> columns = schema.getColumns();
+        this.fieldPrefixes = new String[columns.size()];
+        this.fieldWriters = new FieldWriter[columns.size()];
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            prefix.setLength(0);
+            appendString(columns.get(i).getName(), prefix);
+            fieldPrefixes[i] = prefix.append(':').toString();
+            fieldWriters[i] = createFieldWriter(columns.get(i).getType(), i, zoneId);
+        }
+        this.buffer = new StringBuilder(256);
+    }
+
+    /** Encodes the record with the {@code __op} field of the primary key model of StarRocks. */
+    public String encode(RecordData record, boolean isDelete) {
+        Preconditions.checkArgument(fieldWriters.length == record.getArity());
+        buffer.setLength(0);
+        buffer.append('{');
+        for (int i = 0; i < fieldWriters.length; i++) {
+            if (record.isNullAt(i)) {
+                continue;
+            }
+            buffer.append(fieldPrefixes[i]);
+            fieldWriters[i].write(record, buffer);
+            buffer.append(',');
+        }
+        buffer.append(OP_FIELD).append(isDelete ? '1' : '0').append('}');
+        return buffer.toString();
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    /** Appends a non-null field of {@link RecordData} as a JSON value. */
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(RecordData record, StringBuilder out);
+    }
+
+    private FieldWriter createFieldWriter(DataType fieldType, int fieldPos, ZoneId zoneId) {
+        // ordered by type root definition
+        switch (fieldType.getTypeRoot()) {
+            case BOOLEAN:
+                return (record, out) -> out.append(record.getBoolean(fieldPos));
+            case TINYINT:
+                return (record, out) -> out.append(record.getByte(fieldPos));
+            case SMALLINT:
+                return (record, out) -> out.append(record.getShort(fieldPos));
+            case INTEGER:
+                return (record, out) -> out.append(record.getInt(fieldPos));
+            case BIGINT:
+                return (record, out) -> out.append(record.getLong(fieldPos));
+            case FLOAT:
+                return (record, out) -> appendFloat(record.getFloat(fieldPos), out);
+            case DOUBLE:
+                return (record, out) -> appendDouble(record.getDouble(fieldPos), out);
+            case DECIMAL:
+                final int decimalPrecision = getPrecision(fieldType);
+                final int decimalScale = getScale(fieldType);
+                return (record, out) ->
+                        out.append(
+                                record.getDecimal(fieldPos, decimalPrecision, decimalScale)
+                                        .toBigDecimal()
+                                        .toPlainString());
+            case CHAR:
+            case VARCHAR:
+                return (record, out) -> appendString(record.getString(fieldPos).toString(), out);
+            case DATE:
+                return (record, out) -> {
+                    out.append('"');
+                    DATE_FORMATTER.formatTo(LocalDate.ofEpochDay(record.getInt(fieldPos)), out);
+                    out.append('"');
+                };
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                final int timestampPrecision = getPrecision(fieldType);
+                return (record, out) -> {
+                    out.append('"');
+                    DATETIME_FORMATTER.formatTo(
+                            record.getTimestamp(fieldPos, timestampPrecision).toLocalDateTime(),
+                            out);
+                    out.append('"');
+                };
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final int localZonedTimestampPrecision = getPrecision(fieldType);
+                return (record, out) -> {
+                    out.append('"');
+                    DATETIME_FORMATTER.formatTo(
+                            LocalDateTime.ofInstant(
+                                    record.getLocalZonedTimestampData(
+                                                    fieldPos, localZonedTimestampPrecision)
+                                            .toInstant(),
+                                    zoneId),
+                            out);
+                    out.append('"');
+                };
+            default:
+                throw new UnsupportedOperationException(
+                        "Don't support data type " + fieldType.getTypeRoot());
+        }
+    }
+
+    private void appendDouble(double value, StringBuilder out) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            // not a JSON number, which is written as null like the JsonWrapper does
+            out.append("null");
+        } else {
+            out.append(numberChars, 0, RyuDouble.toString(value, numberChars, 0));
+        }
+    }
+
+    private void appendFloat(float value, StringBuilder out) {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            out.append("null");
+        } else {
+            out.append(numberChars, 0, RyuFloat.toString(value, numberChars, 0));
+        }
+    }
+
+    private static void appendString(String value, StringBuilder out) {
+        out.append('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\' && c != 0x7F && c != 0x2028 && c != 0x2029) {
+                continue;
+            }
+            out.append(value, start, i);
+            start = i + 1;
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                case '\b':
+                    out.append("\\b");
+                    break;
+                case '\f':
+                    out.append("\\f");
+                    break;
+                default:
+                    out.append("\\u")
+                            .append(HEX_DIGITS[c >> 12])
+                            .append(HEX_DIGITS[(c >> 8) & 0xF])
+                            .append(HEX_DIGITS[(c >> 4) & 0xF])
+                            .append(HEX_DIGITS[c & 0xF]);
+            }
+        }
+        out.append(value, start, value.length());
+        out.append('"');
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.starrocks.sink;
+
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.starrocks.connector.flink.tools.JsonWrapper;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/** Tests for {@link StarRocksJsonEncoder}. */
+public class StarRocksJsonEncoderTest {
+
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.BIGINT().notNull())
+                    .physicalColumn("flag", DataTypes.BOOLEAN())
+                    .physicalColumn("small", DataTypes.TINYINT())
+                    .physicalColumn("price", DataTypes.DECIMAL(20, 5))
+                    .physicalColumn("ratio", DataTypes.DOUBLE())
+                    .physicalColumn("na\"me", DataTypes.VARCHAR(50))
+                    .physicalColumn("day", DataTypes.DATE())
+                    .physicalColumn("ts", DataTypes.TIMESTAMP(3))
+                    .physicalColumn("ltz", DataTypes.TIMESTAMP_LTZ(3))
+                    .physicalColumn("empty", DataTypes.STRING())
+                    .primaryKey("id")
+                    .build();
+
+    private static final ZoneId ZONE_ID = ZoneId.of("+08:00");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testEncode() throws Exception {
+        BinaryRecordData record =
+                new BinaryRecordDataGenerator(SCHEMA.getColumnDataTypes().toArray(new DataType[0]))
+                        .generate(
+                                new Object[] {
+                                    1L,
+                                    true,
+                                    (byte) 2,
+                                    DecimalData.fromBigDecimal(new BigDecimal("83.23"), 20, 5),
+                                    1.5D,
+                                    BinaryStringData.fromString("a\"b\\c\nd\u0001é"),
+                                    (int) LocalDate.of(2023, 11, 28).toEpochDay(),
+                                    TimestampData.fromLocalDateTime(
+                                            LocalDateTime.of(2023, 11, 27, 18, 0, 1)),
+                                    LocalZonedTimestampData.fromInstant(
+                                            Instant.parse("2023-11-27T10:00:00Z")),
+                                    null
+                                });
+        StarRocksJsonEncoder encoder = new StarRocksJsonEncoder(SCHEMA, ZONE_ID);
+
+        String json = encoder.encode(record, false);
+        assertEquals(
+                "{\"id\":1,\"flag\":true,\"small\":2,\"price\":83.23000,\"ratio\":1.5,"
+                        + "\"na\\\"me\":\"a\\\"b\\\\c\\nd\\u0001é\",\"day\":\"2023-11-28\","
+                        + "\"ts\":\"2023-11-27 18:00:01\",\"ltz\":\"2023-11-27 18:00:00\","
+                        + "\"__op\":0}",
+                json);
+        assertEquals(encodeWithJsonWrapper(SCHEMA, record, false), json);
+        JsonNode node = objectMapper.readTree(json);
+        assertEquals("a\"b\\c\nd\u0001é", node.get("na\"me").asText());
+        // null fields are omitted
+        assertFalse(node.has("empty"));
+
+        // the buffer is reused by the next record
+        assertEquals(1, objectMapper.readTree(encoder.encode(record, true)).get("__op").asInt());
+    }
+
+    @Test
+    public void testSameAsJsonWrapper() {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("boolean", DataTypes.BOOLEAN())
+                        .physicalColumn("tinyint", DataTypes.TINYINT())
+                        .physicalColumn("smallint", DataTypes.SMALLINT())
+                        .physicalColumn("int", DataTypes.INT())
+                        .physicalColumn("bigint", DataTypes.BIGINT())
+                        .physicalColumn("float", DataTypes.FLOAT())
+                        .physicalColumn("double", DataTypes.DOUBLE())
+                        .physicalColumn("decimal", DataTypes.DECIMAL(6, 3))
+                        .physicalColumn("big_decimal", DataTypes.DECIMAL(38, 10))
+                        .physicalColumn("char", DataTypes.CHAR(5))
+                        .physicalColumn("varchar", DataTypes.VARCHAR(300))
+                        .physicalColumn("date", DataTypes.DATE())
+                        .physicalColumn("timestamp", DataTypes.TIMESTAMP(6))
+                        .physicalColumn("timestamp_ltz", DataTypes.TIMESTAMP_LTZ(6))
+                        .build();
+        StringBuilder allChars = new StringBuilder();
+        for (char c = 0; c < 0x80; c++) {
+            allChars.append(c);
+        }
+        allChars.append("\u2028\u2029é中\ud83d\ude00");
+        Object[][] rows =
+                new Object[][] {
+                    {
+                        true,
+                        Byte.MIN_VALUE,
+                        Short.MAX_VALUE,
+                        Integer.MIN_VALUE,
+                        Long.MAX_VALUE,
+                        5.1f,
+                        6.2,
+                        DecimalData.fromBigDecimal(new BigDecimal("-7.123"), 6, 3),
+                        DecimalData.fromBigDecimal(
+                                new BigDecimal("1234567890123456789012345678.0123456789"), 38, 10),
+                        BinaryStringData.fromString("ab"),
+                        BinaryStringData.fromString(allChars.toString()),
+                        (int) LocalDate.of(1970, 1, 1).toEpochDay(),
+                        TimestampData.fromLocalDateTime(
+                                LocalDateTime.of(2023, 1, 1, 0, 0, 0, 123456000)),
+                        LocalZonedTimestampData.fromInstant(Instant.parse("2023-12-31T23:59:59Z"))
+                    },
+                    {
+                        false,
+                        null,
+                        null,
+                        null,
+                        null,
+                        Float.NaN,
+                        Double.NaN,
+                        null,
+                        null,
+                        null,
+                        BinaryStringData.fromString(""),
+                        null,
+                        null,
+                        null
+                    },
+                    {
+                        null,
+                        (byte) 0,
+                        (short) -1,
+                        0,
+                        -1L,
+                        Float.NEGATIVE_INFINITY,
+                        Double.POSITIVE_INFINITY,
+                        DecimalData.fromBigDecimal(new BigDecimal("0.001"), 6, 3),
+                        DecimalData.fromBigDecimal(new BigDecimal("-0.000001"), 38, 10),
+                        BinaryStringData.fromString("     "),
+                        null,
+                        (int) LocalDate.of(9999, 12, 31).toEpochDay(),
+                        TimestampData.fromLocalDateTime(LocalDateTime.of(1, 1, 1, 0, 0)),
+                        LocalZonedTimestampData.fromEpochMillis(0)
+                    },
+                    {
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        -0.0f,
+                        Double.MIN_VALUE,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null
+                    },
+                    {
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        Float.MAX_VALUE,
+                        -Double.MAX_VALUE,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null
+                    },
+                    new Object[schema.getColumnCount()]
+                };
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(schema.getColumnDataTypes().toArray(new DataType[0]));
+        StarRocksJsonEncoder encoder = new StarRocksJsonEncoder(schema, ZONE_ID);
+        for (Object[] row : rows) {
+            BinaryRecordData record = generator.generate(row);
+            for (boolean isDelete : new boolean[] {false, true}) {
+                assertEquals(
+                        encodeWithJsonWrapper(schema, record, isDelete),
+                        encoder.encode(record, isDelete));
+            }
+        }
+    }
+
+    @Test
+    public void testFloatingPointNumbersSameAsJsonWrapper() {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("float", DataTypes.FLOAT())
+                        .physicalColumn("double", DataTypes.DOUBLE())
+                        .build();
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(schema.getColumnDataTypes().toArray(new DataType[0]));
+        StarRocksJsonEncoder encoder = new StarRocksJsonEncoder(schema, ZONE_ID);
+        // the floating point numbers of the JsonWrapper are formatted by Ryu, which is not always
+        // the same as Double#toString before JDK 19
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            BinaryRecordData record =
+                    generator.generate(
+                            new Object[] {
+                                Float.intBitsToFloat(random.nextInt()),
+                                i % 2 == 0
+                                        ? Double.longBitsToDouble(random.nextLong())
+                                        : random.nextDouble()
+                                                * Math.pow(10, random.nextInt(40) - 20)
+                            });
+            assertEquals(
+                    encodeWithJsonWrapper(schema, record, false), encoder.encode(record, false));
+        }
+    }
+
+    @Test
+    public void testDecimalAsPlainString() {
+        Schema schema =
+                Schema.newBuilder().physicalColumn("decimal", DataTypes.DECIMAL(38, 10)).build();
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(schema.getColumnDataTypes().toArray(new DataType[0]));
+        StarRocksJsonEncoder encoder = new StarRocksJsonEncoder(schema, ZONE_ID);
+
+        // the only difference from the JsonWrapper, which writes BigDecimal#toString
+        BinaryRecordData zero =
+                generator.generate(
+                        new Object[] {DecimalData.fromBigDecimal(BigDecimal.ZERO, 38, 10)});
+        assertEquals("{\"decimal\":0E-10,\"__op\":0}", encodeWithJsonWrapper(schema, zero, false));
+        assertEquals("{\"decimal\":0.0000000000,\"__op\":0}", encoder.encode(zero, false));
+
+        BinaryRecordData small =
+                generator.generate(
+                        new Object[] {
+                            DecimalData.fromBigDecimal(new BigDecimal("0.0000000001"), 38, 10)
+                        });
+        assertEquals("{\"decimal\":1E-10,\"__op\":0}", encodeWithJsonWrapper(schema, small, false));
+        assertEquals("{\"decimal\":0.0000000001,\"__op\":0}", encoder.encode(small, false));
+    }
+
+    /** Encodes the record in the way before {@link StarRocksJsonEncoder}, in the column order. */
+    private static String encodeWithJsonWrapper(
+            Schema schema, RecordData record, boolean isDelete) {
+        Map<String, Object> rowMap = new LinkedHashMap<>();
+        for (int i = 0; i < schema.getColumnCount(); i++) {
+            rowMap.put(
+                    schema.getColumns().get(i).getName(),
+                    StarRocksUtils.createFieldGetter(
+                                    schema.getColumns().get(i).getType(), i, ZONE_ID)
+                            .getFieldOrNull(record));
+        }
+        rowMap.put("__op", isDelete ? 1 : 0);
+        return new JsonWrapper().toJSONString(rowMap);
+    }
+}
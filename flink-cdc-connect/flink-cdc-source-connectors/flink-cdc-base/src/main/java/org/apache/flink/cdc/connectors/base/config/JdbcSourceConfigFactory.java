@@ -60,6 +60,7 @@ public abstract class JdbcSourceConfigFactory implements Factory<JdbcSourceConfi
             JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue();
     protected boolean scanNewlyAddedTableEnabled =
             JdbcSourceOptions.SCAN_NEWLY_ADDED_TABLE_ENABLED.defaultValue();
+    protected long snapshotSpillMemoryBudget = -1L;
 
     /** Integer port number of the database server. */
     public JdbcSourceConfigFactory hostname(String hostname) {
@@ -246,6 +247,16 @@ public abstract class JdbcSourceConfigFactory implements Factory<JdbcSourceConfi
         return this;
     }
 
+    /**
+     * The memory budget in bytes for normalizing the records of a snapshot split with its backfill
+     * change events. Snapshot records exceeding the budget are spilled to local disk, a
+     * non-positive value keeps the whole split in memory.
+     */
+    public JdbcSourceConfigFactory snapshotSpillMemoryBudget(long snapshotSpillMemoryBudget) {
+        this.snapshotSpillMemoryBudget = snapshotSpillMemoryBudget;
+        return this;
+    }
+
     /** Whether the {@link SourceConfig} should scan the newly added tables or not. */
     public JdbcSourceConfigFactory scanNewlyAddedTableEnabled(boolean scanNewlyAddedTableEnabled) {
         this.scanNewlyAddedTableEnabled = scanNewlyAddedTableEnabled;
@@ -40,6 +40,12 @@ public interface SourceConfig extends Serializable {
 
     boolean isScanNewlyAddedTableEnabled();
 
+    /**
+     * The memory budget in bytes for normalizing the records of a snapshot split, a non-positive
+     * value means the whole split is normalized in memory.
+     */
+    long getSnapshotSpillMemoryBudget();
+
     /** Factory for the {@code SourceConfig}. */
     @FunctionalInterface
     interface Factory<C extends SourceConfig> extends Serializable {
@@ -137,4 +137,12 @@ public class SourceOptions {
                     .defaultValue(false)
                     .withDescription(
                             "Whether capture the newly added tables when restoring from a savepoint/checkpoint or not, by default is false.");
+
+    @Experimental
+    public static final ConfigOption<Long> SCAN_INCREMENTAL_SNAPSHOT_SPILL_MEMORY_BUDGET =
+            ConfigOptions.key("scan.incremental.snapshot.spill.memory-budget")
+                    .longType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The memory budget in bytes for normalizing the records of a snapshot chunk with its backfill change log events. When set, snapshot records exceeding the budget are spilled to local disk and emitted lazily instead of keeping the whole chunk in memory, the backfill change log events are spilled the same way. If the keys changed by the backfill events exceed the budget as well, the chunk falls back to being normalized in memory. By default the whole chunk is kept in memory.");
 }
@@ -61,6 +61,7 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
     public AtomicBoolean reachEnd;
 
     private final FetchTask.Context taskContext;
+    private final String[] spillDirectories;
     private final ExecutorService executorService;
     private volatile ChangeEventQueue<DataChangeEvent> queue;
     private volatile Throwable readException;
@@ -72,7 +73,13 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
     private static final long READER_CLOSE_TIMEOUT_SECONDS = 30L;
 
     public IncrementalSourceScanFetcher(FetchTask.Context taskContext, int subtaskId) {
+        this(taskContext, subtaskId, new String[] {System.getProperty("java.io.tmpdir")});
+    }
+
+    public IncrementalSourceScanFetcher(
+            FetchTask.Context taskContext, int subtaskId, String[] spillDirectories) {
         this.taskContext = taskContext;
+        this.spillDirectories = spillDirectories;
         ThreadFactory threadFactory =
                 new ThreadFactoryBuilder()
                         .setNameFormat("debezium-snapshot-reader-" + subtaskId)
@@ -124,43 +131,70 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
             SourceRecord lowWatermark = null;
             SourceRecord highWatermark = null;
             Map<Struct, SourceRecord> outputBuffer = new HashMap<>();
-            while (!reachChangeLogEnd) {
-                checkReadException();
-                List<DataChangeEvent> batch = queue.poll();
-                for (DataChangeEvent event : batch) {
-                    SourceRecord record = event.getRecord();
-                    if (lowWatermark == null) {
-                        lowWatermark = record;
-                        assertLowWatermark(lowWatermark);
-                        continue;
-                    }
+            long spillMemoryBudget = taskContext.getSourceConfig().getSnapshotSpillMemoryBudget();
+            SpillingSnapshotSplitNormalizer spillingNormalizer =
+                    spillMemoryBudget > 0
+                            ? new SpillingSnapshotSplitNormalizer(
+                                    taskContext, spillMemoryBudget, spillDirectories)
+                            : null;
+            try {
+                while (!reachChangeLogEnd) {
+                    checkReadException();
+                    List<DataChangeEvent> batch = queue.poll();
+                    for (DataChangeEvent event : batch) {
+                        SourceRecord record = event.getRecord();
+                        if (lowWatermark == null) {
+                            lowWatermark = record;
+                            assertLowWatermark(lowWatermark);
+                            continue;
+                        }
 
-                    if (highWatermark == null && isHighWatermarkEvent(record)) {
-                        highWatermark = record;
-                        // snapshot events capture end and begin to capture stream events
-                        reachChangeLogStart = true;
-                        continue;
-                    }
+                        if (highWatermark == null && isHighWatermarkEvent(record)) {
+                            highWatermark = record;
+                            // snapshot events capture end and begin to capture stream events
+                            reachChangeLogStart = true;
+                            continue;
+                        }
 
-                    if (reachChangeLogStart && isEndWatermarkEvent(record)) {
-                        // capture to end watermark events, stop the loop
-                        reachChangeLogEnd = true;
-                        break;
-                    }
+                        if (reachChangeLogStart && isEndWatermarkEvent(record)) {
+                            // capture to end watermark events, stop the loop
+                            reachChangeLogEnd = true;
+                            break;
+                        }
 
-                    if (!reachChangeLogStart) {
-                        outputBuffer.put((Struct) record.key(), record);
-                    } else {
-                        if (isChangeRecordInChunkRange(record)) {
-                            // rewrite overlapping snapshot records through the record key
-                            taskContext.rewriteOutputBuffer(outputBuffer, record);
+                        if (!reachChangeLogStart) {
+                            if (spillingNormalizer != null) {
+                                spillingNormalizer.addSnapshotRecord(record);
+                            } else {
+                                outputBuffer.put((Struct) record.key(), record);
+                            }
+                        } else {
+                            if (isChangeRecordInChunkRange(record)) {
+                                if (spillingNormalizer != null) {
+                                    spillingNormalizer.addChangeRecord(record);
+                                } else {
+                                    // rewrite overlapping snapshot records through the record key
+                                    taskContext.rewriteOutputBuffer(outputBuffer, record);
+                                }
+                            }
                         }
                     }
                 }
+            } catch (InterruptedException | RuntimeException e) {
+                if (spillingNormalizer != null) {
+                    spillingNormalizer.close();
+                }
+                throw e;
             }
             // snapshot split return its data once
             hasNextElement.set(false);
 
+            if (spillingNormalizer != null) {
+                // the records are read lazily from the spillable buffer by the consumer, the
+                // returned iterator owns the buffer and outlives this fetcher
+                return spillingNormalizer.normalize(lowWatermark, highWatermark);
+            }
+
             final List<SourceRecord> normalizedRecords = new ArrayList<>();
             normalizedRecords.add(lowWatermark);
             normalizedRecords.addAll(taskContext.formatMessageTimestamp(outputBuffer.values()));
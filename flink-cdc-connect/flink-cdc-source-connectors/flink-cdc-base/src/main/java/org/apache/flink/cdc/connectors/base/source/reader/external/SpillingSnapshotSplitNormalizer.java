@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.base.source.reader.external;
+
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceRecords;
+import org.apache.flink.cdc.debezium.internal.SourceRecordSerializer;
+import org.apache.flink.cdc.debezium.internal.SpillableSourceRecordBuffer;
+import org.apache.flink.util.CloseableIterator;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Normalizes the records of a snapshot split with bounded memory.
+ *
+ * <p>Instead of rewriting a map of all snapshot records with the backfill change events, the
+ * snapshot records and the backfill change events are appended to {@link
+ * SpillableSourceRecordBuffer}s and only the keys touched by the backfill change events are kept in
+ * memory. When the normalized records are created, the few touched snapshot records are read from
+ * the buffer and rewritten with {@link FetchTask.Context#rewriteOutputBuffer}, so the returned
+ * records no longer need the task context. Untouched snapshot records are read lazily from the
+ * buffer while the returned records are iterated.
+ *
+ * <p>The touched keys are bounded by the memory budget too. If they exceed it, for a chunk that is
+ * changed heavily during its snapshot, the normalizer falls back to rewriting all snapshot records
+ * in memory like the normalization without spilling.
+ */
+class SpillingSnapshotSplitNormalizer {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(SpillingSnapshotSplitNormalizer.class);
+
+    private static final int BATCH_SIZE = 1024;
+
+    private final FetchTask.Context taskContext;
+    private final long memoryBudget;
+    private final SpillableSourceRecordBuffer snapshotRecords;
+    private final SpillableSourceRecordBuffer changeRecords;
+    private final Set<Struct> touchedKeys;
+    private long touchedKeysSize;
+    private boolean touchedKeysExceedBudget;
+
+    SpillingSnapshotSplitNormalizer(
+            FetchTask.Context taskContext, long memoryBudget, String[] spillDirectories) {
+        this.taskContext = taskContext;
+        this.memoryBudget = memoryBudget;
+        this.snapshotRecords = new SpillableSourceRecordBuffer(memoryBudget, spillDirectories);
+        this.changeRecords = new SpillableSourceRecordBuffer(memoryBudget, spillDirectories);
+        this.touchedKeys = new HashSet<>();
+    }
+
+    void addSnapshotRecord(SourceRecord record) {
+        // the message timestamp is formatted before buffering, so reading the buffer doesn't need
+        // the task context
+        snapshotRecords.add(
+                taskContext.formatMessageTimestamp(Collections.singletonList(record)).get(0));
+    }
+
+    /** Adds a change record which is in the chunk range of the snapshot split. */
+    void addChangeRecord(SourceRecord record) {
+        changeRecords.add(record);
+        if (!touchedKeysExceedBudget && touchedKeys.add((Struct) record.key())) {
+            touchedKeysSize += SourceRecordSerializer.estimateSize(record);
+            if (touchedKeysSize > memoryBudget) {
+                LOG.warn(
+                        "The keys changed during the snapshot of the split exceed the memory budget of {} bytes, "
+                                + "falling back to normalizing the snapshot records in memory.",
+                        memoryBudget);
+                touchedKeysExceedBudget = true;
+                touchedKeys.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the normalized records: [low watermark event][normalized events][high watermark
+     * event]. The untouched snapshot records are read lazily while iterating, the spill files are
+     * deleted once the returned iterator is exhausted or closed.
+     */
+    CloseableIterator<SourceRecords> normalize(
+            SourceRecord lowWatermark, SourceRecord highWatermark) {
+        try {
+            if (touchedKeysExceedBudget) {
+                return normalizeInMemory(lowWatermark, highWatermark);
+            }
+            final List<SourceRecord> touchedRecords = rewriteTouchedRecords();
+            changeRecords.close();
+            return new NormalizedRecordsIterator(lowWatermark, touchedRecords, highWatermark);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    void close() {
+        snapshotRecords.close();
+        changeRecords.close();
+    }
+
+    private List<SourceRecord> rewriteTouchedRecords() {
+        final Map<Struct, SourceRecord> touchedRecords = new HashMap<>();
+        if (!touchedKeys.isEmpty()) {
+            for (SourceRecord record : snapshotRecords) {
+                Struct key = (Struct) record.key();
+                if (touchedKeys.contains(key)) {
+                    touchedRecords.put(key, record);
+                }
+            }
+        }
+        for (SourceRecord changeRecord : changeRecords) {
+            // rewrite overlapping snapshot records through the record key
+            taskContext.rewriteOutputBuffer(touchedRecords, changeRecord);
+        }
+        return taskContext.formatMessageTimestamp(touchedRecords.values());
+    }
+
+    private CloseableIterator<SourceRecords> normalizeInMemory(
+            SourceRecord lowWatermark, SourceRecord highWatermark) {
+        final Map<Struct, SourceRecord> outputBuffer = new HashMap<>();
+        for (SourceRecord record : snapshotRecords) {
+            outputBuffer.put((Struct) record.key(), record);
+        }
+        for (SourceRecord changeRecord : changeRecords) {
+            taskContext.rewriteOutputBuffer(outputBuffer, changeRecord);
+        }
+        close();
+        final List<SourceRecord> normalizedRecords = new ArrayList<>();
+        normalizedRecords.add(lowWatermark);
+        normalizedRecords.addAll(taskContext.formatMessageTimestamp(outputBuffer.values()));
+        normalizedRecords.add(highWatermark);
+        return CloseableIterator.adapterForIterator(
+                Collections.singletonList(new SourceRecords(normalizedRecords)).iterator());
+    }
+
+    private class NormalizedRecordsIterator implements CloseableIterator<SourceRecords> {
+
+        private final Iterator<SourceRecord> snapshotIterator;
+        private List<SourceRecord> touchedRecords;
+        private SourceRecord lowWatermark;
+        private SourceRecord highWatermark;
+
+        private NormalizedRecordsIterator(
+                SourceRecord lowWatermark,
+                List<SourceRecord> touchedRecords,
+                SourceRecord highWatermark) {
+            this.snapshotIterator = snapshotRecords.iterator();
+            this.touchedRecords = touchedRecords;
+            this.lowWatermark = lowWatermark;
+            this.highWatermark = highWatermark;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return highWatermark != null;
+        }
+
+        @Override
+        public SourceRecords next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final List<SourceRecord> batch = new ArrayList<>(BATCH_SIZE);
+            if (lowWatermark != null) {
+                batch.add(lowWatermark);
+                lowWatermark = null;
+            }
+            int normalized = 0;
+            while (normalized < BATCH_SIZE && snapshotIterator.hasNext()) {
+                SourceRecord record = snapshotIterator.next();
+                if (!touchedKeys.contains((Struct) record.key())) {
+                    batch.add(record);
+                    normalized++;
+                }
+            }
+            if (!snapshotIterator.hasNext()) {
+                batch.addAll(touchedRecords);
+                batch.add(highWatermark);
+                close();
+            }
+            return new SourceRecords(batch);
+        }
+
+        @Override
+        public void close() {
+            highWatermark = null;
+            touchedRecords = Collections.emptyList();
+            SpillingSnapshotSplitNormalizer.this.close();
+        }
+    }
+}
@@ -123,7 +123,8 @@ public class JdbcConnectionPoolTest {
                 Duration.ofSeconds(10),
                 2,
                 3,
-                false);
+                false,
+                -1L);
     }
 
     private static class MockConnectionPoolFactory extends JdbcConnectionPoolFactory {
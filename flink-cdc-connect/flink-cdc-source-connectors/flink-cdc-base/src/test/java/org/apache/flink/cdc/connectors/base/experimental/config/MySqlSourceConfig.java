@@ -59,7 +59,8 @@ public class MySqlSourceConfig extends JdbcSourceConfig {
             Duration connectTimeout,
             int connectMaxRetries,
             int connectionPoolSize,
-            boolean isScanNewlyAddedTableEnabled) {
+            boolean isScanNewlyAddedTableEnabled,
+            long snapshotSpillMemoryBudget) {
         super(
                 startupOptions,
                 databaseList,
@@ -85,7 +86,8 @@ public class MySqlSourceConfig extends JdbcSourceConfig {
                 connectionPoolSize,
                 null,
                 true,
-                isScanNewlyAddedTableEnabled);
+                isScanNewlyAddedTableEnabled,
+                snapshotSpillMemoryBudget);
     }
 
     @Override
@@ -130,6 +130,7 @@ public class MySqlSourceConfigFactory extends JdbcSourceConfigFactory {
                 connectTimeout,
                 connectMaxRetries,
                 connectionPoolSize,
-                scanNewlyAddedTableEnabled);
+                scanNewlyAddedTableEnabled,
+                snapshotSpillMemoryBudget);
     }
 }
@@ -232,6 +232,16 @@ public class Db2SourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The memory budget in bytes for normalizing the records of a snapshot split with its backfill
+     * change events. Snapshot records exceeding the budget are spilled to local disk, a
+     * non-positive value keeps the whole split in memory.
+     */
+    public Db2SourceBuilder<T> snapshotSpillMemoryBudget(long snapshotSpillMemoryBudget) {
+        this.configFactory.snapshotSpillMemoryBudget(snapshotSpillMemoryBudget);
+        return this;
+    }
+
     /**
      * Build the {@link Db2IncrementalSource}.
      *
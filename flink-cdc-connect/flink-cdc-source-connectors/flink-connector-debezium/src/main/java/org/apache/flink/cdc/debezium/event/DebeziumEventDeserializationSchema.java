@@ -59,9 +59,9 @@ import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /** Debezium event deserializer for {@link SourceRecord}. */
 @Internal
@@ -73,15 +73,15 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
     private static final Logger LOG =
             LoggerFactory.getLogger(DebeziumEventDeserializationSchema.class);
 
-    private static final Map<DataType, DeserializationRuntimeConverter> CONVERTERS =
-            new ConcurrentHashMap<>();
-
     /** The schema data type inference. */
     protected final SchemaDataTypeInference schemaDataTypeInference;
 
     /** Changelog Mode to use for encoding changes in Flink internal data structure. */
     protected final DebeziumChangelogMode changelogMode;
 
+    /** The converters of data records of each table, recreated whenever its schema changes. */
+    private transient Map<TableId, TableRecordConverter> tableRecordConverters;
+
     public DebeziumEventDeserializationSchema(
             SchemaDataTypeInference schemaDataTypeInference, DebeziumChangelogMode changelogMode) {
         this.schemaDataTypeInference = schemaDataTypeInference;
@@ -103,15 +103,15 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
         Map<String, String> meta = getMetadata(record);
 
         if (op == Envelope.Operation.CREATE || op == Envelope.Operation.READ) {
-            RecordData after = extractAfterDataRecord(value, valueSchema);
+            RecordData after = extractAfterDataRecord(tableId, value, valueSchema);
             return Collections.singletonList(DataChangeEvent.insertEvent(tableId, after, meta));
         } else if (op == Envelope.Operation.DELETE) {
-            RecordData before = extractBeforeDataRecord(value, valueSchema);
+            RecordData before = extractBeforeDataRecord(tableId, value, valueSchema);
             return Collections.singletonList(DataChangeEvent.deleteEvent(tableId, before, meta));
         } else if (op == Envelope.Operation.UPDATE) {
-            RecordData after = extractAfterDataRecord(value, valueSchema);
+            RecordData after = extractAfterDataRecord(tableId, value, valueSchema);
             if (changelogMode == DebeziumChangelogMode.ALL) {
-                RecordData before = extractBeforeDataRecord(value, valueSchema);
+                RecordData before = extractBeforeDataRecord(tableId, value, valueSchema);
                 return Collections.singletonList(
                         DataChangeEvent.updateEvent(tableId, before, after, meta));
             }
@@ -128,25 +128,37 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
         return new EventTypeInfo();
     }
 
-    private RecordData extractBeforeDataRecord(Struct value, Schema valueSchema) throws Exception {
+    private RecordData extractBeforeDataRecord(TableId tableId, Struct value, Schema valueSchema)
+            throws Exception {
         Schema beforeSchema = fieldSchema(valueSchema, Envelope.FieldName.BEFORE);
         Struct beforeValue = fieldStruct(value, Envelope.FieldName.BEFORE);
-        return extractDataRecord(beforeValue, beforeSchema);
+        return extractDataRecord(tableId, beforeValue, beforeSchema);
     }
 
-    private RecordData extractAfterDataRecord(Struct value, Schema valueSchema) throws Exception {
+    private RecordData extractAfterDataRecord(TableId tableId, Struct value, Schema valueSchema)
+            throws Exception {
         Schema afterSchema = fieldSchema(valueSchema, Envelope.FieldName.AFTER);
         Struct afterValue = fieldStruct(value, Envelope.FieldName.AFTER);
-        return extractDataRecord(afterValue, afterSchema);
+        return extractDataRecord(tableId, afterValue, afterSchema);
     }
 
-    private RecordData extractDataRecord(Struct value, Schema valueSchema) throws Exception {
-        DataType dataType = schemaDataTypeInference.infer(value, valueSchema);
-        return (RecordData) getOrCreateConverter(dataType).convert(value, valueSchema);
-    }
-
-    private DeserializationRuntimeConverter getOrCreateConverter(DataType type) {
-        return CONVERTERS.computeIfAbsent(type, this::createConverter);
+    private RecordData extractDataRecord(TableId tableId, Struct value, Schema valueSchema)
+            throws Exception {
+        if (tableRecordConverters == null) {
+            tableRecordConverters = new HashMap<>();
+        }
+        TableRecordConverter converter = tableRecordConverters.get(tableId);
+        if (converter == null || !converter.isApplicable(value, valueSchema)) {
+            DataType dataType = schemaDataTypeInference.infer(value, valueSchema);
+            converter =
+                    new TableRecordConverter(
+                            valueSchema,
+                            dataType,
+                            schemaDataTypeInference.isValueDependent(valueSchema),
+                            createConverter(dataType));
+            tableRecordConverters.put(tableId, converter);
+        }
+        return (RecordData) converter.converter.convert(value, valueSchema);
     }
 
     // -------------------------------------------------------------------------------------
@@ -211,9 +223,14 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
 
                     private static final long serialVersionUID = 1L;
 
+                    private transient RecordConverter recordConverter;
+
                     @Override
                     public Object convert(Object dbzObj, Schema schema) throws Exception {
-                        return convertToRecord((RowType) type, dbzObj, schema);
+                        if (recordConverter == null || !recordConverter.isApplicable(schema)) {
+                            recordConverter = new RecordConverter((RowType) type, schema);
+                        }
+                        return recordConverter.convert((Struct) dbzObj);
                     }
                 };
             case ARRAY:
@@ -380,34 +397,6 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
         return DecimalData.fromBigDecimal(bigDecimal, precision, scale);
     }
 
-    protected Object convertToRecord(RowType rowType, Object dbzObj, Schema schema)
-            throws Exception {
-        DeserializationRuntimeConverter[] fieldConverters =
-                rowType.getFields().stream()
-                        .map(DataField::getType)
-                        .map(this::createConverter)
-                        .toArray(DeserializationRuntimeConverter[]::new);
-        String[] fieldNames = rowType.getFieldNames().toArray(new String[0]);
-        BinaryRecordDataGenerator generator = new BinaryRecordDataGenerator(rowType);
-
-        Struct struct = (Struct) dbzObj;
-        int arity = fieldNames.length;
-        Object[] fields = new Object[arity];
-        for (int i = 0; i < arity; i++) {
-            String fieldName = fieldNames[i];
-            Field field = schema.field(fieldName);
-            if (field == null) {
-                fields[i] = null;
-            } else {
-                Object fieldValue = struct.getWithoutDefault(fieldName);
-                Schema fieldSchema = schema.field(fieldName).schema();
-                Object convertedField = convertField(fieldConverters[i], fieldValue, fieldSchema);
-                fields[i] = convertedField;
-            }
-        }
-        return generator.generate(fields);
-    }
-
     private static Object convertField(
             DeserializationRuntimeConverter fieldConverter, Object fieldValue, Schema fieldSchema)
             throws Exception {
@@ -433,4 +422,86 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
             }
         };
     }
+
+    /**
+     * Converts {@link Struct}s of a kafka connect schema into {@link RecordData}. The fields are
+     * resolved by index and the field converters and the record generator are created only once for
+     * the schema.
+     */
+    private class RecordConverter {
+
+        private final Schema schema;
+        private final Field[] fields;
+        private final boolean[] withDefaultValues;
+        private final DeserializationRuntimeConverter[] fieldConverters;
+        private final BinaryRecordDataGenerator generator;
+        private final Object[] reusedFieldValues;
+
+        private RecordConverter(RowType rowType, Schema schema) {
+            this.schema = schema;
+            List<DataField> dataFields = rowType.getFields();
+            int arity = dataFields.size();
+            this.fields = new Field[arity];
+            this.withDefaultValues = new boolean[arity];
+            this.fieldConverters = new DeserializationRuntimeConverter[arity];
+            for (int i = 0; i < arity; i++) {
+                DataField dataField = dataFields.get(i);
+                fields[i] = schema.field(dataField.getName());
+                withDefaultValues[i] =
+                        fields[i] != null && fields[i].schema().defaultValue() != null;
+                fieldConverters[i] = createConverter(dataField.getType());
+            }
+            this.generator = new BinaryRecordDataGenerator(rowType);
+            this.reusedFieldValues = new Object[arity];
+        }
+
+        private boolean isApplicable(Schema schema) {
+            return this.schema == schema || this.schema.equals(schema);
+        }
+
+        private RecordData convert(Struct struct) throws Exception {
+            for (int i = 0; i < fields.length; i++) {
+                Field field = fields[i];
+                if (field == null) {
+                    reusedFieldValues[i] = null;
+                } else {
+                    // Struct#get(Field) falls back to the default value of the field
+                    Object fieldValue =
+                            withDefaultValues[i]
+                                    ? struct.getWithoutDefault(field.name())
+                                    : struct.get(field);
+                    reusedFieldValues[i] =
+                            convertField(fieldConverters[i], fieldValue, field.schema());
+                }
+            }
+            return generator.generate(reusedFieldValues);
+        }
+    }
+
+    /** The converter of the data records of a table with its schema and inferred data type. */
+    private class TableRecordConverter {
+
+        private final Schema schema;
+        private final DataType dataType;
+        private final boolean valueDependent;
+        private final DeserializationRuntimeConverter converter;
+
+        private TableRecordConverter(
+                Schema schema,
+                DataType dataType,
+                boolean valueDependent,
+                DeserializationRuntimeConverter converter) {
+            this.schema = schema;
+            this.dataType = dataType;
+            this.valueDependent = valueDependent;
+            this.converter = converter;
+        }
+
+        private boolean isApplicable(Struct value, Schema schema) {
+            if (this.schema != schema && !this.schema.equals(schema)) {
+                return false;
+            }
+            return !valueDependent || dataType.equals(schemaDataTypeInference.infer(value, schema));
+        }
+    }
 }
@@ -34,6 +34,7 @@ import io.debezium.time.Timestamp;
 import io.debezium.time.ZonedTimestamp;
 import org.apache.kafka.connect.data.Date;
 import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
 
@@ -59,6 +60,33 @@ public class DebeziumSchemaDataTypeInference implements SchemaDataTypeInference,
                 : infer(value, schema, schema.type()).notNull();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Only the precision of zoned timestamps and variable scale decimals depends on the value.
+     * Subclasses overriding the inference of other types by values should override this method as
+     * well.
+     */
+    @Override
+    public boolean isValueDependent(Schema schema) {
+        switch (schema.type()) {
+            case STRING:
+                return ZonedTimestamp.SCHEMA_NAME.equals(schema.name());
+            case STRUCT:
+                if (VariableScaleDecimal.LOGICAL_NAME.equals(schema.name())) {
+                    return true;
+                }
+                for (Field field : schema.fields()) {
+                    if (isValueDependent(field.schema())) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
     protected DataType infer(Object value, Schema schema, Schema.Type type) {
         switch (type) {
             case INT8:
@@ -34,4 +34,15 @@ public interface SchemaDataTypeInference {
      * @return the inferred data type
      */
     DataType infer(Object value, Schema schema);
+
+    /**
+     * Whether the {@link DataType} inferred from {@link Schema} depends on the value. If not, the
+     * inferred data type can be reused for all values of the same schema.
+     *
+     * @param schema the kafka connect schema
+     * @return true if the data type has to be inferred for every value
+     */
+    default boolean isValueDependent(Schema schema) {
+        return true;
+    }
 }
@@ -0,0 +1,527 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.internal;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.header.Header;
+import org.apache.kafka.connect.header.Headers;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A compact binary serializer for {@link SourceRecord}s which is used to spill records to local
+ * disk.
+ *
+ * <p>Only the key, the value, the source offset, the timestamp and the headers are written per
+ * record. The topic, the source partition and the key/value schemas are shared by almost all
+ * records of a split, so they are kept in an in-memory dictionary and every record only references
+ * its dictionary entry. The schemas of the record headers are kept in a dictionary as well. A
+ * serializer instance must therefore be used both for writing and for reading the same records.
+ */
+@Internal
+public class SourceRecordSerializer {
+
+    private static final byte NULL = 0;
+    private static final byte NON_NULL = 1;
+
+    private static final byte OFFSET_STRING = 0;
+    private static final byte OFFSET_LONG = 1;
+    private static final byte OFFSET_INT = 2;
+    private static final byte OFFSET_BOOLEAN = 3;
+    private static final byte OFFSET_SHORT = 4;
+    private static final byte OFFSET_BYTE = 5;
+    private static final byte OFFSET_DOUBLE = 6;
+    private static final byte OFFSET_FLOAT = 7;
+    private static final byte OFFSET_BYTES = 8;
+
+    private final List<RecordHeader> headers = new ArrayList<>();
+    private final List<Schema> connectHeaderSchemas = new ArrayList<>();
+    private RecordHeader lastHeader;
+
+    public void serialize(SourceRecord record, DataOutput out) throws IOException {
+        out.writeInt(headerIndex(record));
+        writeOffset(record.sourceOffset(), out);
+        writeTimestamp(record.timestamp(), out);
+        writeConnectHeaders(record.headers(), out);
+        writeValue(record.keySchema(), record.key(), out);
+        writeValue(record.valueSchema(), record.value(), out);
+    }
+
+    public SourceRecord deserialize(DataInput in) throws IOException {
+        RecordHeader header = headers.get(in.readInt());
+        Map<String, ?> sourceOffset = readOffset(in);
+        Long timestamp = readTimestamp(in);
+        Headers connectHeaders = readConnectHeaders(in);
+        Object key = readValue(header.keySchema, in);
+        Object value = readValue(header.valueSchema, in);
+        return new SourceRecord(
+                header.sourcePartition,
+                sourceOffset,
+                header.topic,
+                header.kafkaPartition,
+                header.keySchema,
+                key,
+                header.valueSchema,
+                value,
+                timestamp,
+                connectHeaders);
+    }
+
+    /** Returns a rough estimation of the heap size occupied by the given record. */
+    public static long estimateSize(SourceRecord record) {
+        return 64
+                + estimateSize(record.keySchema(), record.key())
+                + estimateSize(record.valueSchema(), record.value());
+    }
+
+    private int headerIndex(SourceRecord record) {
+        if (lastHeader != null && lastHeader.matches(record)) {
+            return lastHeader.index;
+        }
+        for (RecordHeader header : headers) {
+            if (header.matches(record)) {
+                lastHeader = header;
+                return header.index;
+            }
+        }
+        RecordHeader header = new RecordHeader(headers.size(), record);
+        headers.add(header);
+        lastHeader = header;
+        return header.index;
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Source offset
+    // ------------------------------------------------------------------------------------------
+
+    private static void writeOffset(Map<String, ?> offset, DataOutput out) throws IOException {
+        if (offset == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(offset.size());
+        for (Map.Entry<String, ?> entry : offset.entrySet()) {
+            writeString(entry.getKey(), out);
+            Object value = entry.getValue();
+            if (value == null) {
+                out.writeByte(NULL);
+                continue;
+            }
+            out.writeByte(NON_NULL);
+            if (value instanceof String) {
+                out.writeByte(OFFSET_STRING);
+                writeString((String) value, out);
+            } else if (value instanceof Long) {
+                out.writeByte(OFFSET_LONG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(OFFSET_INT);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte(OFFSET_BOOLEAN);
+                out.writeBoolean((Boolean) value);
+            } else if (value instanceof Short) {
+                out.writeByte(OFFSET_SHORT);
+                out.writeShort((Short) value);
+            } else if (value instanceof Byte) {
+                out.writeByte(OFFSET_BYTE);
+                out.writeByte((Byte) value);
+            } else if (value instanceof Double) {
+                out.writeByte(OFFSET_DOUBLE);
+                out.writeDouble((Double) value);
+            } else if (value instanceof Float) {
+                out.writeByte(OFFSET_FLOAT);
+                out.writeFloat((Float) value);
+            } else if (value instanceof byte[]) {
+                out.writeByte(OFFSET_BYTES);
+                writeBytes((byte[]) value, out);
+            } else {
+                throw new IOException(
+                        String.format(
+                                "Unsupported source offset value type %s for key %s.",
+                                value.getClass().getName(), entry.getKey()));
+            }
+        }
+    }
+
+    private static Map<String, ?> readOffset(DataInput in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Object> offset = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            if (in.readByte() == NULL) {
+                offset.put(key, null);
+                continue;
+            }
+            byte type = in.readByte();
+            switch (type) {
+                case OFFSET_STRING:
+                    offset.put(key, readString(in));
+                    break;
+                case OFFSET_LONG:
+                    offset.put(key, in.readLong());
+                    break;
+                case OFFSET_INT:
+                    offset.put(key, in.readInt());
+                    break;
+                case OFFSET_BOOLEAN:
+                    offset.put(key, in.readBoolean());
+                    break;
+                case OFFSET_SHORT:
+                    offset.put(key, in.readShort());
+                    break;
+                case OFFSET_BYTE:
+                    offset.put(key, in.readByte());
+                    break;
+                case OFFSET_DOUBLE:
+                    offset.put(key, in.readDouble());
+                    break;
+                case OFFSET_FLOAT:
+                    offset.put(key, in.readFloat());
+                    break;
+                case OFFSET_BYTES:
+                    offset.put(key, readBytes(in));
+                    break;
+                default:
+                    throw new IOException("Unknown source offset value type " + type);
+            }
+        }
+        return offset;
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Timestamp and headers
+    // ------------------------------------------------------------------------------------------
+
+    private static void writeTimestamp(Long timestamp, DataOutput out) throws IOException {
+        if (timestamp == null) {
+            out.writeByte(NULL);
+        } else {
+            out.writeByte(NON_NULL);
+            out.writeLong(timestamp);
+        }
+    }
+
+    private static Long readTimestamp(DataInput in) throws IOException {
+        return in.readByte() == NULL ? null : in.readLong();
+    }
+
+    private void writeConnectHeaders(Headers connectHeaders, DataOutput out) throws IOException {
+        out.writeInt(connectHeaders.size());
+        for (Header header : connectHeaders) {
+            writeString(header.key(), out);
+            Schema schema = header.schema();
+            if (schema == null) {
+                if (header.value() != null) {
+                    throw new IOException(
+                            String.format(
+                                    "Unsupported schemaless value of header %s.", header.key()));
+                }
+                out.writeInt(-1);
+                continue;
+            }
+            int schemaIndex = connectHeaderSchemas.indexOf(schema);
+            if (schemaIndex < 0) {
+                schemaIndex = connectHeaderSchemas.size();
+                connectHeaderSchemas.add(schema);
+            }
+            out.writeInt(schemaIndex);
+            writeValue(schema, header.value(), out);
+        }
+    }
+
+    private Headers readConnectHeaders(DataInput in) throws IOException {
+        int size = in.readInt();
+        ConnectHeaders connectHeaders = new ConnectHeaders();
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            int schemaIndex = in.readInt();
+            if (schemaIndex < 0) {
+                connectHeaders.add(key, null, null);
+            } else {
+                Schema schema = connectHeaderSchemas.get(schemaIndex);
+                connectHeaders.add(key, readValue(schema, in), schema);
+            }
+        }
+        return connectHeaders;
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Connect values
+    // ------------------------------------------------------------------------------------------
+
+    private static void writeValue(Schema schema, Object value, DataOutput out) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+            return;
+        }
+        out.writeByte(NON_NULL);
+        switch (schema.type()) {
+            case INT8:
+                out.writeByte((Byte) value);
+                break;
+            case INT16:
+                out.writeShort((Short) value);
+                break;
+            case INT32:
+                if (Date.LOGICAL_NAME.equals(schema.name())
+                        || Time.LOGICAL_NAME.equals(schema.name())) {
+                    out.writeLong(((java.util.Date) value).getTime());
+                } else {
+                    out.writeInt((Integer) value);
+                }
+                break;
+            case INT64:
+                if (Timestamp.LOGICAL_NAME.equals(schema.name())) {
+                    out.writeLong(((java.util.Date) value).getTime());
+                } else {
+                    out.writeLong((Long) value);
+                }
+                break;
+            case FLOAT32:
+                out.writeFloat((Float) value);
+                break;
+            case FLOAT64:
+                out.writeDouble((Double) value);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case STRING:
+                writeString((String) value, out);
+                break;
+            case BYTES:
+                if (Decimal.LOGICAL_NAME.equals(schema.name())) {
+                    BigDecimal decimal = (BigDecimal) value;
+                    out.writeInt(decimal.scale());
+                    writeBytes(decimal.unscaledValue().toByteArray(), out);
+                } else if (value instanceof ByteBuffer) {
+                    out.writeBoolean(true);
+                    ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    writeBytes(bytes, out);
+                } else {
+                    out.writeBoolean(false);
+                    writeBytes((byte[]) value, out);
+                }
+                break;
+            case ARRAY:
+                List<?> list = (List<?>) value;
+                out.writeInt(list.size());
+                for (Object element : list) {
+                    writeValue(schema.valueSchema(), element, out);
+                }
+                break;
+            case MAP:
+                Map<?, ?> map = (Map<?, ?>) value;
+                out.writeInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeValue(schema.keySchema(), entry.getKey(), out);
+                    writeValue(schema.valueSchema(), entry.getValue(), out);
+                }
+                break;
+            case STRUCT:
+                Struct struct = (Struct) value;
+                for (Field field : schema.fields()) {
+                    writeValue(field.schema(), struct.getWithoutDefault(field.name()), out);
+                }
+                break;
+            default:
+                throw new IOException("Unsupported schema type " + schema.type());
+        }
+    }
+
+    private static Object readValue(Schema schema, DataInput in) throws IOException {
+        if (in.readByte() == NULL) {
+            return null;
+        }
+        switch (schema.type()) {
+            case INT8:
+                return in.readByte();
+            case INT16:
+                return in.readShort();
+            case INT32:
+                if (Date.LOGICAL_NAME.equals(schema.name())
+                        || Time.LOGICAL_NAME.equals(schema.name())) {
+                    return new java.util.Date(in.readLong());
+                }
+                return in.readInt();
+            case INT64:
+                if (Timestamp.LOGICAL_NAME.equals(schema.name())) {
+                    return new java.util.Date(in.readLong());
+                }
+                return in.readLong();
+            case FLOAT32:
+                return in.readFloat();
+            case FLOAT64:
+                return in.readDouble();
+            case BOOLEAN:
+                return in.readBoolean();
+            case STRING:
+                return readString(in);
+            case BYTES:
+                if (Decimal.LOGICAL_NAME.equals(schema.name())) {
+                    int scale = in.readInt();
+                    return new BigDecimal(new BigInteger(readBytes(in)), scale);
+                }
+                boolean isByteBuffer = in.readBoolean();
+                byte[] bytes = readBytes(in);
+                return isByteBuffer ? ByteBuffer.wrap(bytes) : bytes;
+            case ARRAY:
+                int length = in.readInt();
+                List<Object> list = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    list.add(readValue(schema.valueSchema(), in));
+                }
+                return list;
+            case MAP:
+                int size = in.readInt();
+                Map<Object, Object> map = new LinkedHashMap<>(size * 2);
+                for (int i = 0; i < size; i++) {
+                    Object key = readValue(schema.keySchema(), in);
+                    map.put(key, readValue(schema.valueSchema(), in));
+                }
+                return map;
+            case STRUCT:
+                Struct struct = new Struct(schema);
+                for (Field field : schema.fields()) {
+                    Object fieldValue = readValue(field.schema(), in);
+                    if (fieldValue != null) {
+                        struct.put(field, fieldValue);
+                    }
+                }
+                return struct;
+            default:
+                throw new IOException("Unsupported schema type " + schema.type());
+        }
+    }
+
+    private static long estimateSize(Schema schema, Object value) {
+        if (value == null || schema == null) {
+            return 8;
+        }
+        switch (schema.type()) {
+            case STRING:
+                return 40 + 2L * ((String) value).length();
+            case BYTES:
+                if (value instanceof byte[]) {
+                    return 16 + ((byte[]) value).length;
+                } else if (value instanceof ByteBuffer) {
+                    return 64 + ((ByteBuffer) value).remaining();
+                }
+                return 64;
+            case ARRAY:
+                long arraySize = 40;
+                for (Object element : (List<?>) value) {
+                    arraySize += estimateSize(schema.valueSchema(), element);
+                }
+                return arraySize;
+            case MAP:
+                long mapSize = 64;
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    mapSize +=
+                            32
+                                    + estimateSize(schema.keySchema(), entry.getKey())
+                                    + estimateSize(schema.valueSchema(), entry.getValue());
+                }
+                return mapSize;
+            case STRUCT:
+                Struct struct = (Struct) value;
+                long structSize = 32;
+                for (Field field : schema.fields()) {
+                    structSize +=
+                            estimateSize(field.schema(), struct.getWithoutDefault(field.name()));
+                }
+                return structSize;
+            default:
+                return 24;
+        }
+    }
+
+    private static void writeString(String value, DataOutput out) throws IOException {
+        writeBytes(value.getBytes(StandardCharsets.UTF_8), out);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutput out) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /** The fields shared by the records of a split. */
+    private static final class RecordHeader {
+        private final int index;
+        private final Map<String, ?> sourcePartition;
+        private final String topic;
+        private final Integer kafkaPartition;
+        private final Schema keySchema;
+        private final Schema valueSchema;
+
+        private RecordHeader(int index, SourceRecord record) {
+            this.index = index;
+            this.sourcePartition = record.sourcePartition();
+            this.topic = record.topic();
+            this.kafkaPartition = record.kafkaPartition();
+            this.keySchema = record.keySchema();
+            this.valueSchema = record.valueSchema();
+        }
+
+        private boolean matches(SourceRecord record) {
+            return keySchema == record.keySchema()
+                    && valueSchema == record.valueSchema()
+                    && Objects.equals(topic, record.topic())
+                    && Objects.equals(kafkaPartition, record.kafkaPartition())
+                    && Objects.equals(sourcePartition, record.sourcePartition());
+        }
+    }
+}
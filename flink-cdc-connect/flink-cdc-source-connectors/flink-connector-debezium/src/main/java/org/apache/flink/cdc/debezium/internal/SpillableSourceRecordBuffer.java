@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.internal;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An append-only buffer of {@link SourceRecord}s with bounded heap usage.
+ *
+ * <p>Records are kept in memory until their estimated size exceeds the memory budget, all following
+ * records are spilled to a local file with {@link SourceRecordSerializer}. Once the buffer is
+ * iterated no more records can be added, it can be iterated any number of times and records are
+ * returned in insertion order. The spill file is deleted when the buffer is closed, iterating a
+ * closed buffer fails instead of silently returning fewer records. The spill file is created in one
+ * of the given spill directories, which should be the temporary directories of the task manager
+ * ({@code io.tmp.dirs}).
+ */
+@Internal
+public class SpillableSourceRecordBuffer implements Iterable<SourceRecord>, Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpillableSourceRecordBuffer.class);
+
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
+
+    private final long memoryBudget;
+    private final String[] spillDirectories;
+    private final SourceRecordSerializer serializer;
+    private final List<SourceRecord> inMemoryRecords;
+
+    private long inMemorySize;
+    private long spilledRecords;
+    private File spillFile;
+    private DataOutputStream spillOutput;
+    private boolean sealed;
+    private final List<BufferIterator> openIterators;
+    private volatile boolean closed;
+
+    public SpillableSourceRecordBuffer(long memoryBudget, String[] spillDirectories) {
+        if (spillDirectories.length == 0) {
+            throw new IllegalArgumentException("At least one spill directory is required.");
+        }
+        this.memoryBudget = memoryBudget;
+        this.spillDirectories = spillDirectories;
+        this.serializer = new SourceRecordSerializer();
+        this.inMemoryRecords = new ArrayList<>();
+        this.openIterators = new ArrayList<>();
+    }
+
+    public void add(SourceRecord record) {
+        if (sealed || closed) {
+            throw new IllegalStateException(
+                    "Records can't be added to a spillable buffer which has been iterated or closed.");
+        }
+        if (spillOutput == null) {
+            inMemorySize += SourceRecordSerializer.estimateSize(record);
+            if (inMemorySize <= memoryBudget) {
+                inMemoryRecords.add(record);
+                return;
+            }
+            openSpillFile();
+        }
+        try {
+            serializer.serialize(record, spillOutput);
+            spilledRecords++;
+        } catch (IOException e) {
+            throw new FlinkRuntimeException("Failed to spill record to " + spillFile, e);
+        }
+    }
+
+    public long size() {
+        return inMemoryRecords.size() + spilledRecords;
+    }
+
+    public boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    @Override
+    public Iterator<SourceRecord> iterator() {
+        checkNotClosed();
+        sealed = true;
+        DataInputStream spillInput = null;
+        if (spillFile != null) {
+            try {
+                if (spillOutput != null) {
+                    spillOutput.close();
+                    spillOutput = null;
+                }
+                spillInput =
+                        new DataInputStream(
+                                new BufferedInputStream(
+                                        Files.newInputStream(spillFile.toPath()),
+                                        FILE_BUFFER_SIZE));
+            } catch (IOException e) {
+                throw new FlinkRuntimeException("Failed to read spilled records", e);
+            }
+        }
+        BufferIterator iterator = new BufferIterator(spillInput);
+        openIterators.add(iterator);
+        return iterator;
+    }
+
+    /** Returns whether the buffer has been closed. */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        inMemoryRecords.clear();
+        for (BufferIterator iterator : openIterators) {
+            iterator.closeSpillInput();
+        }
+        openIterators.clear();
+        try {
+            if (spillOutput != null) {
+                spillOutput.close();
+                spillOutput = null;
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to close spill file {}", spillFile, e);
+        }
+        deleteSpillFile();
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException(
+                    "The spillable buffer has been closed, its records are no longer available.");
+        }
+    }
+
+    private void openSpillFile() {
+        try {
+            File spillDirectory =
+                    new File(
+                            spillDirectories[
+                                    ThreadLocalRandom.current().nextInt(spillDirectories.length)]);
+            spillFile = File.createTempFile("flink-cdc-snapshot-spill-", ".bin", spillDirectory);
+            spillOutput =
+                    new DataOutputStream(
+                            new BufferedOutputStream(
+                                    Files.newOutputStream(spillFile.toPath()), FILE_BUFFER_SIZE));
+            LOG.info(
+                    "Snapshot records exceed the memory budget of {} bytes, spilling to {}.",
+                    memoryBudget,
+                    spillFile);
+        } catch (IOException e) {
+            throw new FlinkRuntimeException("Failed to create spill file", e);
+        }
+    }
+
+    private void deleteSpillFile() {
+        if (spillFile != null) {
+            if (!spillFile.delete() && spillFile.exists()) {
+                LOG.warn("Failed to delete spill file {}", spillFile);
+            }
+            spillFile = null;
+        }
+    }
+
+    private class BufferIterator implements Iterator<SourceRecord> {
+
+        private final Iterator<SourceRecord> inMemoryIterator;
+        private DataInputStream spillInput;
+        private long remainingSpilledRecords;
+        private boolean exhausted;
+
+        private BufferIterator(DataInputStream spillInput) {
+            this.inMemoryIterator = inMemoryRecords.iterator();
+            this.spillInput = spillInput;
+            this.remainingSpilledRecords = spilledRecords;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (exhausted) {
+                return false;
+            }
+            checkNotClosed();
+            if (inMemoryIterator.hasNext()) {
+                return true;
+            }
+            if (remainingSpilledRecords > 0) {
+                return true;
+            }
+            exhausted = true;
+            closeSpillInput();
+            openIterators.remove(this);
+            return false;
+        }
+
+        @Override
+        public SourceRecord next() {
+            checkNotClosed();
+            if (inMemoryIterator.hasNext()) {
+                return inMemoryIterator.next();
+            }
+            if (remainingSpilledRecords <= 0) {
+                throw new NoSuchElementException();
+            }
+            try {
+                remainingSpilledRecords--;
+                return serializer.deserialize(spillInput);
+            } catch (IOException e) {
+                closeSpillInput();
+                throw new FlinkRuntimeException("Failed to read spilled records", e);
+            }
+        }
+
+        private void closeSpillInput() {
+            if (spillInput != null) {
+                try {
+                    spillInput.close();
+                } catch (IOException e) {
+                    LOG.warn("Failed to close spill file {}", spillFile, e);
+                }
+                spillInput = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.internal;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link SourceRecordSerializer}. */
+class SourceRecordSerializerTest {
+
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("db.table.Key").field("id", Schema.INT64_SCHEMA).build();
+
+    private static final Schema ADDRESS_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("db.table.Address")
+                    .field("city", Schema.STRING_SCHEMA)
+                    .field("zip", Schema.OPTIONAL_INT32_SCHEMA)
+                    .optional()
+                    .build();
+
+    private static final Schema VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("db.table.Value")
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("tiny", Schema.INT8_SCHEMA)
+                    .field("small", Schema.INT16_SCHEMA)
+                    .field("real", Schema.FLOAT32_SCHEMA)
+                    .field("double", Schema.FLOAT64_SCHEMA)
+                    .field("flag", Schema.BOOLEAN_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("bytes", Schema.BYTES_SCHEMA)
+                    .field("buffer", Schema.BYTES_SCHEMA)
+                    .field("price", Decimal.builder(3).optional().build())
+                    .field("birthday", Date.SCHEMA)
+                    .field("alarm", Time.SCHEMA)
+                    .field("created", Timestamp.SCHEMA)
+                    .field("address", ADDRESS_SCHEMA)
+                    .field("tags", SchemaBuilder.array(Schema.OPTIONAL_STRING_SCHEMA).build())
+                    .field("history", SchemaBuilder.array(ADDRESS_SCHEMA).optional().build())
+                    .field(
+                            "counters",
+                            SchemaBuilder.map(Schema.STRING_SCHEMA, Schema.OPTIONAL_INT64_SCHEMA)
+                                    .build())
+                    .build();
+
+    @Test
+    void testRoundTrip() throws IOException {
+        SourceRecord record = createRecord(1L, 1000L);
+        record.headers().addString("table", "db.table").addInt("version", 3);
+
+        SourceRecord deserialized = roundTrip(record).get(0);
+
+        assertThat(deserialized.sourcePartition()).isEqualTo(record.sourcePartition());
+        assertThat(deserialized.topic()).isEqualTo(record.topic());
+        assertThat(deserialized.kafkaPartition()).isEqualTo(record.kafkaPartition());
+        assertThat(deserialized.keySchema()).isSameAs(KEY_SCHEMA);
+        assertThat(deserialized.valueSchema()).isSameAs(VALUE_SCHEMA);
+        assertThat(deserialized.key()).isEqualTo(record.key());
+        assertThat(deserialized.value()).isEqualTo(record.value());
+        assertThat(deserialized.timestamp()).isEqualTo(1000L);
+        assertThat(deserialized.headers()).isEqualTo(record.headers());
+        assertOffsetEquals(deserialized.sourceOffset(), record.sourceOffset());
+    }
+
+    @Test
+    void testRoundTripWithNullValues() throws IOException {
+        Struct value =
+                new Struct(VALUE_SCHEMA)
+                        .put("id", 2L)
+                        .put("tiny", (byte) 0)
+                        .put("small", (short) 0)
+                        .put("real", 0f)
+                        .put("double", 0d)
+                        .put("flag", false)
+                        .put("bytes", new byte[0])
+                        .put("buffer", ByteBuffer.wrap(new byte[0]))
+                        .put("birthday", new java.util.Date(0))
+                        .put("alarm", new java.util.Date(0))
+                        .put("created", new java.util.Date(0))
+                        .put("tags", Arrays.asList(null, "b"))
+                        .put("counters", new HashMap<>());
+        SourceRecord record =
+                new SourceRecord(
+                        null,
+                        null,
+                        "topic",
+                        null,
+                        KEY_SCHEMA,
+                        null,
+                        VALUE_SCHEMA,
+                        value,
+                        null,
+                        new ConnectHeaders().add("empty", null, null));
+
+        SourceRecord deserialized = roundTrip(record).get(0);
+
+        assertThat(deserialized).isEqualTo(record);
+        assertThat(deserialized.timestamp()).isNull();
+        assertThat(deserialized.headers()).isEqualTo(record.headers());
+    }
+
+    @Test
+    void testRoundTripSharesRecordHeaders() throws IOException {
+        Schema otherValueSchema =
+                SchemaBuilder.struct()
+                        .name("db.other.Value")
+                        .field("id", Schema.INT64_SCHEMA)
+                        .build();
+        List<SourceRecord> records = new ArrayList<>();
+        for (long id = 0; id < 10; id++) {
+            records.add(createRecord(id, id));
+            records.add(
+                    new SourceRecord(
+                            null,
+                            null,
+                            "other",
+                            0,
+                            KEY_SCHEMA,
+                            new Struct(KEY_SCHEMA).put("id", id),
+                            otherValueSchema,
+                            new Struct(otherValueSchema).put("id", id)));
+        }
+
+        List<SourceRecord> deserialized = roundTrip(records.toArray(new SourceRecord[0]));
+
+        assertThat(deserialized).hasSize(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            SourceRecord expected = records.get(i);
+            SourceRecord actual = deserialized.get(i);
+            assertThat(actual.topic()).isEqualTo(expected.topic());
+            assertThat(actual.valueSchema()).isSameAs(expected.valueSchema());
+            assertThat(actual.key()).isEqualTo(expected.key());
+            assertThat(actual.value()).isEqualTo(expected.value());
+            assertThat(actual.timestamp()).isEqualTo(expected.timestamp());
+        }
+    }
+
+    @Test
+    void testSchemalessHeaderIsRejected() {
+        SourceRecord record = createRecord(1L, 1000L);
+        record.headers().add("schemaless", "value", null);
+
+        assertThatThrownBy(() -> roundTrip(record))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("schemaless");
+    }
+
+    @Test
+    void testUnsupportedOffsetValueIsRejected() {
+        Map<String, Object> offset = new HashMap<>();
+        offset.put("gtids", new ArrayList<>());
+        SourceRecord record =
+                new SourceRecord(
+                        null, offset, "topic", KEY_SCHEMA, new Struct(KEY_SCHEMA).put("id", 1L));
+
+        assertThatThrownBy(() -> roundTrip(record))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("gtids");
+    }
+
+    private static SourceRecord createRecord(long id, long timestamp) {
+        Map<String, Object> partition = new HashMap<>();
+        partition.put("server", "mysql_binlog_source");
+        Map<String, Object> offset = new HashMap<>();
+        offset.put("file", "mysql-bin.000003");
+        offset.put("pos", 4L + id);
+        offset.put("row", 2);
+        offset.put("snapshot", true);
+        offset.put("event", (short) 5);
+        offset.put("kind", (byte) 1);
+        offset.put("lag", 0.5d);
+        offset.put("ratio", 0.25f);
+        offset.put("resume_token", new byte[] {1, 2, 3});
+        offset.put("gtids", null);
+
+        Map<String, Long> counters = new LinkedHashMap<>();
+        counters.put("reads", 10L);
+        counters.put("writes", null);
+        Struct value =
+                new Struct(VALUE_SCHEMA)
+                        .put("id", id)
+                        .put("tiny", (byte) -1)
+                        .put("small", (short) 300)
+                        .put("real", 1.5f)
+                        .put("double", -2.25d)
+                        .put("flag", true)
+                        .put("name", "name-" + id)
+                        .put("bytes", new byte[] {4, 5, 6})
+                        .put("buffer", ByteBuffer.wrap(new byte[] {7, 8}))
+                        .put("price", new BigDecimal("-12345678901234567890.123"))
+                        .put("birthday", new java.util.Date(86_400_000L))
+                        .put("alarm", new java.util.Date(3_600_000L))
+                        .put("created", new java.util.Date(1_700_000_000_123L))
+                        .put("address", new Struct(ADDRESS_SCHEMA).put("city", "Hangzhou"))
+                        .put("tags", Arrays.asList("a", null, "c"))
+                        .put(
+                                "history",
+                                Arrays.asList(
+                                        new Struct(ADDRESS_SCHEMA)
+                                                .put("city", "Beijing")
+                                                .put("zip", 100000),
+                                        null))
+                        .put("counters", counters);
+        return new SourceRecord(
+                partition,
+                offset,
+                "mysql_binlog_source.db.table",
+                0,
+                KEY_SCHEMA,
+                new Struct(KEY_SCHEMA).put("id", id),
+                VALUE_SCHEMA,
+                value,
+                timestamp);
+    }
+
+    private static List<SourceRecord> roundTrip(SourceRecord... records) throws IOException {
+        SourceRecordSerializer serializer = new SourceRecordSerializer();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (SourceRecord record : records) {
+                serializer.serialize(record, out);
+            }
+        }
+        List<SourceRecord> deserialized = new ArrayList<>();
+        try (DataInputStream in =
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            for (int i = 0; i < records.length; i++) {
+                deserialized.add(serializer.deserialize(in));
+            }
+            assertThat(in.available()).isZero();
+        }
+        return deserialized;
+    }
+
+    private static void assertOffsetEquals(Map<String, ?> actual, Map<String, ?> expected) {
+        assertThat(actual).containsOnlyKeys(expected.keySet());
+        for (Map.Entry<String, ?> entry : expected.entrySet()) {
+            Object actualValue = actual.get(entry.getKey());
+            if (entry.getValue() == null) {
+                assertThat(actualValue).as(entry.getKey()).isNull();
+            } else if (entry.getValue() instanceof byte[]) {
+                assertThat((byte[]) actualValue).isEqualTo((byte[]) entry.getValue());
+            } else {
+                assertThat(actualValue)
+                        .as(entry.getKey())
+                        .isEqualTo(entry.getValue())
+                        .isExactlyInstanceOf(entry.getValue().getClass());
+            }
+        }
+    }
+}
@@ -58,6 +58,10 @@ public class MongoDBEnvelope {
 
     public static final String MIN_FIELD = "min";
 
+    public static final String SHARD_FIELD = "shard";
+
+    public static final String HOST_FIELD = "host";
+
     public static final String CLUSTER_TIME_FIELD = "clusterTime";
 
     public static final String FULL_DOCUMENT_FIELD = "fullDocument";
@@ -89,45 +93,10 @@ public class MongoDBEnvelope {
     public static final String WATERMARK_TOPIC_NAME = "__mongodb_watermarks";
 
     // Add "source" and "ts_ms" field to adapt to debezium SourceRecord
-    public static final String OUTPUT_SCHEMA =
-            "{"
-                    + "  \"name\": \"ChangeStream\","
-                    + "  \"type\": \"record\","
-                    + "  \"fields\": ["
-                    + "    { \"name\": \"_id\", \"type\": \"string\" },"
-                    + "    { \"name\": \"operationType\", \"type\": [\"string\", \"null\"] },"
-                    + "    { \"name\": \"fullDocument\", \"type\": [\"string\", \"null\"] },"
-                    + "    { \"name\": \"fullDocumentBeforeChange\", \"type\": [\"string\", \"null\"] },"
-                    + "    { \"name\": \"source\","
-                    + "      \"type\": [{\"name\": \"source\", \"type\": \"record\", \"fields\": ["
-                    + "                {\"name\": \"ts_ms\", \"type\": \"long\"},"
-                    + "                {\"name\": \"snapshot\", \"type\": [\"string\", \"null\"] } ]"
-                    + "               }, \"null\" ] },"
-                    + "    { \"name\": \"ts_ms\", \"type\": [\"long\", \"null\"]},"
-                    + "    { \"name\": \"ns\","
-                    + "      \"type\": [{\"name\": \"ns\", \"type\": \"record\", \"fields\": ["
-                    + "                {\"name\": \"db\", \"type\": \"string\"},"
-                    + "                {\"name\": \"coll\", \"type\": [\"string\", \"null\"] } ]"
-                    + "               }, \"null\" ] },"
-                    + "    { \"name\": \"to\","
-                    + "      \"type\": [{\"name\": \"to\", \"type\": \"record\",  \"fields\": ["
-                    + "                {\"name\": \"db\", \"type\": \"string\"},"
-                    + "                {\"name\": \"coll\", \"type\": [\"string\", \"null\"] } ]"
-                    + "               }, \"null\" ] },"
-                    + "    { \"name\": \"documentKey\", \"type\": [\"string\", \"null\"] },"
-                    + "    { \"name\": \"updateDescription\","
-                    + "      \"type\": [{\"name\": \"updateDescription\",  \"type\": \"record\", \"fields\": ["
-                    + "                 {\"name\": \"updatedFields\", \"type\": [\"string\", \"null\"]},"
-                    + "                 {\"name\": \"removedFields\","
-                    + "                  \"type\": [{\"type\": \"array\", \"items\": \"string\"}, \"null\"]"
-                    + "                  }] }, \"null\"] },"
-                    + "    { \"name\": \"clusterTime\", \"type\": [\"string\", \"null\"] },"
-                    + "    { \"name\": \"txnNumber\", \"type\": [\"long\", \"null\"]},"
-                    + "    { \"name\": \"lsid\", \"type\": [{\"name\": \"lsid\", \"type\": \"record\","
-                    + "               \"fields\": [ {\"name\": \"id\", \"type\": \"string\"},"
-                    + "                             {\"name\": \"uid\", \"type\": \"string\"}] }, \"null\"] }"
-                    + "  ]"
-                    + "}";
+    public static final String OUTPUT_SCHEMA = outputSchema("string");
+
+    // The fullDocument and fullDocumentBeforeChange are carried as raw BSON bytes
+    public static final String RAW_BSON_OUTPUT_SCHEMA = outputSchema("bytes");
 
     public static final Schema HEARTBEAT_VALUE_SCHEMA =
             SchemaBuilder.struct().field(TIMESTAMP_KEY_FIELD, Schema.INT64_SCHEMA).build();
@@ -137,6 +106,9 @@ public class MongoDBEnvelope {
 
     public static final Schema SOURCE_RECORD_VALUE_SCHEMA = AvroSchema.fromJson(OUTPUT_SCHEMA);
 
+    public static final Schema SOURCE_RECORD_RAW_BSON_VALUE_SCHEMA =
+            AvroSchema.fromJson(RAW_BSON_OUTPUT_SCHEMA);
+
     public static final JsonWriterSettings JSON_WRITER_SETTINGS_STRICT =
             new DefaultJson().getJsonWriterSettings();
 
@@ -146,6 +118,51 @@ public class MongoDBEnvelope {
 
     public static final BsonValue BSON_MAX_KEY = new BsonMaxKey();
 
+    private static String outputSchema(String documentType) {
+        return "{"
+                + "  \"name\": \"ChangeStream\","
+                + "  \"type\": \"record\","
+                + "  \"fields\": ["
+                + "    { \"name\": \"_id\", \"type\": \"string\" },"
+                + "    { \"name\": \"operationType\", \"type\": [\"string\", \"null\"] },"
+                + "    { \"name\": \"fullDocument\", \"type\": [\""
+                + documentType
+                + "\", \"null\"] },"
+                + "    { \"name\": \"fullDocumentBeforeChange\", \"type\": [\""
+                + documentType
+                + "\", \"null\"] },"
+                + "    { \"name\": \"source\","
+                + "      \"type\": [{\"name\": \"source\", \"type\": \"record\", \"fields\": ["
+                + "                {\"name\": \"ts_ms\", \"type\": \"long\"},"
+                + "                {\"name\": \"snapshot\", \"type\": [\"string\", \"null\"] } ]"
+                + "               }, \"null\" ] },"
+                + "    { \"name\": \"ts_ms\", \"type\": [\"long\", \"null\"]},"
+                + "    { \"name\": \"ns\","
+                + "      \"type\": [{\"name\": \"ns\", \"type\": \"record\", \"fields\": ["
+                + "                {\"name\": \"db\", \"type\": \"string\"},"
+                + "                {\"name\": \"coll\", \"type\": [\"string\", \"null\"] } ]"
+                + "               }, \"null\" ] },"
+                + "    { \"name\": \"to\","
+                + "      \"type\": [{\"name\": \"to\", \"type\": \"record\",  \"fields\": ["
+                + "                {\"name\": \"db\", \"type\": \"string\"},"
+                + "                {\"name\": \"coll\", \"type\": [\"string\", \"null\"] } ]"
+                + "               }, \"null\" ] },"
+                + "    { \"name\": \"documentKey\", \"type\": [\"string\", \"null\"] },"
+                + "    { \"name\": \"updateDescription\","
+                + "      \"type\": [{\"name\": \"updateDescription\",  \"type\": \"record\", \"fields\": ["
+                + "                 {\"name\": \"updatedFields\", \"type\": [\"string\", \"null\"]},"
+                + "                 {\"name\": \"removedFields\","
+                + "                  \"type\": [{\"type\": \"array\", \"items\": \"string\"}, \"null\"]"
+                + "                  }] }, \"null\"] },"
+                + "    { \"name\": \"clusterTime\", \"type\": [\"string\", \"null\"] },"
+                + "    { \"name\": \"txnNumber\", \"type\": [\"long\", \"null\"]},"
+                + "    { \"name\": \"lsid\", \"type\": [{\"name\": \"lsid\", \"type\": \"record\","
+                + "               \"fields\": [ {\"name\": \"id\", \"type\": \"string\"},"
+                + "                             {\"name\": \"uid\", \"type\": \"string\"}] }, \"null\"] }"
+                + "  ]"
+                + "}";
+    }
+
     public static String encodeValue(String value) {
         try {
             return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
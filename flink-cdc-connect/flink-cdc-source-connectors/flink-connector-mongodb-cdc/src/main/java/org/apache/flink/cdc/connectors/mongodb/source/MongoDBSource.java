@@ -17,12 +17,16 @@
 
 package org.apache.flink.cdc.connectors.mongodb.source;
 
+import org.apache.flink.api.connector.source.SplitEnumerator;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
 import org.apache.flink.cdc.common.annotation.Experimental;
 import org.apache.flink.cdc.common.annotation.Internal;
 import org.apache.flink.cdc.common.annotation.PublicEvolving;
 import org.apache.flink.cdc.connectors.base.config.SourceConfig;
 import org.apache.flink.cdc.connectors.base.source.IncrementalSource;
+import org.apache.flink.cdc.connectors.base.source.assigner.state.PendingSplitsState;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceRecords;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitState;
 import org.apache.flink.cdc.connectors.base.source.metrics.SourceReaderMetrics;
 import org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceConfig;
@@ -33,6 +37,8 @@ import org.apache.flink.cdc.connectors.mongodb.source.reader.MongoDBRecordEmitte
 import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
 import org.apache.flink.connector.base.source.reader.RecordEmitter;
 
+import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoUtils.validateShardConnections;
+
 /**
  * The MongoDB CDC Source based on FLIP-27 which supports parallel reading snapshot of collection
  * and then continue to capture data change from change stream.
@@ -85,6 +91,28 @@ public class MongoDBSource<T> extends IncrementalSource<T, MongoDBSourceConfig>
         return new MongoDBSourceBuilder<>();
     }
 
+    @Override
+    public SplitEnumerator<SourceSplitBase, PendingSplitsState> createEnumerator(
+            SplitEnumeratorContext<SourceSplitBase> enumContext) {
+        validateShards();
+        return super.createEnumerator(enumContext);
+    }
+
+    @Override
+    public SplitEnumerator<SourceSplitBase, PendingSplitsState> restoreEnumerator(
+            SplitEnumeratorContext<SourceSplitBase> enumContext, PendingSplitsState checkpoint) {
+        validateShards();
+        return super.restoreEnumerator(enumContext, checkpoint);
+    }
+
+    private void validateShards() {
+        MongoDBSourceConfig sourceConfig = configFactory.create(0);
+        if (sourceConfig.isPerShardChangeStreamEnabled()
+                && !sourceConfig.getStartupOptions().isSnapshotOnly()) {
+            validateShardConnections(sourceConfig);
+        }
+    }
+
     @Override
     protected RecordEmitter<SourceRecords, T, SourceSplitState> createRecordEmitter(
             SourceConfig sourceConfig, SourceReaderMetrics sourceReaderMetrics) {
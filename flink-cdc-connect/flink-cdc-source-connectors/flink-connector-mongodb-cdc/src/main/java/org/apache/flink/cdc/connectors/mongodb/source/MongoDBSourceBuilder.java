@@ -260,6 +260,77 @@ public class MongoDBSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The memory budget in bytes for normalizing the records of a snapshot split with its backfill
+     * change events. Snapshot records exceeding the budget are spilled to local disk, a
+     * non-positive value keeps the whole split in memory.
+     */
+    public MongoDBSourceBuilder<T> snapshotSpillMemoryBudget(long snapshotSpillMemoryBudget) {
+        this.configFactory.snapshotSpillMemoryBudget(snapshotSpillMemoryBudget);
+        return this;
+    }
+
+    /**
+     * Whether to carry the fullDocument and fullDocumentBeforeChange of the emitted {@link
+     * org.apache.kafka.connect.source.SourceRecord}s as raw BSON bytes instead of JSON strings,
+     * which saves encoding and parsing them as JSON. Only enable this when the deserializer reads
+     * the raw bytes, like {@link
+     * org.apache.flink.cdc.connectors.mongodb.table.MongoDBConnectorDeserializationSchema}.
+     * Defaults to false.
+     */
+    public MongoDBSourceBuilder<T> rawBsonEnabled(boolean rawBsonEnabled) {
+        this.configFactory.rawBsonEnabled(rawBsonEnabled);
+        return this;
+    }
+
+    /**
+     * Whether to read the change stream of a sharded cluster with one change stream per shard
+     * instead of a single change stream through mongos. The per-shard streams are fetched and
+     * decoded in parallel, and merged by cluster time before being emitted. The shards are
+     * discovered from the {@code config.shards} collection, and are connected directly with the
+     * connection options of the source and the credentials of {@link #shardUsername(String)} and
+     * {@link #shardPassword(String)}, which default to the credentials of the source. The users
+     * created through mongos only exist on the config servers, so a shard-local user with the same
+     * credentials, or the shard credentials, must be set up on every shard of a secured cluster.
+     * The source checks that every shard can be connected and authenticated when it starts, and
+     * fails otherwise.
+     *
+     * <p>This doesn't change the parallelism of the stream phase, which stays 1: there is still a
+     * single stream split read by one subtask, only the threads fetching the change streams of the
+     * shards are added to that subtask. The throughput of the stream phase is thus still bounded by
+     * what a single subtask can deserialize and emit.
+     *
+     * <p>If the resume token of a shard is no longer in the oplog of the shard, its change stream
+     * is reopened at the cluster time of the resume token, which may emit the events at that time
+     * again. The source fails if that cluster time is no longer in the oplog either. Defaults to
+     * false.
+     */
+    public MongoDBSourceBuilder<T> perShardChangeStreamEnabled(
+            boolean perShardChangeStreamEnabled) {
+        this.configFactory.perShardChangeStreamEnabled(perShardChangeStreamEnabled);
+        return this;
+    }
+
+    /**
+     * Name of the user to connect to the shards directly with when {@link
+     * #perShardChangeStreamEnabled(boolean)} is set. The user needs the {@code find} and {@code
+     * changeStream} privileges on the captured collections of each shard. Defaults to the user of
+     * the source.
+     */
+    public MongoDBSourceBuilder<T> shardUsername(String shardUsername) {
+        this.configFactory.shardUsername(shardUsername);
+        return this;
+    }
+
+    /**
+     * Password of the user to connect to the shards directly with when {@link
+     * #perShardChangeStreamEnabled(boolean)} is set. Defaults to the password of the source.
+     */
+    public MongoDBSourceBuilder<T> shardPassword(String shardPassword) {
+        this.configFactory.shardPassword(shardPassword);
+        return this;
+    }
+
     /**
      * Whether the {@link IncrementalSourceEnumerator} should scan the newly added tables or not.
      */
@@ -40,6 +40,7 @@ public class MongoDBSourceConfig implements SourceConfig {
     @Nullable private final String password;
     @Nullable private final List<String> databaseList;
     @Nullable private final List<String> collectionList;
+    @Nullable private final String connectionOptions;
     private final String connectionString;
     private final int batchSize;
     private final int pollAwaitTimeMillis;
@@ -56,6 +57,11 @@ public class MongoDBSourceConfig implements SourceConfig {
     private final boolean skipSnapshotBackfill;
 
     private final boolean isScanNewlyAddedTableEnabled;
+    private final long snapshotSpillMemoryBudget;
+    private final boolean rawBsonEnabled;
+    private final boolean perShardChangeStreamEnabled;
+    @Nullable private final String shardUsername;
+    @Nullable private final String shardPassword;
 
     MongoDBSourceConfig(
             String scheme,
@@ -78,13 +84,19 @@ public class MongoDBSourceConfig implements SourceConfig {
             boolean enableFullDocPrePostImage,
             boolean disableCursorTimeout,
             boolean skipSnapshotBackfill,
-            boolean isScanNewlyAddedTableEnabled) {
+            boolean isScanNewlyAddedTableEnabled,
+            long snapshotSpillMemoryBudget,
+            boolean rawBsonEnabled,
+            boolean perShardChangeStreamEnabled,
+            @Nullable String shardUsername,
+            @Nullable String shardPassword) {
         this.scheme = checkNotNull(scheme);
         this.hosts = checkNotNull(hosts);
         this.username = username;
         this.password = password;
         this.databaseList = databaseList;
         this.collectionList = collectionList;
+        this.connectionOptions = connectionOptions;
         this.connectionString =
                 buildConnectionString(username, password, scheme, hosts, connectionOptions);
         this.batchSize = batchSize;
@@ -101,6 +113,11 @@ public class MongoDBSourceConfig implements SourceConfig {
         this.disableCursorTimeout = disableCursorTimeout;
         this.skipSnapshotBackfill = skipSnapshotBackfill;
         this.isScanNewlyAddedTableEnabled = isScanNewlyAddedTableEnabled;
+        this.snapshotSpillMemoryBudget = snapshotSpillMemoryBudget;
+        this.rawBsonEnabled = rawBsonEnabled;
+        this.perShardChangeStreamEnabled = perShardChangeStreamEnabled;
+        this.shardUsername = shardUsername;
+        this.shardPassword = shardPassword;
     }
 
     public String getScheme() {
@@ -111,6 +128,11 @@ public class MongoDBSourceConfig implements SourceConfig {
         return hosts;
     }
 
+    @Nullable
+    public String getConnectionOptions() {
+        return connectionOptions;
+    }
+
     public String getConnectionString() {
         return connectionString;
     }
@@ -201,6 +223,29 @@ public class MongoDBSourceConfig implements SourceConfig {
         return isScanNewlyAddedTableEnabled;
     }
 
+    @Override
+    public long getSnapshotSpillMemoryBudget() {
+        return snapshotSpillMemoryBudget;
+    }
+
+    public boolean isRawBsonEnabled() {
+        return rawBsonEnabled;
+    }
+
+    public boolean isPerShardChangeStreamEnabled() {
+        return perShardChangeStreamEnabled;
+    }
+
+    @Nullable
+    public String getShardUsername() {
+        return shardUsername;
+    }
+
+    @Nullable
+    public String getShardPassword() {
+        return shardPassword;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -220,10 +265,15 @@ public class MongoDBSourceConfig implements SourceConfig {
                 && splitSizeMB == that.splitSizeMB
                 && samplesPerChunk == that.samplesPerChunk
                 && closeIdleReaders == that.closeIdleReaders
+                && snapshotSpillMemoryBudget == that.snapshotSpillMemoryBudget
+                && rawBsonEnabled == that.rawBsonEnabled
+                && perShardChangeStreamEnabled == that.perShardChangeStreamEnabled
                 && Objects.equals(scheme, that.scheme)
                 && Objects.equals(hosts, that.hosts)
                 && Objects.equals(username, that.username)
                 && Objects.equals(password, that.password)
+                && Objects.equals(shardUsername, that.shardUsername)
+                && Objects.equals(shardPassword, that.shardPassword)
                 && Objects.equals(databaseList, that.databaseList)
                 && Objects.equals(collectionList, that.collectionList)
                 && Objects.equals(connectionString, that.connectionString)
@@ -252,6 +302,11 @@ public class MongoDBSourceConfig implements SourceConfig {
                 samplesPerChunk,
                 closeIdleReaders,
                 skipSnapshotBackfill,
-                isScanNewlyAddedTableEnabled);
+                isScanNewlyAddedTableEnabled,
+                snapshotSpillMemoryBudget,
+                rawBsonEnabled,
+                perShardChangeStreamEnabled,
+                shardUsername,
+                shardPassword);
     }
 }
@@ -63,6 +63,11 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
     protected boolean skipSnapshotBackfill = false;
 
     protected boolean scanNewlyAddedTableEnabled = false;
+    private long snapshotSpillMemoryBudget = -1L;
+    private boolean rawBsonEnabled = false;
+    private boolean perShardChangeStreamEnabled = false;
+    private String shardUsername;
+    private String shardPassword;
 
     /** The protocol connected to MongoDB. For example mongodb or mongodb+srv. */
     public MongoDBSourceConfigFactory scheme(String scheme) {
@@ -265,6 +270,54 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
         return this;
     }
 
+    /**
+     * The memory budget in bytes for normalizing the records of a snapshot split with its backfill
+     * change events. Snapshot records exceeding the budget are spilled to local disk, a
+     * non-positive value keeps the whole split in memory.
+     */
+    public MongoDBSourceConfigFactory snapshotSpillMemoryBudget(long snapshotSpillMemoryBudget) {
+        this.snapshotSpillMemoryBudget = snapshotSpillMemoryBudget;
+        return this;
+    }
+
+    /**
+     * Whether to carry the fullDocument and fullDocumentBeforeChange of the emitted records as raw
+     * BSON bytes instead of JSON strings. Defaults to false.
+     */
+    public MongoDBSourceConfigFactory rawBsonEnabled(boolean rawBsonEnabled) {
+        this.rawBsonEnabled = rawBsonEnabled;
+        return this;
+    }
+
+    /**
+     * Whether to read the change stream of a sharded cluster with one change stream per shard,
+     * which are merged by cluster time. The parallelism stays 1: the single stream split is read by
+     * one subtask with one fetch thread per shard. Defaults to false.
+     */
+    public MongoDBSourceConfigFactory perShardChangeStreamEnabled(
+            boolean perShardChangeStreamEnabled) {
+        this.perShardChangeStreamEnabled = perShardChangeStreamEnabled;
+        return this;
+    }
+
+    /**
+     * Name of the user to connect to the shards directly with when {@link
+     * #perShardChangeStreamEnabled(boolean)} is set. Defaults to the user of the source.
+     */
+    public MongoDBSourceConfigFactory shardUsername(String shardUsername) {
+        this.shardUsername = shardUsername;
+        return this;
+    }
+
+    /**
+     * Password of the user to connect to the shards directly with when {@link
+     * #perShardChangeStreamEnabled(boolean)} is set. Defaults to the password of the source.
+     */
+    public MongoDBSourceConfigFactory shardPassword(String shardPassword) {
+        this.shardPassword = shardPassword;
+        return this;
+    }
+
     public MongoDBSourceConfigFactory scanNewlyAddedTableEnabled(
             boolean scanNewlyAddedTableEnabled) {
         this.scanNewlyAddedTableEnabled = scanNewlyAddedTableEnabled;
@@ -296,6 +349,11 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
                 enableFullDocPrePostImage,
                 disableCursorTimeout,
                 skipSnapshotBackfill,
-                scanNewlyAddedTableEnabled);
+                scanNewlyAddedTableEnabled,
+                snapshotSpillMemoryBudget,
+                rawBsonEnabled,
+                perShardChangeStreamEnabled,
+                shardUsername,
+                shardPassword);
     }
 }
@@ -43,8 +43,12 @@ public class MongoClientPool {
     }
 
     public MongoClient getOrCreateMongoClient(MongoDBSourceConfig sourceConfig) {
+        return getOrCreateMongoClient(sourceConfig.getConnectionString());
+    }
+
+    public MongoClient getOrCreateMongoClient(String connectionUri) {
         return pools.computeIfAbsent(
-                sourceConfig.getConnectionString(),
+                connectionUri,
                 rawConnectionString -> {
                     ConnectionString connectionString = new ConnectionString(rawConnectionString);
                     LOG.info(
@@ -35,6 +35,10 @@ import static org.apache.flink.cdc.connectors.mongodb.source.utils.ResumeTokenUt
 /**
  * A structure describes a fine grained offset in a change log event including resumeToken and
  * clusterTime.
+ *
+ * <p>When the change streams of a sharded cluster are read per shard, the offset is composite: it
+ * holds the resumeToken of the last emitted event of each shard, and the clusterTime of the last
+ * emitted event, which is where the shards without a resumeToken start.
  */
 public class ChangeStreamOffset extends Offset {
 
@@ -44,6 +48,8 @@ public class ChangeStreamOffset extends Offset {
 
     public static final String RESUME_TOKEN_FIELD = "resumeToken";
 
+    public static final String SHARD_RESUME_TOKEN_PREFIX = "resumeToken.";
+
     public static final ChangeStreamOffset NO_STOPPING_OFFSET =
             new ChangeStreamOffset(maximumBsonTimestamp());
 
@@ -71,6 +77,27 @@ public class ChangeStreamOffset extends Offset {
         Objects.requireNonNull(resumeToken);
         offset.put(TIMESTAMP_FIELD, String.valueOf(decodeTimestamp(resumeToken).getValue()));
         offset.put(RESUME_TOKEN_FIELD, resumeToken.toJson());
+        offset.keySet().removeIf(key -> key.startsWith(SHARD_RESUME_TOKEN_PREFIX));
+    }
+
+    /**
+     * Updates the position of a shard read by its own change stream. The single resumeToken is
+     * cleared, since the resumeToken of a shard can't resume the change stream of the cluster.
+     *
+     * @param isEvent whether the resumeToken is of an emitted event rather than a heartbeat. Only
+     *     events move the clusterTime: as the shards are merged by clusterTime, the events of all
+     *     shards before an emitted event have been emitted as well.
+     */
+    public void updateShardPosition(String shardId, BsonDocument resumeToken, boolean isEvent) {
+        Objects.requireNonNull(resumeToken);
+        if (isEvent) {
+            BsonTimestamp timestamp = decodeTimestamp(resumeToken);
+            if (timestamp.compareTo(getTimestamp()) > 0) {
+                offset.put(TIMESTAMP_FIELD, String.valueOf(timestamp.getValue()));
+            }
+        }
+        offset.put(RESUME_TOKEN_FIELD, null);
+        offset.put(SHARD_RESUME_TOKEN_PREFIX + shardId, resumeToken.toJson());
     }
 
     @Nullable
@@ -79,6 +106,19 @@ public class ChangeStreamOffset extends Offset {
         return Optional.ofNullable(resumeTokenJson).map(BsonDocument::parse).orElse(null);
     }
 
+    /** Returns the resumeTokens of the shards read by their own change streams. */
+    public Map<String, BsonDocument> getShardResumeTokens() {
+        Map<String, BsonDocument> shardResumeTokens = new HashMap<>();
+        for (Map.Entry<String, String> entry : offset.entrySet()) {
+            if (entry.getKey().startsWith(SHARD_RESUME_TOKEN_PREFIX)) {
+                shardResumeTokens.put(
+                        entry.getKey().substring(SHARD_RESUME_TOKEN_PREFIX.length()),
+                        BsonDocument.parse(entry.getValue()));
+            }
+        }
+        return shardResumeTokens;
+    }
+
     public BsonTimestamp getTimestamp() {
         long timestamp = Long.parseLong(offset.get(TIMESTAMP_FIELD));
         return new BsonTimestamp(timestamp);
@@ -36,8 +36,10 @@ import org.slf4j.LoggerFactory;
 
 import static org.apache.flink.cdc.connectors.base.source.meta.wartermark.WatermarkEvent.isHighWatermarkEvent;
 import static org.apache.flink.cdc.connectors.base.source.meta.wartermark.WatermarkEvent.isWatermarkEvent;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SHARD_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoRecordUtils.getFetchTimestamp;
 import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoRecordUtils.getMessageTimestamp;
+import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoRecordUtils.getOffsetValue;
 import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoRecordUtils.getResumeToken;
 import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoRecordUtils.isDataChangeRecord;
 import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoRecordUtils.isHeartbeatEvent;
@@ -86,10 +88,15 @@ public final class MongoDBRecordEmitter<T> extends IncrementalSourceRecordEmitte
 
     private void updatePositionForStreamSplit(SourceRecord element, SourceSplitState splitState) {
         BsonDocument resumeToken = getResumeToken(element);
+        String shardId = getOffsetValue(element, SHARD_FIELD);
         StreamSplitState streamSplitState = splitState.asStreamSplitState();
         ChangeStreamOffset offset = (ChangeStreamOffset) streamSplitState.getStartingOffset();
         if (offset != null) {
-            offset.updatePosition(resumeToken);
+            if (shardId != null) {
+                offset.updateShardPosition(shardId, resumeToken, !isHeartbeatEvent(element));
+            } else {
+                offset.updatePosition(resumeToken);
+            }
         }
         splitState.asStreamSplitState().setStartingOffset(offset);
     }
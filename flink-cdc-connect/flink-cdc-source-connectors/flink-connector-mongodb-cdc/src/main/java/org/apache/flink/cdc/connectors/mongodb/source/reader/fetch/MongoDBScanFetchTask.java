@@ -112,7 +112,8 @@ public class MongoDBScanFetchTask extends AbstractScanFetchTask {
                                         keyDocument.getDocument(ID_FIELD), true),
                                 collectionId.identifier(),
                                 keyDocument,
-                                valueDocument);
+                                valueDocument,
+                                sourceConfig.isRawBsonEnabled());
 
                 changeEventQueue.enqueue(new DataChangeEvent(snapshotRecord));
             }
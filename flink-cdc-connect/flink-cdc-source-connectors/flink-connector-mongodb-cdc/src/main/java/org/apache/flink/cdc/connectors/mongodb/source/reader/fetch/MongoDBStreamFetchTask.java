@@ -17,12 +17,14 @@
 
 package org.apache.flink.cdc.connectors.mongodb.source.reader.fetch;
 
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
 import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
 import org.apache.flink.cdc.connectors.base.source.meta.wartermark.WatermarkEvent;
 import org.apache.flink.cdc.connectors.base.source.meta.wartermark.WatermarkKind;
 import org.apache.flink.cdc.connectors.base.source.reader.external.FetchTask;
 import org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceConfig;
+import org.apache.flink.cdc.connectors.mongodb.source.connection.MongoClientPool;
 import org.apache.flink.cdc.connectors.mongodb.source.offset.ChangeStreamDescriptor;
 import org.apache.flink.cdc.connectors.mongodb.source.offset.ChangeStreamOffset;
 import org.apache.flink.cdc.connectors.mongodb.source.utils.MongoRecordUtils;
@@ -31,6 +33,7 @@ import org.apache.flink.util.FlinkRuntimeException;
 
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoNamespace;
+import com.mongodb.MongoQueryException;
 import com.mongodb.client.ChangeStreamIterable;
 import com.mongodb.client.MongoChangeStreamCursor;
 import com.mongodb.client.MongoClient;
@@ -40,39 +43,58 @@ import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.pipeline.DataChangeEvent;
 import org.apache.kafka.common.utils.SystemTime;
 import org.apache.kafka.common.utils.Time;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.bson.BsonDocument;
 import org.bson.BsonInt64;
 import org.bson.BsonString;
 import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.CLUSTER_TIME_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.DOCUMENT_KEY_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.HEARTBEAT_KEY_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.HEARTBEAT_TOPIC_NAME;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.HEARTBEAT_VALUE_SCHEMA;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.HOST_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.ID_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.NAMESPACE_COLLECTION_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.NAMESPACE_DATABASE_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.NAMESPACE_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.OPERATION_TYPE_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SHARD_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SNAPSHOT_KEY_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SOURCE_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SOURCE_RECORD_RAW_BSON_VALUE_SCHEMA;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.TIMESTAMP_KEY_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.WATERMARK_TOPIC_NAME;
 import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoUtils.FAILED_TO_PARSE_ERROR;
 import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoUtils.ILLEGAL_OPERATION_ERROR;
 import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoUtils.UNAUTHORIZED_ERROR;
 import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoUtils.UNKNOWN_FIELD_ERROR;
+import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoUtils.buildShardConnectionString;
 import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoUtils.clientFor;
 import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoUtils.getChangeStreamIterable;
 import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoUtils.getCurrentClusterTime;
+import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoUtils.readShards;
 
 /** The task to work for fetching data of MongoDB stream split . */
 public class MongoDBStreamFetchTask implements FetchTask<SourceSplitBase> {
@@ -100,6 +122,14 @@ public class MongoDBStreamFetchTask implements FetchTask<SourceSplitBase> {
         ChangeEventQueue<DataChangeEvent> queue = taskContext.getQueue();
 
         MongoClient mongoClient = clientFor(sourceConfig);
+        if (sourceConfig.isPerShardChangeStreamEnabled() && !isBoundedRead()) {
+            List<BsonDocument> shards = discoverShards(mongoClient);
+            if (!shards.isEmpty()) {
+                executePerShard(descriptor, queue, shards);
+                return;
+            }
+        }
+
         MongoChangeStreamCursor<BsonDocument> changeStreamCursor =
                 openChangeStreamCursor(descriptor);
         HeartbeatManager heartbeatManager = openHeartbeatManagerIfNeeded(changeStreamCursor);
@@ -145,40 +175,7 @@ public class MongoDBStreamFetchTask implements FetchTask<SourceSplitBase> {
                     // update nextUpdateTime
                     nextUpdate = time.milliseconds() + sourceConfig.getPollAwaitTimeMillis();
                 } else {
-                    BsonDocument changeStreamDocument = next.get();
-                    OperationType operationType = getOperationType(changeStreamDocument);
-
-                    switch (operationType) {
-                        case INSERT:
-                        case UPDATE:
-                        case REPLACE:
-                        case DELETE:
-                            MongoNamespace namespace = getMongoNamespace(changeStreamDocument);
-
-                            BsonDocument resumeToken = changeStreamDocument.getDocument(ID_FIELD);
-                            BsonDocument valueDocument =
-                                    normalizeChangeStreamDocument(changeStreamDocument);
-
-                            LOG.trace("Adding {} to {}", valueDocument, namespace.getFullName());
-
-                            changeRecord =
-                                    MongoRecordUtils.createSourceRecord(
-                                            MongoRecordUtils.createPartitionMap(
-                                                    sourceConfig.getScheme(),
-                                                    sourceConfig.getHosts(),
-                                                    namespace.getDatabaseName(),
-                                                    namespace.getCollectionName()),
-                                            MongoRecordUtils.createSourceOffsetMap(
-                                                    resumeToken, false),
-                                            namespace.getFullName(),
-                                            changeStreamDocument.getDocument(ID_FIELD),
-                                            valueDocument);
-                            break;
-                        default:
-                            // Ignore drop、drop_database、rename and other record to prevent
-                            // documentKey from being empty.
-                            LOG.info("Ignored {} record: {}", operationType, changeStreamDocument);
-                    }
+                    changeRecord = createChangeRecord(next.get(), null);
                 }
                 if (changeRecord != null && !isBoundedRead()) {
                     queue.enqueue(new DataChangeEvent(changeRecord));
@@ -228,6 +225,236 @@ public class MongoDBStreamFetchTask implements FetchTask<SourceSplitBase> {
         }
     }
 
+    /**
+     * Reads one change stream per shard of a sharded cluster, and merges them by cluster time. An
+     * event is emitted once all the other shards are known to have no earlier events, either from
+     * their buffered events or from the post batch resume tokens of their idle change streams.
+     */
+    private void executePerShard(
+            ChangeStreamDescriptor descriptor,
+            ChangeEventQueue<DataChangeEvent> queue,
+            List<BsonDocument> shards)
+            throws Exception {
+        ChangeStreamOffset offset =
+                new ChangeStreamOffset(streamSplit.getStartingOffset().getOffset());
+
+        Semaphore signal = new Semaphore(0);
+        List<ShardChangeStream> shardChangeStreams = new ArrayList<>(shards.size());
+        for (BsonDocument shard : shards) {
+            String shardId = shard.getString(ID_FIELD).getValue();
+            MongoClient shardClient =
+                    MongoClientPool.getInstance()
+                            .getOrCreateMongoClient(
+                                    buildShardConnectionString(
+                                            sourceConfig, shard.getString(HOST_FIELD).getValue()));
+            shardChangeStreams.add(
+                    new ShardChangeStream(
+                            shardId,
+                            (resumeToken, timestamp) ->
+                                    openShardChangeStreamCursor(
+                                            shardClient,
+                                            descriptor,
+                                            shardId,
+                                            resumeToken,
+                                            timestamp),
+                            getShardStartResumeToken(offset, shardId),
+                            offset.getTimestamp(),
+                            sourceConfig.getBatchSize(),
+                            signal));
+        }
+
+        long nextHeartbeat = time.milliseconds() + sourceConfig.getHeartbeatIntervalMillis();
+        this.taskRunning = true;
+        try {
+            shardChangeStreams.forEach(ShardChangeStream::start);
+            while (taskRunning) {
+                ShardChangeStream nextShard = nextShardToEmit(shardChangeStreams);
+                if (nextShard != null) {
+                    ShardChangeStream.ShardChangeEvent event = nextShard.poll();
+                    SourceRecord changeRecord =
+                            createChangeRecord(
+                                    event.getChangeStreamDocument(), nextShard.getShardId());
+                    if (changeRecord != null) {
+                        queue.enqueue(new DataChangeEvent(changeRecord));
+                    }
+                    continue;
+                }
+
+                // checked only when no event can be emitted, which happens at least when the
+                // buffered events of a shard are all emitted
+                if (sourceConfig.getHeartbeatIntervalMillis() > 0
+                        && time.milliseconds() >= nextHeartbeat) {
+                    for (SourceRecord heartbeatRecord :
+                            createShardHeartbeatRecords(
+                                    shardChangeStreams,
+                                    MongoRecordUtils.createHeartbeatPartitionMap(
+                                            sourceConfig.getScheme(), sourceConfig.getHosts()))) {
+                        queue.enqueue(new DataChangeEvent(heartbeatRecord));
+                    }
+                    nextHeartbeat = time.milliseconds() + sourceConfig.getHeartbeatIntervalMillis();
+                }
+                // wait for the shards to fetch more events or to make progress
+                signal.tryAcquire(sourceConfig.getPollAwaitTimeMillis(), TimeUnit.MILLISECONDS);
+                signal.drainPermits();
+            }
+        } catch (Exception e) {
+            LOG.error("Poll change stream records of shards failed ", e);
+            throw e;
+        } finally {
+            taskRunning = false;
+            shardChangeStreams.forEach(ShardChangeStream::close);
+        }
+    }
+
+    private List<BsonDocument> discoverShards(MongoClient mongoClient) {
+        try {
+            List<BsonDocument> shards = readShards(mongoClient);
+            if (shards.isEmpty()) {
+                LOG.warn("No shards are found, fallback to a single change stream.");
+            } else {
+                LOG.info("Open a change stream for each of the shards: {}", shards);
+            }
+            return shards;
+        } catch (MongoQueryException e) {
+            if (e.getErrorCode() == UNAUTHORIZED_ERROR) {
+                LOG.warn(
+                        "Unauthorized to read config.shards: {}, fallback to a single change stream.",
+                        e.getErrorMessage());
+            } else {
+                LOG.warn(
+                        "Read config.shards collection failed: {}, fallback to a single change stream.",
+                        e.getErrorMessage());
+            }
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Returns the shard whose buffered event has the minimal cluster time, if no other shard may
+     * still have an earlier event.
+     */
+    @VisibleForTesting
+    @Nullable
+    static ShardChangeStream nextShardToEmit(List<ShardChangeStream> shardChangeStreams) {
+        BsonTimestamp[] lowWatermarks = new BsonTimestamp[shardChangeStreams.size()];
+        ShardChangeStream nextShard = null;
+        BsonTimestamp nextClusterTime = null;
+        for (int i = 0; i < shardChangeStreams.size(); i++) {
+            ShardChangeStream shardChangeStream = shardChangeStreams.get(i);
+            lowWatermarks[i] = shardChangeStream.getLowWatermark();
+            ShardChangeStream.ShardChangeEvent event = shardChangeStream.peek();
+            if (event != null) {
+                lowWatermarks[i] = event.getClusterTime();
+                if (nextClusterTime == null
+                        || event.getClusterTime().compareTo(nextClusterTime) < 0) {
+                    nextShard = shardChangeStream;
+                    nextClusterTime = event.getClusterTime();
+                }
+            }
+        }
+        if (nextShard == null) {
+            return null;
+        }
+        for (BsonTimestamp lowWatermark : lowWatermarks) {
+            if (lowWatermark == null || lowWatermark.compareTo(nextClusterTime) < 0) {
+                return null;
+            }
+        }
+        return nextShard;
+    }
+
+    /**
+     * Creates the heartbeats of the idle shards whose events are all emitted, which move the
+     * offsets of the shards to their post batch resume tokens. Busy shards don't need them, so they
+     * are created regardless of the events of the other shards.
+     */
+    @VisibleForTesting
+    static List<SourceRecord> createShardHeartbeatRecords(
+            List<ShardChangeStream> shardChangeStreams, Map<String, ?> heartbeatPartition) {
+        List<SourceRecord> heartbeatRecords = new ArrayList<>(shardChangeStreams.size());
+        for (ShardChangeStream shardChangeStream : shardChangeStreams) {
+            BsonDocument resumeToken = shardChangeStream.nextHeartbeatResumeToken();
+            if (resumeToken == null) {
+                continue;
+            }
+            Map<String, String> sourceOffset = new HashMap<>();
+            sourceOffset.put(ID_FIELD, resumeToken.toJson());
+            sourceOffset.put(HEARTBEAT_KEY_FIELD, "true");
+            sourceOffset.put(SHARD_FIELD, shardChangeStream.getShardId());
+            Struct heartbeatValue = new Struct(HEARTBEAT_VALUE_SCHEMA);
+            heartbeatValue.put(TIMESTAMP_KEY_FIELD, Instant.now().toEpochMilli());
+            heartbeatRecords.add(
+                    new SourceRecord(
+                            heartbeatPartition,
+                            sourceOffset,
+                            HEARTBEAT_TOPIC_NAME,
+                            Schema.STRING_SCHEMA,
+                            resumeToken.toJson(),
+                            HEARTBEAT_VALUE_SCHEMA,
+                            heartbeatValue));
+        }
+        return heartbeatRecords;
+    }
+
+    /**
+     * Returns the resume token of the shard to open its change stream after, or null if the offset
+     * has no resume token of the shard. This is the case for a shard added since the offset was
+     * taken, and for an offset of a single change stream, whose resume token can't resume the
+     * change stream of a shard. The change stream of the shard is then opened at the cluster time
+     * of the offset.
+     */
+    @VisibleForTesting
+    @Nullable
+    static BsonDocument getShardStartResumeToken(ChangeStreamOffset offset, String shardId) {
+        return offset.getShardResumeTokens().get(shardId);
+    }
+
+    /**
+     * Creates the change record of a change stream document, or returns null if the operation is
+     * ignored. The shard is recorded in the offset of the records read from a shard.
+     */
+    @Nullable
+    private SourceRecord createChangeRecord(
+            BsonDocument rawChangeStreamDocument, @Nullable String shardId) {
+        BsonDocument changeStreamDocument = toMutableDocument(rawChangeStreamDocument);
+        OperationType operationType = getOperationType(changeStreamDocument);
+
+        switch (operationType) {
+            case INSERT:
+            case UPDATE:
+            case REPLACE:
+            case DELETE:
+                MongoNamespace namespace = getMongoNamespace(changeStreamDocument);
+
+                BsonDocument resumeToken = changeStreamDocument.getDocument(ID_FIELD);
+                BsonDocument valueDocument = normalizeChangeStreamDocument(changeStreamDocument);
+
+                LOG.trace("Adding {} to {}", valueDocument, namespace.getFullName());
+
+                Map<String, String> sourceOffset =
+                        MongoRecordUtils.createSourceOffsetMap(resumeToken, false);
+                if (shardId != null) {
+                    sourceOffset.put(SHARD_FIELD, shardId);
+                }
+                return MongoRecordUtils.createSourceRecord(
+                        MongoRecordUtils.createPartitionMap(
+                                sourceConfig.getScheme(),
+                                sourceConfig.getHosts(),
+                                namespace.getDatabaseName(),
+                                namespace.getCollectionName()),
+                        sourceOffset,
+                        namespace.getFullName(),
+                        changeStreamDocument.getDocument(ID_FIELD),
+                        valueDocument,
+                        sourceConfig.isRawBsonEnabled());
+            default:
+                // Ignore drop、drop_database、rename and other record to prevent
+                // documentKey from being empty.
+                LOG.info("Ignored {} record: {}", operationType, changeStreamDocument);
+                return null;
+        }
+    }
+
     @Override
     public boolean isRunning() {
         return taskRunning;
@@ -281,9 +508,12 @@ public class MongoDBStreamFetchTask implements FetchTask<SourceSplitBase> {
             }
         }
 
+        // The raw documents keep the fullDocument and fullDocumentBeforeChange as undecoded bytes
+        Class<? extends BsonDocument> documentClass =
+                sourceConfig.isRawBsonEnabled() ? RawBsonDocument.class : BsonDocument.class;
         try {
             return (MongoChangeStreamCursor<BsonDocument>)
-                    changeStreamIterable.withDocumentClass(BsonDocument.class).cursor();
+                    changeStreamIterable.withDocumentClass(documentClass).cursor();
         } catch (MongoCommandException e) {
             if (e.getErrorCode() == FAILED_TO_PARSE_ERROR
                     || e.getErrorCode() == UNKNOWN_FIELD_ERROR) {
@@ -319,6 +549,39 @@ public class MongoDBStreamFetchTask implements FetchTask<SourceSplitBase> {
         }
     }
 
+    private MongoChangeStreamCursor<BsonDocument> openShardChangeStreamCursor(
+            MongoClient shardClient,
+            ChangeStreamDescriptor changeStreamDescriptor,
+            String shardId,
+            @Nullable BsonDocument resumeToken,
+            BsonTimestamp timestamp) {
+        ChangeStreamIterable<Document> changeStreamIterable =
+                getChangeStreamIterable(
+                        shardClient,
+                        changeStreamDescriptor,
+                        sourceConfig.getBatchSize(),
+                        sourceConfig.isUpdateLookup(),
+                        sourceConfig.isFullDocPrePostImageEnabled());
+        // An idle shard reports its progress once the await time elapses
+        changeStreamIterable.maxAwaitTime(
+                sourceConfig.getPollAwaitTimeMillis(), TimeUnit.MILLISECONDS);
+        if (resumeToken != null) {
+            LOG.info(
+                    "Open the change stream of shard {} after the previous offset: {}",
+                    shardId,
+                    resumeToken);
+            changeStreamIterable.startAfter(resumeToken);
+        } else {
+            LOG.info("Open the change stream of shard {} at the timestamp: {}", shardId, timestamp);
+            changeStreamIterable.startAtOperationTime(timestamp);
+        }
+
+        Class<? extends BsonDocument> documentClass =
+                sourceConfig.isRawBsonEnabled() ? RawBsonDocument.class : BsonDocument.class;
+        return (MongoChangeStreamCursor<BsonDocument>)
+                changeStreamIterable.withDocumentClass(documentClass).cursor();
+    }
+
     private HeartbeatManager openHeartbeatManagerIfNeeded(
             MongoChangeStreamCursor<BsonDocument> changeStreamCursor) {
         if (sourceConfig.getHeartbeatIntervalMillis() > 0) {
@@ -333,6 +596,24 @@ public class MongoDBStreamFetchTask implements FetchTask<SourceSplitBase> {
         return null;
     }
 
+    /**
+     * Copies the fields of a raw change stream document to a mutable document for normalization.
+     * The nested documents stay raw, so that they are passed on as bytes without being decoded.
+     */
+    private BsonDocument toMutableDocument(BsonDocument changeStreamDocument) {
+        if (!(changeStreamDocument instanceof RawBsonDocument)) {
+            return changeStreamDocument;
+        }
+        BsonDocument document = new BsonDocument();
+        for (Field field : SOURCE_RECORD_RAW_BSON_VALUE_SCHEMA.fields()) {
+            BsonValue value = changeStreamDocument.get(field.name());
+            if (value != null) {
+                document.put(field.name(), value);
+            }
+        }
+        return document;
+    }
+
     private BsonDocument normalizeChangeStreamDocument(BsonDocument changeStreamDocument) {
         // _id: primary key of change document.
         changeStreamDocument.put(ID_FIELD, normalizeKeyDocument(changeStreamDocument));
@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mongodb.source.reader.fetch;
+
+import org.apache.flink.cdc.connectors.mongodb.source.utils.MongoUtils;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.ID_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.source.utils.ResumeTokenUtils.decodeTimestamp;
+
+/**
+ * Fetches the change stream of one shard of a sharded cluster on its own thread, so that the change
+ * streams of the shards are fetched and decoded in parallel.
+ *
+ * <p>The fetched change stream documents are buffered in a bounded queue. When the change stream is
+ * idle, its post batch resume token is published as the progress of the shard: there are no more
+ * events of the shard at or before that resume token besides the ones already buffered.
+ *
+ * <p>If the resume token to open or reopen the change stream after is no longer in the oplog of the
+ * shard, the change stream is reopened at the cluster time of the resume token, like the single
+ * change stream falls back to the timestamp of its offset. The events at that cluster time may be
+ * emitted again, and the shard fails if the cluster time is out of its oplog as well.
+ */
+class ShardChangeStream implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShardChangeStream.class);
+
+    private final String shardId;
+
+    private final CursorOpener cursorOpener;
+
+    /** The resume token of the shard in the starting offset, or null to start at the timestamp. */
+    @Nullable private final BsonDocument startResumeToken;
+
+    private final BsonTimestamp startTimestamp;
+
+    private final BlockingQueue<ShardChangeEvent> events;
+
+    /** Signals the reader that an event, the progress or a failure is published. */
+    private final Semaphore signal;
+
+    private final Thread fetchThread;
+
+    private volatile boolean running = true;
+
+    /** The post batch resume token of the idle change stream. */
+    @Nullable private volatile ShardChangeEvent progress;
+
+    @Nullable private volatile Throwable failure;
+
+    /** The cluster time of the last polled event, which is only accessed by the reader. */
+    @Nullable private BsonTimestamp polledTimestamp;
+
+    /** The resume token of the last heartbeat, which is only accessed by the reader. */
+    @Nullable private BsonDocument heartbeatResumeToken;
+
+    ShardChangeStream(
+            String shardId,
+            CursorOpener cursorOpener,
+            @Nullable BsonDocument startResumeToken,
+            BsonTimestamp startTimestamp,
+            int capacity,
+            Semaphore signal) {
+        this.shardId = shardId;
+        this.cursorOpener = cursorOpener;
+        this.startResumeToken = startResumeToken;
+        this.startTimestamp = startTimestamp;
+        this.events = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+        this.signal = signal;
+        this.fetchThread = new Thread(this::fetch, "mongodb-change-stream-" + shardId);
+        this.fetchThread.setDaemon(true);
+    }
+
+    void start() {
+        fetchThread.start();
+    }
+
+    String getShardId() {
+        return shardId;
+    }
+
+    /** Returns the oldest buffered event, without removing it. */
+    @Nullable
+    ShardChangeEvent peek() {
+        checkFailure();
+        return events.peek();
+    }
+
+    @Nullable
+    ShardChangeEvent poll() {
+        ShardChangeEvent event = events.poll();
+        if (event != null) {
+            polledTimestamp = event.getClusterTime();
+        }
+        return event;
+    }
+
+    /**
+     * Returns the cluster time up to which all events of the shard are buffered or polled, or null
+     * if it's unknown yet. It must be read before {@link #peek()}, since the fetch thread buffers
+     * the events before publishing the progress.
+     */
+    @Nullable
+    BsonTimestamp getLowWatermark() {
+        ShardChangeEvent current = progress;
+        if (current == null
+                || (polledTimestamp != null
+                        && polledTimestamp.compareTo(current.getClusterTime()) > 0)) {
+            return polledTimestamp;
+        }
+        return current.getClusterTime();
+    }
+
+    /**
+     * Returns the post batch resume token to move the offset of the shard to, if the change stream
+     * is idle and all its events are polled, and the resume token has changed since the last call.
+     */
+    @Nullable
+    BsonDocument nextHeartbeatResumeToken() {
+        ShardChangeEvent current = progress;
+        if (current == null
+                || !events.isEmpty()
+                || (polledTimestamp != null
+                        && polledTimestamp.compareTo(current.getClusterTime()) > 0)
+                || current.getChangeStreamDocument().equals(heartbeatResumeToken)) {
+            return null;
+        }
+        heartbeatResumeToken = current.getChangeStreamDocument();
+        return heartbeatResumeToken;
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new FlinkRuntimeException(
+                    "Read the change stream of shard " + shardId + " failed", failure);
+        }
+    }
+
+    private void fetch() {
+        BsonDocument lastResumeToken = startResumeToken;
+        MongoChangeStreamCursor<BsonDocument> cursor = null;
+        try {
+            cursor = openCursor(lastResumeToken);
+            while (running) {
+                BsonDocument changeStreamDocument;
+                try {
+                    changeStreamDocument = cursor.tryNext();
+                } catch (MongoCommandException e) {
+                    if (MongoUtils.checkIfChangeStreamCursorExpires(e)) {
+                        LOG.warn(
+                                "Change stream cursor of shard {} has expired, trying to recreate cursor",
+                                shardId);
+                        cursor.close();
+                        cursor = null;
+                        if (MongoUtils.checkIfResumeTokenExpires(e) && lastResumeToken != null) {
+                            cursor = openCursorAtTimestamp(lastResumeToken);
+                        } else {
+                            cursor = openCursor(lastResumeToken);
+                        }
+                        continue;
+                    }
+                    throw e;
+                }
+
+                if (changeStreamDocument != null) {
+                    BsonDocument resumeToken = changeStreamDocument.getDocument(ID_FIELD);
+                    events.put(
+                            new ShardChangeEvent(
+                                    changeStreamDocument, decodeTimestamp(resumeToken)));
+                    lastResumeToken = resumeToken;
+                } else {
+                    BsonDocument postBatchResumeToken = cursor.getResumeToken();
+                    if (postBatchResumeToken != null) {
+                        progress =
+                                new ShardChangeEvent(
+                                        postBatchResumeToken,
+                                        decodeTimestamp(postBatchResumeToken));
+                    }
+                }
+                signal.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable t) {
+            if (running) {
+                LOG.error("Read the change stream of shard {} failed", shardId, t);
+                failure = t;
+                signal.release();
+            }
+        } finally {
+            if (cursor != null) {
+                cursor.close();
+            }
+        }
+    }
+
+    /** Opens the change stream after the resume token, or at the start timestamp if it's null. */
+    private MongoChangeStreamCursor<BsonDocument> openCursor(@Nullable BsonDocument resumeToken) {
+        if (resumeToken == null) {
+            return cursorOpener.open(null, startTimestamp);
+        }
+        try {
+            return cursorOpener.open(resumeToken, startTimestamp);
+        } catch (MongoCommandException e) {
+            if (MongoUtils.checkIfResumeTokenExpires(e)) {
+                return openCursorAtTimestamp(resumeToken);
+            }
+            throw e;
+        }
+    }
+
+    private MongoChangeStreamCursor<BsonDocument> openCursorAtTimestamp(
+            BsonDocument expiredResumeToken) {
+        BsonTimestamp timestamp = decodeTimestamp(expiredResumeToken);
+        LOG.warn(
+                "Resume token of shard {} has expired, fallback to timestamp restart mode at {}",
+                shardId,
+                timestamp);
+        return cursorOpener.open(null, timestamp);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        fetchThread.interrupt();
+    }
+
+    /** Opens the change stream of a shard. */
+    @FunctionalInterface
+    interface CursorOpener {
+
+        /**
+         * Opens the change stream after the given resume token, or at the given cluster time if the
+         * resume token is null.
+         */
+        MongoChangeStreamCursor<BsonDocument> open(
+                @Nullable BsonDocument resumeToken, BsonTimestamp timestamp);
+    }
+
+    /**
+     * A change stream document of the shard, or a post batch resume token, with the cluster time of
+     * its resume token.
+     */
+    static final class ShardChangeEvent {
+
+        private final BsonDocument changeStreamDocument;
+
+        private final BsonTimestamp clusterTime;
+
+        private ShardChangeEvent(BsonDocument changeStreamDocument, BsonTimestamp clusterTime) {
+            this.changeStreamDocument = changeStreamDocument;
+            this.clusterTime = clusterTime;
+        }
+
+        BsonDocument getChangeStreamDocument() {
+            return changeStreamDocument;
+        }
+
+        BsonTimestamp getClusterTime() {
+            return clusterTime;
+        }
+    }
+}
@@ -43,6 +43,7 @@ import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.I
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.JSON_WRITER_SETTINGS_STRICT;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.NAMESPACE_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SOURCE_RECORD_KEY_SCHEMA;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SOURCE_RECORD_RAW_BSON_VALUE_SCHEMA;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SOURCE_RECORD_VALUE_SCHEMA;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.TIMESTAMP_KEY_FIELD;
 
@@ -144,6 +145,27 @@ public class MongoRecordUtils {
                 JSON_WRITER_SETTINGS_STRICT);
     }
 
+    /**
+     * Creates a change record, whose fullDocument and fullDocumentBeforeChange are carried as raw
+     * BSON bytes if {@code rawBsonEnabled} is true, or as JSON strings otherwise.
+     */
+    public static SourceRecord createSourceRecord(
+            final Map<String, String> partition,
+            final Map<String, String> sourceOffset,
+            final String topicName,
+            final BsonDocument keyDocument,
+            final BsonDocument valueDocument,
+            final boolean rawBsonEnabled) {
+        return createSourceRecord(
+                partition,
+                sourceOffset,
+                topicName,
+                keyDocument,
+                valueDocument,
+                JSON_WRITER_SETTINGS_STRICT,
+                rawBsonEnabled ? SOURCE_RECORD_RAW_BSON_VALUE_SCHEMA : SOURCE_RECORD_VALUE_SCHEMA);
+    }
+
     public static SourceRecord createSourceRecord(
             final Map<String, String> partition,
             final Map<String, String> sourceOffset,
@@ -151,12 +173,30 @@ public class MongoRecordUtils {
             final BsonDocument keyDocument,
             final BsonDocument valueDocument,
             final JsonWriterSettings jsonWriterSettings) {
+        return createSourceRecord(
+                partition,
+                sourceOffset,
+                topicName,
+                keyDocument,
+                valueDocument,
+                jsonWriterSettings,
+                SOURCE_RECORD_VALUE_SCHEMA);
+    }
+
+    private static SourceRecord createSourceRecord(
+            final Map<String, String> partition,
+            final Map<String, String> sourceOffset,
+            final String topicName,
+            final BsonDocument keyDocument,
+            final BsonDocument valueDocument,
+            final JsonWriterSettings jsonWriterSettings,
+            final Schema valueSchema) {
         BsonValueToSchemaAndValue schemaAndValue =
                 new BsonValueToSchemaAndValue(jsonWriterSettings);
         SchemaAndValue keySchemaAndValue =
                 schemaAndValue.toSchemaAndValue(SOURCE_RECORD_KEY_SCHEMA, keyDocument);
         SchemaAndValue valueSchemaAndValue =
-                schemaAndValue.toSchemaAndValue(SOURCE_RECORD_VALUE_SCHEMA, valueDocument);
+                schemaAndValue.toSchemaAndValue(valueSchema, valueDocument);
 
         return new SourceRecord(
                 partition,
@@ -20,8 +20,11 @@ package org.apache.flink.cdc.connectors.mongodb.source.utils;
 import org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceConfig;
 import org.apache.flink.cdc.connectors.mongodb.source.connection.MongoClientPool;
 import org.apache.flink.cdc.connectors.mongodb.source.offset.ChangeStreamDescriptor;
+import org.apache.flink.util.FlinkRuntimeException;
 
 import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.MongoQueryException;
 import com.mongodb.client.ChangeStreamIterable;
 import com.mongodb.client.MongoChangeStreamCursor;
 import com.mongodb.client.MongoClient;
@@ -62,8 +65,11 @@ import static com.mongodb.client.model.Projections.include;
 import static com.mongodb.client.model.Sorts.ascending;
 import static java.util.Arrays.asList;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.DROPPED_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.HOST_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.ID_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.KEY_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.MONGODB_SCHEME;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.MONGODB_SRV_SCHEME;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.NAMESPACE_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.UUID_FIELD;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.encodeValue;
@@ -367,6 +373,54 @@ public class MongoUtils {
         return collectionChunks;
     }
 
+    public static List<BsonDocument> readShards(MongoClient mongoClient) {
+        MongoCollection<BsonDocument> shards =
+                collectionFor(mongoClient, TableId.parse("config.shards"), BsonDocument.class);
+        List<BsonDocument> shardList = new ArrayList<>();
+        shards.find()
+                .projection(include(ID_FIELD, HOST_FIELD))
+                .sort(ascending(ID_FIELD))
+                .into(shardList);
+        return shardList;
+    }
+
+    /**
+     * Checks that every shard of {@code config.shards} can be connected and authenticated with the
+     * shard connection string, so that a misconfigured per-shard change stream fails when the
+     * source starts rather than in the fetch threads of the stream split. Nothing is checked if the
+     * shards can't be read, as the stream split then falls back to a single change stream.
+     */
+    public static void validateShardConnections(MongoDBSourceConfig sourceConfig) {
+        List<BsonDocument> shards;
+        try {
+            shards = readShards(clientFor(sourceConfig));
+        } catch (MongoQueryException e) {
+            LOG.warn(
+                    "Read config.shards collection failed: {}, skip validating the shard connections.",
+                    e.getErrorMessage());
+            return;
+        }
+        for (BsonDocument shard : shards) {
+            String shardId = shard.getString(ID_FIELD).getValue();
+            String shardHost = shard.getString(HOST_FIELD).getValue();
+            try {
+                MongoClientPool.getInstance()
+                        .getOrCreateMongoClient(buildShardConnectionString(sourceConfig, shardHost))
+                        .getDatabase("admin")
+                        .runCommand(new BsonDocument("ping", new BsonInt32(1)));
+            } catch (MongoException e) {
+                throw new FlinkRuntimeException(
+                        String.format(
+                                "Failed to connect to shard %s at %s for the per-shard change streams. "
+                                        + "The shards are connected directly, so the shard user must exist "
+                                        + "on every shard.",
+                                shardId, shardHost),
+                        e);
+            }
+        }
+        LOG.info("Validated the connections to the shards: {}", shards);
+    }
+
     @Nullable
     public static BsonDocument readCollectionMetadata(
             MongoClient mongoClient, TableId collectionId) {
@@ -420,6 +474,45 @@ public class MongoUtils {
         return sb.toString();
     }
 
+    /**
+     * Builds the connection string to a shard of the {@code host} form {@code
+     * replicaSet/host1,host2} in {@code config.shards}, with the connection options of the source
+     * and the shard credentials, or the credentials of the source if no shard user is set.
+     */
+    public static String buildShardConnectionString(
+            MongoDBSourceConfig sourceConfig, String shardHost) {
+        List<String> options = new ArrayList<>();
+        if (StringUtils.isNotEmpty(sourceConfig.getConnectionOptions())) {
+            options.add(sourceConfig.getConnectionOptions());
+        }
+        String hosts = shardHost;
+        int replicaSetEnd = shardHost.indexOf('/');
+        if (replicaSetEnd >= 0) {
+            hosts = shardHost.substring(replicaSetEnd + 1);
+            options.add("replicaSet=" + encodeValue(shardHost.substring(0, replicaSetEnd)));
+        }
+        // The shards are listed by their hosts, so the TLS implied by SRV is set explicitly
+        if (MONGODB_SRV_SCHEME.equals(sourceConfig.getScheme())
+                && !containsTlsOption(sourceConfig.getConnectionOptions())) {
+            options.add("tls=true");
+        }
+        boolean hasShardCredentials = StringUtils.isNotEmpty(sourceConfig.getShardUsername());
+        return buildConnectionString(
+                hasShardCredentials ? sourceConfig.getShardUsername() : sourceConfig.getUsername(),
+                hasShardCredentials ? sourceConfig.getShardPassword() : sourceConfig.getPassword(),
+                MONGODB_SCHEME,
+                hosts,
+                String.join("&", options));
+    }
+
+    private static boolean containsTlsOption(@Nullable String connectionOptions) {
+        if (StringUtils.isEmpty(connectionOptions)) {
+            return false;
+        }
+        String options = connectionOptions.toLowerCase(Locale.ROOT);
+        return options.contains("tls=") || options.contains("ssl=");
+    }
+
     // Checks if given exception is caused by change stream cursor issues, including
     // network connection failures, sharded cluster changes, or invalidate events.
     // See: https://www.mongodb.com/docs/manual/changeStreams/ for more details.
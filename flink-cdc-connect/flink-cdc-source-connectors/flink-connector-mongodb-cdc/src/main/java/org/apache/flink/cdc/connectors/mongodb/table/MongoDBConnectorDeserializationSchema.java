@@ -41,10 +41,12 @@ import org.apache.flink.util.Collector;
 
 import com.mongodb.client.model.changestream.OperationType;
 import com.mongodb.internal.HexUtils;
+import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
 import org.bson.BsonBinarySubType;
 import org.bson.BsonDateTime;
 import org.bson.BsonDocument;
@@ -52,10 +54,15 @@ import org.bson.BsonMaxKey;
 import org.bson.BsonMinKey;
 import org.bson.BsonRegularExpression;
 import org.bson.BsonTimestamp;
+import org.bson.BsonType;
 import org.bson.BsonUndefined;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.BsonArrayCodec;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
+import org.bson.io.ByteBufferBsonInput;
 import org.bson.json.JsonWriter;
 import org.bson.types.Decimal128;
 
@@ -88,6 +95,10 @@ public class MongoDBConnectorDeserializationSchema
 
     private static final long serialVersionUID = 1750787080613035184L;
 
+    private static final BsonValueCodec BSON_VALUE_CODEC = new BsonValueCodec();
+
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
     /** TypeInformation of the produced {@link RowData}. */
     private final TypeInformation<RowData> resultTypeInfo;
 
@@ -175,10 +186,19 @@ public class MongoDBConnectorDeserializationSchema
     }
 
     protected BsonDocument extractBsonDocument(Struct value, Schema valueSchema, String fieldName) {
-        if (valueSchema.field(fieldName) != null) {
-            String docString = value.getString(fieldName);
-            if (docString != null) {
-                return BsonDocument.parse(docString);
+        Field field = valueSchema.field(fieldName);
+        if (field != null) {
+            if (field.schema().type() == Schema.Type.BYTES) {
+                // raw BSON bytes, whose fields are decoded only when they are converted
+                byte[] docBytes = value.getBytes(fieldName);
+                if (docBytes != null) {
+                    return new RawBsonDocument(docBytes);
+                }
+            } else {
+                String docString = value.getString(fieldName);
+                if (docString != null) {
+                    return BsonDocument.parse(docString);
+                }
             }
         }
         return null;
@@ -696,6 +716,10 @@ public class MongoDBConnectorDeserializationSchema
                         .map(this::createConverter)
                         .toArray(DeserializationRuntimeConverter[]::new);
         final String[] fieldNames = rowType.getFieldNames().toArray(new String[0]);
+        final Map<String, Integer> fieldPositions = new HashMap<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldPositions.put(fieldNames[i], i);
+        }
 
         return (docObj) -> {
             if (!docObj.isDocument()) {
@@ -709,6 +733,27 @@ public class MongoDBConnectorDeserializationSchema
             BsonDocument document = docObj.asDocument();
             int arity = fieldNames.length;
             GenericRowData row = new GenericRowData(arity);
+            if (document instanceof RawBsonDocument) {
+                // Looking up each field would scan the raw bytes once per field, so they are
+                // scanned once and only the values of the projected fields are decoded.
+                try (BsonBinaryReader reader =
+                        new BsonBinaryReader(
+                                new ByteBufferBsonInput(
+                                        ((RawBsonDocument) document).getByteBuffer()))) {
+                    reader.readStartDocument();
+                    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                        Integer pos = fieldPositions.get(reader.readName());
+                        if (pos == null) {
+                            reader.skipValue();
+                        } else {
+                            BsonValue fieldValue = BSON_VALUE_CODEC.decode(reader, DECODER_CONTEXT);
+                            row.setField(pos, convertField(fieldConverters[pos], fieldValue));
+                        }
+                    }
+                    reader.readEndDocument();
+                }
+                return row;
+            }
             for (int i = 0; i < arity; i++) {
                 String fieldName = fieldNames[i];
                 BsonValue fieldValue = document.get(fieldName);
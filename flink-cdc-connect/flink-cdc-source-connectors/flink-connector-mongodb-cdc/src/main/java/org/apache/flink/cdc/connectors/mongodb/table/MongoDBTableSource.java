@@ -207,7 +207,8 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
                             .skipSnapshotBackfill(skipSnapshotBackfill)
                             .scanNewlyAddedTableEnabled(scanNewlyAddedTableEnabled)
                             .deserializer(deserializer)
-                            .disableCursorTimeout(noCursorTimeout);
+                            .disableCursorTimeout(noCursorTimeout)
+                            .rawBsonEnabled(true);
 
             Optional.ofNullable(databaseList).ifPresent(builder::databaseList);
             Optional.ofNullable(collectionList).ifPresent(builder::collectionList);
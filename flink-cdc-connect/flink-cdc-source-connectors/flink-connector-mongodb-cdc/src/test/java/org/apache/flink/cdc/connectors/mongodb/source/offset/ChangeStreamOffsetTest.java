@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mongodb.source.offset;
+
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/** Unit test for {@link ChangeStreamOffset}. */
+public class ChangeStreamOffsetTest {
+
+    // resume tokens of the cluster times 1630438675 and 1666691204
+    private static final BsonDocument EARLIER_RESUME_TOKEN =
+            BsonDocument.parse(
+                    "{\"_data\": \"82612E8513000000012B022C0100296E5A1004A5093ABB38FE4B9EA67F01BB1A96D812463C5F6964003C5F5F5F78000004\"}");
+    private static final BsonDocument LATER_RESUME_TOKEN =
+            BsonDocument.parse(
+                    "{\"_data\": \"826357B0840000000129295A1004461ECCED47A6420D9713A5135650360746645F696400646357B05F35C6AE07E1E6C7390004\"}");
+
+    @Test
+    public void testUpdateShardPosition() {
+        ChangeStreamOffset offset = new ChangeStreamOffset(new BsonTimestamp(1600000000, 0));
+
+        offset.updateShardPosition("shard01", LATER_RESUME_TOKEN, false);
+        offset.updateShardPosition("shard02", EARLIER_RESUME_TOKEN, true);
+        assertNull(offset.getResumeToken());
+        assertEquals(LATER_RESUME_TOKEN, offset.getShardResumeTokens().get("shard01"));
+        assertEquals(EARLIER_RESUME_TOKEN, offset.getShardResumeTokens().get("shard02"));
+        // heartbeats don't move the cluster time, only events do
+        assertEquals(new BsonTimestamp(1630438675, 1), offset.getTimestamp());
+
+        offset.updateShardPosition("shard01", LATER_RESUME_TOKEN, true);
+        offset.updateShardPosition("shard02", EARLIER_RESUME_TOKEN, true);
+        assertEquals(new BsonTimestamp(1666691204, 1), offset.getTimestamp());
+
+        // the offset survives the serialization of the split state
+        ChangeStreamOffset restored = new ChangeStreamOffset(offset.getOffset());
+        assertEquals(offset, restored);
+        assertEquals(2, restored.getShardResumeTokens().size());
+    }
+
+    @Test
+    public void testUpdatePositionClearsShardPositions() {
+        ChangeStreamOffset offset = new ChangeStreamOffset(new BsonTimestamp(1600000000, 0));
+        offset.updateShardPosition("shard01", EARLIER_RESUME_TOKEN, true);
+
+        offset.updatePosition(LATER_RESUME_TOKEN);
+        assertEquals(LATER_RESUME_TOKEN, offset.getResumeToken());
+        assertTrue(offset.getShardResumeTokens().isEmpty());
+    }
+}
@@ -33,15 +33,20 @@ import org.apache.flink.cdc.connectors.mongodb.source.assigners.splitters.SplitV
 import org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceConfig;
 import org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceConfigFactory;
 import org.apache.flink.cdc.connectors.mongodb.source.dialect.MongoDBDialect;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.configuration.CoreOptions;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
 import org.apache.flink.connector.testutils.source.reader.TestingReaderContext;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
 
 import io.debezium.relational.TableId;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.bson.BsonDocument;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.slf4j.Logger;
@@ -67,8 +72,12 @@ public class MongoDBSnapshotSplitReaderTest extends MongoDBSourceTestBase {
 
     private static final int MAX_RETRY_TIMES = 100;
 
+    @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private String database;
 
+    private MongoDBSourceConfigFactory configFactory;
+
     private MongoDBSourceConfig sourceConfig;
 
     private MongoDBDialect dialect;
@@ -88,7 +97,7 @@ public class MongoDBSnapshotSplitReaderTest extends MongoDBSourceTestBase {
     public void before() {
         database = mongoContainer.executeCommandFileInSeparateDatabase("chunk_test");
 
-        MongoDBSourceConfigFactory configFactory =
+        configFactory =
                 new MongoDBSourceConfigFactory()
                         .hosts(mongoContainer.getHostAndPort())
                         .databaseList(database)
@@ -126,12 +135,34 @@ public class MongoDBSnapshotSplitReaderTest extends MongoDBSourceTestBase {
         testMongoDBSnapshotSplitReader(SingleSplitStrategy.INSTANCE);
     }
 
+    @Test
+    public void testMongoDBSnapshotSplitReaderWithSpilling() throws Exception {
+        // a tiny budget spills all snapshot records, which are read after the scan fetcher of
+        // each split is closed
+        sourceConfig = configFactory.snapshotSpillMemoryBudget(1L).create(0);
+        Configuration configuration = new Configuration();
+        configuration.set(CoreOptions.TMP_DIRS, temporaryFolder.getRoot().getAbsolutePath());
+
+        testMongoDBSnapshotSplitReader(
+                SampleBucketSplitStrategy.INSTANCE,
+                new TestingReaderContext(
+                        configuration, UnregisteredMetricsGroup.createSourceReaderMetricGroup()));
+
+        // the spill files are deleted once the records of the splits are emitted
+        assertEquals(0, temporaryFolder.getRoot().list().length);
+    }
+
     private void testMongoDBSnapshotSplitReader(SplitStrategy splitter) throws Exception {
+        testMongoDBSnapshotSplitReader(splitter, new TestingReaderContext());
+    }
+
+    private void testMongoDBSnapshotSplitReader(
+            SplitStrategy splitter, TestingReaderContext readerContext) throws Exception {
         LinkedList<SnapshotSplit> snapshotSplits = new LinkedList<>(splitter.split(splitContext));
         assertTrue(snapshotSplits.size() > 0);
 
         IncrementalSourceReaderContext incrementalSourceReaderContext =
-                new IncrementalSourceReaderContext(new TestingReaderContext());
+                new IncrementalSourceReaderContext(readerContext);
         IncrementalSourceSplitReader<MongoDBSourceConfig> snapshotSplitReader =
                 new IncrementalSourceSplitReader<>(
                         0,
@@ -176,6 +207,7 @@ public class MongoDBSnapshotSplitReaderTest extends MongoDBSourceTestBase {
                             }
                         }
                     }
+                    records.finishedSplits();
                 } else if (snapshotSplits.isEmpty() && snapshotSplitReader.canAssignNextSplit()) {
                     break;
                 } // else continue to fetch records
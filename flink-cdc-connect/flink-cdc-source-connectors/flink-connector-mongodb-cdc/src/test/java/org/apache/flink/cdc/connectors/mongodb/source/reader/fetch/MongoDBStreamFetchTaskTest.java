@@ -0,0 +1,396 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mongodb.source.reader.fetch;
+
+import org.apache.flink.cdc.connectors.mongodb.source.offset.ChangeStreamOffset;
+import org.apache.flink.cdc.connectors.mongodb.source.utils.MongoRecordUtils;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoChangeStreamCursor;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.function.BooleanSupplier;
+
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.ID_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.SHARD_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.source.reader.fetch.MongoDBStreamFetchTask.createShardHeartbeatRecords;
+import static org.apache.flink.cdc.connectors.mongodb.source.reader.fetch.MongoDBStreamFetchTask.getShardStartResumeToken;
+import static org.apache.flink.cdc.connectors.mongodb.source.reader.fetch.MongoDBStreamFetchTask.nextShardToEmit;
+import static org.apache.flink.cdc.connectors.mongodb.source.utils.MongoUtils.CHANGE_STREAM_FATAL_ERROR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/** Unit tests for merging the change streams of the shards in {@link MongoDBStreamFetchTask}. */
+public class MongoDBStreamFetchTaskTest {
+
+    private static final Map<String, Object> HEARTBEAT_PARTITION =
+            MongoRecordUtils.createHeartbeatPartitionMap("mongodb", "localhost:27017");
+
+    private static final long TIMEOUT_MILLIS = 30_000L;
+
+    private final Semaphore signal = new Semaphore(0);
+    private final List<ShardChangeStream> shardChangeStreams = new ArrayList<>();
+
+    @After
+    public void after() {
+        shardChangeStreams.forEach(ShardChangeStream::close);
+    }
+
+    @Test
+    public void testEmitEventsOfShardsInClusterTimeOrder() {
+        TestingChangeStreamCursor cursor1 = new TestingChangeStreamCursor(10, 30, 31);
+        TestingChangeStreamCursor cursor2 = new TestingChangeStreamCursor(20, 25, 40);
+        cursor1.setPostBatchResumeToken(resumeToken(50));
+        cursor2.setPostBatchResumeToken(resumeToken(50));
+        startShard("shard01", cursor1);
+        startShard("shard02", cursor2);
+        waitUntil(() -> lowWatermarksReach(50));
+
+        List<String> emitted = new ArrayList<>();
+        ShardChangeStream next;
+        while ((next = nextShardToEmit(shardChangeStreams)) != null) {
+            emitted.add(next.getShardId() + "@" + next.poll().getClusterTime().getTime());
+        }
+        assertEquals(
+                Arrays.asList(
+                        "shard01@10",
+                        "shard02@20",
+                        "shard02@25",
+                        "shard01@30",
+                        "shard01@31",
+                        "shard02@40"),
+                emitted);
+    }
+
+    @Test
+    public void testWaitForShardWithUnknownProgress() {
+        TestingChangeStreamCursor cursor1 = new TestingChangeStreamCursor(10);
+        cursor1.setPostBatchResumeToken(resumeToken(10));
+        startShard("shard01", cursor1);
+        // the second shard has neither events nor a post batch resume token yet
+        startShard("shard02", new TestingChangeStreamCursor());
+        waitUntil(() -> shardChangeStreams.get(0).getLowWatermark() != null);
+
+        assertNull(nextShardToEmit(shardChangeStreams));
+    }
+
+    @Test
+    public void testIdleShardAdvancesWithPostBatchResumeToken() {
+        TestingChangeStreamCursor cursor1 = new TestingChangeStreamCursor(10, 30);
+        TestingChangeStreamCursor cursor2 = new TestingChangeStreamCursor();
+        cursor1.setPostBatchResumeToken(resumeToken(30));
+        cursor2.setPostBatchResumeToken(resumeToken(20));
+        ShardChangeStream shard1 = startShard("shard01", cursor1);
+        ShardChangeStream shard2 = startShard("shard02", cursor2);
+        waitUntil(() -> lowWatermarksReach(20));
+
+        assertSame(shard1, nextShardToEmit(shardChangeStreams));
+        assertEquals(10, shard1.poll().getClusterTime().getTime());
+        // the idle shard may still have events between 20 and 30
+        assertNull(nextShardToEmit(shardChangeStreams));
+
+        cursor2.setPostBatchResumeToken(resumeToken(40));
+        waitUntil(() -> timeOf(shard2.getLowWatermark()) == 40);
+        assertSame(shard1, nextShardToEmit(shardChangeStreams));
+        assertEquals(30, shard1.poll().getClusterTime().getTime());
+        assertNull(nextShardToEmit(shardChangeStreams));
+    }
+
+    @Test
+    public void testHeartbeatsDoNotMoveClusterTime() {
+        TestingChangeStreamCursor cursor1 = new TestingChangeStreamCursor(10);
+        TestingChangeStreamCursor cursor2 = new TestingChangeStreamCursor();
+        cursor1.setPostBatchResumeToken(resumeToken(15));
+        cursor2.setPostBatchResumeToken(resumeToken(20));
+        ShardChangeStream shard1 = startShard("shard01", cursor1);
+        startShard("shard02", cursor2);
+        waitUntil(() -> lowWatermarksReach(15));
+
+        // only the idle shard whose events are all emitted gets a heartbeat
+        List<SourceRecord> heartbeats =
+                createShardHeartbeatRecords(shardChangeStreams, HEARTBEAT_PARTITION);
+        assertEquals(1, heartbeats.size());
+        assertEquals("shard02", MongoRecordUtils.getOffsetValue(heartbeats.get(0), SHARD_FIELD));
+        assertTrue(MongoRecordUtils.isHeartbeatEvent(heartbeats.get(0)));
+
+        ChangeStreamOffset offset = new ChangeStreamOffset(new BsonTimestamp(5, 0));
+        ShardChangeStream.ShardChangeEvent event = shard1.poll();
+        offset.updateShardPosition(
+                "shard01", event.getChangeStreamDocument().getDocument(ID_FIELD), true);
+        updatePosition(offset, heartbeats);
+        assertEquals(new BsonTimestamp(10, 0), offset.getTimestamp());
+        assertEquals(resumeToken(20), offset.getShardResumeTokens().get("shard02"));
+
+        // the drained shard gets a heartbeat as well now, which doesn't move the cluster time
+        heartbeats = createShardHeartbeatRecords(shardChangeStreams, HEARTBEAT_PARTITION);
+        assertEquals(1, heartbeats.size());
+        assertEquals("shard01", MongoRecordUtils.getOffsetValue(heartbeats.get(0), SHARD_FIELD));
+        updatePosition(offset, heartbeats);
+        assertEquals(new BsonTimestamp(10, 0), offset.getTimestamp());
+        assertEquals(resumeToken(15), offset.getShardResumeTokens().get("shard01"));
+
+        // no heartbeats until the progress of the shards changes
+        assertTrue(createShardHeartbeatRecords(shardChangeStreams, HEARTBEAT_PARTITION).isEmpty());
+    }
+
+    @Test
+    public void testRestoreFromCompositeOffset() {
+        ChangeStreamOffset offset = new ChangeStreamOffset(new BsonTimestamp(5, 0));
+        offset.updateShardPosition("shard01", resumeToken(10), true);
+        offset.updateShardPosition("shard02", resumeToken(20), false);
+        ChangeStreamOffset restored = new ChangeStreamOffset(offset.getOffset());
+
+        TestingCursorOpener opener1 = new TestingCursorOpener();
+        TestingCursorOpener opener2 = new TestingCursorOpener();
+        TestingCursorOpener opener3 = new TestingCursorOpener();
+        startShard("shard01", opener1, restored);
+        startShard("shard02", opener2, restored);
+        // a shard without a resume token starts at the cluster time of the offset
+        startShard("shard03", opener3, restored);
+        waitUntil(() -> opener1.opened() && opener2.opened() && opener3.opened());
+
+        assertEquals("after " + resumeToken(10).toJson(), opener1.positions.get(0));
+        assertEquals("after " + resumeToken(20).toJson(), opener2.positions.get(0));
+        assertEquals("at " + new BsonTimestamp(10, 0), opener3.positions.get(0));
+    }
+
+    @Test
+    public void testRestoreFromSingleChangeStreamOffset() {
+        ChangeStreamOffset offset = new ChangeStreamOffset(resumeToken(10));
+        ChangeStreamOffset restored = new ChangeStreamOffset(offset.getOffset());
+        assertNull(getShardStartResumeToken(restored, "shard01"));
+
+        // the resume token of the cluster can't resume the change stream of a shard
+        TestingCursorOpener opener = new TestingCursorOpener();
+        startShard("shard01", opener, restored);
+        waitUntil(opener::opened);
+        assertEquals("at " + new BsonTimestamp(10, 0), opener.positions.get(0));
+    }
+
+    @Test
+    public void testFallbackToTimestampWhenResumeTokenExpires() {
+        ChangeStreamOffset offset = new ChangeStreamOffset(new BsonTimestamp(5, 0));
+        offset.updateShardPosition("shard01", resumeToken(10), true);
+        TestingCursorOpener opener = new TestingCursorOpener();
+        opener.failures.add(resumeTokenExpired());
+        TestingChangeStreamCursor cursor = new TestingChangeStreamCursor(10, 11);
+        opener.cursors.add(cursor);
+        cursor.setPostBatchResumeToken(resumeToken(11));
+        ShardChangeStream shard = startShard("shard01", opener, offset);
+        waitUntil(() -> shard.getLowWatermark() != null);
+
+        assertEquals(
+                Arrays.asList(
+                        "after " + resumeToken(10).toJson(), "at " + new BsonTimestamp(10, 0)),
+                opener.positions);
+        // the events at the cluster time of the expired resume token are read again
+        assertEquals(10, shard.poll().getClusterTime().getTime());
+        assertEquals(11, shard.poll().getClusterTime().getTime());
+    }
+
+    private ShardChangeStream startShard(String shardId, TestingChangeStreamCursor cursor) {
+        TestingCursorOpener opener = new TestingCursorOpener();
+        opener.cursors.add(cursor);
+        return startShard(shardId, opener, new ChangeStreamOffset(new BsonTimestamp(1, 0)));
+    }
+
+    private ShardChangeStream startShard(
+            String shardId, TestingCursorOpener opener, ChangeStreamOffset offset) {
+        ShardChangeStream shardChangeStream =
+                new ShardChangeStream(
+                        shardId,
+                        opener,
+                        getShardStartResumeToken(offset, shardId),
+                        offset.getTimestamp(),
+                        100,
+                        signal);
+        shardChangeStreams.add(shardChangeStream);
+        shardChangeStream.start();
+        return shardChangeStream;
+    }
+
+    private boolean lowWatermarksReach(int time) {
+        for (ShardChangeStream shardChangeStream : shardChangeStreams) {
+            if (timeOf(shardChangeStream.getLowWatermark()) < time) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int timeOf(@Nullable BsonTimestamp timestamp) {
+        return timestamp == null ? -1 : timestamp.getTime();
+    }
+
+    private static void updatePosition(ChangeStreamOffset offset, List<SourceRecord> records) {
+        for (SourceRecord record : records) {
+            offset.updateShardPosition(
+                    MongoRecordUtils.getOffsetValue(record, SHARD_FIELD),
+                    MongoRecordUtils.getResumeToken(record),
+                    !MongoRecordUtils.isHeartbeatEvent(record));
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertFalse(
+                    "Timeout while waiting for the shards", System.currentTimeMillis() > deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /** Returns a resume token of a change stream event at the given cluster time. */
+    private static BsonDocument resumeToken(int time) {
+        return new BsonDocument(
+                "_data", new BsonString(String.format("82%08X%08X2B022C0100296E04", time, 0)));
+    }
+
+    private static BsonDocument changeStreamDocument(int time) {
+        return new BsonDocument(ID_FIELD, resumeToken(time));
+    }
+
+    private static MongoCommandException resumeTokenExpired() {
+        BsonDocument response =
+                new BsonDocument("ok", new BsonInt32(0))
+                        .append("code", new BsonInt32(CHANGE_STREAM_FATAL_ERROR))
+                        .append(
+                                "errmsg",
+                                new BsonString(
+                                        "cannot resume stream; the resume token was not found."));
+        return new MongoCommandException(response, new ServerAddress());
+    }
+
+    /** Records the positions the change streams are opened at. */
+    private static class TestingCursorOpener implements ShardChangeStream.CursorOpener {
+
+        private final List<String> positions = new CopyOnWriteArrayList<>();
+        private final Queue<MongoCommandException> failures = new ConcurrentLinkedQueue<>();
+        private final Queue<TestingChangeStreamCursor> cursors = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public MongoChangeStreamCursor<BsonDocument> open(
+                @Nullable BsonDocument resumeToken, BsonTimestamp timestamp) {
+            positions.add(
+                    resumeToken != null ? "after " + resumeToken.toJson() : "at " + timestamp);
+            MongoCommandException failure = failures.poll();
+            if (failure != null) {
+                throw failure;
+            }
+            TestingChangeStreamCursor cursor = cursors.poll();
+            return cursor != null ? cursor : new TestingChangeStreamCursor();
+        }
+
+        private boolean opened() {
+            return !positions.isEmpty();
+        }
+    }
+
+    /** A change stream cursor returning the given events, and then a post batch resume token. */
+    private static class TestingChangeStreamCursor
+            implements MongoChangeStreamCursor<BsonDocument> {
+
+        private final Queue<BsonDocument> documents = new ConcurrentLinkedQueue<>();
+        @Nullable private volatile BsonDocument postBatchResumeToken;
+
+        private TestingChangeStreamCursor(int... clusterTimes) {
+            for (int clusterTime : clusterTimes) {
+                documents.add(changeStreamDocument(clusterTime));
+            }
+        }
+
+        private void setPostBatchResumeToken(BsonDocument postBatchResumeToken) {
+            this.postBatchResumeToken = postBatchResumeToken;
+        }
+
+        @Nullable
+        @Override
+        public BsonDocument tryNext() {
+            BsonDocument document = documents.poll();
+            if (document == null) {
+                try {
+                    // the await time of an idle change stream
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return document;
+        }
+
+        @Nullable
+        @Override
+        public BsonDocument getResumeToken() {
+            return documents.isEmpty() ? postBatchResumeToken : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !documents.isEmpty();
+        }
+
+        @Override
+        public BsonDocument next() {
+            return documents.remove();
+        }
+
+        @Override
+        public int available() {
+            return documents.size();
+        }
+
+        @Override
+        public ServerCursor getServerCursor() {
+            return null;
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            return new ServerAddress();
+        }
+
+        @Override
+        public void close() {}
+    }
+}
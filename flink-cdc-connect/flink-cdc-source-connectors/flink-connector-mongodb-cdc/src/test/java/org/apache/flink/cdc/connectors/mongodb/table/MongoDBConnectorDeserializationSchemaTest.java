@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mongodb.table;
+
+import org.apache.flink.api.common.functions.util.ListCollector;
+import org.apache.flink.cdc.connectors.mongodb.source.utils.MongoRecordUtils;
+import org.apache.flink.cdc.debezium.table.MetadataConverter;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.runtime.typeutils.InternalTypeInfo;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.types.RowKind;
+
+import com.mongodb.client.model.changestream.OperationType;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.ByteBuf;
+import org.bson.RawBsonDocument;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.DOCUMENT_KEY_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.FULL_DOCUMENT_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.ID_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.NAMESPACE_COLLECTION_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.NAMESPACE_DATABASE_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.NAMESPACE_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.OPERATION_TYPE_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.TIMESTAMP_KEY_FIELD;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/** Unit test cases for {@link MongoDBConnectorDeserializationSchema}. */
+public class MongoDBConnectorDeserializationSchemaTest {
+
+    private static final RowType ROW_TYPE =
+            (RowType)
+                    DataTypes.ROW(
+                                    DataTypes.FIELD("_id", DataTypes.STRING()),
+                                    DataTypes.FIELD("name", DataTypes.STRING()),
+                                    DataTypes.FIELD(
+                                            "address",
+                                            DataTypes.ROW(
+                                                    DataTypes.FIELD("city", DataTypes.STRING()))),
+                                    DataTypes.FIELD("tags", DataTypes.ARRAY(DataTypes.STRING())),
+                                    DataTypes.FIELD("missing", DataTypes.BIGINT()))
+                            .getLogicalType();
+
+    @Test
+    public void testDeserializeRawBsonRecord() throws Exception {
+        ObjectId id = new ObjectId();
+        RawBsonDocument fullDocument =
+                RawBsonDocument.parse(
+                        "{\"_id\": {\"$oid\": \""
+                                + id.toHexString()
+                                + "\"}, \"unused\": {\"nested\": [1, 2, 3]},"
+                                + " \"name\": \"flink\", \"address\": {\"city\": \"Hangzhou\"},"
+                                + " \"tags\": [\"a\", \"b\"], \"name\": \"cdc\"}");
+
+        // the raw bytes are carried by the record as they are
+        ByteBuf fullDocumentBytes = fullDocument.getByteBuffer();
+        byte[] expectedBytes = new byte[fullDocumentBytes.remaining()];
+        fullDocumentBytes.get(expectedBytes);
+        SourceRecord rawRecord = createInsertRecord(fullDocument, true);
+        assertArrayEquals(
+                expectedBytes, ((Struct) rawRecord.value()).getBytes(FULL_DOCUMENT_FIELD));
+
+        List<RowData> jsonRows = deserialize(createInsertRecord(fullDocument, false));
+        List<RowData> rawRows = deserialize(rawRecord);
+
+        assertEquals(1, rawRows.size());
+        assertArrayEquals(jsonRows.toArray(), rawRows.toArray());
+
+        GenericRowData row = (GenericRowData) rawRows.get(0);
+        assertEquals(RowKind.INSERT, row.getRowKind());
+        assertEquals(StringData.fromString(id.toHexString()), row.getField(0));
+        // the last value of a duplicated field wins, as in the parsed document
+        assertEquals(StringData.fromString("cdc"), row.getField(1));
+        assertEquals(GenericRowData.of(StringData.fromString("Hangzhou")), row.getField(2));
+        assertEquals(null, row.getField(4));
+    }
+
+    private static List<RowData> deserialize(SourceRecord record) throws Exception {
+        MongoDBConnectorDeserializationSchema deserializer =
+                new MongoDBConnectorDeserializationSchema(
+                        ROW_TYPE,
+                        new MetadataConverter[0],
+                        InternalTypeInfo.of(ROW_TYPE),
+                        ZoneId.of("UTC"));
+        List<RowData> rows = new ArrayList<>();
+        deserializer.deserialize(record, new ListCollector<>(rows));
+        return rows;
+    }
+
+    private static SourceRecord createInsertRecord(
+            RawBsonDocument fullDocument, boolean rawBsonEnabled) {
+        BsonObjectId id = fullDocument.getObjectId(ID_FIELD);
+        BsonDocument key = new BsonDocument(ID_FIELD, new BsonDocument(ID_FIELD, id));
+
+        BsonDocument value = new BsonDocument();
+        value.put(ID_FIELD, key);
+        value.put(OPERATION_TYPE_FIELD, new BsonString(OperationType.INSERT.getValue()));
+        value.put(
+                NAMESPACE_FIELD,
+                new BsonDocument(NAMESPACE_DATABASE_FIELD, new BsonString("db"))
+                        .append(NAMESPACE_COLLECTION_FIELD, new BsonString("coll")));
+        value.put(DOCUMENT_KEY_FIELD, new BsonDocument(ID_FIELD, id));
+        value.put(FULL_DOCUMENT_FIELD, fullDocument);
+        value.put(TIMESTAMP_KEY_FIELD, new BsonInt64(0L));
+
+        return MongoRecordUtils.createSourceRecord(
+                MongoRecordUtils.createPartitionMap("mongodb", "localhost", "db", "coll"),
+                MongoRecordUtils.createSourceOffsetMap(key.getDocument(ID_FIELD), true),
+                "db.coll",
+                key,
+                value,
+                rawBsonEnabled);
+    }
+}
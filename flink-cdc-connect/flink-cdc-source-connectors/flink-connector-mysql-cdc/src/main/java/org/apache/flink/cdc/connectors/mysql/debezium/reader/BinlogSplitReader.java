@@ -27,6 +27,7 @@ import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSplit;
 import org.apache.flink.cdc.connectors.mysql.source.split.SourceRecords;
 import org.apache.flink.cdc.connectors.mysql.source.utils.ChunkUtils;
 import org.apache.flink.cdc.connectors.mysql.source.utils.RecordUtils;
+import org.apache.flink.cdc.connectors.mysql.source.utils.SplitKeyRangeIndex;
 import org.apache.flink.cdc.connectors.mysql.table.StartupMode;
 import org.apache.flink.cdc.connectors.mysql.table.StartupOptions;
 import org.apache.flink.table.types.logical.RowType;
@@ -76,7 +77,10 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
 
     private MySqlBinlogSplitReadTask binlogSplitReadTask;
     private MySqlBinlogSplit currentBinlogSplit;
-    private Map<TableId, List<FinishedSnapshotSplitInfo>> finishedSplitsInfo;
+    // tableId -> the interval index over its finished snapshot splits
+    private Map<TableId, SplitKeyRangeIndex> finishedSplitsIndex;
+    // tableId -> the adjusted field name of the chunk key, resolved lazily
+    private final Map<TableId, String> chunkKeyFieldNames;
     // tableId -> the max splitHighWatermark
     private Map<TableId, BinlogOffset> maxSplitHighWatermarkMap;
     private final Set<TableId> pureBinlogPhaseTables;
@@ -93,6 +97,7 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
         this.executorService = Executors.newSingleThreadExecutor(threadFactory);
         this.currentTaskRunning = true;
         this.pureBinlogPhaseTables = new HashSet<>();
+        this.chunkKeyFieldNames = new HashMap<>();
     }
 
     public void submitSplit(MySqlSplit mySqlSplit) {
@@ -222,29 +227,19 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
             }
 
             // only the table who captured snapshot splits need to filter
-            if (finishedSplitsInfo.containsKey(tableId)) {
-                RowType splitKeyType =
-                        ChunkUtils.getChunkKeyColumnType(
-                                statefulTaskContext.getDatabaseSchema().tableFor(tableId),
-                                statefulTaskContext.getSourceConfig().getChunkKeyColumns());
-
+            SplitKeyRangeIndex splitsIndex = finishedSplitsIndex.get(tableId);
+            if (splitsIndex != null) {
                 Struct target = RecordUtils.getStructContainsChunkKey(sourceRecord);
-                Object[] chunkKey =
-                        RecordUtils.getSplitKey(
-                                splitKeyType, statefulTaskContext.getSchemaNameAdjuster(), target);
-                for (FinishedSnapshotSplitInfo splitInfo : finishedSplitsInfo.get(tableId)) {
-                    if (RecordUtils.splitKeyRangeContains(
-                                    chunkKey, splitInfo.getSplitStart(), splitInfo.getSplitEnd())
-                            && position.isAfter(splitInfo.getHighWatermark())) {
-                        return true;
-                    }
-                }
+                Object[] chunkKey = new Object[] {target.get(getChunkKeyFieldName(tableId))};
+                return splitsIndex.isAfterHighWatermark(chunkKey, position);
             }
             // not in the monitored splits scope, do not emit
             return false;
         } else if (RecordUtils.isSchemaChangeEvent(sourceRecord)) {
             if (RecordUtils.isTableChangeRecord(sourceRecord)) {
                 TableId tableId = RecordUtils.getTableId(sourceRecord);
+                // the chunk key column may be changed by the DDL
+                chunkKeyFieldNames.remove(tableId);
                 return capturedTableFilter.test(tableId);
             } else {
                 // Not related to changes in table structure, like `CREATE/DROP DATABASE`, skip it
@@ -254,6 +249,23 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
         return true;
     }
 
+    private String getChunkKeyFieldName(TableId tableId) {
+        String fieldName = chunkKeyFieldNames.get(tableId);
+        if (fieldName == null) {
+            RowType splitKeyType =
+                    ChunkUtils.getChunkKeyColumnType(
+                            statefulTaskContext.getDatabaseSchema().tableFor(tableId),
+                            statefulTaskContext.getSourceConfig().getChunkKeyColumns());
+            // the split key field contains single field now
+            fieldName =
+                    statefulTaskContext
+                            .getSchemaNameAdjuster()
+                            .adjust(splitKeyType.getFieldNames().get(0));
+            chunkKeyFieldNames.put(tableId, fieldName);
+        }
+        return fieldName;
+    }
+
     private boolean hasEnterPureBinlogPhase(TableId tableId, BinlogOffset position) {
         // the existed tables those have finished snapshot reading
         if (maxSplitHighWatermarkMap.containsKey(tableId)
@@ -300,9 +312,14 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
                 }
             }
         }
-        this.finishedSplitsInfo = splitsInfoMap;
+        Map<TableId, SplitKeyRangeIndex> splitsIndexMap = new HashMap<>();
+        for (Map.Entry<TableId, List<FinishedSnapshotSplitInfo>> entry : splitsInfoMap.entrySet()) {
+            splitsIndexMap.put(entry.getKey(), SplitKeyRangeIndex.of(entry.getValue()));
+        }
+        this.finishedSplitsIndex = splitsIndexMap;
         this.maxSplitHighWatermarkMap = tableIdBinlogPositionMap;
         this.pureBinlogPhaseTables.clear();
+        this.chunkKeyFieldNames.clear();
     }
 
     private Predicate<Event> createEventFilter() {
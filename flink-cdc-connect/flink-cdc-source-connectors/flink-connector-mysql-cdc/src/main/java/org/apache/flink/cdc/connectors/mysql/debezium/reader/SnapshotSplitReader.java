@@ -76,6 +76,7 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
     private final StatefulTaskContext statefulTaskContext;
     private final ExecutorService executorService;
     private final SnapshotPhaseHooks hooks;
+    private final String[] spillDirectories;
 
     private volatile ChangeEventQueue<DataChangeEvent> queue;
     private volatile boolean currentTaskRunning;
@@ -94,8 +95,12 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
     private static final long READER_CLOSE_TIMEOUT = 30L;
 
     public SnapshotSplitReader(
-            StatefulTaskContext statefulTaskContext, int subtaskId, SnapshotPhaseHooks hooks) {
+            StatefulTaskContext statefulTaskContext,
+            int subtaskId,
+            SnapshotPhaseHooks hooks,
+            String[] spillDirectories) {
         this.statefulTaskContext = statefulTaskContext;
+        this.spillDirectories = spillDirectories;
         ThreadFactory threadFactory =
                 new ThreadFactoryBuilder()
                         .setNameFormat("debezium-reader-" + subtaskId)
@@ -109,6 +114,15 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
         this.reachEnd = new AtomicBoolean(false);
     }
 
+    public SnapshotSplitReader(
+            StatefulTaskContext statefulTaskContext, int subtaskId, SnapshotPhaseHooks hooks) {
+        this(
+                statefulTaskContext,
+                subtaskId,
+                hooks,
+                new String[] {System.getProperty("java.io.tmpdir")});
+    }
+
     public SnapshotSplitReader(StatefulTaskContext statefulTaskContext, int subtaskId) {
         this(statefulTaskContext, subtaskId, SnapshotPhaseHooks.empty());
     }
@@ -277,54 +291,83 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
             SourceRecord highWatermark = null;
 
             Map<Struct, List<SourceRecord>> snapshotRecords = new HashMap<>();
-            while (!reachBinlogEnd) {
-                checkReadException();
-                List<DataChangeEvent> batch = queue.poll();
-                for (DataChangeEvent event : batch) {
-                    SourceRecord record = event.getRecord();
-                    if (lowWatermark == null) {
-                        lowWatermark = record;
-                        assertLowWatermark(lowWatermark);
-                        continue;
-                    }
+            final long spillMemoryBudget =
+                    statefulTaskContext.getSourceConfig().getSnapshotSpillMemoryBudget();
+            final SpillingSnapshotSplitNormalizer spillingNormalizer =
+                    spillMemoryBudget > 0
+                            ? new SpillingSnapshotSplitNormalizer(
+                                    currentSnapshotSplit,
+                                    nameAdjuster,
+                                    spillMemoryBudget,
+                                    spillDirectories)
+                            : null;
+            try {
+                while (!reachBinlogEnd) {
+                    checkReadException();
+                    List<DataChangeEvent> batch = queue.poll();
+                    for (DataChangeEvent event : batch) {
+                        SourceRecord record = event.getRecord();
+                        if (lowWatermark == null) {
+                            lowWatermark = record;
+                            assertLowWatermark(lowWatermark);
+                            continue;
+                        }
 
-                    if (highWatermark == null && RecordUtils.isHighWatermarkEvent(record)) {
-                        highWatermark = record;
-                        // snapshot events capture end and begin to capture binlog events
-                        reachBinlogStart = true;
-                        continue;
-                    }
+                        if (highWatermark == null && RecordUtils.isHighWatermarkEvent(record)) {
+                            highWatermark = record;
+                            // snapshot events capture end and begin to capture binlog events
+                            reachBinlogStart = true;
+                            continue;
+                        }
 
-                    if (reachBinlogStart && RecordUtils.isEndWatermarkEvent(record)) {
-                        // capture to end watermark events, stop the loop
-                        reachBinlogEnd = true;
-                        break;
-                    }
+                        if (reachBinlogStart && RecordUtils.isEndWatermarkEvent(record)) {
+                            // capture to end watermark events, stop the loop
+                            reachBinlogEnd = true;
+                            break;
+                        }
 
-                    if (!reachBinlogStart) {
-                        if (record.key() != null) {
-                            snapshotRecords.put(
-                                    (Struct) record.key(), Collections.singletonList(record));
+                        if (spillingNormalizer != null) {
+                            if (!reachBinlogStart) {
+                                spillingNormalizer.addSnapshotRecord(record);
+                            } else {
+                                spillingNormalizer.addBinlogRecord(record);
+                            }
+                        } else if (!reachBinlogStart) {
+                            if (record.key() != null) {
+                                snapshotRecords.put(
+                                        (Struct) record.key(), Collections.singletonList(record));
+                            } else {
+                                List<SourceRecord> records =
+                                        snapshotRecords.computeIfAbsent(
+                                                (Struct) record.value(), key -> new LinkedList<>());
+                                records.add(record);
+                            }
                         } else {
-                            List<SourceRecord> records =
-                                    snapshotRecords.computeIfAbsent(
-                                            (Struct) record.value(), key -> new LinkedList<>());
-                            records.add(record);
+                            RecordUtils.upsertBinlog(
+                                    snapshotRecords,
+                                    record,
+                                    currentSnapshotSplit.getSplitKeyType(),
+                                    nameAdjuster,
+                                    currentSnapshotSplit.getSplitStart(),
+                                    currentSnapshotSplit.getSplitEnd());
                         }
-                    } else {
-                        RecordUtils.upsertBinlog(
-                                snapshotRecords,
-                                record,
-                                currentSnapshotSplit.getSplitKeyType(),
-                                nameAdjuster,
-                                currentSnapshotSplit.getSplitStart(),
-                                currentSnapshotSplit.getSplitEnd());
                     }
                 }
+            } catch (InterruptedException | RuntimeException e) {
+                if (spillingNormalizer != null) {
+                    spillingNormalizer.close();
+                }
+                throw e;
             }
             // snapshot split return its data once
             hasNextElement.set(false);
 
+            if (spillingNormalizer != null) {
+                // the records are read lazily from the spillable buffer by the consumer, the
+                // returned iterator owns the buffer and outlives this reader
+                return spillingNormalizer.normalize(lowWatermark, highWatermark);
+            }
+
             final List<SourceRecord> normalizedRecords = new ArrayList<>();
             normalizedRecords.add(lowWatermark);
             normalizedRecords.addAll(
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.debezium.reader;
+
+import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import org.apache.flink.cdc.connectors.mysql.source.split.SourceRecords;
+import org.apache.flink.cdc.connectors.mysql.source.utils.RecordUtils;
+import org.apache.flink.cdc.debezium.internal.SourceRecordSerializer;
+import org.apache.flink.cdc.debezium.internal.SpillableSourceRecordBuffer;
+import org.apache.flink.util.CloseableIterator;
+
+import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Normalizes the records of a snapshot split with bounded memory.
+ *
+ * <p>Instead of upserting the backfill binlog events into a map of all snapshot records, the
+ * snapshot records and the backfill binlog events are appended to {@link
+ * SpillableSourceRecordBuffer}s and only the keys touched by the backfill binlog events are kept in
+ * memory. When the normalized records are iterated, snapshot records whose keys are not touched by
+ * any backfill event are emitted directly from the buffer, the few touched ones are collected and
+ * upserted with {@link RecordUtils#upsertBinlog} at the end.
+ *
+ * <p>The touched keys are bounded by the memory budget too. If they exceed it, for a chunk that is
+ * changed heavily during its snapshot, the normalizer falls back to upserting all snapshot records
+ * in memory like the normalization without spilling.
+ */
+class SpillingSnapshotSplitNormalizer {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(SpillingSnapshotSplitNormalizer.class);
+
+    private static final int BATCH_SIZE = 1024;
+
+    private final MySqlSnapshotSplit snapshotSplit;
+    private final SchemaNameAdjuster nameAdjuster;
+    private final long memoryBudget;
+    private final SpillableSourceRecordBuffer snapshotRecords;
+    private final SpillableSourceRecordBuffer binlogRecords;
+    private final Set<Struct> touchedKeys;
+    private final List<Struct> recordKeys;
+    private long touchedKeysSize;
+    private boolean touchedKeysExceedBudget;
+
+    SpillingSnapshotSplitNormalizer(
+            MySqlSnapshotSplit snapshotSplit,
+            SchemaNameAdjuster nameAdjuster,
+            long memoryBudget,
+            String[] spillDirectories) {
+        this.snapshotSplit = snapshotSplit;
+        this.nameAdjuster = nameAdjuster;
+        this.memoryBudget = memoryBudget;
+        this.snapshotRecords = new SpillableSourceRecordBuffer(memoryBudget, spillDirectories);
+        this.binlogRecords = new SpillableSourceRecordBuffer(memoryBudget, spillDirectories);
+        this.touchedKeys = new HashSet<>();
+        this.recordKeys = new ArrayList<>(2);
+    }
+
+    void addSnapshotRecord(SourceRecord record) {
+        snapshotRecords.add(record);
+    }
+
+    void addBinlogRecord(SourceRecord record) {
+        recordKeys.clear();
+        // records out of the split range don't change the snapshot records
+        if (RecordUtils.collectUpsertBinlogKeys(
+                recordKeys,
+                record,
+                snapshotSplit.getSplitKeyType(),
+                nameAdjuster,
+                snapshotSplit.getSplitStart(),
+                snapshotSplit.getSplitEnd())) {
+            binlogRecords.add(record);
+            if (!touchedKeysExceedBudget) {
+                trackTouchedKeys(record);
+            }
+        }
+    }
+
+    /**
+     * Returns the normalized records: [low watermark event][normalized events][high watermark
+     * event]. The snapshot records are read lazily while iterating, the spill files are deleted
+     * once the returned iterator is exhausted or closed.
+     */
+    CloseableIterator<SourceRecords> normalize(
+            SourceRecord lowWatermark, SourceRecord highWatermark) {
+        if (touchedKeysExceedBudget) {
+            try {
+                return normalizeInMemory(lowWatermark, highWatermark);
+            } finally {
+                close();
+            }
+        }
+        return new NormalizedRecordsIterator(lowWatermark, highWatermark);
+    }
+
+    void close() {
+        snapshotRecords.close();
+        binlogRecords.close();
+    }
+
+    private void trackTouchedKeys(SourceRecord record) {
+        for (Struct key : recordKeys) {
+            if (touchedKeys.add(key)) {
+                touchedKeysSize += SourceRecordSerializer.estimateSize(record);
+            }
+        }
+        if (touchedKeysSize > memoryBudget) {
+            LOG.warn(
+                    "The keys changed during the snapshot of split {} exceed the memory budget of {} bytes, "
+                            + "falling back to normalizing the snapshot records in memory.",
+                    snapshotSplit.splitId(),
+                    memoryBudget);
+            touchedKeysExceedBudget = true;
+            touchedKeys.clear();
+        }
+    }
+
+    private CloseableIterator<SourceRecords> normalizeInMemory(
+            SourceRecord lowWatermark, SourceRecord highWatermark) {
+        final Map<Struct, List<SourceRecord>> outputBuffer = new HashMap<>();
+        for (SourceRecord record : snapshotRecords) {
+            putSnapshotRecord(outputBuffer, record);
+        }
+        upsertBinlogRecords(outputBuffer);
+        final List<SourceRecord> normalizedRecords = new ArrayList<>();
+        normalizedRecords.add(lowWatermark);
+        normalizedRecords.addAll(RecordUtils.formatMessageTimestamp(flatten(outputBuffer)));
+        normalizedRecords.add(highWatermark);
+        return CloseableIterator.adapterForIterator(
+                Collections.singletonList(new SourceRecords(normalizedRecords)).iterator());
+    }
+
+    private void upsertBinlogRecords(Map<Struct, List<SourceRecord>> outputBuffer) {
+        for (SourceRecord binlogRecord : binlogRecords) {
+            RecordUtils.upsertBinlog(
+                    outputBuffer,
+                    binlogRecord,
+                    snapshotSplit.getSplitKeyType(),
+                    nameAdjuster,
+                    snapshotSplit.getSplitStart(),
+                    snapshotSplit.getSplitEnd());
+        }
+    }
+
+    private static void putSnapshotRecord(
+            Map<Struct, List<SourceRecord>> outputBuffer, SourceRecord record) {
+        if (record.key() != null) {
+            outputBuffer.put((Struct) record.key(), Collections.singletonList(record));
+        } else {
+            outputBuffer
+                    .computeIfAbsent((Struct) record.value(), k -> new LinkedList<>())
+                    .add(record);
+        }
+    }
+
+    private static List<SourceRecord> flatten(Map<Struct, List<SourceRecord>> outputBuffer) {
+        final List<SourceRecord> records = new ArrayList<>();
+        for (Collection<SourceRecord> recordsOfKey : outputBuffer.values()) {
+            records.addAll(recordsOfKey);
+        }
+        return records;
+    }
+
+    private static Struct snapshotRecordKey(SourceRecord record) {
+        return record.key() != null ? (Struct) record.key() : (Struct) record.value();
+    }
+
+    private class NormalizedRecordsIterator implements CloseableIterator<SourceRecords> {
+
+        private final Iterator<SourceRecord> snapshotIterator;
+        private final Map<Struct, List<SourceRecord>> touchedRecords;
+        private SourceRecord lowWatermark;
+        private SourceRecord highWatermark;
+
+        private NormalizedRecordsIterator(SourceRecord lowWatermark, SourceRecord highWatermark) {
+            this.snapshotIterator = snapshotRecords.iterator();
+            this.touchedRecords = new HashMap<>();
+            this.lowWatermark = lowWatermark;
+            this.highWatermark = highWatermark;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return highWatermark != null;
+        }
+
+        @Override
+        public SourceRecords next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final List<SourceRecord> batch = new ArrayList<>(BATCH_SIZE);
+            if (lowWatermark != null) {
+                batch.add(lowWatermark);
+                lowWatermark = null;
+            }
+            final List<SourceRecord> normalized = new ArrayList<>(BATCH_SIZE);
+            while (normalized.size() < BATCH_SIZE && snapshotIterator.hasNext()) {
+                SourceRecord record = snapshotIterator.next();
+                if (touchedKeys.contains(snapshotRecordKey(record))) {
+                    putSnapshotRecord(touchedRecords, record);
+                } else {
+                    normalized.add(record);
+                }
+            }
+            batch.addAll(RecordUtils.formatMessageTimestamp(normalized));
+            if (!snapshotIterator.hasNext()) {
+                upsertBinlogRecords(touchedRecords);
+                batch.addAll(RecordUtils.formatMessageTimestamp(flatten(touchedRecords)));
+                batch.add(highWatermark);
+                close();
+            }
+            return new SourceRecords(batch);
+        }
+
+        @Override
+        public void close() {
+            highWatermark = null;
+            touchedRecords.clear();
+            SpillingSnapshotSplitNormalizer.this.close();
+        }
+    }
+}
@@ -253,6 +253,16 @@ public class MySqlSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The memory budget in bytes for normalizing the records of a snapshot split with its backfill
+     * binlog events. Snapshot records exceeding the budget are spilled to local disk, a
+     * non-positive value keeps the whole split in memory.
+     */
+    public MySqlSourceBuilder<T> snapshotSpillMemoryBudget(long snapshotSpillMemoryBudget) {
+        this.configFactory.snapshotSpillMemoryBudget(snapshotSpillMemoryBudget);
+        return this;
+    }
+
     /**
      * Whether to close idle readers at the end of the snapshot phase. This feature depends on
      * FLIP-147: Support Checkpoints After Tasks Finished. The flink version is required to be
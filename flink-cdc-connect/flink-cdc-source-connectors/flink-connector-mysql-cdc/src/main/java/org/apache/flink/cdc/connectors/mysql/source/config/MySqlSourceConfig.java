@@ -66,6 +66,7 @@ public class MySqlSourceConfig implements Serializable {
     private final Properties jdbcProperties;
     private final Map<ObjectPath, String> chunkKeyColumns;
     private final boolean skipSnapshotBackfill;
+    private final long snapshotSpillMemoryBudget;
 
     // --------------------------------------------------------------------------------------------
     // Debezium Configurations
@@ -99,7 +100,8 @@ public class MySqlSourceConfig implements Serializable {
             Properties dbzProperties,
             Properties jdbcProperties,
             Map<ObjectPath, String> chunkKeyColumns,
-            boolean skipSnapshotBackfill) {
+            boolean skipSnapshotBackfill,
+            long snapshotSpillMemoryBudget) {
         this.hostname = checkNotNull(hostname);
         this.port = port;
         this.username = checkNotNull(username);
@@ -127,6 +129,7 @@ public class MySqlSourceConfig implements Serializable {
         this.jdbcProperties = jdbcProperties;
         this.chunkKeyColumns = chunkKeyColumns;
         this.skipSnapshotBackfill = skipSnapshotBackfill;
+        this.snapshotSpillMemoryBudget = snapshotSpillMemoryBudget;
     }
 
     public String getHostname() {
@@ -254,4 +257,12 @@ public class MySqlSourceConfig implements Serializable {
     public boolean isSkipSnapshotBackfill() {
         return skipSnapshotBackfill;
     }
+
+    /**
+     * Returns the memory budget in bytes for normalizing a snapshot split, a non-positive value
+     * means the whole split is normalized in memory.
+     */
+    public long getSnapshotSpillMemoryBudget() {
+        return snapshotSpillMemoryBudget;
+    }
 }
@@ -262,4 +262,12 @@ public class MySqlSourceOptions {
                     .defaultValue(false)
                     .withDescription(
                             "Whether to skip backfill in snapshot reading phase. If backfill is skipped, changes on captured tables during snapshot phase will be consumed later in binlog reading phase instead of being merged into the snapshot. WARNING: Skipping backfill might lead to data inconsistency because some binlog events happened within the snapshot phase might be replayed (only at-least-once semantic is promised). For example updating an already updated value in snapshot, or deleting an already deleted entry in snapshot. These replayed binlog events should be handled specially.");
+
+    @Experimental
+    public static final ConfigOption<Long> SCAN_INCREMENTAL_SNAPSHOT_SPILL_MEMORY_BUDGET =
+            ConfigOptions.key("scan.incremental.snapshot.spill.memory-budget")
+                    .longType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The memory budget in bytes for normalizing the records of a snapshot chunk with its backfill binlog events. When set, snapshot records exceeding the budget are spilled to local disk and emitted lazily instead of keeping the whole chunk in memory, the backfill binlog events are spilled the same way. If the keys changed by the backfill events exceed the budget as well, the chunk falls back to being normalized in memory. By default the whole chunk is kept in memory.");
 }
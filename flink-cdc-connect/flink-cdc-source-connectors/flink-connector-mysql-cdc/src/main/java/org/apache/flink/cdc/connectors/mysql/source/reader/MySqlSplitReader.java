@@ -30,6 +30,7 @@ import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
 import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSplit;
 import org.apache.flink.cdc.connectors.mysql.source.split.SourceRecords;
 import org.apache.flink.cdc.connectors.mysql.source.utils.hooks.SnapshotPhaseHooks;
+import org.apache.flink.configuration.ConfigurationUtils;
 import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
@@ -240,7 +241,12 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
             final StatefulTaskContext statefulTaskContext =
                     new StatefulTaskContext(sourceConfig, binaryLogClient, jdbcConnection);
             reusedSnapshotReader =
-                    new SnapshotSplitReader(statefulTaskContext, subtaskId, snapshotHooks);
+                    new SnapshotSplitReader(
+                            statefulTaskContext,
+                            subtaskId,
+                            snapshotHooks,
+                            ConfigurationUtils.parseTempDirectories(
+                                    context.getSourceReaderContext().getConfiguration()));
         }
         return reusedSnapshotReader;
     }
@@ -0,0 +1,458 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.source.split;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import io.debezium.relational.Column;
+import io.debezium.relational.ColumnEditor;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import io.debezium.relational.history.TableChanges.TableChangeType;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A compact binary serializer for the table schemas of {@link MySqlSplit}s, which replaces the JSON
+ * documents of {@link io.debezium.relational.history.TableChanges}.
+ *
+ * <p>The schema of a table is encoded without its table id, which is restored from the key of the
+ * map, so tables sharing the same definition (e.g. the shards of a sharded table) store the encoded
+ * schema only once and refer to it by index. The schemas are decoded lazily when they are first
+ * accessed, and schemas which are never accessed are written back without being decoded.
+ */
+final class BinaryTableChangeSerializer {
+
+    private static final int FLAG_OPTIONAL = 1;
+    private static final int FLAG_AUTO_INCREMENTED = 1 << 1;
+    private static final int FLAG_GENERATED = 1 << 2;
+    private static final int FLAG_HAS_DEFAULT_VALUE = 1 << 3;
+    private static final int FLAG_HAS_DEFAULT_VALUE_EXPRESSION = 1 << 4;
+    private static final int FLAG_HAS_SCALE = 1 << 5;
+
+    private static final int NULL_LENGTH = -1;
+
+    private static final ThreadLocal<DataOutputSerializer> SCHEMA_SERIALIZER_CACHE =
+            ThreadLocal.withInitial(() -> new DataOutputSerializer(256));
+
+    private BinaryTableChangeSerializer() {}
+
+    static void writeTableSchemas(Map<TableId, TableChange> tableSchemas, DataOutputSerializer out)
+            throws IOException {
+        final Map<ByteBuffer, Integer> schemaIndexes = new HashMap<>();
+        final List<byte[]> schemas = new ArrayList<>();
+        final List<TableId> tableIds = new ArrayList<>(tableSchemas.size());
+        final int[] tableSchemaIndexes = new int[tableSchemas.size()];
+        for (TableId tableId : tableSchemas.keySet()) {
+            byte[] schema = null;
+            if (tableSchemas instanceof LazyTableChangeMap) {
+                schema = ((LazyTableChangeMap) tableSchemas).getEncodedSchema(tableId);
+            }
+            if (schema == null) {
+                schema = encodeTableChange(tableSchemas.get(tableId));
+            }
+            Integer schemaIndex = schemaIndexes.get(ByteBuffer.wrap(schema));
+            if (schemaIndex == null) {
+                schemaIndex = schemas.size();
+                schemaIndexes.put(ByteBuffer.wrap(schema), schemaIndex);
+                schemas.add(schema);
+            }
+            tableSchemaIndexes[tableIds.size()] = schemaIndex;
+            tableIds.add(tableId);
+        }
+
+        out.writeInt(schemas.size());
+        for (byte[] schema : schemas) {
+            out.writeInt(schema.length);
+            out.write(schema);
+        }
+        out.writeInt(tableIds.size());
+        for (int i = 0; i < tableIds.size(); i++) {
+            out.writeUTF(tableIds.get(i).toDoubleQuotedString());
+            out.writeInt(tableSchemaIndexes[i]);
+        }
+    }
+
+    static Map<TableId, TableChange> readTableSchemas(DataInputDeserializer in) throws IOException {
+        final byte[][] schemas = new byte[in.readInt()][];
+        for (int i = 0; i < schemas.length; i++) {
+            schemas[i] = new byte[in.readInt()];
+            in.readFully(schemas[i]);
+        }
+        final LazyTableChangeMap tableSchemas = new LazyTableChangeMap();
+        final int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            TableId tableId = TableId.parse(in.readUTF());
+            tableSchemas.putEncodedSchema(tableId, schemas[in.readInt()]);
+        }
+        return tableSchemas;
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Encoding and decoding of a single table schema
+    // ------------------------------------------------------------------------------------------
+
+    private static byte[] encodeTableChange(TableChange tableChange) throws IOException {
+        final DataOutputSerializer out = SCHEMA_SERIALIZER_CACHE.get();
+        try {
+            out.writeByte(tableChange.getType().ordinal());
+            if (tableChange.getType() == TableChangeType.DROP) {
+                return out.getCopyOfBuffer();
+            }
+            final Table table = tableChange.getTable();
+            writeNullableString(table.defaultCharsetName(), out);
+            writeNullableString(table.comment(), out);
+            writeStrings(table.primaryKeyColumnNames(), out);
+            final List<Column> columns = table.columns();
+            out.writeInt(columns.size());
+            for (Column column : columns) {
+                writeColumn(column, out);
+            }
+            return out.getCopyOfBuffer();
+        } finally {
+            out.clear();
+        }
+    }
+
+    private static void writeColumn(Column column, DataOutputSerializer out) throws IOException {
+        int flags = 0;
+        if (column.isOptional()) {
+            flags |= FLAG_OPTIONAL;
+        }
+        if (column.isAutoIncremented()) {
+            flags |= FLAG_AUTO_INCREMENTED;
+        }
+        if (column.isGenerated()) {
+            flags |= FLAG_GENERATED;
+        }
+        if (column.hasDefaultValue()) {
+            flags |= FLAG_HAS_DEFAULT_VALUE;
+        }
+        if (column.defaultValueExpression().isPresent()) {
+            flags |= FLAG_HAS_DEFAULT_VALUE_EXPRESSION;
+        }
+        if (column.scale().isPresent()) {
+            flags |= FLAG_HAS_SCALE;
+        }
+        out.writeByte(flags);
+        writeNullableString(column.name(), out);
+        out.writeInt(column.jdbcType());
+        out.writeInt(column.nativeType());
+        writeNullableString(column.typeName(), out);
+        writeNullableString(column.typeExpression(), out);
+        writeNullableString(column.charsetName(), out);
+        out.writeInt(column.length());
+        if (column.scale().isPresent()) {
+            out.writeInt(column.scale().get());
+        }
+        out.writeInt(column.position());
+        writeNullableString(column.comment(), out);
+        if (column.defaultValueExpression().isPresent()) {
+            writeNullableString(column.defaultValueExpression().get(), out);
+        }
+        writeStrings(column.enumValues(), out);
+    }
+
+    private static TableChange decodeTableChange(TableId tableId, byte[] schema)
+            throws IOException {
+        final DataInputDeserializer in = new DataInputDeserializer(schema);
+        final TableChangeType type = TableChangeType.values()[in.readByte()];
+        if (type == TableChangeType.DROP) {
+            return new TableChange(type, Table.editor().tableId(tableId).create());
+        }
+        final TableEditor editor =
+                Table.editor().tableId(tableId).setDefaultCharsetName(readNullableString(in));
+        final String comment = readNullableString(in);
+        if (comment != null) {
+            editor.setComment(comment);
+        }
+        final List<String> primaryKeyColumnNames = readStrings(in);
+        final int columnCount = in.readInt();
+        for (int i = 0; i < columnCount; i++) {
+            editor.addColumn(readColumn(in));
+        }
+        editor.setPrimaryKeyNames(primaryKeyColumnNames);
+        return new TableChange(type, editor.create());
+    }
+
+    private static Column readColumn(DataInputDeserializer in) throws IOException {
+        final int flags = in.readByte();
+        final ColumnEditor editor =
+                Column.editor().name(readNullableString(in)).jdbcType(in.readInt());
+        final int nativeType = in.readInt();
+        if (nativeType != Column.UNSET_INT_VALUE) {
+            editor.nativeType(nativeType);
+        }
+        editor.type(readNullableString(in), readNullableString(in))
+                .charsetName(readNullableString(in));
+        final int length = in.readInt();
+        if (length != Column.UNSET_INT_VALUE) {
+            editor.length(length);
+        }
+        if ((flags & FLAG_HAS_SCALE) != 0) {
+            editor.scale(in.readInt());
+        }
+        editor.position(in.readInt());
+        final String comment = readNullableString(in);
+        if (comment != null) {
+            editor.comment(comment);
+        }
+        if ((flags & FLAG_HAS_DEFAULT_VALUE_EXPRESSION) != 0) {
+            editor.defaultValueExpression(readNullableString(in));
+        } else if ((flags & FLAG_HAS_DEFAULT_VALUE) != 0) {
+            editor.defaultValueExpression(null);
+        }
+        final List<String> enumValues = readStrings(in);
+        if (enumValues != null && !enumValues.isEmpty()) {
+            editor.enumValues(enumValues);
+        }
+        return editor.optional((flags & FLAG_OPTIONAL) != 0)
+                .autoIncremented((flags & FLAG_AUTO_INCREMENTED) != 0)
+                .generated((flags & FLAG_GENERATED) != 0)
+                .create();
+    }
+
+    // strings are written as UTF-8 bytes, as comments and enum values may exceed the 64 KB limit of
+    // writeUTF
+
+    private static void writeNullableString(@Nullable String value, DataOutputSerializer out)
+            throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+        } else {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    @Nullable
+    private static String readNullableString(DataInputDeserializer in) throws IOException {
+        final int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(@Nullable List<String> values, DataOutputSerializer out)
+            throws IOException {
+        if (values == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeNullableString(value, out);
+        }
+    }
+
+    @Nullable
+    private static List<String> readStrings(DataInputDeserializer in) throws IOException {
+        final int size = in.readInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        final List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readNullableString(in));
+        }
+        return values;
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    /**
+     * The table schemas read from a split, whose values are kept encoded until they are accessed
+     * for the first time.
+     */
+    static final class LazyTableChangeMap extends AbstractMap<TableId, TableChange> {
+
+        /** The values of the map, which are either a {@link TableChange} or its encoded bytes. */
+        private final Map<TableId, Object> values = new HashMap<>();
+
+        private final EntrySet entrySet = new EntrySet();
+
+        private void putEncodedSchema(TableId tableId, byte[] schema) {
+            values.put(tableId, schema);
+        }
+
+        /** Returns the encoded schema of the table if it has not been decoded yet. */
+        @Nullable
+        byte[] getEncodedSchema(TableId tableId) {
+            final Object value = values.get(tableId);
+            return value instanceof byte[] ? (byte[]) value : null;
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return values.containsKey(key);
+        }
+
+        @Override
+        public TableChange get(Object key) {
+            final Object value = values.get(key);
+            if (value instanceof byte[]) {
+                final TableChange tableChange = decode((TableId) key, (byte[]) value);
+                values.put((TableId) key, tableChange);
+                return tableChange;
+            }
+            return (TableChange) value;
+        }
+
+        @Override
+        public TableChange put(TableId key, TableChange value) {
+            return resolve(key, values.put(key, value));
+        }
+
+        @Override
+        public TableChange remove(Object key) {
+            return resolve((TableId) key, values.remove(key));
+        }
+
+        @Override
+        public void clear() {
+            values.clear();
+        }
+
+        @Override
+        public Set<TableId> keySet() {
+            return values.keySet();
+        }
+
+        @Override
+        public Set<Entry<TableId, TableChange>> entrySet() {
+            return entrySet;
+        }
+
+        @Nullable
+        private static TableChange resolve(TableId tableId, @Nullable Object value) {
+            return value instanceof byte[] ? decode(tableId, (byte[]) value) : (TableChange) value;
+        }
+
+        private static TableChange decode(TableId tableId, byte[] schema) {
+            try {
+                return decodeTableChange(tableId, schema);
+            } catch (IOException e) {
+                throw new IllegalStateException(
+                        "Failed to decode the table schema of " + tableId, e);
+            }
+        }
+
+        private final class EntrySet extends AbstractSet<Entry<TableId, TableChange>> {
+
+            @Override
+            public Iterator<Entry<TableId, TableChange>> iterator() {
+                final Iterator<Entry<TableId, Object>> iterator = values.entrySet().iterator();
+                return new Iterator<Entry<TableId, TableChange>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<TableId, TableChange> next() {
+                        return new LazyEntry(iterator.next());
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.size();
+            }
+
+            @Override
+            public void clear() {
+                values.clear();
+            }
+        }
+
+        /** An entry of the map, which decodes the value in place when it is accessed. */
+        private static final class LazyEntry implements Entry<TableId, TableChange> {
+
+            private final Entry<TableId, Object> entry;
+
+            private LazyEntry(Entry<TableId, Object> entry) {
+                this.entry = entry;
+            }
+
+            @Override
+            public TableId getKey() {
+                return entry.getKey();
+            }
+
+            @Override
+            public TableChange getValue() {
+                final Object value = entry.getValue();
+                if (value instanceof byte[]) {
+                    final TableChange tableChange = decode(entry.getKey(), (byte[]) value);
+                    entry.setValue(tableChange);
+                    return tableChange;
+                }
+                return (TableChange) value;
+            }
+
+            @Override
+            public TableChange setValue(TableChange value) {
+                return resolve(entry.getKey(), entry.setValue(value));
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (!(o instanceof Entry)) {
+                    return false;
+                }
+                final Entry<?, ?> that = (Entry<?, ?>) o;
+                return getKey().equals(that.getKey()) && getValue().equals(that.getValue());
+            }
+
+            @Override
+            public int hashCode() {
+                return getKey().hashCode() ^ getValue().hashCode();
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.mysql.source.split;
 
 import org.apache.flink.cdc.connectors.mysql.source.offset.BinlogOffset;
+import org.apache.flink.cdc.connectors.mysql.source.offset.BinlogOffsetKind;
 
 import io.debezium.relational.TableId;
 import io.debezium.relational.Tables;
@@ -28,6 +29,7 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -243,6 +245,64 @@ public class MySqlBinlogSplit extends MySqlSplit {
                 binlogSplit.isSuspended());
     }
 
+    /**
+     * Compacts the finished split infos of the tables which have entered the pure binlog phase at
+     * the starting offset of the {@link MySqlBinlogSplit}.
+     *
+     * <p>When the max high watermark of a table is not after the starting offset, all binlog events
+     * of the table are emitted and the boundaries of its snapshot splits are not used anymore. The
+     * split infos of these tables are kept, as their number is used to request the split meta
+     * groups, but their boundaries are dropped and their high watermarks are forwarded to the
+     * starting offset, which makes them cheap to checkpoint.
+     */
+    public static MySqlBinlogSplit compactFinishedSplitInfos(MySqlBinlogSplit binlogSplit) {
+        final BinlogOffset startingOffset = binlogSplit.getStartingOffset();
+        if (startingOffset == null
+                || startingOffset.getOffsetKind() != BinlogOffsetKind.SPECIFIC
+                || binlogSplit.getFinishedSnapshotSplitInfos().isEmpty()) {
+            return binlogSplit;
+        }
+        final Map<TableId, BinlogOffset> maxHighWatermarks = new HashMap<>();
+        for (FinishedSnapshotSplitInfo splitInfo : binlogSplit.getFinishedSnapshotSplitInfos()) {
+            maxHighWatermarks.merge(
+                    splitInfo.getTableId(),
+                    splitInfo.getHighWatermark(),
+                    (w1, w2) -> w1.isAfter(w2) ? w1 : w2);
+        }
+
+        boolean compacted = false;
+        final List<FinishedSnapshotSplitInfo> compactedSplitInfos =
+                new ArrayList<>(binlogSplit.getFinishedSnapshotSplitInfos().size());
+        for (FinishedSnapshotSplitInfo splitInfo : binlogSplit.getFinishedSnapshotSplitInfos()) {
+            if (!maxHighWatermarks.get(splitInfo.getTableId()).isAfter(startingOffset)
+                    && (splitInfo.getSplitStart() != null
+                            || splitInfo.getSplitEnd() != null
+                            || !startingOffset.equals(splitInfo.getHighWatermark()))) {
+                compactedSplitInfos.add(
+                        new FinishedSnapshotSplitInfo(
+                                splitInfo.getTableId(),
+                                splitInfo.getSplitId(),
+                                null,
+                                null,
+                                startingOffset));
+                compacted = true;
+            } else {
+                compactedSplitInfos.add(splitInfo);
+            }
+        }
+        if (!compacted) {
+            return binlogSplit;
+        }
+        return new MySqlBinlogSplit(
+                binlogSplit.splitId,
+                startingOffset,
+                binlogSplit.getEndingOffset(),
+                compactedSplitInfos,
+                binlogSplit.getTableSchemas(),
+                binlogSplit.getTotalFinishedSplitSize(),
+                binlogSplit.isSuspended());
+    }
+
     public static MySqlBinlogSplit toNormalBinlogSplit(
             MySqlBinlogSplit suspendedBinlogSplit, int totalFinishedSplitSize) {
         return new MySqlBinlogSplit(
@@ -68,14 +68,17 @@ public class MySqlBinlogSplitState extends MySqlSplitState {
 
     public MySqlBinlogSplit toMySqlSplit() {
         final MySqlBinlogSplit binlogSplit = split.asBinlogSplit();
-        return new MySqlBinlogSplit(
-                binlogSplit.splitId(),
-                getStartingOffset(),
-                getEndingOffset(),
-                binlogSplit.asBinlogSplit().getFinishedSnapshotSplitInfos(),
-                getTableSchemas(),
-                binlogSplit.getTotalFinishedSplitSize(),
-                binlogSplit.isSuspended());
+        // the split infos of the tables in the pure binlog phase are compacted, as the split is
+        // checkpointed with its current starting offset
+        return MySqlBinlogSplit.compactFinishedSplitInfos(
+                new MySqlBinlogSplit(
+                        binlogSplit.splitId(),
+                        getStartingOffset(),
+                        getEndingOffset(),
+                        binlogSplit.asBinlogSplit().getFinishedSnapshotSplitInfos(),
+                        getTableSchemas(),
+                        binlogSplit.getTotalFinishedSplitSize(),
+                        binlogSplit.isSuspended()));
     }
 
     @Override
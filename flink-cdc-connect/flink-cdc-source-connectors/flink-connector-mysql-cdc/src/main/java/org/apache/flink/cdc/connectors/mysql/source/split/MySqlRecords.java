@@ -18,6 +18,8 @@
 package org.apache.flink.cdc.connectors.mysql.source.split;
 
 import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.util.CloseableIterator;
+import org.apache.flink.util.FlinkRuntimeException;
 
 import javax.annotation.Nullable;
 
@@ -73,6 +75,15 @@ public final class MySqlRecords implements RecordsWithSplitIds<SourceRecords> {
 
     @Override
     public Set<String> finishedSplits() {
+        // the records of the split have been emitted, release the resources of a lazily read
+        // iterator, e.g. the spill file of the snapshot records
+        if (recordsForSplit instanceof CloseableIterator) {
+            try {
+                ((CloseableIterator<SourceRecords>) recordsForSplit).close();
+            } catch (Exception e) {
+                throw new FlinkRuntimeException("Failed to close the records of the split", e);
+            }
+        }
         return finishedSnapshotSplits;
     }
 
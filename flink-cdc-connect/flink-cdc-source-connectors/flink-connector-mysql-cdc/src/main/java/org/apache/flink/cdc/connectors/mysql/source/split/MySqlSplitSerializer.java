@@ -27,7 +27,6 @@ import org.apache.flink.table.types.logical.utils.LogicalTypeParser;
 
 import io.debezium.document.Document;
 import io.debezium.document.DocumentReader;
-import io.debezium.document.DocumentWriter;
 import io.debezium.relational.TableId;
 import io.debezium.relational.history.TableChanges.TableChange;
 
@@ -35,14 +34,18 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.readBinlogPosition;
+import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.readSplitBoundary;
 import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.rowToSerializedString;
 import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.serializedStringToRow;
 import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.writeBinlogPosition;
+import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.writeSplitBoundary;
 import static org.apache.flink.cdc.connectors.mysql.source.utils.StatementUtils.quote;
 
 /** A serializer for the {@link MySqlSplit}. */
@@ -50,13 +53,20 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
 
     public static final MySqlSplitSerializer INSTANCE = new MySqlSplitSerializer();
 
-    private static final int VERSION = 4;
+    private static final int VERSION = 5;
     private static final ThreadLocal<DataOutputSerializer> SERIALIZER_CACHE =
             ThreadLocal.withInitial(() -> new DataOutputSerializer(64));
 
     private static final int SNAPSHOT_SPLIT_FLAG = 1;
     private static final int BINLOG_SPLIT_FLAG = 2;
 
+    // the flags of a finished snapshot split info, which tell the fields shared with the previous
+    // split info
+    private static final int NEW_TABLE_FLAG = 1;
+    private static final int CHUNK_SPLIT_ID_FLAG = 1 << 1;
+    private static final int START_IS_PREVIOUS_END_FLAG = 1 << 2;
+    private static final int SAME_HIGH_WATERMARK_FLAG = 1 << 3;
+
     @Override
     public int getVersion() {
         return VERSION;
@@ -122,6 +132,7 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
             case 2:
             case 3:
             case 4:
+            case 5:
                 return deserializeSplit(version, serialized);
             default:
                 throw new IOException("Unknown version: " + version);
@@ -185,24 +196,20 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
         }
     }
 
+    /**
+     * Writes the table schemas in the binary format of {@link BinaryTableChangeSerializer}, which
+     * is read since version 5. The JSON format of previous versions is still readable.
+     */
     public static void writeTableSchemas(
             Map<TableId, TableChange> tableSchemas, DataOutputSerializer out) throws IOException {
-        FlinkJsonTableChangeSerializer jsonSerializer = new FlinkJsonTableChangeSerializer();
-        DocumentWriter documentWriter = DocumentWriter.defaultWriter();
-        final int size = tableSchemas.size();
-        out.writeInt(size);
-        for (Map.Entry<TableId, TableChange> entry : tableSchemas.entrySet()) {
-            out.writeUTF(entry.getKey().toString());
-            final String tableChangeStr =
-                    documentWriter.write(jsonSerializer.toDocument(entry.getValue()));
-            final byte[] tableChangeBytes = tableChangeStr.getBytes(StandardCharsets.UTF_8);
-            out.writeInt(tableChangeBytes.length);
-            out.write(tableChangeBytes);
-        }
+        BinaryTableChangeSerializer.writeTableSchemas(tableSchemas, out);
     }
 
     public static Map<TableId, TableChange> readTableSchemas(int version, DataInputDeserializer in)
             throws IOException {
+        if (version >= 5) {
+            return BinaryTableChangeSerializer.readTableSchemas(in);
+        }
         DocumentReader documentReader = DocumentReader.defaultReader();
         Map<TableId, TableChange> tableSchemas = new HashMap<>();
         final int size = in.readInt();
@@ -231,22 +238,115 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
         return tableSchemas;
     }
 
+    /**
+     * Writes the finished snapshot split infos in a compact form, which is read since version 5.
+     *
+     * <p>The split infos of a table are usually written one after another, so the table id, the
+     * start of a split which is the end of the previous one and the repeated high watermarks are
+     * only written once, and the split ids generated from the chunk ids are written as the chunk
+     * id.
+     */
     private static void writeFinishedSplitsInfo(
             List<FinishedSnapshotSplitInfo> finishedSplitsInfo, DataOutputSerializer out)
             throws IOException {
         final int size = finishedSplitsInfo.size();
         out.writeInt(size);
+        FinishedSnapshotSplitInfo previous = null;
+        String splitIdPrefix = null;
         for (FinishedSnapshotSplitInfo splitInfo : finishedSplitsInfo) {
-            out.writeUTF(splitInfo.getTableId().toString());
-            out.writeUTF(splitInfo.getSplitId());
-            out.writeUTF(rowToSerializedString(splitInfo.getSplitStart()));
-            out.writeUTF(rowToSerializedString(splitInfo.getSplitEnd()));
-            writeBinlogPosition(splitInfo.getHighWatermark(), out);
+            final boolean newTable =
+                    previous == null || !previous.getTableId().equals(splitInfo.getTableId());
+            if (newTable) {
+                splitIdPrefix = splitInfo.getTableId().toString() + ":";
+            }
+            final int chunkId = parseChunkId(splitIdPrefix, splitInfo.getSplitId());
+
+            int flags = 0;
+            if (newTable) {
+                flags |= NEW_TABLE_FLAG;
+            }
+            if (chunkId >= 0) {
+                flags |= CHUNK_SPLIT_ID_FLAG;
+            }
+            if (!newTable && Arrays.equals(previous.getSplitEnd(), splitInfo.getSplitStart())) {
+                flags |= START_IS_PREVIOUS_END_FLAG;
+            }
+            if (previous != null
+                    && Objects.equals(previous.getHighWatermark(), splitInfo.getHighWatermark())) {
+                flags |= SAME_HIGH_WATERMARK_FLAG;
+            }
+
+            out.writeByte(flags);
+            if ((flags & NEW_TABLE_FLAG) != 0) {
+                out.writeUTF(splitInfo.getTableId().toString());
+            }
+            if ((flags & CHUNK_SPLIT_ID_FLAG) != 0) {
+                out.writeInt(chunkId);
+            } else {
+                out.writeUTF(splitInfo.getSplitId());
+            }
+            if ((flags & START_IS_PREVIOUS_END_FLAG) == 0) {
+                writeSplitBoundary(splitInfo.getSplitStart(), out);
+            }
+            writeSplitBoundary(splitInfo.getSplitEnd(), out);
+            if ((flags & SAME_HIGH_WATERMARK_FLAG) == 0) {
+                writeBinlogPosition(splitInfo.getHighWatermark(), out);
+            }
+            previous = splitInfo;
+        }
+    }
+
+    /** Returns the chunk id of the split id generated for the table, or -1 if it is not. */
+    private static int parseChunkId(String splitIdPrefix, String splitId) {
+        if (!splitId.startsWith(splitIdPrefix)) {
+            return -1;
+        }
+        final String chunkId = splitId.substring(splitIdPrefix.length());
+        try {
+            final int parsed = Integer.parseInt(chunkId);
+            return parsed >= 0 && chunkId.equals(String.valueOf(parsed)) ? parsed : -1;
+        } catch (NumberFormatException e) {
+            return -1;
         }
     }
 
     private static List<FinishedSnapshotSplitInfo> readFinishedSplitsInfo(
             int version, DataInputDeserializer in) throws IOException {
+        if (version < 5) {
+            return readLegacyFinishedSplitsInfo(version, in);
+        }
+        final int size = in.readInt();
+        final List<FinishedSnapshotSplitInfo> finishedSplitsInfo = new ArrayList<>(size);
+        FinishedSnapshotSplitInfo previous = null;
+        for (int i = 0; i < size; i++) {
+            final int flags = in.readByte();
+            final TableId tableId =
+                    (flags & NEW_TABLE_FLAG) != 0
+                            ? TableId.parse(in.readUTF())
+                            : previous.getTableId();
+            final String splitId =
+                    (flags & CHUNK_SPLIT_ID_FLAG) != 0
+                            ? tableId + ":" + in.readInt()
+                            : in.readUTF();
+            final Object[] splitStart =
+                    (flags & START_IS_PREVIOUS_END_FLAG) != 0
+                            ? previous.getSplitEnd()
+                            : readSplitBoundary(in);
+            final Object[] splitEnd = readSplitBoundary(in);
+            final BinlogOffset highWatermark =
+                    (flags & SAME_HIGH_WATERMARK_FLAG) != 0
+                            ? previous.getHighWatermark()
+                            : readBinlogPosition(version, in);
+            previous =
+                    new FinishedSnapshotSplitInfo(
+                            tableId, splitId, splitStart, splitEnd, highWatermark);
+            finishedSplitsInfo.add(previous);
+        }
+        return finishedSplitsInfo;
+    }
+
+    private static List<FinishedSnapshotSplitInfo> readLegacyFinishedSplitsInfo(
+            int version, DataInputDeserializer in) throws IOException {
         List<FinishedSnapshotSplitInfo> finishedSplitsInfo = new ArrayList<>();
         final int size = in.readInt();
         for (int i = 0; i < size; i++) {
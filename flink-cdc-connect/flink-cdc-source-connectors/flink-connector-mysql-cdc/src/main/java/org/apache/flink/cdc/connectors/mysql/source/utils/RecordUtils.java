@@ -171,6 +171,65 @@ public class RecordUtils {
         }
     }
 
+    /**
+     * Collects the keys of the snapshot records that {@link #upsertBinlog(Map, SourceRecord,
+     * RowType, SchemaNameAdjuster, Object[], Object[])} would touch for the given binlog record.
+     *
+     * @return true if the binlog record changes the records of the split.
+     */
+    public static boolean collectUpsertBinlogKeys(
+            Collection<Struct> keys,
+            SourceRecord binlogRecord,
+            RowType splitBoundaryType,
+            SchemaNameAdjuster nameAdjuster,
+            Object[] splitStart,
+            Object[] splitEnd) {
+        if (!isDataChangeRecord(binlogRecord)) {
+            return false;
+        }
+        Struct value = (Struct) binlogRecord.value();
+        if (value == null
+                || !splitKeyRangeContains(
+                        getSplitKey(
+                                splitBoundaryType,
+                                nameAdjuster,
+                                getStructContainsChunkKey(binlogRecord)),
+                        splitStart,
+                        splitEnd)) {
+            return false;
+        }
+        boolean hasPrimaryKey = binlogRecord.key() != null;
+        Envelope.Operation operation =
+                Envelope.Operation.forCode(value.getString(Envelope.FieldName.OPERATION));
+        switch (operation) {
+            case CREATE:
+                keys.add(
+                        hasPrimaryKey
+                                ? (Struct) binlogRecord.key()
+                                : createReadOpValue(binlogRecord, Envelope.FieldName.AFTER));
+                break;
+            case UPDATE:
+                if (!hasPrimaryKey) {
+                    keys.add(createReadOpValue(binlogRecord, Envelope.FieldName.BEFORE));
+                }
+                keys.add(
+                        hasPrimaryKey
+                                ? (Struct) binlogRecord.key()
+                                : createReadOpValue(binlogRecord, Envelope.FieldName.AFTER));
+                break;
+            case DELETE:
+                keys.add(
+                        hasPrimaryKey
+                                ? (Struct) binlogRecord.key()
+                                : createReadOpValue(binlogRecord, Envelope.FieldName.BEFORE));
+                break;
+            default:
+                // READ records are rejected by upsertBinlog
+                break;
+        }
+        return true;
+    }
+
     private static void upsertBinlog(
             Map<Struct, List<SourceRecord>> snapshotRecords,
             SourceRecord binlogRecord,
@@ -450,7 +509,7 @@ public class RecordUtils {
     }
 
     @SuppressWarnings("unchecked")
-    private static int compareObjects(Object o1, Object o2) {
+    static int compareObjects(Object o1, Object o2) {
         if (o1 instanceof Comparable && o1.getClass().equals(o2.getClass())) {
             return ((Comparable) o1).compareTo(o2);
         } else if (isNumericObject(o1) && isNumericObject(o2)) {
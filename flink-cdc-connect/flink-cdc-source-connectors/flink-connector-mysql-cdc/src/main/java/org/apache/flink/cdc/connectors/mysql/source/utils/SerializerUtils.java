@@ -32,10 +32,22 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 
 /** Utils for serialization and deserialization. */
 public class SerializerUtils {
 
+    // the tags of the split boundary fields written by writeSplitBoundary()
+    private static final int NULL_FIELD = 0;
+    private static final int INT_FIELD = 1;
+    private static final int LONG_FIELD = 2;
+    private static final int STRING_FIELD = 3;
+    private static final int BIG_INTEGER_FIELD = 4;
+    private static final int BIG_DECIMAL_FIELD = 5;
+    private static final int SERIALIZED_FIELD = 6;
+
     private SerializerUtils() {}
 
     public static void writeBinlogPosition(BinlogOffset offset, DataOutputSerializer out)
@@ -58,6 +70,7 @@ public class SerializerUtils {
             case 2:
             case 3:
             case 4:
+            case 5:
                 return readBinlogPosition(in);
             default:
                 throw new IOException("Unknown version: " + offsetVersion);
@@ -115,4 +128,100 @@ public class SerializerUtils {
                     e);
         }
     }
+
+    /**
+     * Writes a split boundary in a compact binary form. The common types of chunk keys are written
+     * by value, and the other types are written with Java serialization as {@link
+     * #rowToSerializedString(Object[])} does.
+     */
+    public static void writeSplitBoundary(Object[] splitBoundary, DataOutputSerializer out)
+            throws IOException {
+        if (splitBoundary == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(splitBoundary.length);
+        for (Object field : splitBoundary) {
+            if (field == null) {
+                out.writeByte(NULL_FIELD);
+            } else if (field instanceof Integer) {
+                out.writeByte(INT_FIELD);
+                out.writeInt((Integer) field);
+            } else if (field instanceof Long) {
+                out.writeByte(LONG_FIELD);
+                out.writeLong((Long) field);
+            } else if (field instanceof String) {
+                out.writeByte(STRING_FIELD);
+                writeBytes(((String) field).getBytes(StandardCharsets.UTF_8), out);
+            } else if (field instanceof BigInteger) {
+                out.writeByte(BIG_INTEGER_FIELD);
+                writeBytes(((BigInteger) field).toByteArray(), out);
+            } else if (field instanceof BigDecimal) {
+                out.writeByte(BIG_DECIMAL_FIELD);
+                out.writeInt(((BigDecimal) field).scale());
+                writeBytes(((BigDecimal) field).unscaledValue().toByteArray(), out);
+            } else {
+                out.writeByte(SERIALIZED_FIELD);
+                try (final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                        ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                    oos.writeObject(field);
+                    oos.flush();
+                    writeBytes(bos.toByteArray(), out);
+                }
+            }
+        }
+    }
+
+    public static Object[] readSplitBoundary(DataInputDeserializer in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        final Object[] splitBoundary = new Object[length];
+        for (int i = 0; i < length; i++) {
+            final int tag = in.readByte();
+            switch (tag) {
+                case NULL_FIELD:
+                    break;
+                case INT_FIELD:
+                    splitBoundary[i] = in.readInt();
+                    break;
+                case LONG_FIELD:
+                    splitBoundary[i] = in.readLong();
+                    break;
+                case STRING_FIELD:
+                    splitBoundary[i] = new String(readBytes(in), StandardCharsets.UTF_8);
+                    break;
+                case BIG_INTEGER_FIELD:
+                    splitBoundary[i] = new BigInteger(readBytes(in));
+                    break;
+                case BIG_DECIMAL_FIELD:
+                    final int scale = in.readInt();
+                    splitBoundary[i] = new BigDecimal(new BigInteger(readBytes(in)), scale);
+                    break;
+                case SERIALIZED_FIELD:
+                    try (final ByteArrayInputStream bis = new ByteArrayInputStream(readBytes(in));
+                            ObjectInputStream ois = new ObjectInputStream(bis)) {
+                        splitBoundary[i] = ois.readObject();
+                    } catch (ClassNotFoundException e) {
+                        throw new IOException("Failed to deserialize split boundary field", e);
+                    }
+                    break;
+                default:
+                    throw new IOException("Unknown split boundary field tag: " + tag);
+            }
+        }
+        return splitBoundary;
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutputSerializer out) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputDeserializer in) throws IOException {
+        final byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
 }
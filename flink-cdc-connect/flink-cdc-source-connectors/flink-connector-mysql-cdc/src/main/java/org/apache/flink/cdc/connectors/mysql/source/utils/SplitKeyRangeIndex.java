@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.source.utils;
+
+import org.apache.flink.cdc.connectors.mysql.source.offset.BinlogOffset;
+import org.apache.flink.cdc.connectors.mysql.source.split.FinishedSnapshotSplitInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.flink.cdc.connectors.mysql.source.utils.RecordUtils.splitKeyRangeContains;
+
+/**
+ * A sorted interval index over the {@link FinishedSnapshotSplitInfo}s of one table.
+ *
+ * <p>The snapshot splits of a table cover disjoint key ranges, so the split that may contain a
+ * given chunk key can be located with a binary search over the split starts instead of checking
+ * every split. If the split boundaries can not be ordered into disjoint single-field ranges, the
+ * index falls back to checking all splits one by one.
+ */
+public class SplitKeyRangeIndex {
+
+    private final FinishedSnapshotSplitInfo[] splits;
+    private final boolean sorted;
+
+    private SplitKeyRangeIndex(FinishedSnapshotSplitInfo[] splits, boolean sorted) {
+        this.splits = splits;
+        this.sorted = sorted;
+    }
+
+    /** Builds the index for the finished snapshot splits of a single table. */
+    public static SplitKeyRangeIndex of(List<FinishedSnapshotSplitInfo> finishedSplits) {
+        List<FinishedSnapshotSplitInfo> sortedSplits = new ArrayList<>(finishedSplits);
+        FinishedSnapshotSplitInfo[] original =
+                finishedSplits.toArray(new FinishedSnapshotSplitInfo[0]);
+        if (!hasSingleFieldBoundaries(sortedSplits)) {
+            return new SplitKeyRangeIndex(original, false);
+        }
+        sortedSplits.sort(
+                (s1, s2) -> {
+                    if (s1.getSplitStart() == null) {
+                        return s2.getSplitStart() == null ? 0 : -1;
+                    } else if (s2.getSplitStart() == null) {
+                        return 1;
+                    }
+                    return RecordUtils.compareObjects(s1.getSplitStart()[0], s2.getSplitStart()[0]);
+                });
+        if (!isDisjoint(sortedSplits)) {
+            return new SplitKeyRangeIndex(original, false);
+        }
+        return new SplitKeyRangeIndex(sortedSplits.toArray(new FinishedSnapshotSplitInfo[0]), true);
+    }
+
+    /**
+     * Returns true if the split whose range contains the given chunk key has a high watermark
+     * before the given binlog position.
+     */
+    public boolean isAfterHighWatermark(Object[] chunkKey, BinlogOffset position) {
+        if (!sorted || chunkKey.length != 1) {
+            for (FinishedSnapshotSplitInfo splitInfo : splits) {
+                if (splitKeyRangeContains(
+                                chunkKey, splitInfo.getSplitStart(), splitInfo.getSplitEnd())
+                        && position.isAfter(splitInfo.getHighWatermark())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        FinishedSnapshotSplitInfo splitInfo = floorSplit(chunkKey[0]);
+        return splitInfo != null
+                && splitKeyRangeContains(
+                        chunkKey, splitInfo.getSplitStart(), splitInfo.getSplitEnd())
+                && position.isAfter(splitInfo.getHighWatermark());
+    }
+
+    /** Returns the split with the greatest start that is less than or equal to the given key. */
+    private FinishedSnapshotSplitInfo floorSplit(Object key) {
+        int low = 0;
+        int high = splits.length - 1;
+        int floor = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            Object[] splitStart = splits[mid].getSplitStart();
+            if (splitStart == null || RecordUtils.compareObjects(key, splitStart[0]) >= 0) {
+                floor = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return floor < 0 ? null : splits[floor];
+    }
+
+    private static boolean hasSingleFieldBoundaries(List<FinishedSnapshotSplitInfo> splits) {
+        for (FinishedSnapshotSplitInfo split : splits) {
+            if (!isSingleFieldBoundary(split.getSplitStart())
+                    || !isSingleFieldBoundary(split.getSplitEnd())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSingleFieldBoundary(Object[] boundary) {
+        return boundary == null || (boundary.length == 1 && boundary[0] != null);
+    }
+
+    private static boolean isDisjoint(List<FinishedSnapshotSplitInfo> sortedSplits) {
+        for (int i = 1; i < sortedSplits.size(); i++) {
+            Object[] previousEnd = sortedSplits.get(i - 1).getSplitEnd();
+            Object[] currentStart = sortedSplits.get(i).getSplitStart();
+            if (previousEnd == null
+                    || currentStart == null
+                    || RecordUtils.compareObjects(previousEnd[0], currentStart[0]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.debezium.reader;
+
+import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import org.apache.flink.cdc.connectors.mysql.source.split.SourceRecords;
+import org.apache.flink.cdc.connectors.mysql.source.utils.RecordUtils;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.util.CloseableIterator;
+
+import io.debezium.data.Envelope;
+import io.debezium.relational.TableId;
+import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+/** Tests for {@link SpillingSnapshotSplitNormalizer}. */
+public class SpillingSnapshotSplitNormalizerTest {
+
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("db.table.Key").field("id", Schema.INT64_SCHEMA).build();
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("db.table.Value")
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .build();
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("source")
+                    .field(Envelope.FieldName.TIMESTAMP, Schema.INT64_SCHEMA)
+                    .field("db", Schema.STRING_SCHEMA)
+                    .field("table", Schema.STRING_SCHEMA)
+                    .build();
+    private static final Envelope ENVELOPE =
+            Envelope.defineSchema()
+                    .withName("db.table.Envelope")
+                    .withRecord(ROW_SCHEMA)
+                    .withSource(SOURCE_SCHEMA)
+                    .build();
+    private static final SchemaNameAdjuster NAME_ADJUSTER = SchemaNameAdjuster.create();
+
+    @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testNormalizeMatchesInMemoryUpsert() {
+        MySqlSnapshotSplit split = createSplit(new Object[] {0L}, new Object[] {1000L});
+        List<SourceRecord> snapshotRecords = new ArrayList<>();
+        for (long id = 0; id < 900; id++) {
+            snapshotRecords.add(readRecord(id, "name-" + id));
+        }
+        List<SourceRecord> binlogRecords = new ArrayList<>();
+        binlogRecords.add(updateRecord(5L, "name-5", "updated-5"));
+        binlogRecords.add(deleteRecord(10L, "name-10"));
+        binlogRecords.add(createRecord(950L, "created-950"));
+        binlogRecords.add(updateRecord(950L, "created-950", "updated-950"));
+        binlogRecords.add(createRecord(1500L, "out-of-range"));
+        binlogRecords.add(deleteRecord(899L, "name-899"));
+
+        // the budget spills the snapshot records but keeps the few touched keys in memory
+        SpillingSnapshotSplitNormalizer normalizer = createNormalizer(split, 16 * 1024);
+        for (SourceRecord record : snapshotRecords) {
+            normalizer.addSnapshotRecord(record);
+        }
+        for (SourceRecord record : binlogRecords) {
+            normalizer.addBinlogRecord(record);
+        }
+        assertEquals(1, temporaryFolder.getRoot().list().length);
+
+        assertNormalized(split, normalizer, snapshotRecords, binlogRecords, 899);
+    }
+
+    @Test
+    public void testNormalizeWithSpilledBinlogRecords() {
+        MySqlSnapshotSplit split = createSplit(new Object[] {0L}, new Object[] {1000L});
+        List<SourceRecord> snapshotRecords = new ArrayList<>();
+        for (long id = 0; id < 900; id++) {
+            snapshotRecords.add(readRecord(id, "name-" + id));
+        }
+        // many changes of a few keys spill the binlog records but not the touched keys
+        List<SourceRecord> binlogRecords = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            long id = i % 3;
+            binlogRecords.add(updateRecord(id, "name-" + id, "updated-" + i));
+        }
+        binlogRecords.add(deleteRecord(2L, "name-2"));
+
+        SpillingSnapshotSplitNormalizer normalizer = createNormalizer(split, 16 * 1024);
+        for (SourceRecord record : snapshotRecords) {
+            normalizer.addSnapshotRecord(record);
+        }
+        for (SourceRecord record : binlogRecords) {
+            normalizer.addBinlogRecord(record);
+        }
+        assertEquals(2, temporaryFolder.getRoot().list().length);
+
+        assertNormalized(split, normalizer, snapshotRecords, binlogRecords, 899);
+    }
+
+    @Test
+    public void testTouchedKeysExceedingBudgetFallBackToInMemory() {
+        MySqlSnapshotSplit split = createSplit(new Object[] {0L}, new Object[] {1000L});
+        List<SourceRecord> snapshotRecords = new ArrayList<>();
+        for (long id = 0; id < 900; id++) {
+            snapshotRecords.add(readRecord(id, "name-" + id));
+        }
+        // a hot chunk: most of its keys change during the snapshot
+        List<SourceRecord> binlogRecords = new ArrayList<>();
+        for (long id = 0; id < 600; id++) {
+            binlogRecords.add(updateRecord(id, "name-" + id, "updated-" + id));
+        }
+        for (long id = 600; id < 700; id++) {
+            binlogRecords.add(deleteRecord(id, "name-" + id));
+        }
+        binlogRecords.add(createRecord(950L, "created-950"));
+
+        SpillingSnapshotSplitNormalizer normalizer = createNormalizer(split, 16 * 1024);
+        for (SourceRecord record : snapshotRecords) {
+            normalizer.addSnapshotRecord(record);
+        }
+        for (SourceRecord record : binlogRecords) {
+            normalizer.addBinlogRecord(record);
+        }
+
+        assertNormalized(split, normalizer, snapshotRecords, binlogRecords, 801);
+    }
+
+    @Test
+    public void testNormalizeWithoutBinlogRecords() {
+        MySqlSnapshotSplit split = createSplit(null, null);
+        // a tiny budget to spill almost all snapshot records
+        SpillingSnapshotSplitNormalizer normalizer = createNormalizer(split, 1024);
+        for (long id = 0; id < 3000; id++) {
+            normalizer.addSnapshotRecord(readRecord(id, "name-" + id));
+        }
+        List<SourceRecord> normalized = new ArrayList<>();
+        Iterator<SourceRecords> iterator =
+                normalizer.normalize(watermark("low"), watermark("high"));
+        while (iterator.hasNext()) {
+            normalized.addAll(iterator.next().getSourceRecordList());
+        }
+
+        assertEquals(3002, normalized.size());
+        for (int i = 1; i <= 3000; i++) {
+            Struct after = ((Struct) normalized.get(i).value()).getStruct(Envelope.FieldName.AFTER);
+            assertEquals((long) i - 1, (long) after.getInt64("id"));
+        }
+        // the spill file is deleted once the normalized records are fully read
+        assertEquals(0, temporaryFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void testCloseNormalizedRecords() throws Exception {
+        MySqlSnapshotSplit split = createSplit(null, null);
+        SpillingSnapshotSplitNormalizer normalizer = createNormalizer(split, 1024);
+        for (long id = 0; id < 3000; id++) {
+            normalizer.addSnapshotRecord(readRecord(id, "name-" + id));
+        }
+        CloseableIterator<SourceRecords> iterator =
+                normalizer.normalize(watermark("low"), watermark("high"));
+        iterator.next();
+        assertEquals(1, temporaryFolder.getRoot().list().length);
+
+        // the owner of the normalized records deletes the spill file if they are not fully read
+        iterator.close();
+        assertFalse(iterator.hasNext());
+        assertEquals(0, temporaryFolder.getRoot().list().length);
+    }
+
+    private SpillingSnapshotSplitNormalizer createNormalizer(
+            MySqlSnapshotSplit split, long memoryBudget) {
+        return new SpillingSnapshotSplitNormalizer(
+                split,
+                NAME_ADJUSTER,
+                memoryBudget,
+                new String[] {temporaryFolder.getRoot().getAbsolutePath()});
+    }
+
+    private void assertNormalized(
+            MySqlSnapshotSplit split,
+            SpillingSnapshotSplitNormalizer normalizer,
+            List<SourceRecord> snapshotRecords,
+            List<SourceRecord> binlogRecords,
+            int expectedSize) {
+        SourceRecord lowWatermark = watermark("low");
+        SourceRecord highWatermark = watermark("high");
+        List<SourceRecord> normalized = new ArrayList<>();
+        Iterator<SourceRecords> iterator = normalizer.normalize(lowWatermark, highWatermark);
+        while (iterator.hasNext()) {
+            normalized.addAll(iterator.next().getSourceRecordList());
+        }
+
+        assertSame(lowWatermark, normalized.get(0));
+        assertSame(highWatermark, normalized.get(normalized.size() - 1));
+        assertEquals(
+                rows(upsertInMemory(split, snapshotRecords, binlogRecords)),
+                rows(normalized.subList(1, normalized.size() - 1)));
+        assertEquals(expectedSize, normalized.size() - 2);
+        assertEquals(0, temporaryFolder.getRoot().list().length);
+    }
+
+    private static List<SourceRecord> upsertInMemory(
+            MySqlSnapshotSplit split,
+            List<SourceRecord> snapshotRecords,
+            List<SourceRecord> binlogRecords) {
+        Map<Struct, List<SourceRecord>> outputBuffer = new HashMap<>();
+        for (SourceRecord record : snapshotRecords) {
+            outputBuffer.put((Struct) record.key(), Collections.singletonList(record));
+        }
+        for (SourceRecord record : binlogRecords) {
+            RecordUtils.upsertBinlog(
+                    outputBuffer,
+                    record,
+                    split.getSplitKeyType(),
+                    NAME_ADJUSTER,
+                    split.getSplitStart(),
+                    split.getSplitEnd());
+        }
+        List<SourceRecord> result = new ArrayList<>();
+        outputBuffer.values().forEach(result::addAll);
+        return result;
+    }
+
+    private static List<String> rows(List<SourceRecord> records) {
+        List<String> rows = new ArrayList<>();
+        for (SourceRecord record : records) {
+            Struct value = (Struct) record.value();
+            Struct after = value.getStruct(Envelope.FieldName.AFTER);
+            rows.add(
+                    value.getString(Envelope.FieldName.OPERATION)
+                            + ":"
+                            + after.getInt64("id")
+                            + ":"
+                            + after.getString("name"));
+        }
+        Collections.sort(rows);
+        return rows;
+    }
+
+    private static MySqlSnapshotSplit createSplit(Object[] splitStart, Object[] splitEnd) {
+        RowType splitKeyType =
+                (RowType) DataTypes.ROW(DataTypes.FIELD("id", DataTypes.BIGINT())).getLogicalType();
+        return new MySqlSnapshotSplit(
+                TableId.parse("db.table"),
+                "db.table:0",
+                splitKeyType,
+                splitStart,
+                splitEnd,
+                null,
+                new HashMap<>());
+    }
+
+    private static SourceRecord readRecord(long id, String name) {
+        return dataRecord(id, ENVELOPE.read(row(id, name), source(), Instant.ofEpochMilli(1L)));
+    }
+
+    private static SourceRecord createRecord(long id, String name) {
+        return dataRecord(id, ENVELOPE.create(row(id, name), source(), Instant.ofEpochMilli(2L)));
+    }
+
+    private static SourceRecord updateRecord(long id, String before, String after) {
+        return dataRecord(
+                id,
+                ENVELOPE.update(
+                        row(id, before), row(id, after), source(), Instant.ofEpochMilli(2L)));
+    }
+
+    private static SourceRecord deleteRecord(long id, String name) {
+        return dataRecord(id, ENVELOPE.delete(row(id, name), source(), Instant.ofEpochMilli(2L)));
+    }
+
+    private static SourceRecord dataRecord(long id, Struct value) {
+        return new SourceRecord(
+                Collections.singletonMap("server", "mysql_binlog_source"),
+                Collections.singletonMap("pos", 1L),
+                "db.table",
+                null,
+                KEY_SCHEMA,
+                new Struct(KEY_SCHEMA).put("id", id),
+                ENVELOPE.schema(),
+                value);
+    }
+
+    private static SourceRecord watermark(String kind) {
+        return new SourceRecord(
+                Collections.singletonMap("split_id", "db.table:0"),
+                Collections.singletonMap("watermark_kind", kind),
+                "watermark",
+                Schema.STRING_SCHEMA,
+                kind);
+    }
+
+    private static Struct row(long id, String name) {
+        return new Struct(ROW_SCHEMA).put("id", id).put("name", name);
+    }
+
+    private static Struct source() {
+        return new Struct(SOURCE_SCHEMA)
+                .put(Envelope.FieldName.TIMESTAMP, 1L)
+                .put("db", "db")
+                .put("table", "table");
+    }
+}
@@ -43,13 +43,17 @@ import org.apache.flink.cdc.connectors.mysql.testutils.RecordsFormatter;
 import org.apache.flink.cdc.connectors.mysql.testutils.UniqueDatabase;
 import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
 import org.apache.flink.cdc.debezium.history.FlinkJsonTableChangeSerializer;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.configuration.CoreOptions;
 import org.apache.flink.connector.base.source.reader.RecordEmitter;
 import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
 import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
 import org.apache.flink.connector.testutils.source.reader.TestingReaderContext;
 import org.apache.flink.connector.testutils.source.reader.TestingReaderOutput;
 import org.apache.flink.core.io.InputStatus;
 import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
 import org.apache.flink.table.api.DataTypes;
 import org.apache.flink.table.types.DataType;
 import org.apache.flink.table.types.logical.LogicalType;
@@ -59,15 +63,19 @@ import org.apache.flink.util.Preconditions;
 
 import io.debezium.connector.mysql.MySqlConnection;
 import io.debezium.connector.mysql.MySqlPartition;
+import io.debezium.data.Envelope;
 import io.debezium.document.Array;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.relational.TableId;
 import io.debezium.relational.history.HistoryRecord;
 import io.debezium.relational.history.TableChanges;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.After;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,9 +88,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -104,11 +115,14 @@ import static org.apache.flink.util.Preconditions.checkState;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 /** Tests for {@link MySqlSourceReader}. */
 public class MySqlSourceReaderTest extends MySqlSourceTestBase {
 
+    @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private final UniqueDatabase customerDatabase =
             new UniqueDatabase(MYSQL_CONTAINER, "customer", "mysqluser", "mysqlpw");
     private final UniqueDatabase inventoryDatabase =
@@ -548,6 +562,83 @@ public class MySqlSourceReaderTest extends MySqlSourceTestBase {
         reader.close();
     }
 
+    @Test
+    public void testSnapshotSplitsWithSpilling() throws Exception {
+        customerDatabase.createAndInitialize();
+        String tableName = customerDatabase.getDatabaseName() + ".customers";
+        // a tiny budget spills all snapshot records, which are read after the snapshot split
+        // reader of each split is closed
+        final MySqlSourceConfig sourceConfig =
+                new MySqlSourceConfigFactory()
+                        .startupOptions(StartupOptions.initial())
+                        .databaseList(customerDatabase.getDatabaseName())
+                        .tableList(tableName)
+                        .includeSchemaChanges(false)
+                        .hostname(MYSQL_CONTAINER.getHost())
+                        .port(MYSQL_CONTAINER.getDatabasePort())
+                        .splitSize(4)
+                        .snapshotSpillMemoryBudget(1L)
+                        .username(customerDatabase.getUsername())
+                        .password(customerDatabase.getPassword())
+                        .serverTimeZone(ZoneId.of("UTC").toString())
+                        .createConfig(0);
+        final MySqlSnapshotSplitAssigner assigner =
+                new MySqlSnapshotSplitAssigner(
+                        sourceConfig,
+                        DEFAULT_PARALLELISM,
+                        Collections.singletonList(TableId.parse(tableName)),
+                        false);
+        assigner.open();
+        List<MySqlSplit> splits = new ArrayList<>();
+        Optional<MySqlSplit> split;
+        while ((split = assigner.getNext()).isPresent()) {
+            splits.add(split.get());
+        }
+        assigner.close();
+        assertTrue(splits.size() > 1);
+
+        Configuration configuration = new Configuration();
+        configuration.set(CoreOptions.TMP_DIRS, temporaryFolder.getRoot().getAbsolutePath());
+        MySqlSplitReader splitReader =
+                createSplitReader(
+                        sourceConfig,
+                        new MySqlSourceReaderContext(
+                                new TestingReaderContext(
+                                        configuration,
+                                        UnregisteredMetricsGroup.createSourceReaderMetricGroup())),
+                        SnapshotPhaseHooks.empty());
+        splitReader.handleSplitsChanges(new SplitsAddition<>(splits));
+
+        Set<String> finishedSplits = new HashSet<>();
+        List<Integer> ids = new ArrayList<>();
+        try {
+            while (finishedSplits.size() < splits.size()) {
+                RecordsWithSplitIds<SourceRecords> records = splitReader.fetch();
+                if (records.nextSplit() != null) {
+                    SourceRecords sourceRecords;
+                    while ((sourceRecords = records.nextRecordFromSplit()) != null) {
+                        for (SourceRecord record : sourceRecords.getSourceRecordList()) {
+                            if (isDataChangeRecord(record)) {
+                                Struct after =
+                                        ((Struct) record.value())
+                                                .getStruct(Envelope.FieldName.AFTER);
+                                ids.add(after.getInt32("id"));
+                            }
+                        }
+                    }
+                }
+                finishedSplits.addAll(records.finishedSplits());
+            }
+        } finally {
+            splitReader.close();
+        }
+
+        // every snapshot row arrives, and the spill files are deleted once they are emitted
+        assertEquals(21, ids.size());
+        assertEquals(21, new HashSet<>(ids).size());
+        assertEquals(0, temporaryFolder.getRoot().list().length);
+    }
+
     private MySqlSourceReader<SourceRecord> createReader(MySqlSourceConfig configuration, int limit)
             throws Exception {
         return createReader(
@@ -89,6 +89,63 @@ public class MySqlBinlogSplitTest {
         Assert.assertEquals(tableChange2, filterTableSchemas.get(tableId2));
     }
 
+    @Test
+    public void compactFinishedSplitInfos() {
+        TableId tableId1 = new TableId("catalog1", null, "table1");
+        TableId tableId2 = new TableId("catalog2", null, "table2");
+        List<FinishedSnapshotSplitInfo> finishedSplitInfos = new ArrayList<>();
+        finishedSplitInfos.add(
+                new FinishedSnapshotSplitInfo(
+                        tableId1,
+                        tableId1 + ":0",
+                        null,
+                        new Object[] {100L},
+                        BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 100L)));
+        finishedSplitInfos.add(
+                new FinishedSnapshotSplitInfo(
+                        tableId1,
+                        tableId1 + ":1",
+                        new Object[] {100L},
+                        null,
+                        BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 200L)));
+        FinishedSnapshotSplitInfo splitInfoOfTable2 =
+                new FinishedSnapshotSplitInfo(
+                        tableId2,
+                        tableId2 + ":0",
+                        null,
+                        null,
+                        BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 400L));
+        finishedSplitInfos.add(splitInfoOfTable2);
+
+        BinlogOffset startingOffset = BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 300L);
+        MySqlBinlogSplit binlogSplit =
+                new MySqlBinlogSplit(
+                        "binlog-split",
+                        startingOffset,
+                        BinlogOffset.ofNonStopping(),
+                        finishedSplitInfos,
+                        new HashMap<>(),
+                        finishedSplitInfos.size(),
+                        false);
+
+        // table1 has entered the pure binlog phase, while table2 has not
+        MySqlBinlogSplit compactedSplit = MySqlBinlogSplit.compactFinishedSplitInfos(binlogSplit);
+        Assert.assertTrue(compactedSplit.isCompletedSplit());
+        Assert.assertEquals(
+                new FinishedSnapshotSplitInfo(
+                        tableId1, tableId1 + ":0", null, null, startingOffset),
+                compactedSplit.getFinishedSnapshotSplitInfos().get(0));
+        Assert.assertEquals(
+                new FinishedSnapshotSplitInfo(
+                        tableId1, tableId1 + ":1", null, null, startingOffset),
+                compactedSplit.getFinishedSnapshotSplitInfos().get(1));
+        Assert.assertSame(splitInfoOfTable2, compactedSplit.getFinishedSnapshotSplitInfos().get(2));
+
+        // the compacted split is not compacted again
+        Assert.assertSame(
+                compactedSplit, MySqlBinlogSplit.compactFinishedSplitInfos(compactedSplit));
+    }
+
     /** A mock implementation for {@link Table} which is used for unit tests. */
     private static class MockTable implements Table {
         private final TableId tableId;
@@ -19,24 +19,39 @@ package org.apache.flink.cdc.connectors.mysql.source.split;
 
 import org.apache.flink.cdc.connectors.mysql.source.offset.BinlogOffset;
 import org.apache.flink.cdc.debezium.history.FlinkJsonTableChangeSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
 import org.apache.flink.table.types.logical.BigIntType;
 import org.apache.flink.table.types.logical.RowType;
 
 import io.debezium.document.Document;
 import io.debezium.document.DocumentReader;
+import io.debezium.document.DocumentWriter;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 import io.debezium.relational.history.TableChanges.TableChange;
+import io.debezium.relational.history.TableChanges.TableChangeType;
 import org.junit.Test;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.apache.flink.cdc.connectors.mysql.source.split.MySqlBinlogSplit.toSuspendedBinlogSplit;
+import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.rowToSerializedString;
+import static org.apache.flink.cdc.connectors.mysql.source.utils.SerializerUtils.writeBinlogPosition;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /** Tests for {@link org.apache.flink.cdc.connectors.mysql.source.split.MySqlSplitSerializer}. */
 public class MySqlSplitSerializerTest {
@@ -117,6 +132,56 @@ public class MySqlSplitSerializerTest {
         assertEquals(unCompletedBinlogSplit, serializeAndDeserializeSplit(unCompletedBinlogSplit));
     }
 
+    @Test
+    public void testBinlogSplitWithMixedFinishedSplitInfos() throws Exception {
+        final TableId tableId1 = TableId.parse("test_db.test_table1");
+        final TableId tableId2 = TableId.parse("test_db.test_table2");
+        final BinlogOffset highWatermark =
+                BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 100L);
+        final List<FinishedSnapshotSplitInfo> finishedSplitsInfo = new ArrayList<>();
+        finishedSplitsInfo.add(
+                new FinishedSnapshotSplitInfo(
+                        tableId1, tableId1 + ":0", null, new Object[] {"a"}, highWatermark));
+        finishedSplitsInfo.add(
+                new FinishedSnapshotSplitInfo(
+                        tableId2,
+                        tableId2 + ":0",
+                        null,
+                        new Object[] {new BigDecimal("12.340")},
+                        highWatermark));
+        finishedSplitsInfo.add(
+                new FinishedSnapshotSplitInfo(
+                        tableId1,
+                        tableId1 + ":1",
+                        new Object[] {"a"},
+                        new Object[] {"é中"},
+                        BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 200L)));
+        finishedSplitsInfo.add(
+                new FinishedSnapshotSplitInfo(
+                        tableId1,
+                        "custom-split-id",
+                        new Object[] {"é中"},
+                        new Object[] {new BigInteger("18446744073709551615"), (short) 1, null},
+                        BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 300L)));
+        finishedSplitsInfo.add(
+                new FinishedSnapshotSplitInfo(
+                        tableId1,
+                        tableId1 + ":03",
+                        new Object[] {1, 2L},
+                        null,
+                        BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 300L)));
+
+        final MySqlSplit split =
+                new MySqlBinlogSplit(
+                        "binlog-split",
+                        BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 4L),
+                        BinlogOffset.ofNonStopping(),
+                        finishedSplitsInfo,
+                        new HashMap<>(),
+                        finishedSplitsInfo.size());
+        assertEquals(split, serializeAndDeserializeSplit(split));
+    }
+
     @Test
     public void testRepeatedSerializationCache() throws Exception {
         final MySqlSplit split =
@@ -135,12 +200,185 @@ public class MySqlSplitSerializerTest {
         assertSame(ser1, ser2);
     }
 
+    @Test
+    public void testTableSchemas() throws Exception {
+        final TableId tableId = TableId.parse("test_db.test_table");
+        final Table table =
+                Table.editor()
+                        .tableId(tableId)
+                        .setDefaultCharsetName("utf8mb4")
+                        .setComment("a table with comment")
+                        .addColumn(
+                                Column.editor()
+                                        .name("id")
+                                        .jdbcType(Types.BIGINT)
+                                        .nativeType(8)
+                                        .type("BIGINT UNSIGNED", "BIGINT UNSIGNED")
+                                        .length(20)
+                                        .position(1)
+                                        .optional(false)
+                                        .autoIncremented(true)
+                                        .create())
+                        .addColumn(
+                                Column.editor()
+                                        .name("price")
+                                        .jdbcType(Types.DECIMAL)
+                                        .type("DECIMAL", "DECIMAL")
+                                        .length(10)
+                                        .scale(2)
+                                        .position(2)
+                                        .optional(true)
+                                        .comment("the price")
+                                        .defaultValueExpression("0.00")
+                                        .create())
+                        .addColumn(
+                                Column.editor()
+                                        .name("color")
+                                        .jdbcType(Types.CHAR)
+                                        .type("ENUM", "ENUM")
+                                        .charsetName("utf8mb4")
+                                        .position(3)
+                                        .optional(true)
+                                        .defaultValueExpression(null)
+                                        .enumValues(Arrays.asList("red", "green", "é中"))
+                                        .create())
+                        .addColumn(
+                                Column.editor()
+                                        .name("updated")
+                                        .jdbcType(Types.TIMESTAMP)
+                                        .type("TIMESTAMP", "TIMESTAMP")
+                                        .position(4)
+                                        .optional(true)
+                                        .generated(true)
+                                        .create())
+                        .setPrimaryKeyNames("id")
+                        .create();
+        final TableId droppedTableId = TableId.parse("test_db.dropped_table");
+
+        final Map<TableId, TableChange> tableSchemas = new HashMap<>();
+        tableSchemas.put(tableId, new TableChange(TableChangeType.CREATE, table));
+        tableSchemas.put(
+                droppedTableId,
+                new TableChange(
+                        TableChangeType.DROP, Table.editor().tableId(droppedTableId).create()));
+        final TableId copiedTableId = TableId.parse("test_db.copied_table");
+        tableSchemas.put(copiedTableId, getTestTableSchema(copiedTableId));
+
+        assertEquals(tableSchemas, serializeAndDeserializeTableSchemas(tableSchemas));
+    }
+
+    @Test
+    public void testSharedTableSchemas() throws Exception {
+        final Map<TableId, TableChange> tableSchemas = new HashMap<>();
+        tableSchemas.put(TableId.parse("test_db.test_table"), getTestTableSchema());
+        final int singleTableSize = serializeTableSchemas(tableSchemas).length;
+        for (int i = 0; i < 10; i++) {
+            final TableId tableId = TableId.parse("test_db.test_table_" + i);
+            tableSchemas.put(tableId, getTestTableSchema(tableId));
+        }
+        final byte[] serialized = serializeTableSchemas(tableSchemas);
+        // the tables of the same schema only add their table id and the index of the schema
+        assertTrue(serialized.length < singleTableSize + 10 * 40);
+
+        // the schemas which are not accessed are written back as they are
+        final Map<TableId, TableChange> deserialized =
+                MySqlSplitSerializer.readTableSchemas(
+                        MySqlSplitSerializer.INSTANCE.getVersion(),
+                        new DataInputDeserializer(serialized));
+        assertArrayEquals(serialized, serializeTableSchemas(deserialized));
+        assertEquals(tableSchemas, deserialized);
+        assertArrayEquals(serialized, serializeTableSchemas(deserialized));
+    }
+
+    @Test
+    public void testDeserializeVersion4BinlogSplit() throws Exception {
+        final TableId tableId = TableId.parse("test_db.test_table");
+        final List<FinishedSnapshotSplitInfo> finishedSplitsInfo =
+                Arrays.asList(
+                        new FinishedSnapshotSplitInfo(
+                                tableId,
+                                tableId + ":0",
+                                null,
+                                new Object[] {100L},
+                                BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 100L)),
+                        new FinishedSnapshotSplitInfo(
+                                tableId,
+                                tableId + ":1",
+                                new Object[] {100L},
+                                null,
+                                BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 200L)));
+
+        // the binlog split written by version 4, with the finished split infos written one by one
+        // and the table schemas written as JSON
+        final DataOutputSerializer out = new DataOutputSerializer(64);
+        out.writeInt(2);
+        out.writeUTF("binlog-split");
+        out.writeUTF("");
+        writeBinlogPosition(BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 4L), out);
+        writeBinlogPosition(BinlogOffset.ofNonStopping(), out);
+        out.writeInt(finishedSplitsInfo.size());
+        for (FinishedSnapshotSplitInfo splitInfo : finishedSplitsInfo) {
+            out.writeUTF(splitInfo.getTableId().toString());
+            out.writeUTF(splitInfo.getSplitId());
+            out.writeUTF(rowToSerializedString(splitInfo.getSplitStart()));
+            out.writeUTF(rowToSerializedString(splitInfo.getSplitEnd()));
+            writeBinlogPosition(splitInfo.getHighWatermark(), out);
+        }
+        out.writeInt(1);
+        out.writeUTF(tableId.toString());
+        final byte[] tableChangeBytes =
+                DocumentWriter.defaultWriter()
+                        .write(
+                                new FlinkJsonTableChangeSerializer()
+                                        .toDocument(getTestTableSchema()))
+                        .getBytes(StandardCharsets.UTF_8);
+        out.writeInt(tableChangeBytes.length);
+        out.write(tableChangeBytes);
+        out.writeInt(finishedSplitsInfo.size());
+        out.writeBoolean(true);
+
+        final MySqlSplit expected =
+                new MySqlBinlogSplit(
+                        "binlog-split",
+                        BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 4L),
+                        BinlogOffset.ofNonStopping(),
+                        finishedSplitsInfo,
+                        Collections.singletonMap(tableId, getTestTableSchema()),
+                        finishedSplitsInfo.size(),
+                        true);
+        final MySqlSplit deserialized =
+                MySqlSplitSerializer.INSTANCE.deserialize(4, out.getCopyOfBuffer());
+        assertEquals(expected, deserialized);
+        // written back in the current version
+        assertEquals(expected, serializeAndDeserializeSplit(deserialized));
+    }
+
+    private static byte[] serializeTableSchemas(Map<TableId, TableChange> tableSchemas)
+            throws Exception {
+        final DataOutputSerializer out = new DataOutputSerializer(64);
+        MySqlSplitSerializer.writeTableSchemas(tableSchemas, out);
+        return out.getCopyOfBuffer();
+    }
+
+    private static Map<TableId, TableChange> serializeAndDeserializeTableSchemas(
+            Map<TableId, TableChange> tableSchemas) throws Exception {
+        return MySqlSplitSerializer.readTableSchemas(
+                MySqlSplitSerializer.INSTANCE.getVersion(),
+                new DataInputDeserializer(serializeTableSchemas(tableSchemas)));
+    }
+
     private MySqlSplit serializeAndDeserializeSplit(MySqlSplit split) throws Exception {
         final MySqlSplitSerializer sqlSplitSerializer = new MySqlSplitSerializer();
         byte[] serialized = sqlSplitSerializer.serialize(split);
         return sqlSplitSerializer.deserialize(sqlSplitSerializer.getVersion(), serialized);
     }
 
+    private static TableChange getTestTableSchema(TableId tableId) throws Exception {
+        final TableChange tableChange = getTestTableSchema();
+        return new TableChange(
+                tableChange.getType(), tableChange.getTable().edit().tableId(tableId).create());
+    }
+
     public static TableChange getTestTableSchema() throws Exception {
         // the json string of a TableChange
         final String tableChangeJsonStr =
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.source.utils;
+
+import org.apache.flink.cdc.connectors.mysql.source.offset.BinlogOffset;
+import org.apache.flink.cdc.connectors.mysql.source.split.FinishedSnapshotSplitInfo;
+
+import io.debezium.relational.TableId;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link SplitKeyRangeIndex}. */
+public class SplitKeyRangeIndexTest {
+
+    private static final TableId TABLE_ID = TableId.parse("db.table");
+
+    @Test
+    public void testLookupInSortedSplits() {
+        List<FinishedSnapshotSplitInfo> splits = new ArrayList<>();
+        splits.add(split(2, 200L, null, 20));
+        splits.add(split(0, null, 100L, 10));
+        splits.add(split(1, 100L, 200L, 30));
+        SplitKeyRangeIndex index = SplitKeyRangeIndex.of(splits);
+
+        // first split
+        assertTrue(index.isAfterHighWatermark(new Object[] {-5L}, offset(11)));
+        assertFalse(index.isAfterHighWatermark(new Object[] {99L}, offset(10)));
+        // middle split
+        assertTrue(index.isAfterHighWatermark(new Object[] {100L}, offset(31)));
+        assertFalse(index.isAfterHighWatermark(new Object[] {199L}, offset(25)));
+        // last split
+        assertTrue(index.isAfterHighWatermark(new Object[] {200L}, offset(21)));
+        assertTrue(index.isAfterHighWatermark(new Object[] {Long.MAX_VALUE}, offset(21)));
+        // split key from binlog may have different type
+        assertTrue(index.isAfterHighWatermark(new Object[] {BigInteger.valueOf(150)}, offset(31)));
+    }
+
+    @Test
+    public void testKeyOutOfSplitsScope() {
+        List<FinishedSnapshotSplitInfo> splits =
+                Arrays.asList(split(0, 10L, 100L, 10), split(1, 200L, 300L, 10));
+        SplitKeyRangeIndex index = SplitKeyRangeIndex.of(splits);
+
+        assertFalse(index.isAfterHighWatermark(new Object[] {5L}, offset(20)));
+        assertFalse(index.isAfterHighWatermark(new Object[] {150L}, offset(20)));
+        assertFalse(index.isAfterHighWatermark(new Object[] {300L}, offset(20)));
+        assertTrue(index.isAfterHighWatermark(new Object[] {250L}, offset(20)));
+    }
+
+    @Test
+    public void testMatchesLinearScan() {
+        List<FinishedSnapshotSplitInfo> splits = new ArrayList<>();
+        int splitCount = 1000;
+        for (int i = 0; i < splitCount; i++) {
+            Long start = i == 0 ? null : (long) i * 10;
+            Long end = i == splitCount - 1 ? null : (long) (i + 1) * 10;
+            splits.add(split(i, start, end, i % 7));
+        }
+        Collections.shuffle(splits);
+        SplitKeyRangeIndex index = SplitKeyRangeIndex.of(splits);
+
+        for (long key = -20; key < splitCount * 10 + 20; key++) {
+            for (int pos = 0; pos < 8; pos++) {
+                Object[] chunkKey = new Object[] {key};
+                assertEquals(
+                        linearScan(splits, chunkKey, offset(pos)),
+                        index.isAfterHighWatermark(chunkKey, offset(pos)));
+            }
+        }
+    }
+
+    @Test
+    public void testOverlappingSplitsFallBackToLinearScan() {
+        List<FinishedSnapshotSplitInfo> splits =
+                Arrays.asList(split(0, null, 100L, 50), split(1, 50L, null, 10));
+        SplitKeyRangeIndex index = SplitKeyRangeIndex.of(splits);
+
+        assertTrue(index.isAfterHighWatermark(new Object[] {60L}, offset(20)));
+        assertFalse(index.isAfterHighWatermark(new Object[] {40L}, offset(20)));
+    }
+
+    private static boolean linearScan(
+            List<FinishedSnapshotSplitInfo> splits, Object[] chunkKey, BinlogOffset position) {
+        for (FinishedSnapshotSplitInfo splitInfo : splits) {
+            if (RecordUtils.splitKeyRangeContains(
+                            chunkKey, splitInfo.getSplitStart(), splitInfo.getSplitEnd())
+                    && position.isAfter(splitInfo.getHighWatermark())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static FinishedSnapshotSplitInfo split(
+            int splitNo, Long start, Long end, long highWatermarkPosition) {
+        return new FinishedSnapshotSplitInfo(
+                TABLE_ID,
+                TABLE_ID + ":" + splitNo,
+                start == null ? null : new Object[] {start},
+                end == null ? null : new Object[] {end},
+                offset(highWatermarkPosition));
+    }
+
+    private static BinlogOffset offset(long position) {
+        return BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", position);
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.flink.cdc.connectors.oracle.source.config.OracleSourceConfig;
 import org.apache.flink.cdc.connectors.oracle.source.reader.fetch.OracleScanFetchTask;
 import org.apache.flink.cdc.connectors.oracle.source.reader.fetch.OracleSourceFetchTaskContext;
 import org.apache.flink.cdc.connectors.oracle.source.reader.fetch.OracleStreamFetchTask;
+import org.apache.flink.cdc.connectors.oracle.source.reader.fetch.TransactionSpillBuffer;
 import org.apache.flink.cdc.connectors.oracle.source.utils.OracleConnectionUtils;
 import org.apache.flink.cdc.connectors.oracle.source.utils.OracleSchema;
 import org.apache.flink.util.FlinkRuntimeException;
@@ -40,6 +41,8 @@ import io.debezium.relational.TableId;
 import io.debezium.relational.Tables;
 import io.debezium.relational.history.TableChanges.TableChange;
 
+import javax.annotation.Nullable;
+
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.List;
@@ -57,6 +60,22 @@ public class OracleDialect implements JdbcDataSourceDialect {
 
     private transient Tables.TableFilter filters;
 
+    // the transaction buffer of the LogMiner sessions of a source reader, if spilling is enabled
+    @Nullable private final transient TransactionSpillBuffer transactionSpillBuffer;
+
+    public OracleDialect() {
+        this(null);
+    }
+
+    public OracleDialect(@Nullable TransactionSpillBuffer transactionSpillBuffer) {
+        this.transactionSpillBuffer = transactionSpillBuffer;
+    }
+
+    @Nullable
+    public TransactionSpillBuffer getTransactionSpillBuffer() {
+        return transactionSpillBuffer;
+    }
+
     @Override
     public String getName() {
         return "Oracle";
@@ -17,17 +17,30 @@
 
 package org.apache.flink.cdc.connectors.oracle.source;
 
+import org.apache.flink.api.connector.source.SourceReaderContext;
 import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfig;
 import org.apache.flink.cdc.connectors.base.options.StartupOptions;
 import org.apache.flink.cdc.connectors.base.source.jdbc.JdbcIncrementalSource;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceRecords;
+import org.apache.flink.cdc.connectors.base.source.metrics.SourceReaderMetrics;
+import org.apache.flink.cdc.connectors.base.source.reader.IncrementalSourceReader;
+import org.apache.flink.cdc.connectors.base.source.reader.IncrementalSourceReaderContext;
+import org.apache.flink.cdc.connectors.base.source.reader.IncrementalSourceSplitReader;
+import org.apache.flink.cdc.connectors.oracle.source.config.OracleSourceConfig;
 import org.apache.flink.cdc.connectors.oracle.source.config.OracleSourceConfigFactory;
 import org.apache.flink.cdc.connectors.oracle.source.meta.offset.RedoLogOffsetFactory;
+import org.apache.flink.cdc.connectors.oracle.source.reader.fetch.TransactionSpillBuffer;
 import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
+import org.apache.flink.configuration.ConfigurationUtils;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
 
 import javax.annotation.Nullable;
 
 import java.time.Duration;
 import java.util.Properties;
+import java.util.function.Supplier;
 
 import static org.apache.flink.util.Preconditions.checkNotNull;
 
@@ -243,6 +256,29 @@ public class OracleSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The memory budget in bytes for normalizing the records of a snapshot split with its backfill
+     * change events. Snapshot records exceeding the budget are spilled to local disk, a
+     * non-positive value keeps the whole split in memory.
+     */
+    public OracleSourceBuilder<T> snapshotSpillMemoryBudget(long snapshotSpillMemoryBudget) {
+        this.configFactory.snapshotSpillMemoryBudget(snapshotSpillMemoryBudget);
+        return this;
+    }
+
+    /**
+     * The memory budget in bytes for the events of the in-flight transactions buffered by LogMiner.
+     * Once the budget is exceeded, the events of the largest transactions are spilled to the
+     * temporary directories of the task manager, a non-positive value keeps all events in memory.
+     * Only applies to the default memory buffer type. The spilled bytes and the size of the largest
+     * open transaction are reported as metrics of the source reader.
+     */
+    public OracleSourceBuilder<T> transactionBufferMemoryBudget(
+            long transactionBufferMemoryBudget) {
+        this.configFactory.transactionBufferMemoryBudget(transactionBufferMemoryBudget);
+        return this;
+    }
+
     /** Whether the {@link OracleIncrementalSource} should scan the newly added tables or not. */
     public OracleSourceBuilder<T> scanNewlyAddedTableEnabled(boolean scanNewlyAddedTableEnabled) {
         this.configFactory.scanNewlyAddedTableEnabled(scanNewlyAddedTableEnabled);
@@ -272,6 +308,56 @@ public class OracleSourceBuilder<T> {
             super(configFactory, deserializationSchema, offsetFactory, dataSourceDialect);
         }
 
+        @Override
+        public IncrementalSourceReader<T, JdbcSourceConfig> createReader(
+                SourceReaderContext readerContext) throws Exception {
+            // create source config for the given subtask (e.g. unique server id)
+            OracleSourceConfig sourceConfig =
+                    (OracleSourceConfig) configFactory.create(readerContext.getIndexOfSubtask());
+            FutureCompletingBlockingQueue<RecordsWithSplitIds<SourceRecords>> elementsQueue =
+                    new FutureCompletingBlockingQueue<>();
+
+            final SourceReaderMetrics sourceReaderMetrics =
+                    new SourceReaderMetrics(readerContext.metricGroup());
+
+            sourceReaderMetrics.registerMetrics();
+
+            // the transaction buffer is shared by the LogMiner sessions of the reader, and its
+            // events are spilled to the temporary directories of the task manager
+            final OracleDialect readerDialect;
+            if (sourceConfig.getTransactionBufferMemoryBudget() > 0) {
+                TransactionSpillBuffer transactionSpillBuffer =
+                        new TransactionSpillBuffer(
+                                sourceConfig.getTransactionBufferMemoryBudget(),
+                                ConfigurationUtils.parseTempDirectories(
+                                        readerContext.getConfiguration()));
+                transactionSpillBuffer.registerMetrics(readerContext.metricGroup());
+                readerDialect = new OracleDialect(transactionSpillBuffer);
+            } else {
+                readerDialect = (OracleDialect) dataSourceDialect;
+            }
+
+            IncrementalSourceReaderContext incrementalSourceReaderContext =
+                    new IncrementalSourceReaderContext(readerContext);
+            Supplier<IncrementalSourceSplitReader<JdbcSourceConfig>> splitReaderSupplier =
+                    () ->
+                            new IncrementalSourceSplitReader<>(
+                                    readerContext.getIndexOfSubtask(),
+                                    readerDialect,
+                                    sourceConfig,
+                                    incrementalSourceReaderContext,
+                                    snapshotHooks);
+            return new IncrementalSourceReader<>(
+                    elementsQueue,
+                    splitReaderSupplier,
+                    createRecordEmitter(sourceConfig, sourceReaderMetrics),
+                    readerContext.getConfiguration(),
+                    incrementalSourceReaderContext,
+                    sourceConfig,
+                    sourceSplitSerializer,
+                    readerDialect);
+        }
+
         public static <T> OracleSourceBuilder<T> builder() {
             return new OracleSourceBuilder<>();
         }
@@ -39,6 +39,8 @@ public class OracleSourceConfig extends JdbcSourceConfig {
 
     @Nullable private String url;
 
+    private final long transactionBufferMemoryBudget;
+
     public OracleSourceConfig(
             StartupOptions startupOptions,
             List<String> databaseList,
@@ -64,7 +66,9 @@ public class OracleSourceConfig extends JdbcSourceConfig {
             int connectionPoolSize,
             String chunkKeyColumn,
             boolean skipSnapshotBackfill,
-            boolean scanNewlyAddedTableEnabled) {
+            boolean scanNewlyAddedTableEnabled,
+            long snapshotSpillMemoryBudget,
+            long transactionBufferMemoryBudget) {
         super(
                 startupOptions,
                 databaseList,
@@ -90,8 +94,10 @@ public class OracleSourceConfig extends JdbcSourceConfig {
                 connectionPoolSize,
                 chunkKeyColumn,
                 skipSnapshotBackfill,
-                scanNewlyAddedTableEnabled);
+                scanNewlyAddedTableEnabled,
+                snapshotSpillMemoryBudget);
         this.url = url;
+        this.transactionBufferMemoryBudget = transactionBufferMemoryBudget;
     }
 
     @Override
@@ -107,4 +113,8 @@ public class OracleSourceConfig extends JdbcSourceConfig {
     public String getUrl() {
         return url;
     }
+
+    public long getTransactionBufferMemoryBudget() {
+        return transactionBufferMemoryBudget;
+    }
 }
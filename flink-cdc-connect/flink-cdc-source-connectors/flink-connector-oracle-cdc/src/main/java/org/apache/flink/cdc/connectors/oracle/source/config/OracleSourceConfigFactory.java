@@ -42,6 +42,7 @@ public class OracleSourceConfigFactory extends JdbcSourceConfigFactory {
 
     @Nullable private String url;
     private List<String> schemaList;
+    private long transactionBufferMemoryBudget = -1L;
 
     /** Url to use when connecting to the Oracle database server. */
     public JdbcSourceConfigFactory url(@Nullable String url) {
@@ -59,6 +60,18 @@ public class OracleSourceConfigFactory extends JdbcSourceConfigFactory {
         return this;
     }
 
+    /**
+     * The memory budget in bytes for the events of the in-flight transactions buffered by LogMiner.
+     * Once the budget is exceeded, the events of the largest transactions are spilled to local
+     * disk, a non-positive value keeps all events in memory. Only applies to the default memory
+     * buffer.
+     */
+    public JdbcSourceConfigFactory transactionBufferMemoryBudget(
+            long transactionBufferMemoryBudget) {
+        this.transactionBufferMemoryBudget = transactionBufferMemoryBudget;
+        return this;
+    }
+
     /** Creates a new {@link OracleSourceConfig} for the given subtask {@code subtaskId}. */
     public OracleSourceConfig create(int subtaskId) {
         checkSupportCheckpointsAfterTasksFinished(closeIdleReaders);
@@ -134,6 +147,8 @@ public class OracleSourceConfigFactory extends JdbcSourceConfigFactory {
                 connectionPoolSize,
                 chunkKeyColumn,
                 skipSnapshotBackfill,
-                scanNewlyAddedTableEnabled);
+                scanNewlyAddedTableEnabled,
+                snapshotSpillMemoryBudget,
+                transactionBufferMemoryBudget);
     }
 }
@@ -30,17 +30,24 @@ import io.debezium.connector.oracle.OracleDatabaseSchema;
 import io.debezium.connector.oracle.OracleOffsetContext;
 import io.debezium.connector.oracle.OraclePartition;
 import io.debezium.connector.oracle.OracleStreamingChangeEventSourceMetrics;
+import io.debezium.connector.oracle.Scn;
 import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
 import io.debezium.connector.oracle.logminer.processor.LogMinerEventProcessor;
 import io.debezium.connector.oracle.logminer.processor.infinispan.EmbeddedInfinispanLogMinerEventProcessor;
 import io.debezium.connector.oracle.logminer.processor.infinispan.RemoteInfinispanLogMinerEventProcessor;
 import io.debezium.connector.oracle.logminer.processor.memory.MemoryLogMinerEventProcessor;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryTransaction;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.source.spi.ChangeEventSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Factory to produce a LogMinerEventProcessor with enhanced processRow method to distinguish
@@ -62,10 +69,25 @@ public class EventProcessorFactory {
             OracleDatabaseSchema schema,
             OracleStreamingChangeEventSourceMetrics metrics,
             ErrorHandler errorHandler,
-            StreamSplit redoLogSplit) {
+            StreamSplit redoLogSplit,
+            @Nullable TransactionSpillBuffer transactionSpillBuffer) {
         final OracleConnectorConfig.LogMiningBufferType bufferType =
                 connectorConfig.getLogMiningBufferType();
-        if (bufferType.equals(OracleConnectorConfig.LogMiningBufferType.MEMORY)) {
+        if (bufferType.equals(OracleConnectorConfig.LogMiningBufferType.MEMORY)
+                && transactionSpillBuffer != null) {
+            return new CDCSpillableLogMinerEventProcessor(
+                    context,
+                    connectorConfig,
+                    jdbcConnection,
+                    dispatcher,
+                    partition,
+                    offsetContext,
+                    schema,
+                    metrics,
+                    errorHandler,
+                    redoLogSplit,
+                    transactionSpillBuffer);
+        } else if (bufferType.equals(OracleConnectorConfig.LogMiningBufferType.MEMORY)) {
             return new CDCMemoryLogMinerEventProcessor(
                     context,
                     connectorConfig,
@@ -156,6 +178,94 @@ public class EventProcessorFactory {
         }
     }
 
+    /**
+     * A {@link CDCMemoryLogMinerEventProcessor} whose transactions keep their events in a {@link
+     * TransactionSpillBuffer}, so the events of large transactions are spilled to local disk once
+     * the buffered events exceed the memory budget.
+     */
+    public static class CDCSpillableLogMinerEventProcessor extends CDCMemoryLogMinerEventProcessor {
+        private final TransactionSpillBuffer spillBuffer;
+
+        public CDCSpillableLogMinerEventProcessor(
+                ChangeEventSource.ChangeEventSourceContext context,
+                OracleConnectorConfig connectorConfig,
+                OracleConnection jdbcConnection,
+                JdbcSourceEventDispatcher<OraclePartition> dispatcher,
+                OraclePartition partition,
+                OracleOffsetContext offsetContext,
+                OracleDatabaseSchema schema,
+                OracleStreamingChangeEventSourceMetrics metrics,
+                ErrorHandler errorHandler,
+                StreamSplit redoLogSplit,
+                TransactionSpillBuffer spillBuffer) {
+            super(
+                    context,
+                    connectorConfig,
+                    jdbcConnection,
+                    dispatcher,
+                    partition,
+                    offsetContext,
+                    schema,
+                    metrics,
+                    errorHandler,
+                    redoLogSplit);
+            this.spillBuffer = spillBuffer;
+        }
+
+        public TransactionSpillBuffer getSpillBuffer() {
+            return spillBuffer;
+        }
+
+        @Override
+        protected MemoryTransaction createTransaction(LogMinerEventRow row) {
+            return new SpillableTransaction(
+                    row.getTransactionId(),
+                    row.getScn(),
+                    row.getChangeTime(),
+                    row.getUserName(),
+                    spillBuffer);
+        }
+
+        @Override
+        protected void removeTransactionAndEventsFromCache(MemoryTransaction transaction) {
+            super.removeTransactionAndEventsFromCache(transaction);
+            discardEvents(transaction);
+        }
+
+        @Override
+        protected void finalizeTransactionRollback(String transactionId, Scn rollbackScn) {
+            MemoryTransaction transaction = getTransactionCache().get(transactionId);
+            super.finalizeTransactionRollback(transactionId, rollbackScn);
+            discardEvents(transaction);
+        }
+
+        @Override
+        public void abandonTransactions(Duration retention) throws InterruptedException {
+            List<MemoryTransaction> transactions = new ArrayList<>(getTransactionCache().values());
+            super.abandonTransactions(retention);
+            for (MemoryTransaction transaction : transactions) {
+                if (getTransactionCache().get(transaction.getTransactionId()) != transaction) {
+                    discardEvents(transaction);
+                }
+            }
+        }
+
+        @Override
+        public void close() throws Exception {
+            try {
+                super.close();
+            } finally {
+                spillBuffer.releaseAll();
+            }
+        }
+
+        private static void discardEvents(MemoryTransaction transaction) {
+            if (transaction instanceof SpillableTransaction) {
+                ((SpillableTransaction) transaction).discardEvents();
+            }
+        }
+    }
+
     /**
      * A {@link EmbeddedInfinispanLogMinerEventProcessor} with enhanced processRow method to
      * distinguish whether is bounded.
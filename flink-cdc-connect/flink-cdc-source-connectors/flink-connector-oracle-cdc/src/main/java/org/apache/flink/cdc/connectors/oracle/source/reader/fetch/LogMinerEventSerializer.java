@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oracle.source.reader.fetch;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+
+import io.debezium.connector.oracle.OracleValueConverters;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.DmlEvent;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LobEraseEvent;
+import io.debezium.connector.oracle.logminer.events.LobWriteEvent;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.events.SelectLobLocatorEvent;
+import io.debezium.connector.oracle.logminer.events.TruncateEvent;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntry;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntryImpl;
+import io.debezium.relational.TableId;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * A compact binary codec of the {@link LogMinerEvent}s buffered in a transaction, which is used to
+ * spill the events of large transactions to local disk.
+ *
+ * <p>The column values of a {@link LogMinerDmlEntry} are the SQL literals parsed from the redo SQL,
+ * so only strings, nulls and {@link OracleValueConverters#UNAVAILABLE_VALUE} are expected.
+ */
+@Internal
+public class LogMinerEventSerializer {
+
+    private static final byte LOG_MINER_EVENT = 0;
+    private static final byte DML_EVENT = 1;
+    private static final byte TRUNCATE_EVENT = 2;
+    private static final byte SELECT_LOB_LOCATOR_EVENT = 3;
+    private static final byte LOB_WRITE_EVENT = 4;
+    private static final byte LOB_ERASE_EVENT = 5;
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte UNAVAILABLE_VALUE = 1;
+    private static final byte STRING_VALUE = 2;
+
+    // rough heap overheads of an event, its dml entry and a string, used for the size estimation
+    private static final int EVENT_OVERHEAD = 160;
+    private static final int DML_ENTRY_OVERHEAD = 96;
+    private static final int STRING_OVERHEAD = 48;
+
+    private LogMinerEventSerializer() {}
+
+    public static void serialize(LogMinerEvent event, DataOutput out) throws IOException {
+        // subclasses are checked before their parents
+        if (event instanceof SelectLobLocatorEvent) {
+            out.writeByte(SELECT_LOB_LOCATOR_EVENT);
+        } else if (event instanceof TruncateEvent) {
+            out.writeByte(TRUNCATE_EVENT);
+        } else if (event instanceof DmlEvent) {
+            out.writeByte(DML_EVENT);
+        } else if (event instanceof LobWriteEvent) {
+            out.writeByte(LOB_WRITE_EVENT);
+        } else if (event instanceof LobEraseEvent) {
+            out.writeByte(LOB_ERASE_EVENT);
+        } else if (event.getClass() == LogMinerEvent.class) {
+            out.writeByte(LOG_MINER_EVENT);
+        } else {
+            throw new IllegalArgumentException(
+                    "Unsupported LogMiner event type: " + event.getClass().getName());
+        }
+
+        out.writeInt(event.getEventType().getValue());
+        writeString(event.getScn().isNull() ? null : event.getScn().toString(), out);
+        writeString(event.getTableId().catalog(), out);
+        writeString(event.getTableId().schema(), out);
+        writeString(event.getTableId().table(), out);
+        writeString(event.getRowId(), out);
+        writeString(event.getRsId(), out);
+        Instant changeTime = event.getChangeTime();
+        out.writeBoolean(changeTime != null);
+        if (changeTime != null) {
+            out.writeLong(changeTime.getEpochSecond());
+            out.writeInt(changeTime.getNano());
+        }
+
+        if (event instanceof DmlEvent) {
+            writeDmlEntry(((DmlEvent) event).getDmlEntry(), out);
+            if (event instanceof SelectLobLocatorEvent) {
+                SelectLobLocatorEvent lobLocatorEvent = (SelectLobLocatorEvent) event;
+                writeString(lobLocatorEvent.getColumnName(), out);
+                out.writeBoolean(lobLocatorEvent.isBinary());
+            }
+        } else if (event instanceof LobWriteEvent) {
+            LobWriteEvent lobWriteEvent = (LobWriteEvent) event;
+            writeString(lobWriteEvent.getData(), out);
+            out.writeInt(lobWriteEvent.getOffset());
+            out.writeInt(lobWriteEvent.getLength());
+        }
+    }
+
+    public static LogMinerEvent deserialize(DataInput in) throws IOException {
+        byte kind = in.readByte();
+        EventType eventType = EventType.from(in.readInt());
+        String scn = readString(in);
+        TableId tableId = new TableId(readString(in), readString(in), readString(in));
+        String rowId = readString(in);
+        String rsId = readString(in);
+        Instant changeTime =
+                in.readBoolean() ? Instant.ofEpochSecond(in.readLong(), in.readInt()) : null;
+        Scn eventScn = scn == null ? Scn.NULL : Scn.valueOf(scn);
+
+        switch (kind) {
+            case LOG_MINER_EVENT:
+                return new LogMinerEvent(eventType, eventScn, tableId, rowId, rsId, changeTime);
+            case DML_EVENT:
+                return new DmlEvent(
+                        eventType, eventScn, tableId, rowId, rsId, changeTime, readDmlEntry(in));
+            case TRUNCATE_EVENT:
+                return new TruncateEvent(
+                        eventType, eventScn, tableId, rowId, rsId, changeTime, readDmlEntry(in));
+            case SELECT_LOB_LOCATOR_EVENT:
+                return new SelectLobLocatorEvent(
+                        eventType,
+                        eventScn,
+                        tableId,
+                        rowId,
+                        rsId,
+                        changeTime,
+                        readDmlEntry(in),
+                        readString(in),
+                        in.readBoolean());
+            case LOB_WRITE_EVENT:
+                return new LobWriteEvent(
+                        eventType,
+                        eventScn,
+                        tableId,
+                        rowId,
+                        rsId,
+                        changeTime,
+                        readString(in),
+                        in.readInt(),
+                        in.readInt());
+            case LOB_ERASE_EVENT:
+                return new LobEraseEvent(eventType, eventScn, tableId, rowId, rsId, changeTime);
+            default:
+                throw new IOException("Unknown LogMiner event kind: " + kind);
+        }
+    }
+
+    /** Estimates the heap size of an event in bytes. */
+    public static long estimateSize(LogMinerEvent event) {
+        long size =
+                EVENT_OVERHEAD
+                        + estimateSize(event.getTableId().schema())
+                        + estimateSize(event.getTableId().table())
+                        + estimateSize(event.getRowId())
+                        + estimateSize(event.getRsId());
+        if (event instanceof DmlEvent) {
+            LogMinerDmlEntry dmlEntry = ((DmlEvent) event).getDmlEntry();
+            size += DML_ENTRY_OVERHEAD;
+            size += estimateSize(dmlEntry.getOldValues());
+            size += estimateSize(dmlEntry.getNewValues());
+        } else if (event instanceof LobWriteEvent) {
+            size += estimateSize(((LobWriteEvent) event).getData());
+        }
+        return size;
+    }
+
+    private static void writeDmlEntry(LogMinerDmlEntry dmlEntry, DataOutput out)
+            throws IOException {
+        out.writeInt(dmlEntry.getEventType().getValue());
+        writeValues(dmlEntry.getNewValues(), out);
+        writeValues(dmlEntry.getOldValues(), out);
+        writeString(dmlEntry.getObjectOwner(), out);
+        writeString(dmlEntry.getObjectName(), out);
+    }
+
+    private static LogMinerDmlEntry readDmlEntry(DataInput in) throws IOException {
+        int operation = in.readInt();
+        Object[] newValues = readValues(in);
+        Object[] oldValues = readValues(in);
+        return new LogMinerDmlEntryImpl(
+                operation, newValues, oldValues, readString(in), readString(in));
+    }
+
+    private static void writeValues(Object[] values, DataOutput out) throws IOException {
+        if (values == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(values.length);
+        for (Object value : values) {
+            if (value == null) {
+                out.writeByte(NULL_VALUE);
+            } else if (value == OracleValueConverters.UNAVAILABLE_VALUE) {
+                out.writeByte(UNAVAILABLE_VALUE);
+            } else if (value instanceof String) {
+                out.writeByte(STRING_VALUE);
+                writeString((String) value, out);
+            } else {
+                throw new IllegalArgumentException(
+                        "Unsupported column value type: " + value.getClass().getName());
+            }
+        }
+    }
+
+    private static Object[] readValues(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        Object[] values = new Object[length];
+        for (int i = 0; i < length; i++) {
+            byte type = in.readByte();
+            switch (type) {
+                case NULL_VALUE:
+                    break;
+                case UNAVAILABLE_VALUE:
+                    values[i] = OracleValueConverters.UNAVAILABLE_VALUE;
+                    break;
+                case STRING_VALUE:
+                    values[i] = readString(in);
+                    break;
+                default:
+                    throw new IOException("Unknown column value type: " + type);
+            }
+        }
+        return values;
+    }
+
+    // strings are written as UTF-8 bytes, as LOB data may exceed the limit of writeUTF
+
+    private static void writeString(String value, DataOutput out) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long estimateSize(Object[] values) {
+        if (values == null) {
+            return 0;
+        }
+        long size = 16L + 8L * values.length;
+        for (Object value : values) {
+            if (value instanceof String) {
+                size += estimateSize((String) value);
+            }
+        }
+        return size;
+    }
+
+    private static long estimateSize(String value) {
+        return value == null ? 0 : STRING_OVERHEAD + 2L * value.length();
+    }
+}
@@ -141,7 +141,8 @@ public class OracleScanFetchTask extends AbstractScanFetchTask {
                 context.getDatabaseSchema(),
                 context.getSourceConfig().getOriginDbzConnectorConfig(),
                 context.getStreamingChangeEventSourceMetrics(),
-                backfillRedoLogSplit);
+                backfillRedoLogSplit,
+                context.getTransactionSpillBuffer());
     }
 
     /** A wrapped task to fetch snapshot split of table. */
@@ -25,6 +25,7 @@ import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
 import org.apache.flink.cdc.connectors.base.source.reader.external.JdbcSourceFetchTaskContext;
 import org.apache.flink.cdc.connectors.base.utils.SourceRecordUtils;
+import org.apache.flink.cdc.connectors.oracle.source.OracleDialect;
 import org.apache.flink.cdc.connectors.oracle.source.config.OracleSourceConfig;
 import org.apache.flink.cdc.connectors.oracle.source.handler.OracleSchemaChangeEventHandler;
 import org.apache.flink.cdc.connectors.oracle.source.meta.offset.RedoLogOffset;
@@ -65,6 +66,8 @@ import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.Map;
@@ -170,6 +173,11 @@ public class OracleSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
         return connection;
     }
 
+    @Nullable
+    public TransactionSpillBuffer getTransactionSpillBuffer() {
+        return ((OracleDialect) dataSourceDialect).getTransactionSpillBuffer();
+    }
+
     @Override
     public OracleConnectorConfig getDbzConnectorConfig() {
         return (OracleConnectorConfig) super.getDbzConnectorConfig();
@@ -37,6 +37,8 @@ import io.debezium.util.Clock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 /** The task to work for fetching data of Oracle table stream split. */
 @Internal
 public class OracleStreamFetchTask implements FetchTask<SourceSplitBase> {
@@ -61,7 +63,8 @@ public class OracleStreamFetchTask implements FetchTask<SourceSplitBase> {
                         sourceFetchContext.getDatabaseSchema(),
                         sourceFetchContext.getSourceConfig().getOriginDbzConnectorConfig(),
                         sourceFetchContext.getStreamingChangeEventSourceMetrics(),
-                        split);
+                        split,
+                        sourceFetchContext.getTransactionSpillBuffer());
         StoppableChangeEventSourceContext changeEventSourceContext =
                 new StoppableChangeEventSourceContext();
         redoLogSplitReadTask.execute(
@@ -103,6 +106,8 @@ public class OracleStreamFetchTask implements FetchTask<SourceSplitBase> {
 
         private final OracleStreamingChangeEventSourceMetrics metrics;
 
+        @Nullable private final TransactionSpillBuffer transactionSpillBuffer;
+
         public RedoLogSplitReadTask(
                 OracleConnectorConfig connectorConfig,
                 OracleConnection connection,
@@ -111,7 +116,8 @@ public class OracleStreamFetchTask implements FetchTask<SourceSplitBase> {
                 OracleDatabaseSchema schema,
                 Configuration jdbcConfig,
                 OracleStreamingChangeEventSourceMetrics metrics,
-                StreamSplit redoLogSplit) {
+                StreamSplit redoLogSplit,
+                @Nullable TransactionSpillBuffer transactionSpillBuffer) {
             super(
                     connectorConfig,
                     connection,
@@ -128,6 +134,7 @@ public class OracleStreamFetchTask implements FetchTask<SourceSplitBase> {
             this.connection = connection;
             this.metrics = metrics;
             this.schema = schema;
+            this.transactionSpillBuffer = transactionSpillBuffer;
         }
 
         @Override
@@ -158,7 +165,8 @@ public class OracleStreamFetchTask implements FetchTask<SourceSplitBase> {
                     schema,
                     metrics,
                     errorHandler,
-                    redoLogSplit);
+                    redoLogSplit,
+                    transactionSpillBuffer);
         }
     }
 }
@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oracle.source.reader.fetch;
+
+import org.apache.flink.util.FlinkRuntimeException;
+
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * The events of a transaction in a {@link TransactionSpillBuffer}. The events spilled to the local
+ * file precede the events buffered in memory, so they are iterated in insertion order.
+ *
+ * <p>Only the operations used by the transaction cache are supported: appending, iterating and
+ * removing the events of a row, random access is limited to the events buffered in memory.
+ */
+class SpillableEventList extends AbstractList<LogMinerEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpillableEventList.class);
+
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
+
+    private final String transactionId;
+    private final TransactionSpillBuffer buffer;
+    private final List<LogMinerEvent> inMemoryEvents = new ArrayList<>();
+
+    private long inMemoryBytes;
+
+    private File spillFile;
+    private DataOutputStream spillOutput;
+    private DataInputStream spillInput;
+    private long spillFileBytes;
+    private int spilledEvents;
+    // the spilled events removed by a rollback, which are skipped when reading the spill file
+    private final BitSet removedSpilledEvents = new BitSet();
+    private int removedSpilledCount;
+
+    SpillableEventList(String transactionId, TransactionSpillBuffer buffer) {
+        this.transactionId = transactionId;
+        this.buffer = buffer;
+    }
+
+    String getTransactionId() {
+        return transactionId;
+    }
+
+    long getInMemoryBytes() {
+        return inMemoryBytes;
+    }
+
+    boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    @Override
+    public int size() {
+        return spilledEvents - removedSpilledCount + inMemoryEvents.size();
+    }
+
+    @Override
+    public boolean add(LogMinerEvent event) {
+        long size = LogMinerEventSerializer.estimateSize(event);
+        inMemoryEvents.add(event);
+        inMemoryBytes += size;
+        buffer.onBuffered(this, size);
+        return true;
+    }
+
+    @Override
+    public LogMinerEvent get(int index) {
+        int spilledSize = spilledEvents - removedSpilledCount;
+        if (index < spilledSize) {
+            throw new UnsupportedOperationException(
+                    "Spilled events of transaction " + transactionId + " can't be accessed.");
+        }
+        return inMemoryEvents.get(index - spilledSize);
+    }
+
+    /**
+     * Removes the matching events. The events buffered in memory are the latest changes of the
+     * transaction, so the spill file is only scanned if none of them matches.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super LogMinerEvent> filter) {
+        boolean removed = false;
+        Iterator<LogMinerEvent> iterator = inMemoryEvents.iterator();
+        while (iterator.hasNext()) {
+            LogMinerEvent event = iterator.next();
+            if (filter.test(event)) {
+                iterator.remove();
+                long size = LogMinerEventSerializer.estimateSize(event);
+                inMemoryBytes -= size;
+                buffer.onRemoved(size);
+                removed = true;
+            }
+        }
+        if (!removed && spilledEvents > removedSpilledCount) {
+            removed = removeSpilledEvents(filter);
+        }
+        if (removed) {
+            buffer.onShrunk();
+        }
+        return removed;
+    }
+
+    @Override
+    public Iterator<LogMinerEvent> iterator() {
+        return new EventIterator(spilledEvents > 0 ? openSpillInput() : null);
+    }
+
+    /** Writes the events buffered in memory to the spill file. */
+    void spill() {
+        if (inMemoryEvents.isEmpty()) {
+            return;
+        }
+        try {
+            if (spillOutput == null) {
+                spillFile = buffer.createSpillFile();
+                spillOutput =
+                        new DataOutputStream(
+                                new BufferedOutputStream(
+                                        Files.newOutputStream(spillFile.toPath()),
+                                        FILE_BUFFER_SIZE));
+            }
+            for (LogMinerEvent event : inMemoryEvents) {
+                LogMinerEventSerializer.serialize(event, spillOutput);
+            }
+            spillOutput.flush();
+        } catch (IOException e) {
+            throw new FlinkRuntimeException(
+                    "Failed to spill the events of transaction " + transactionId, e);
+        }
+        long writtenBytes = spillFile.length() - spillFileBytes;
+        long freedBytes = inMemoryBytes;
+        spillFileBytes += writtenBytes;
+        spilledEvents += inMemoryEvents.size();
+        inMemoryEvents.clear();
+        inMemoryBytes = 0;
+        buffer.onSpilled(this, freedBytes, writtenBytes);
+    }
+
+    /** Discards all events of the transaction and deletes its spill file. */
+    void release() {
+        long freedBytes = inMemoryBytes;
+        inMemoryEvents.clear();
+        inMemoryBytes = 0;
+        closeSpillInput();
+        if (spillOutput != null) {
+            try {
+                spillOutput.close();
+            } catch (IOException e) {
+                LOG.warn("Failed to close spill file {}", spillFile, e);
+            }
+            spillOutput = null;
+        }
+        if (spillFile != null) {
+            if (!spillFile.delete() && spillFile.exists()) {
+                LOG.warn("Failed to delete spill file {}", spillFile);
+            }
+            spillFile = null;
+        }
+        buffer.onReleased(this, freedBytes, spillFileBytes);
+        spillFileBytes = 0;
+        spilledEvents = 0;
+        removedSpilledEvents.clear();
+        removedSpilledCount = 0;
+    }
+
+    private boolean removeSpilledEvents(Predicate<? super LogMinerEvent> filter) {
+        boolean removed = false;
+        try (DataInputStream input = openSpillInput()) {
+            for (int i = 0; i < spilledEvents; i++) {
+                LogMinerEvent event = LogMinerEventSerializer.deserialize(input);
+                if (!removedSpilledEvents.get(i) && filter.test(event)) {
+                    removedSpilledEvents.set(i);
+                    removedSpilledCount++;
+                    removed = true;
+                }
+            }
+        } catch (IOException e) {
+            throw new FlinkRuntimeException(
+                    "Failed to read the spilled events of transaction " + transactionId, e);
+        } finally {
+            spillInput = null;
+        }
+        return removed;
+    }
+
+    private DataInputStream openSpillInput() {
+        // only one reader of the spill file is open at a time
+        closeSpillInput();
+        try {
+            spillOutput.flush();
+            spillInput =
+                    new DataInputStream(
+                            new BufferedInputStream(
+                                    Files.newInputStream(spillFile.toPath()), FILE_BUFFER_SIZE));
+            return spillInput;
+        } catch (IOException e) {
+            throw new FlinkRuntimeException(
+                    "Failed to read the spilled events of transaction " + transactionId, e);
+        }
+    }
+
+    private void closeSpillInput() {
+        if (spillInput != null) {
+            try {
+                spillInput.close();
+            } catch (IOException e) {
+                LOG.warn("Failed to close spill file {}", spillFile, e);
+            }
+            spillInput = null;
+        }
+    }
+
+    private class EventIterator implements Iterator<LogMinerEvent> {
+
+        private final Iterator<LogMinerEvent> inMemoryIterator;
+        private final int spilledCount;
+        private DataInputStream input;
+        private int nextSpilledIndex;
+        private LogMinerEvent nextSpilledEvent;
+
+        private EventIterator(DataInputStream input) {
+            this.inMemoryIterator = inMemoryEvents.iterator();
+            this.spilledCount = spilledEvents;
+            this.input = input;
+        }
+
+        @Override
+        public boolean hasNext() {
+            advanceSpilled();
+            return nextSpilledEvent != null || inMemoryIterator.hasNext();
+        }
+
+        @Override
+        public LogMinerEvent next() {
+            advanceSpilled();
+            if (nextSpilledEvent != null) {
+                LogMinerEvent event = nextSpilledEvent;
+                nextSpilledEvent = null;
+                return event;
+            }
+            if (!inMemoryIterator.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return inMemoryIterator.next();
+        }
+
+        private void advanceSpilled() {
+            while (nextSpilledEvent == null && input != null) {
+                if (nextSpilledIndex >= spilledCount) {
+                    if (input == spillInput) {
+                        closeSpillInput();
+                    }
+                    input = null;
+                    return;
+                }
+                try {
+                    LogMinerEvent event = LogMinerEventSerializer.deserialize(input);
+                    if (!removedSpilledEvents.get(nextSpilledIndex)) {
+                        nextSpilledEvent = event;
+                    }
+                    nextSpilledIndex++;
+                } catch (IOException e) {
+                    throw new FlinkRuntimeException(
+                            "Failed to read the spilled events of transaction " + transactionId, e);
+                }
+            }
+        }
+    }
+}
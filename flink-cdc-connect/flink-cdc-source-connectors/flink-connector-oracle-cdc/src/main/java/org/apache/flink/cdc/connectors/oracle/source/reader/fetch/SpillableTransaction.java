@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oracle.source.reader.fetch;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.processor.memory.MemoryTransaction;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A {@link MemoryTransaction} whose events are buffered in a {@link TransactionSpillBuffer}, so a
+ * large transaction spills its events to local disk instead of holding them on the heap.
+ */
+@Internal
+public class SpillableTransaction extends MemoryTransaction {
+
+    private final SpillableEventList events;
+
+    public SpillableTransaction(
+            String transactionId,
+            Scn startScn,
+            Instant changeTime,
+            String userName,
+            TransactionSpillBuffer spillBuffer) {
+        super(transactionId, startScn, changeTime, userName);
+        this.events = spillBuffer.createEventList(transactionId);
+    }
+
+    @Override
+    public List<LogMinerEvent> getEvents() {
+        return events;
+    }
+
+    @Override
+    public boolean removeEventWithRowId(String rowId) {
+        return events.removeIf(event -> rowId.equals(event.getRowId()));
+    }
+
+    public boolean isSpilled() {
+        return events.isSpilled();
+    }
+
+    /** Discards the events of the transaction once it's committed, rolled back or abandoned. */
+    public void discardEvents() {
+        events.release();
+    }
+}
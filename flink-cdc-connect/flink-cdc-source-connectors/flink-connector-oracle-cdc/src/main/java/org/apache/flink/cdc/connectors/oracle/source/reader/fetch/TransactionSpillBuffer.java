@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oracle.source.reader.fetch;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.MetricGroup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The buffer of the events of all in-flight transactions of a LogMiner session with bounded heap
+ * usage.
+ *
+ * <p>The events of each transaction are kept in memory until the estimated size of all buffered
+ * events exceeds the memory budget, then the transaction holding the most events in memory is
+ * spilled to its own append-only file in one of the spill directories. Discarding a committed,
+ * rolled back or abandoned transaction simply deletes its file.
+ *
+ * <p>The buffer belongs to a source reader and is reused by its LogMiner sessions, which run one at
+ * a time. Only the metrics may be read from other threads.
+ */
+@Internal
+public class TransactionSpillBuffer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TransactionSpillBuffer.class);
+
+    public static final String TRANSACTION_SPILLED_BYTES = "transactionSpilledBytes";
+    public static final String TRANSACTION_TOTAL_SPILLED_BYTES = "transactionTotalSpilledBytes";
+    public static final String LARGEST_OPEN_TRANSACTION_SIZE = "largestOpenTransactionSize";
+
+    private final long memoryBudget;
+    private final String[] spillDirectories;
+    private final Set<SpillableEventList> openEventLists =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private long inMemoryBytes;
+    private volatile long spilledBytes;
+    private volatile long totalSpilledBytes;
+    private volatile int largestTransactionSize;
+
+    public TransactionSpillBuffer(long memoryBudget, String[] spillDirectories) {
+        if (spillDirectories.length == 0) {
+            throw new IllegalArgumentException("At least one spill directory is required.");
+        }
+        this.memoryBudget = memoryBudget;
+        this.spillDirectories = spillDirectories;
+    }
+
+    /** Registers the metrics of the buffer. */
+    public void registerMetrics(MetricGroup metricGroup) {
+        metricGroup.gauge(TRANSACTION_SPILLED_BYTES, (Gauge<Long>) this::getSpilledBytes);
+        metricGroup.gauge(
+                TRANSACTION_TOTAL_SPILLED_BYTES, (Gauge<Long>) this::getTotalSpilledBytes);
+        metricGroup.gauge(
+                LARGEST_OPEN_TRANSACTION_SIZE, (Gauge<Integer>) this::getLargestTransactionSize);
+    }
+
+    SpillableEventList createEventList(String transactionId) {
+        SpillableEventList eventList = new SpillableEventList(transactionId, this);
+        openEventLists.add(eventList);
+        return eventList;
+    }
+
+    /** Returns the estimated size in bytes of the events buffered in memory. */
+    public long getInMemoryBytes() {
+        return inMemoryBytes;
+    }
+
+    /** Returns the size in bytes of the spill files of the open transactions. */
+    public long getSpilledBytes() {
+        return spilledBytes;
+    }
+
+    /** Returns the size in bytes of all events spilled since the buffer was created. */
+    public long getTotalSpilledBytes() {
+        return totalSpilledBytes;
+    }
+
+    /** Returns the number of events of the largest open transaction. */
+    public int getLargestTransactionSize() {
+        return largestTransactionSize;
+    }
+
+    /**
+     * Discards the events of all open transactions, which is called when a LogMiner session is
+     * closed. The buffer can still be used by the next session.
+     */
+    public void releaseAll() {
+        for (SpillableEventList eventList : new ArrayList<>(openEventLists)) {
+            eventList.release();
+        }
+    }
+
+    /** Returns a new spill file in a random spill directory. */
+    File createSpillFile() throws IOException {
+        File spillDirectory =
+                new File(
+                        spillDirectories[
+                                ThreadLocalRandom.current().nextInt(spillDirectories.length)]);
+        return File.createTempFile("flink-cdc-transaction-spill-", ".bin", spillDirectory);
+    }
+
+    void onBuffered(SpillableEventList eventList, long bytes) {
+        inMemoryBytes += bytes;
+        if (eventList.size() > largestTransactionSize) {
+            largestTransactionSize = eventList.size();
+        }
+        if (inMemoryBytes > memoryBudget) {
+            spillLargestEventList();
+        }
+    }
+
+    void onRemoved(long bytes) {
+        inMemoryBytes -= bytes;
+    }
+
+    void onShrunk() {
+        updateLargestTransactionSize();
+    }
+
+    void onSpilled(SpillableEventList eventList, long freedBytes, long writtenBytes) {
+        inMemoryBytes -= freedBytes;
+        spilledBytes += writtenBytes;
+        totalSpilledBytes += writtenBytes;
+        LOG.info(
+                "Spilled {} bytes of transaction {} with {} events, {} bytes of open transactions"
+                        + " are spilled, {} bytes are spilled in total.",
+                writtenBytes,
+                eventList.getTransactionId(),
+                eventList.size(),
+                spilledBytes,
+                totalSpilledBytes);
+    }
+
+    void onReleased(SpillableEventList eventList, long freedBytes, long spillFileBytes) {
+        openEventLists.remove(eventList);
+        inMemoryBytes -= freedBytes;
+        spilledBytes -= spillFileBytes;
+        updateLargestTransactionSize();
+    }
+
+    private void updateLargestTransactionSize() {
+        int largest = 0;
+        for (SpillableEventList eventList : openEventLists) {
+            largest = Math.max(largest, eventList.size());
+        }
+        largestTransactionSize = largest;
+    }
+
+    private void spillLargestEventList() {
+        SpillableEventList largest = null;
+        for (SpillableEventList eventList : openEventLists) {
+            if (largest == null || eventList.getInMemoryBytes() > largest.getInMemoryBytes()) {
+                largest = eventList;
+            }
+        }
+        if (largest != null) {
+            largest.spill();
+        }
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oracle.source.reader.fetch;
+
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.testutils.MetricListener;
+
+import io.debezium.connector.oracle.OracleValueConverters;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.DmlEvent;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LobEraseEvent;
+import io.debezium.connector.oracle.logminer.events.LobWriteEvent;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.events.SelectLobLocatorEvent;
+import io.debezium.connector.oracle.logminer.events.TruncateEvent;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntry;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntryImpl;
+import io.debezium.relational.TableId;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Unit test for {@link TransactionSpillBuffer}. */
+public class TransactionSpillBufferTest {
+
+    private static final TableId TABLE_ID = new TableId("ORCLCDB", "DEBEZIUM", "PRODUCTS");
+    private static final Instant CHANGE_TIME = Instant.parse("2024-01-01T00:00:00.123456Z");
+
+    @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testSerializeEvents() throws IOException {
+        List<LogMinerEvent> events =
+                Arrays.asList(
+                        createEvent(1),
+                        new TruncateEvent(
+                                EventType.DDL,
+                                Scn.valueOf(2),
+                                TABLE_ID,
+                                "AAAR2",
+                                "rs",
+                                CHANGE_TIME,
+                                LogMinerDmlEntryImpl.forValuelessDdl()),
+                        new SelectLobLocatorEvent(
+                                EventType.SELECT_LOB_LOCATOR,
+                                Scn.valueOf(3),
+                                TABLE_ID,
+                                "AAAR3",
+                                "rs",
+                                CHANGE_TIME,
+                                LogMinerDmlEntryImpl.forLobLocator(new Object[] {"3", null}),
+                                "DESCRIPTION",
+                                false),
+                        new LobWriteEvent(
+                                EventType.LOB_WRITE,
+                                Scn.valueOf(4),
+                                TABLE_ID,
+                                "AAAR3",
+                                "rs",
+                                null,
+                                "'lob data é中'",
+                                1,
+                                11),
+                        new LobEraseEvent(
+                                EventType.LOB_ERASE,
+                                Scn.valueOf(5),
+                                TABLE_ID,
+                                "AAAR3",
+                                "rs",
+                                CHANGE_TIME));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (LogMinerEvent event : events) {
+            LogMinerEventSerializer.serialize(event, out);
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (LogMinerEvent event : events) {
+            assertEvent(event, LogMinerEventSerializer.deserialize(in));
+        }
+        assertEquals(0, in.available());
+    }
+
+    @Test
+    public void testSpillLargestTransaction() {
+        long eventSize = LogMinerEventSerializer.estimateSize(createEvent(0));
+        TransactionSpillBuffer buffer = createBuffer(eventSize * 10);
+        try {
+            SpillableTransaction large = createTransaction("large", buffer);
+            SpillableTransaction small = createTransaction("small", buffer);
+            List<LogMinerEvent> expected = new ArrayList<>();
+            for (int i = 0; i < 25; i++) {
+                expected.add(createEvent(i));
+                large.getEvents().add(expected.get(i));
+                if (i % 10 == 0) {
+                    small.getEvents().add(createEvent(100 + i));
+                }
+            }
+
+            assertTrue(large.isSpilled());
+            assertFalse(small.isSpilled());
+            assertTrue(buffer.getInMemoryBytes() <= eventSize * 10);
+            assertTrue(buffer.getSpilledBytes() > 0);
+            assertEquals(25, buffer.getLargestTransactionSize());
+            assertEquals(25, large.getEvents().size());
+            assertEvents(expected, large.getEvents());
+            // the events can be iterated again
+            assertEvents(expected, large.getEvents());
+            assertEquals(3, small.getEvents().size());
+            // the spill file is created in the spill directory
+            assertEquals(1, spillFiles().length);
+        } finally {
+            buffer.releaseAll();
+        }
+        assertEquals(0, spillFiles().length);
+    }
+
+    @Test
+    public void testRemoveEventWithRowId() {
+        long eventSize = LogMinerEventSerializer.estimateSize(createEvent(0));
+        TransactionSpillBuffer buffer = createBuffer(eventSize * 5);
+        try {
+            SpillableTransaction transaction = createTransaction("transaction", buffer);
+            List<LogMinerEvent> expected = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                expected.add(createEvent(i));
+                transaction.getEvents().add(expected.get(i));
+            }
+            assertTrue(transaction.isSpilled());
+
+            // removes a buffered event
+            assertTrue(transaction.removeEventWithRowId("AAAR7"));
+            expected.remove(7);
+            // removes a spilled event
+            assertTrue(transaction.removeEventWithRowId("AAAR1"));
+            expected.remove(1);
+            assertFalse(transaction.removeEventWithRowId("AAAR1"));
+
+            assertEquals(6, transaction.getEvents().size());
+            assertEvents(expected, transaction.getEvents());
+            assertEquals(6, buffer.getLargestTransactionSize());
+        } finally {
+            buffer.releaseAll();
+        }
+    }
+
+    @Test
+    public void testDiscardEvents() {
+        long eventSize = LogMinerEventSerializer.estimateSize(createEvent(0));
+        TransactionSpillBuffer buffer = createBuffer(eventSize * 2);
+        SpillableTransaction committed = createTransaction("committed", buffer);
+        SpillableTransaction rolledBack = createTransaction("rolledBack", buffer);
+        for (int i = 0; i < 5; i++) {
+            committed.getEvents().add(createEvent(i));
+            rolledBack.getEvents().add(createEvent(i));
+        }
+        long totalSpilledBytes = buffer.getTotalSpilledBytes();
+        assertTrue(totalSpilledBytes > 0);
+
+        rolledBack.discardEvents();
+        assertEquals(5, buffer.getLargestTransactionSize());
+        buffer.releaseAll();
+        assertEquals(0, spillFiles().length);
+        assertEquals(0, buffer.getInMemoryBytes());
+        assertEquals(0, buffer.getSpilledBytes());
+        assertEquals(0, buffer.getLargestTransactionSize());
+        assertEquals(totalSpilledBytes, buffer.getTotalSpilledBytes());
+        assertEquals(0, committed.getEvents().size());
+
+        // the buffer is reused by the next LogMiner session
+        SpillableTransaction next = createTransaction("next", buffer);
+        for (int i = 0; i < 5; i++) {
+            next.getEvents().add(createEvent(i));
+        }
+        assertTrue(next.isSpilled());
+        assertEquals(5, buffer.getLargestTransactionSize());
+        buffer.releaseAll();
+    }
+
+    @Test
+    public void testMetrics() {
+        long eventSize = LogMinerEventSerializer.estimateSize(createEvent(0));
+        TransactionSpillBuffer buffer = createBuffer(eventSize * 2);
+        MetricListener metricListener = new MetricListener();
+        buffer.registerMetrics(metricListener.getMetricGroup());
+        assertGauge(metricListener, TransactionSpillBuffer.TRANSACTION_SPILLED_BYTES, 0L);
+        assertGauge(metricListener, TransactionSpillBuffer.TRANSACTION_TOTAL_SPILLED_BYTES, 0L);
+        assertGauge(metricListener, TransactionSpillBuffer.LARGEST_OPEN_TRANSACTION_SIZE, 0);
+
+        SpillableTransaction transaction = createTransaction("transaction", buffer);
+        for (int i = 0; i < 4; i++) {
+            transaction.getEvents().add(createEvent(i));
+        }
+        long spilledBytes = buffer.getSpilledBytes();
+        assertTrue(spilledBytes > 0);
+        assertGauge(metricListener, TransactionSpillBuffer.TRANSACTION_SPILLED_BYTES, spilledBytes);
+        assertGauge(
+                metricListener,
+                TransactionSpillBuffer.TRANSACTION_TOTAL_SPILLED_BYTES,
+                spilledBytes);
+        assertGauge(metricListener, TransactionSpillBuffer.LARGEST_OPEN_TRANSACTION_SIZE, 4);
+
+        transaction.discardEvents();
+        assertGauge(metricListener, TransactionSpillBuffer.TRANSACTION_SPILLED_BYTES, 0L);
+        assertGauge(
+                metricListener,
+                TransactionSpillBuffer.TRANSACTION_TOTAL_SPILLED_BYTES,
+                spilledBytes);
+        assertGauge(metricListener, TransactionSpillBuffer.LARGEST_OPEN_TRANSACTION_SIZE, 0);
+    }
+
+    private TransactionSpillBuffer createBuffer(long memoryBudget) {
+        return new TransactionSpillBuffer(
+                memoryBudget, new String[] {temporaryFolder.getRoot().getAbsolutePath()});
+    }
+
+    private File[] spillFiles() {
+        return temporaryFolder.getRoot().listFiles();
+    }
+
+    private static void assertGauge(
+            MetricListener metricListener, String identifier, Object expected) {
+        Optional<Gauge<Object>> gauge = metricListener.getGauge(identifier);
+        assertTrue(gauge.isPresent());
+        assertEquals(expected, gauge.get().getValue());
+    }
+
+    private static SpillableTransaction createTransaction(
+            String transactionId, TransactionSpillBuffer buffer) {
+        return new SpillableTransaction(
+                transactionId, Scn.valueOf(1), CHANGE_TIME, "DEBEZIUM", buffer);
+    }
+
+    private static DmlEvent createEvent(int id) {
+        return new DmlEvent(
+                EventType.UPDATE,
+                Scn.valueOf(100 + id),
+                TABLE_ID,
+                "AAAR" + id,
+                "rs",
+                CHANGE_TIME,
+                LogMinerDmlEntryImpl.forUpdate(
+                        new Object[] {String.valueOf(id), "'new'", null},
+                        new Object[] {
+                            String.valueOf(id), "'old'", OracleValueConverters.UNAVAILABLE_VALUE
+                        }));
+    }
+
+    private static void assertEvents(List<LogMinerEvent> expected, List<LogMinerEvent> actual) {
+        List<LogMinerEvent> events = new ArrayList<>();
+        actual.iterator().forEachRemaining(events::add);
+        assertEquals(expected.size(), events.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEvent(expected.get(i), events.get(i));
+        }
+    }
+
+    private static void assertEvent(LogMinerEvent expected, LogMinerEvent actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(expected, actual);
+        if (expected instanceof DmlEvent) {
+            LogMinerDmlEntry expectedEntry = ((DmlEvent) expected).getDmlEntry();
+            LogMinerDmlEntry actualEntry = ((DmlEvent) actual).getDmlEntry();
+            assertEquals(expectedEntry.getEventType(), actualEntry.getEventType());
+            assertEquals(expectedEntry.getObjectOwner(), actualEntry.getObjectOwner());
+            assertEquals(expectedEntry.getObjectName(), actualEntry.getObjectName());
+            assertArrayEquals(expectedEntry.getOldValues(), actualEntry.getOldValues());
+            assertArrayEquals(expectedEntry.getNewValues(), actualEntry.getNewValues());
+        } else {
+            // the string of the other events contains all their fields
+            assertEquals(expected.toString(), actual.toString());
+        }
+    }
+}
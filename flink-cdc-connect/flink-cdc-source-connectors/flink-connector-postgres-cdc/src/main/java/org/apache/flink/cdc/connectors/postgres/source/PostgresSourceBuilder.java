@@ -268,6 +268,16 @@ public class PostgresSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The memory budget in bytes for normalizing the records of a snapshot split with its backfill
+     * change events. Snapshot records exceeding the budget are spilled to local disk, a
+     * non-positive value keeps the whole split in memory.
+     */
+    public PostgresSourceBuilder<T> snapshotSpillMemoryBudget(long snapshotSpillMemoryBudget) {
+        this.configFactory.snapshotSpillMemoryBudget(snapshotSpillMemoryBudget);
+        return this;
+    }
+
     /** Whether the {@link PostgresSourceEnumerator} should scan the newly added tables or not. */
     public PostgresSourceBuilder<T> scanNewlyAddedTableEnabled(boolean scanNewlyAddedTableEnabled) {
         this.configFactory.scanNewlyAddedTableEnabled(scanNewlyAddedTableEnabled);
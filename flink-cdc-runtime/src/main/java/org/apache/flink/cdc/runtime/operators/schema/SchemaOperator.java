@@ -72,11 +72,13 @@ import javax.annotation.Nullable;
 
 import java.io.Serializable;
 import java.time.Duration;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
@@ -115,6 +117,17 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
      */
     private transient LoadingCache<TableId, List<TableId>> tableIdMappingCache;
 
+    /**
+     * Storing plans to normalize records of upstream tables into evolved downstream table schemas,
+     * keyed by upstream tableId and downstream tableId. The plans failing on incompatible types and
+     * the plans filling nulls for them (tolerant mode) are kept apart. They are invalidated on
+     * schema changes.
+     */
+    private transient Map<TableId, Map<TableId, SchemaNormalizationPlan>> strictNormalizationPlans;
+
+    private transient Map<TableId, Map<TableId, SchemaNormalizationPlan>>
+            tolerantNormalizationPlans;
+
     private final long rpcTimeOutInMillis;
     private final SchemaChangeBehavior schemaChangeBehavior;
 
@@ -217,6 +230,8 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
                                         return getRoutedTables(tableId);
                                     }
                                 });
+        strictNormalizationPlans = new HashMap<>();
+        tolerantNormalizationPlans = new HashMap<>();
     }
 
     /**
@@ -245,6 +260,10 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
                 event);
         handleSchemaChangeEvent(tableId, event);
 
+        // Either the original schema or the evolved schemas might have changed
+        strictNormalizationPlans.clear();
+        tolerantNormalizationPlans.clear();
+
         if (event instanceof DropTableEvent) {
             // Update caches unless event is a Drop table event. In that case, no schema will be
             // available / necessary.
@@ -266,14 +285,13 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
 
     private void processDataChangeEvents(StreamRecord<Event> streamRecord, DataChangeEvent event) {
         TableId tableId = event.tableId();
-        List<TableId> optionalRoutedTable = getRoutedTables(tableId);
+        List<TableId> optionalRoutedTable = tableIdMappingCache.getUnchecked(tableId);
         if (!optionalRoutedTable.isEmpty()) {
-            optionalRoutedTable.forEach(
-                    evolvedTableId -> {
-                        output.collect(
-                                new StreamRecord<>(
-                                        normalizeSchemaChangeEvents(event, evolvedTableId, false)));
-                    });
+            for (TableId evolvedTableId : optionalRoutedTable) {
+                output.collect(
+                        new StreamRecord<>(
+                                normalizeSchemaChangeEvents(event, evolvedTableId, false)));
+            }
         } else if (Boolean.FALSE.equals(schemaDivergesMap.getIfPresent(tableId))) {
             output.collect(new StreamRecord<>(normalizeSchemaChangeEvents(event, true)));
         } else {
@@ -289,53 +307,27 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
     private DataChangeEvent normalizeSchemaChangeEvents(
             DataChangeEvent event, TableId renamedTableId, boolean tolerantMode) {
         try {
-            Schema originalSchema = this.originalSchema.get(event.tableId());
-            Schema evolvedTableSchema = evolvedSchema.get(renamedTableId);
-            if (originalSchema.equals(evolvedTableSchema)) {
+            SchemaNormalizationPlan plan =
+                    getSchemaNormalizationPlan(event.tableId(), renamedTableId, tolerantMode);
+            if (plan.isIdentity()) {
                 return ChangeEventUtils.recreateDataChangeEvent(event, renamedTableId);
             }
             switch (event.op()) {
                 case INSERT:
                     return DataChangeEvent.insertEvent(
-                            renamedTableId,
-                            regenerateRecordData(
-                                    event.after(),
-                                    originalSchema,
-                                    evolvedTableSchema,
-                                    tolerantMode),
-                            event.meta());
+                            renamedTableId, plan.normalize(event.after()), event.meta());
                 case UPDATE:
                     return DataChangeEvent.updateEvent(
                             renamedTableId,
-                            regenerateRecordData(
-                                    event.before(),
-                                    originalSchema,
-                                    evolvedTableSchema,
-                                    tolerantMode),
-                            regenerateRecordData(
-                                    event.after(),
-                                    originalSchema,
-                                    evolvedTableSchema,
-                                    tolerantMode),
+                            plan.normalize(event.before()),
+                            plan.normalize(event.after()),
                             event.meta());
                 case DELETE:
                     return DataChangeEvent.deleteEvent(
-                            renamedTableId,
-                            regenerateRecordData(
-                                    event.before(),
-                                    originalSchema,
-                                    evolvedTableSchema,
-                                    tolerantMode),
-                            event.meta());
+                            renamedTableId, plan.normalize(event.before()), event.meta());
                 case REPLACE:
                     return DataChangeEvent.replaceEvent(
-                            renamedTableId,
-                            regenerateRecordData(
-                                    event.after(),
-                                    originalSchema,
-                                    evolvedTableSchema,
-                                    tolerantMode),
-                            event.meta());
+                            renamedTableId, plan.normalize(event.after()), event.meta());
                 default:
                     throw new IllegalArgumentException(
                             String.format("Unrecognized operation type \"%s\"", event.op()));
@@ -345,44 +337,22 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
         }
     }
 
-    private RecordData regenerateRecordData(
-            RecordData recordData,
-            Schema originalSchema,
-            Schema routedTableSchema,
-            boolean tolerantMode) {
-        // Regenerate record data
-        List<RecordData.FieldGetter> fieldGetters = new ArrayList<>();
-        for (Column column : routedTableSchema.getColumns()) {
-            String columnName = column.getName();
-            int columnIndex = originalSchema.getColumnNames().indexOf(columnName);
-            if (columnIndex == -1) {
-                fieldGetters.add(new NullFieldGetter());
-            } else {
-                RecordData.FieldGetter fieldGetter =
-                        RecordData.createFieldGetter(
-                                originalSchema.getColumn(columnName).get().getType(), columnIndex);
-                // Check type compatibility, ignoring nullability
-                if (originalSchema
-                        .getColumn(columnName)
-                        .get()
-                        .getType()
-                        .nullable()
-                        .equals(column.getType().nullable())) {
-                    fieldGetters.add(fieldGetter);
-                } else {
-                    fieldGetters.add(
-                            new TypeCoercionFieldGetter(
-                                    column.getType(), fieldGetter, tolerantMode));
-                }
-            }
+    private SchemaNormalizationPlan getSchemaNormalizationPlan(
+            TableId originalTableId, TableId evolvedTableId, boolean tolerantMode)
+            throws ExecutionException {
+        Map<TableId, SchemaNormalizationPlan> plans =
+                (tolerantMode ? tolerantNormalizationPlans : strictNormalizationPlans)
+                        .computeIfAbsent(originalTableId, k -> new HashMap<>());
+        SchemaNormalizationPlan plan = plans.get(evolvedTableId);
+        if (plan == null) {
+            plan =
+                    new SchemaNormalizationPlan(
+                            originalSchema.get(originalTableId),
+                            evolvedSchema.get(evolvedTableId),
+                            tolerantMode);
+            plans.put(evolvedTableId, plan);
         }
-        BinaryRecordDataGenerator recordDataGenerator =
-                new BinaryRecordDataGenerator(
-                        routedTableSchema.getColumnDataTypes().toArray(new DataType[0]));
-        return recordDataGenerator.generate(
-                fieldGetters.stream()
-                        .map(fieldGetter -> fieldGetter.getFieldOrNull(recordData))
-                        .toArray());
+        return plan;
     }
 
     private List<TableId> getRoutedTables(TableId originalTableId) {
@@ -412,33 +382,41 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
                             schemaChangeEvent));
         }
 
-        // The request will block if another schema change event is being handled
-        SchemaChangeResponse response = requestSchemaChange(tableId, schemaChangeEvent);
-        if (response.isAccepted()) {
-            LOG.info("{}> Sending the FlushEvent for table {}.", subTaskId, tableId);
-            output.collect(new StreamRecord<>(new FlushEvent(tableId)));
-            List<SchemaChangeEvent> expectedSchemaChangeEvents = response.getSchemaChangeEvents();
-            schemaOperatorMetrics.increaseSchemaChangeEvents(expectedSchemaChangeEvents.size());
-
-            // The request will block until flushing finished in each sink writer
-            SchemaChangeResultResponse schemaEvolveResponse = requestSchemaChangeResult();
-            List<SchemaChangeEvent> finishedSchemaChangeEvents =
-                    schemaEvolveResponse.getFinishedSchemaChangeEvents();
-
-            // Update evolved schema changes based on apply results
-            finishedSchemaChangeEvents.forEach(e -> output.collect(new StreamRecord<>(e)));
-        } else if (response.isDuplicate()) {
-            LOG.info(
-                    "{}> Schema change event {} has been handled in another subTask already.",
-                    subTaskId,
-                    schemaChangeEvent);
-        } else if (response.isIgnored()) {
-            LOG.info(
-                    "{}> Schema change event {} has been ignored. No schema evolution needed.",
-                    subTaskId,
-                    schemaChangeEvent);
-        } else {
-            throw new IllegalStateException("Unexpected response status " + response);
+        long blockedStartTime = System.currentTimeMillis();
+        // Timed out and failed schema changes blocked the stream as well
+        try {
+            // The request will block if another conflicting schema change event is being handled
+            SchemaChangeResponse response = requestSchemaChange(tableId, schemaChangeEvent);
+            if (response.isAccepted()) {
+                LOG.info("{}> Sending the FlushEvent for table {}.", subTaskId, tableId);
+                output.collect(new StreamRecord<>(new FlushEvent(tableId)));
+                List<SchemaChangeEvent> expectedSchemaChangeEvents =
+                        response.getSchemaChangeEvents();
+                schemaOperatorMetrics.increaseSchemaChangeEvents(expectedSchemaChangeEvents.size());
+
+                // The request will block until flushing finished in each sink writer
+                SchemaChangeResultResponse schemaEvolveResponse = requestSchemaChangeResult();
+                List<SchemaChangeEvent> finishedSchemaChangeEvents =
+                        schemaEvolveResponse.getFinishedSchemaChangeEvents();
+
+                // Update evolved schema changes based on apply results
+                finishedSchemaChangeEvents.forEach(e -> output.collect(new StreamRecord<>(e)));
+            } else if (response.isDuplicate()) {
+                LOG.info(
+                        "{}> Schema change event {} has been handled in another subTask already.",
+                        subTaskId,
+                        schemaChangeEvent);
+            } else if (response.isIgnored()) {
+                LOG.info(
+                        "{}> Schema change event {} has been ignored. No schema evolution needed.",
+                        subTaskId,
+                        schemaChangeEvent);
+            } else {
+                throw new IllegalStateException("Unexpected response status " + response);
+            }
+        } finally {
+            schemaOperatorMetrics.recordSchemaChangeBlockedTime(
+                    System.currentTimeMillis() - blockedStartTime);
         }
     }
 
@@ -447,18 +425,15 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
             throws InterruptedException, TimeoutException {
         long schemaEvolveTimeOutMillis = System.currentTimeMillis() + rpcTimeOutInMillis;
         while (true) {
+            // The request is held by the Schema Registry until it could be handled, or answered
+            // with a busy response if it could not be handled in time
             SchemaChangeResponse response =
                     sendRequestToCoordinator(
-                            new SchemaChangeRequest(tableId, schemaChangeEvent, subTaskId));
+                            new SchemaChangeRequest(tableId, schemaChangeEvent, subTaskId),
+                            schemaEvolveTimeOutMillis,
+                            "TimeOut when requesting schema change");
             if (response.isRegistryBusy()) {
-                if (System.currentTimeMillis() < schemaEvolveTimeOutMillis) {
-                    LOG.info(
-                            "{}> Schema Registry is busy now, waiting for next request...",
-                            subTaskId);
-                    Thread.sleep(1000);
-                } else {
-                    throw new TimeoutException("TimeOut when requesting schema change");
-                }
+                LOG.info("{}> Schema Registry is busy now, waiting for next request...", subTaskId);
             } else {
                 return response;
             }
@@ -467,31 +442,46 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
 
     private SchemaChangeResultResponse requestSchemaChangeResult()
             throws InterruptedException, TimeoutException {
-        CoordinationResponse coordinationResponse =
-                sendRequestToCoordinator(new SchemaChangeResultRequest());
-        long nextRpcTimeOutMillis = System.currentTimeMillis() + rpcTimeOutInMillis;
-        while (coordinationResponse instanceof SchemaChangeProcessingResponse) {
-            if (System.currentTimeMillis() < nextRpcTimeOutMillis) {
-                Thread.sleep(1000);
-                coordinationResponse = sendRequestToCoordinator(new SchemaChangeResultRequest());
-            } else {
-                throw new TimeoutException("TimeOut when requesting release upstream");
-            }
-        }
+        // Waiting for the flush and the schema change has its own deadline, which doesn't count the
+        // time waited for the registry to accept the request
+        long schemaEvolveTimeOutMillis = System.currentTimeMillis() + rpcTimeOutInMillis;
+        // The request is held by the Schema Registry until the schema change is applied, or
+        // answered with a processing response if it could not be applied in time
+        CoordinationResponse coordinationResponse;
+        do {
+            coordinationResponse =
+                    sendRequestToCoordinator(
+                            new SchemaChangeResultRequest(subTaskId),
+                            schemaEvolveTimeOutMillis,
+                            "TimeOut when requesting release upstream");
+        } while (coordinationResponse instanceof SchemaChangeProcessingResponse);
         return ((SchemaChangeResultResponse) coordinationResponse);
     }
 
     private <REQUEST extends CoordinationRequest, RESPONSE extends CoordinationResponse>
-            RESPONSE sendRequestToCoordinator(REQUEST request) {
+            RESPONSE sendRequestToCoordinator(
+                    REQUEST request, long timeOutMillis, String timeOutMessage)
+                    throws InterruptedException, TimeoutException {
+        CompletableFuture<CoordinationResponse> responseFuture;
         try {
-            CompletableFuture<CoordinationResponse> responseFuture =
+            responseFuture =
                     toCoordinator.sendRequestToCoordinator(
                             getOperatorID(), new SerializedValue<>(request));
-            return CoordinationResponseUtils.unwrap(responseFuture.get());
         } catch (Exception e) {
             throw new IllegalStateException(
                     "Failed to send request to coordinator: " + request.toString(), e);
         }
+        try {
+            return CoordinationResponseUtils.unwrap(
+                    responseFuture.get(
+                            Math.max(0, timeOutMillis - System.currentTimeMillis()),
+                            TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            throw new TimeoutException(timeOutMessage);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(
+                    "Failed to send request to coordinator: " + request.toString(), e);
+        }
     }
 
     private Schema getLatestEvolvedSchema(TableId tableId) {
@@ -532,6 +522,67 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
         }
     }
 
+    /**
+     * A precompiled plan to regenerate records of an original schema in an evolved schema. Columns
+     * are looked up and type coercions are resolved once, so normalizing a record only copies its
+     * fields into a reused {@link BinaryRecordDataGenerator}.
+     */
+    @VisibleForTesting
+    static class SchemaNormalizationPlan {
+        private final boolean identity;
+        private final RecordData.FieldGetter[] fieldGetters;
+        private final Object[] reusedFields;
+        @Nullable private final BinaryRecordDataGenerator recordDataGenerator;
+
+        SchemaNormalizationPlan(Schema originalSchema, Schema evolvedSchema, boolean tolerantMode) {
+            this.identity = originalSchema.equals(evolvedSchema);
+            if (identity) {
+                this.fieldGetters = new RecordData.FieldGetter[0];
+                this.reusedFields = new Object[0];
+                this.recordDataGenerator = null;
+                return;
+            }
+            List<Column> evolvedColumns = evolvedSchema.getColumns();
+            List<String> originalColumnNames = originalSchema.getColumnNames();
+            this.fieldGetters = new RecordData.FieldGetter[evolvedColumns.size()];
+            for (int i = 0; i < evolvedColumns.size(); i++) {
+                Column column = evolvedColumns.get(i);
+                int columnIndex = originalColumnNames.indexOf(column.getName());
+                if (columnIndex == -1) {
+                    fieldGetters[i] = new NullFieldGetter();
+                    continue;
+                }
+                DataType originalType = originalSchema.getColumns().get(columnIndex).getType();
+                RecordData.FieldGetter fieldGetter =
+                        RecordData.createFieldGetter(originalType, columnIndex);
+                // Check type compatibility, ignoring nullability
+                if (originalType.nullable().equals(column.getType().nullable())) {
+                    fieldGetters[i] = fieldGetter;
+                } else {
+                    fieldGetters[i] =
+                            new TypeCoercionFieldGetter(
+                                    column.getType(), fieldGetter, tolerantMode);
+                }
+            }
+            this.reusedFields = new Object[fieldGetters.length];
+            this.recordDataGenerator =
+                    new BinaryRecordDataGenerator(
+                            evolvedSchema.getColumnDataTypes().toArray(new DataType[0]));
+        }
+
+        /** Whether records can be forwarded as they are. */
+        boolean isIdentity() {
+            return identity;
+        }
+
+        RecordData normalize(RecordData recordData) {
+            for (int i = 0; i < fieldGetters.length; i++) {
+                reusedFields[i] = fieldGetters[i].getFieldOrNull(recordData);
+            }
+            return recordDataGenerator.generate(reusedFields);
+        }
+    }
+
     private static class NullFieldGetter implements RecordData.FieldGetter {
         @Nullable
         @Override
@@ -619,6 +670,11 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
         }
     }
 
+    @VisibleForTesting
+    SchemaOperatorMetrics getSchemaOperatorMetrics() {
+        return schemaOperatorMetrics;
+    }
+
     @Override
     public void snapshotState(StateSnapshotContext context) throws Exception {
         // Needless to do anything, since AbstractStreamOperator#snapshotState and #processElement
@@ -42,6 +42,7 @@ public class SchemaOperatorFactory extends SimpleOperatorFactory<Event>
     private final MetadataApplier metadataApplier;
     private final List<RouteRule> routingRules;
     private final SchemaChangeBehavior schemaChangeBehavior;
+    private final Duration rpcTimeOut;
 
     public SchemaOperatorFactory(
             MetadataApplier metadataApplier,
@@ -52,12 +53,18 @@ public class SchemaOperatorFactory extends SimpleOperatorFactory<Event>
         this.metadataApplier = metadataApplier;
         this.routingRules = routingRules;
         this.schemaChangeBehavior = schemaChangeBehavior;
+        this.rpcTimeOut = rpcTimeOut;
     }
 
     @Override
     public OperatorCoordinator.Provider getCoordinatorProvider(
             String operatorName, OperatorID operatorID) {
         return new SchemaRegistryProvider(
-                operatorID, operatorName, metadataApplier, routingRules, schemaChangeBehavior);
+                operatorID,
+                operatorName,
+                metadataApplier,
+                routingRules,
+                schemaChangeBehavior,
+                rpcTimeOut);
     }
 }
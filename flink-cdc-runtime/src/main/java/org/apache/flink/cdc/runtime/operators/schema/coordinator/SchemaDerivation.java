@@ -160,6 +160,20 @@ public class SchemaDerivation {
         }
     }
 
+    /** Returns the tables that schema changes of the given original table will be derived to. */
+    public Set<TableId> getDerivedTables(TableId originalTable) {
+        Set<TableId> derivedTables = new HashSet<>();
+        for (Tuple3<Selectors, String, String> route : routes) {
+            if (route.f0.isMatch(originalTable)) {
+                derivedTables.add(resolveReplacement(originalTable, route));
+            }
+        }
+        if (derivedTables.isEmpty()) {
+            derivedTables.add(originalTable);
+        }
+        return derivedTables;
+    }
+
     private TableId resolveReplacement(
             TableId originalTable, Tuple3<Selectors, String, String> route) {
         if (route.f2 != null) {
@@ -51,6 +51,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -59,6 +60,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 
+import static org.apache.flink.cdc.common.pipeline.PipelineOptions.DEFAULT_SCHEMA_OPERATOR_RPC_TIMEOUT;
 import static org.apache.flink.cdc.runtime.operators.schema.event.CoordinationResponseUtils.wrap;
 
 /**
@@ -100,6 +102,9 @@ public class SchemaRegistry implements OperatorCoordinator, CoordinationRequestH
 
     private final List<RouteRule> routes;
 
+    /** The RPC timeout of the SchemaOperator, which bounds the time a request is held. */
+    private final Duration rpcTimeOut;
+
     /** The request handler that handle all requests and events. */
     private SchemaRegistryRequestHandler requestHandler;
 
@@ -138,12 +143,31 @@ public class SchemaRegistry implements OperatorCoordinator, CoordinationRequestH
             MetadataApplier metadataApplier,
             List<RouteRule> routes,
             SchemaChangeBehavior schemaChangeBehavior) {
+        this(
+                operatorName,
+                context,
+                coordinatorExecutor,
+                metadataApplier,
+                routes,
+                schemaChangeBehavior,
+                DEFAULT_SCHEMA_OPERATOR_RPC_TIMEOUT);
+    }
+
+    public SchemaRegistry(
+            String operatorName,
+            OperatorCoordinator.Context context,
+            ExecutorService coordinatorExecutor,
+            MetadataApplier metadataApplier,
+            List<RouteRule> routes,
+            SchemaChangeBehavior schemaChangeBehavior,
+            Duration rpcTimeOut) {
         this.context = context;
         this.coordinatorExecutor = coordinatorExecutor;
         this.operatorName = operatorName;
         this.failedReasons = new HashMap<>();
         this.metadataApplier = metadataApplier;
         this.routes = routes;
+        this.rpcTimeOut = rpcTimeOut;
         this.schemaManager = new SchemaManager(schemaChangeBehavior);
         this.schemaDerivation = new SchemaDerivation(schemaManager, routes, new HashMap<>());
         this.requestHandler =
@@ -152,7 +176,9 @@ public class SchemaRegistry implements OperatorCoordinator, CoordinationRequestH
                         schemaManager,
                         schemaDerivation,
                         schemaChangeBehavior,
-                        context);
+                        context,
+                        this::runInEventLoop,
+                        rpcTimeOut);
         this.schemaChangeBehavior = schemaChangeBehavior;
     }
 
@@ -230,6 +256,10 @@ public class SchemaRegistry implements OperatorCoordinator, CoordinationRequestH
                 checkpointId);
     }
 
+    private void runInEventLoop(Runnable action) {
+        runInEventLoop(action::run, "handling pending requests");
+    }
+
     private void runInEventLoop(
             final ThrowingRunnable<Throwable> action,
             final String actionName,
@@ -272,7 +302,8 @@ public class SchemaRegistry implements OperatorCoordinator, CoordinationRequestH
                             requestHandler.handleSchemaChangeRequest(
                                     schemaChangeRequest, responseFuture);
                         } else if (request instanceof SchemaChangeResultRequest) {
-                            requestHandler.getSchemaChangeResult(responseFuture);
+                            requestHandler.getSchemaChangeResult(
+                                    (SchemaChangeResultRequest) request, responseFuture);
                         } else if (request instanceof GetEvolvedSchemaRequest) {
                             handleGetEvolvedSchemaRequest(
                                     ((GetEvolvedSchemaRequest) request), responseFuture);
@@ -302,6 +333,8 @@ public class SchemaRegistry implements OperatorCoordinator, CoordinationRequestH
         try (ByteArrayInputStream bais = new ByteArrayInputStream(checkpointData);
                 DataInputStream in = new DataInputStream(bais)) {
             int schemaManagerSerializerVersion = in.readInt();
+            // The request handler is recreated from the restored state below
+            requestHandler.close();
 
             switch (schemaManagerSerializerVersion) {
                 case 0:
@@ -320,7 +353,9 @@ public class SchemaRegistry implements OperatorCoordinator, CoordinationRequestH
                                         schemaManager,
                                         schemaDerivation,
                                         schemaManager.getBehavior(),
-                                        context);
+                                        context,
+                                        this::runInEventLoop,
+                                        rpcTimeOut);
                         break;
                     }
                 case 1:
@@ -342,7 +377,9 @@ public class SchemaRegistry implements OperatorCoordinator, CoordinationRequestH
                                         schemaManager,
                                         schemaDerivation,
                                         schemaChangeBehavior,
-                                        context);
+                                        context,
+                                        this::runInEventLoop,
+                                        rpcTimeOut);
                         break;
                     }
                 default:
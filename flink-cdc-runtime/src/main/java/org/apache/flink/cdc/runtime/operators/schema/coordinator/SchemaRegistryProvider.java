@@ -25,11 +25,14 @@ import org.apache.flink.runtime.jobgraph.OperatorID;
 import org.apache.flink.runtime.operators.coordination.OperatorCoordinator;
 import org.apache.flink.util.FatalExitExceptionHandler;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 
+import static org.apache.flink.cdc.common.pipeline.PipelineOptions.DEFAULT_SCHEMA_OPERATOR_RPC_TIMEOUT;
+
 /** Provider of {@link SchemaRegistry}. */
 @Internal
 public class SchemaRegistryProvider implements OperatorCoordinator.Provider {
@@ -40,6 +43,7 @@ public class SchemaRegistryProvider implements OperatorCoordinator.Provider {
     private final MetadataApplier metadataApplier;
     private final List<RouteRule> routingRules;
     private final SchemaChangeBehavior schemaChangeBehavior;
+    private final Duration rpcTimeOut;
 
     public SchemaRegistryProvider(
             OperatorID operatorID,
@@ -47,11 +51,28 @@ public class SchemaRegistryProvider implements OperatorCoordinator.Provider {
             MetadataApplier metadataApplier,
             List<RouteRule> routingRules,
             SchemaChangeBehavior schemaChangeBehavior) {
+        this(
+                operatorID,
+                operatorName,
+                metadataApplier,
+                routingRules,
+                schemaChangeBehavior,
+                DEFAULT_SCHEMA_OPERATOR_RPC_TIMEOUT);
+    }
+
+    public SchemaRegistryProvider(
+            OperatorID operatorID,
+            String operatorName,
+            MetadataApplier metadataApplier,
+            List<RouteRule> routingRules,
+            SchemaChangeBehavior schemaChangeBehavior,
+            Duration rpcTimeOut) {
         this.operatorID = operatorID;
         this.operatorName = operatorName;
         this.metadataApplier = metadataApplier;
         this.routingRules = routingRules;
         this.schemaChangeBehavior = schemaChangeBehavior;
+        this.rpcTimeOut = rpcTimeOut;
     }
 
     @Override
@@ -72,7 +93,8 @@ public class SchemaRegistryProvider implements OperatorCoordinator.Provider {
                 coordinatorExecutor,
                 metadataApplier,
                 routingRules,
-                schemaChangeBehavior);
+                schemaChangeBehavior,
+                rpcTimeOut);
     }
 
     /** A thread factory class that provides some helper methods. */
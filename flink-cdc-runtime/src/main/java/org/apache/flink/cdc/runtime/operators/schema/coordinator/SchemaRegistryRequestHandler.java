@@ -37,35 +37,63 @@ import org.apache.flink.cdc.common.utils.Preconditions;
 import org.apache.flink.cdc.runtime.operators.schema.event.SchemaChangeProcessingResponse;
 import org.apache.flink.cdc.runtime.operators.schema.event.SchemaChangeRequest;
 import org.apache.flink.cdc.runtime.operators.schema.event.SchemaChangeResponse;
+import org.apache.flink.cdc.runtime.operators.schema.event.SchemaChangeResultRequest;
 import org.apache.flink.cdc.runtime.operators.schema.event.SchemaChangeResultResponse;
 import org.apache.flink.runtime.operators.coordination.CoordinationResponse;
 import org.apache.flink.runtime.operators.coordination.OperatorCoordinator;
+import org.apache.flink.util.concurrent.ExecutorThreadFactory;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.apache.flink.cdc.runtime.operators.schema.event.CoordinationResponseUtils.wrap;
 
-/** A handler to deal with all requests and events for {@link SchemaRegistry}. */
+/**
+ * A handler to deal with all requests and events for {@link SchemaRegistry}.
+ *
+ * <p>Requests that could not be handled immediately are held instead of being answered with a busy
+ * or processing response, and are completed as soon as the request handler could make progress.
+ * Schema change requests of different tables from different subTasks are accepted into the same
+ * flush round, so that a burst of schema changes is flushed and applied together.
+ */
 @Internal
 public class SchemaRegistryRequestHandler implements Closeable {
     private static final Logger LOG = LoggerFactory.getLogger(SchemaRegistryRequestHandler.class);
 
+    /**
+     * The maximum time a request is held before answering a busy or processing response. It must be
+     * shorter than the RPC ask timeout of the coordination requests, which is 10 seconds by
+     * default.
+     */
+    private static final Duration MAX_REQUEST_HOLDING_TIME = Duration.ofSeconds(3);
+
+    /**
+     * The time a request is held, which is at most half of the RPC timeout of the SchemaOperator,
+     * so that the SchemaOperator gets a response before its deadline.
+     */
+    private final long requestHoldingTimeMillis;
+
     /** The {@link MetadataApplier} for every table. */
     private final MetadataApplier metadataApplier;
     /** All active sink writers. */
@@ -80,20 +108,39 @@ public class SchemaRegistryRequestHandler implements Closeable {
      */
     private volatile RequestStatus schemaChangeStatus;
 
+    /** SubTasks waiting for their schema change requests to be handled, in the order of arrival. */
     private final List<Integer> pendingSubTaskIds;
+    /** Schema change requests held until they could be handled. */
+    private final Map<Integer, PendingRequest<SchemaChangeRequest>> pendingSchemaChangeRequests;
+    /** Schema change result requests held until the current flush round finishes. */
+    private final Map<Integer, PendingRequest<SchemaChangeResultRequest>> pendingResultRequests;
+
     private final Object schemaChangeRequestLock;
 
     private volatile Throwable currentChangeException;
-    private volatile List<SchemaChangeEvent> currentDerivedSchemaChangeEvents;
-    private volatile List<SchemaChangeEvent> currentFinishedSchemaChanges;
-    private volatile List<SchemaChangeEvent> currentIgnoredSchemaChanges;
+    /** Accepted schema change requests of the current flush round, keyed by requester subTask. */
+    private final Map<Integer, SchemaChangeRequest> currentSchemaChangeRequests;
+    /** Derived schema changes of the current flush round, keyed by requester subTask. */
+    private final Map<Integer, List<SchemaChangeEvent>> currentDerivedSchemaChangeEvents;
+    /** Finished schema changes of the current flush round, keyed by requester subTask. */
+    private final Map<Integer, List<SchemaChangeEvent>> currentFinishedSchemaChanges;
+    /** Source and derived tables of the current flush round. */
+    private final Set<TableId> currentAffectedTables;
 
-    /** Sink writers which have sent flush success events for the request. */
-    private final Set<Integer> flushedSinkWriters;
+    private final List<SchemaChangeEvent> currentIgnoredSchemaChanges;
+
+    /** Sink writers which have sent flush success events, keyed by the table to flush. */
+    private final Map<TableId, Set<Integer>> flushedSinkWriters;
 
     /** Executor service to execute schema change. */
     private final ExecutorService schemaChangeThreadPool;
 
+    /** Scheduler to answer held requests which could not be handled in time. */
+    private final ScheduledExecutorService requestTimeoutScheduler;
+
+    /** Executor of the event loop in {@link SchemaRegistry}. */
+    private final Executor eventLoopExecutor;
+
     private final SchemaChangeBehavior schemaChangeBehavior;
 
     private final OperatorCoordinator.Context context;
@@ -103,28 +150,41 @@ public class SchemaRegistryRequestHandler implements Closeable {
             SchemaManager schemaManager,
             SchemaDerivation schemaDerivation,
             SchemaChangeBehavior schemaChangeBehavior,
-            OperatorCoordinator.Context context) {
+            OperatorCoordinator.Context context,
+            Executor eventLoopExecutor,
+            Duration rpcTimeOut) {
         this.metadataApplier = metadataApplier;
         this.schemaManager = schemaManager;
         this.schemaDerivation = schemaDerivation;
         this.schemaChangeBehavior = schemaChangeBehavior;
         this.context = context;
+        this.eventLoopExecutor = eventLoopExecutor;
+        this.requestHoldingTimeMillis =
+                Math.min(MAX_REQUEST_HOLDING_TIME.toMillis(), rpcTimeOut.toMillis() / 2);
 
         this.activeSinkWriters = ConcurrentHashMap.newKeySet();
-        this.flushedSinkWriters = ConcurrentHashMap.newKeySet();
+        this.flushedSinkWriters = new HashMap<>();
         this.schemaChangeThreadPool = Executors.newSingleThreadExecutor();
-
-        this.currentDerivedSchemaChangeEvents = new ArrayList<>();
-        this.currentFinishedSchemaChanges = new ArrayList<>();
+        this.requestTimeoutScheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        new ExecutorThreadFactory("schema-registry-request-timeout"));
+
+        this.currentSchemaChangeRequests = new LinkedHashMap<>();
+        this.currentDerivedSchemaChangeEvents = new HashMap<>();
+        this.currentFinishedSchemaChanges = new HashMap<>();
+        this.currentAffectedTables = new HashSet<>();
         this.currentIgnoredSchemaChanges = new ArrayList<>();
 
         this.schemaChangeStatus = RequestStatus.IDLE;
         this.pendingSubTaskIds = new ArrayList<>();
+        this.pendingSchemaChangeRequests = new HashMap<>();
+        this.pendingResultRequests = new HashMap<>();
         this.schemaChangeRequestLock = new Object();
     }
 
     /**
-     * Handle the {@link SchemaChangeRequest} and wait for all sink subtasks flushing.
+     * Handle the {@link SchemaChangeRequest}. The request is held until it could be handled, which
+     * is either immediately, or when the schema changes it conflicts with have been applied.
      *
      * @param request the received SchemaChangeRequest
      */
@@ -136,98 +196,127 @@ public class SchemaRegistryRequestHandler implements Closeable {
         int requestSubTaskId = request.getSubTaskId();
 
         synchronized (schemaChangeRequestLock) {
-            // Make sure we handle the first request in the pending list to avoid out-of-order
-            // waiting and blocks checkpointing mechanism.
-            if (schemaChangeStatus == RequestStatus.IDLE) {
-                if (pendingSubTaskIds.isEmpty()) {
-                    LOG.info(
-                            "Received schema change event request {} from table {} from subTask {}. Pending list is empty, handling this.",
-                            request.getSchemaChangeEvent(),
-                            request.getTableId().toString(),
-                            requestSubTaskId);
-                } else if (pendingSubTaskIds.get(0) == requestSubTaskId) {
-                    LOG.info(
-                            "Received schema change event request {} from table {} from subTask {}. It is on the first of the pending list, handling this.",
-                            request.getSchemaChangeEvent(),
-                            request.getTableId().toString(),
-                            requestSubTaskId);
-                    pendingSubTaskIds.remove(0);
-                } else {
-                    LOG.info(
-                            "Received schema change event request {} from table {} from subTask {}. It is not the first of the pending list ({}).",
-                            request.getSchemaChangeEvent(),
-                            request.getTableId().toString(),
-                            requestSubTaskId,
-                            pendingSubTaskIds);
-                    if (!pendingSubTaskIds.contains(requestSubTaskId)) {
-                        pendingSubTaskIds.add(requestSubTaskId);
-                    }
-                    response.complete(wrap(SchemaChangeResponse.busy()));
-                    return;
-                }
-
-                SchemaChangeEvent event = request.getSchemaChangeEvent();
-
-                // If this schema change event has been requested by another subTask, ignore it.
-                if (schemaManager.isOriginalSchemaChangeEventRedundant(event)) {
-                    LOG.info("Event {} has been addressed before, ignoring it.", event);
-                    clearCurrentSchemaChangeRequest();
-                    LOG.info(
-                            "SchemaChangeStatus switched from WAITING_FOR_FLUSH to IDLE for request {} due to duplicated request.",
-                            request);
-                    response.complete(wrap(SchemaChangeResponse.duplicate()));
-                    return;
-                }
-                schemaManager.applyOriginalSchemaChange(event);
-                List<SchemaChangeEvent> derivedSchemaChangeEvents =
-                        calculateDerivedSchemaChangeEvents(request.getSchemaChangeEvent());
-
-                // If this schema change event is filtered out by LENIENT mode or merging table
-                // route strategies, ignore it.
-                if (derivedSchemaChangeEvents.isEmpty()) {
-                    LOG.info("Event {} is omitted from sending to downstream, ignoring it.", event);
-                    clearCurrentSchemaChangeRequest();
-                    LOG.info(
-                            "SchemaChangeStatus switched from WAITING_FOR_FLUSH to IDLE for request {} due to ignored request.",
-                            request);
-
-                    response.complete(wrap(SchemaChangeResponse.ignored()));
-                    return;
-                }
-
+            if (!pendingSubTaskIds.contains(requestSubTaskId)) {
+                pendingSubTaskIds.add(requestSubTaskId);
+            }
+            PendingRequest<SchemaChangeRequest> staleRequest =
+                    pendingSchemaChangeRequests.put(
+                            requestSubTaskId, new PendingRequest<>(request, response));
+            if (staleRequest != null) {
+                staleRequest.response.complete(wrap(SchemaChangeResponse.busy()));
+            }
+            handlePendingSchemaChangeRequests();
+            if (pendingSchemaChangeRequests.containsKey(requestSubTaskId)) {
                 LOG.info(
-                        "SchemaChangeStatus switched from IDLE to WAITING_FOR_FLUSH, other requests will be blocked.");
-                // This request has been accepted.
-                schemaChangeStatus = RequestStatus.WAITING_FOR_FLUSH;
-
-                // Backfill pre-schema info for sink applying
-                derivedSchemaChangeEvents.forEach(
-                        e -> {
-                            if (e instanceof SchemaChangeEventWithPreSchema) {
-                                SchemaChangeEventWithPreSchema pe =
-                                        (SchemaChangeEventWithPreSchema) e;
-                                if (!pe.hasPreSchema()) {
-                                    schemaManager
-                                            .getLatestEvolvedSchema(pe.tableId())
-                                            .ifPresent(pe::fillPreSchema);
-                                }
+                        "Schema Registry could not handle request {} for now. Holding it in the pending list ({}).",
+                        request,
+                        pendingSubTaskIds);
+                scheduleTimeout(
+                        () -> {
+                            PendingRequest<SchemaChangeRequest> pendingRequest =
+                                    pendingSchemaChangeRequests.get(requestSubTaskId);
+                            if (pendingRequest != null && pendingRequest.response == response) {
+                                // Keep its position in the pending list for the next request
+                                pendingSchemaChangeRequests.remove(requestSubTaskId);
+                                response.complete(wrap(SchemaChangeResponse.busy()));
                             }
                         });
-                currentDerivedSchemaChangeEvents = new ArrayList<>(derivedSchemaChangeEvents);
+            }
+        }
+    }
 
-                response.complete(wrap(SchemaChangeResponse.accepted(derivedSchemaChangeEvents)));
-            } else {
-                LOG.info(
-                        "Schema Registry is busy processing a schema change request, could not handle request {} for now. Added {} to pending list ({}).",
-                        request,
-                        requestSubTaskId,
-                        pendingSubTaskIds);
-                if (!pendingSubTaskIds.contains(requestSubTaskId)) {
-                    pendingSubTaskIds.add(requestSubTaskId);
-                }
-                response.complete(wrap(SchemaChangeResponse.busy()));
+    /**
+     * Handle the held schema change requests in the order of arrival, until the first one which
+     * could not be handled for now.
+     */
+    private void handlePendingSchemaChangeRequests() {
+        while (!pendingSubTaskIds.isEmpty()) {
+            // Make sure we handle the first request in the pending list to avoid out-of-order
+            // waiting and blocks checkpointing mechanism.
+            PendingRequest<SchemaChangeRequest> pendingRequest =
+                    pendingSchemaChangeRequests.get(pendingSubTaskIds.get(0));
+            if (pendingRequest == null || !canHandleSchemaChangeRequest(pendingRequest.request)) {
+                return;
             }
+            pendingSubTaskIds.remove(0);
+            pendingSchemaChangeRequests.remove(pendingRequest.request.getSubTaskId());
+            handleSchemaChangeRequestNow(pendingRequest.request, pendingRequest.response);
+        }
+    }
+
+    private boolean canHandleSchemaChangeRequest(SchemaChangeRequest request) {
+        if (schemaChangeStatus == RequestStatus.IDLE) {
+            return true;
+        }
+        if (schemaChangeStatus != RequestStatus.WAITING_FOR_FLUSH
+                || currentSchemaChangeRequests.containsKey(request.getSubTaskId())) {
+            return false;
+        }
+        // Join the current flush round if the request has nothing to do with the tables in it
+        TableId tableId = request.getTableId();
+        return !currentAffectedTables.contains(tableId)
+                && schemaDerivation.getDerivedTables(tableId).stream()
+                        .noneMatch(currentAffectedTables::contains);
+    }
+
+    private void handleSchemaChangeRequestNow(
+            SchemaChangeRequest request, CompletableFuture<CoordinationResponse> response) {
+        LOG.info(
+                "Handling schema change event request {} from table {} from subTask {}.",
+                request.getSchemaChangeEvent(),
+                request.getTableId().toString(),
+                request.getSubTaskId());
+        SchemaChangeEvent event = request.getSchemaChangeEvent();
+
+        // If this schema change event has been requested by another subTask, ignore it.
+        if (schemaManager.isOriginalSchemaChangeEventRedundant(event)) {
+            LOG.info("Event {} has been addressed before, ignoring it.", event);
+            response.complete(wrap(SchemaChangeResponse.duplicate()));
+            return;
+        }
+        schemaManager.applyOriginalSchemaChange(event);
+        List<SchemaChangeEvent> derivedSchemaChangeEvents =
+                calculateDerivedSchemaChangeEvents(request.getSchemaChangeEvent());
+
+        // If this schema change event is filtered out by LENIENT mode or merging table
+        // route strategies, ignore it.
+        if (derivedSchemaChangeEvents.isEmpty()) {
+            LOG.info("Event {} is omitted from sending to downstream, ignoring it.", event);
+            response.complete(wrap(SchemaChangeResponse.ignored()));
+            return;
+        }
+
+        if (schemaChangeStatus == RequestStatus.IDLE) {
+            LOG.info(
+                    "SchemaChangeStatus switched from IDLE to WAITING_FOR_FLUSH, conflicting requests will be blocked.");
+            // This request has been accepted.
+            schemaChangeStatus = RequestStatus.WAITING_FOR_FLUSH;
+        } else {
+            LOG.info("Request {} joined the current flush round.", request);
         }
+
+        // Backfill pre-schema info for sink applying
+        derivedSchemaChangeEvents.forEach(
+                e -> {
+                    if (e instanceof SchemaChangeEventWithPreSchema) {
+                        SchemaChangeEventWithPreSchema pe = (SchemaChangeEventWithPreSchema) e;
+                        if (!pe.hasPreSchema()) {
+                            schemaManager
+                                    .getLatestEvolvedSchema(pe.tableId())
+                                    .ifPresent(pe::fillPreSchema);
+                        }
+                    }
+                });
+        int requestSubTaskId = request.getSubTaskId();
+        currentSchemaChangeRequests.put(requestSubTaskId, request);
+        currentDerivedSchemaChangeEvents.put(
+                requestSubTaskId, new ArrayList<>(derivedSchemaChangeEvents));
+        currentFinishedSchemaChanges.put(requestSubTaskId, new ArrayList<>());
+        currentAffectedTables.add(request.getTableId());
+        derivedSchemaChangeEvents.forEach(e -> currentAffectedTables.add(e.tableId()));
+        flushedSinkWriters.put(request.getTableId(), new HashSet<>());
+
+        response.complete(wrap(SchemaChangeResponse.accepted(derivedSchemaChangeEvents)));
     }
 
     /**
@@ -235,9 +324,13 @@ public class SchemaRegistryRequestHandler implements Closeable {
      *
      * @param tableId the table need to change schema
      * @param derivedSchemaChangeEvents list of the schema changes
+     * @param finishedSchemaChanges collects the finished schema changes
+     * @return false if the application failed
      */
-    private void applySchemaChange(
-            TableId tableId, List<SchemaChangeEvent> derivedSchemaChangeEvents) {
+    private boolean applySchemaChange(
+            TableId tableId,
+            List<SchemaChangeEvent> derivedSchemaChangeEvents,
+            List<SchemaChangeEvent> finishedSchemaChanges) {
         for (SchemaChangeEvent changeEvent : derivedSchemaChangeEvents) {
             if (changeEvent.getType() != SchemaChangeEventType.CREATE_TABLE) {
                 if (schemaChangeBehavior == SchemaChangeBehavior.IGNORE) {
@@ -253,7 +346,7 @@ public class SchemaRegistryRequestHandler implements Closeable {
                     metadataApplier.applySchemaChange(changeEvent);
                     LOG.info("Applied schema change {} to table {}.", changeEvent, tableId);
                     schemaManager.applyEvolvedSchemaChange(changeEvent);
-                    currentFinishedSchemaChanges.add(changeEvent);
+                    finishedSchemaChanges.add(changeEvent);
                 } catch (Throwable t) {
                     LOG.error(
                             "Failed to apply schema change {} to table {}. Caused by: {}",
@@ -262,7 +355,7 @@ public class SchemaRegistryRequestHandler implements Closeable {
                             t);
                     if (!shouldIgnoreException(t)) {
                         currentChangeException = t;
-                        break;
+                        return false;
                     } else {
                         LOG.warn(
                                 "Failed to apply event {}, but keeps running in tolerant mode. Caused by: {}",
@@ -272,14 +365,26 @@ public class SchemaRegistryRequestHandler implements Closeable {
                 }
             }
         }
+        return true;
+    }
+
+    /** Apply the schema changes of all accepted requests in the current flush round. */
+    private void applySchemaChanges(List<SchemaChangeRequest> requests) {
+        for (SchemaChangeRequest request : requests) {
+            if (!applySchemaChange(
+                    request.getTableId(),
+                    currentDerivedSchemaChangeEvents.get(request.getSubTaskId()),
+                    currentFinishedSchemaChanges.get(request.getSubTaskId()))) {
+                break;
+            }
+        }
         Preconditions.checkState(
                 schemaChangeStatus == RequestStatus.APPLYING,
                 "Illegal schemaChangeStatus state: should be APPLYING before applySchemaChange finishes, not "
                         + schemaChangeStatus);
         schemaChangeStatus = RequestStatus.FINISHED;
-        LOG.info(
-                "SchemaChangeStatus switched from APPLYING to FINISHED for request {}.",
-                currentDerivedSchemaChangeEvents);
+        LOG.info("SchemaChangeStatus switched from APPLYING to FINISHED for request {}.", requests);
+        eventLoopExecutor.execute(this::handlePendingResultRequests);
     }
 
     /**
@@ -299,55 +404,118 @@ public class SchemaRegistryRequestHandler implements Closeable {
      * @param sinkSubtask the sink subtask succeed flushing
      */
     public void flushSuccess(TableId tableId, int sinkSubtask, int parallelism) {
-        flushedSinkWriters.add(sinkSubtask);
-        if (activeSinkWriters.size() < parallelism) {
-            LOG.info(
-                    "Not all active sink writers have been registered. Current {}, expected {}.",
-                    activeSinkWriters.size(),
-                    parallelism);
-            return;
+        synchronized (schemaChangeRequestLock) {
+            Set<Integer> flushedSinkWritersOfTable = flushedSinkWriters.get(tableId);
+            if (flushedSinkWritersOfTable == null) {
+                LOG.warn(
+                        "Received unexpected flush success event for table {} from sink subtask {}.",
+                        tableId,
+                        sinkSubtask);
+                return;
+            }
+            flushedSinkWritersOfTable.add(sinkSubtask);
+            if (activeSinkWriters.size() < parallelism) {
+                LOG.info(
+                        "Not all active sink writers have been registered. Current {}, expected {}.",
+                        activeSinkWriters.size(),
+                        parallelism);
+                return;
+            }
+            if (flushedSinkWriters.values().stream()
+                    .allMatch(flushed -> flushed.equals(activeSinkWriters))) {
+                Preconditions.checkState(
+                        schemaChangeStatus == RequestStatus.WAITING_FOR_FLUSH,
+                        "Illegal schemaChangeStatus state: should be WAITING_FOR_FLUSH before collecting enough FlushEvents, not "
+                                + schemaChangeStatus);
+
+                schemaChangeStatus = RequestStatus.APPLYING;
+                LOG.info(
+                        "All sink subtask have flushed for tables {}. Start to apply schema change.",
+                        flushedSinkWriters.keySet());
+                List<SchemaChangeRequest> requests =
+                        new ArrayList<>(currentSchemaChangeRequests.values());
+                schemaChangeThreadPool.submit(() -> applySchemaChanges(requests));
+            }
         }
-        if (flushedSinkWriters.equals(activeSinkWriters)) {
+    }
+
+    /**
+     * Handle the {@link SchemaChangeResultRequest}. The request is held until the schema changes of
+     * the current flush round have been applied.
+     */
+    public void getSchemaChangeResult(
+            SchemaChangeResultRequest request, CompletableFuture<CoordinationResponse> response) {
+        int requestSubTaskId = request.getSubTaskId();
+        synchronized (schemaChangeRequestLock) {
             Preconditions.checkState(
-                    schemaChangeStatus == RequestStatus.WAITING_FOR_FLUSH,
-                    "Illegal schemaChangeStatus state: should be WAITING_FOR_FLUSH before collecting enough FlushEvents, not "
-                            + schemaChangeStatus);
+                    currentSchemaChangeRequests.containsKey(requestSubTaskId),
+                    "Illegal schemaChangeStatus: no schema change request has been accepted from subTask "
+                            + requestSubTaskId
+                            + " before getting schema change request results.");
+            if (schemaChangeStatus == RequestStatus.FINISHED) {
+                completeResultRequest(requestSubTaskId, response);
+                return;
+            }
+            // Still working on schema change request, hold it
+            pendingResultRequests.put(requestSubTaskId, new PendingRequest<>(request, response));
+            scheduleTimeout(
+                    () -> {
+                        PendingRequest<SchemaChangeResultRequest> pendingRequest =
+                                pendingResultRequests.get(requestSubTaskId);
+                        if (pendingRequest != null && pendingRequest.response == response) {
+                            pendingResultRequests.remove(requestSubTaskId);
+                            response.complete(wrap(new SchemaChangeProcessingResponse()));
+                        }
+                    });
+        }
+    }
 
-            schemaChangeStatus = RequestStatus.APPLYING;
-            LOG.info(
-                    "All sink subtask have flushed for table {}. Start to apply schema change.",
-                    tableId.toString());
-            schemaChangeThreadPool.submit(
-                    () -> applySchemaChange(tableId, currentDerivedSchemaChangeEvents));
+    private void handlePendingResultRequests() {
+        synchronized (schemaChangeRequestLock) {
+            for (Integer requestSubTaskId : new ArrayList<>(pendingResultRequests.keySet())) {
+                completeResultRequest(
+                        requestSubTaskId, pendingResultRequests.remove(requestSubTaskId).response);
+            }
         }
     }
 
-    public void getSchemaChangeResult(CompletableFuture<CoordinationResponse> response) {
-        Preconditions.checkState(
-                schemaChangeStatus != RequestStatus.IDLE,
-                "Illegal schemaChangeStatus: should not be IDLE before getting schema change request results.");
-        if (schemaChangeStatus == RequestStatus.FINISHED) {
+    private void completeResultRequest(
+            int requestSubTaskId, CompletableFuture<CoordinationResponse> response) {
+        currentSchemaChangeRequests.remove(requestSubTaskId);
+        List<SchemaChangeEvent> finishedEvents =
+                currentFinishedSchemaChanges.remove(requestSubTaskId);
+        response.complete(wrap(new SchemaChangeResultResponse(finishedEvents)));
+
+        if (currentSchemaChangeRequests.isEmpty()) {
+            // All requests of this round have been finished, prepare for the next round
+            clearCurrentSchemaChangeRequests();
             schemaChangeStatus = RequestStatus.IDLE;
-            LOG.info(
-                    "SchemaChangeStatus switched from FINISHED to IDLE for request {}",
-                    currentDerivedSchemaChangeEvents);
-
-            // This request has been finished, return it and prepare for the next request
-            List<SchemaChangeEvent> finishedEvents = clearCurrentSchemaChangeRequest();
-            SchemaChangeResultResponse resultResponse =
-                    new SchemaChangeResultResponse(finishedEvents);
-            response.complete(wrap(resultResponse));
-        } else {
-            // Still working on schema change request, waiting it
-            response.complete(wrap(new SchemaChangeProcessingResponse()));
+            LOG.info("SchemaChangeStatus switched from FINISHED to IDLE.");
+            handlePendingSchemaChangeRequests();
         }
     }
 
+    private void scheduleTimeout(Runnable onTimeout) {
+        requestTimeoutScheduler.schedule(
+                () ->
+                        eventLoopExecutor.execute(
+                                () -> {
+                                    synchronized (schemaChangeRequestLock) {
+                                        onTimeout.run();
+                                    }
+                                }),
+                requestHoldingTimeMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
     @Override
     public void close() throws IOException {
         if (schemaChangeThreadPool != null) {
             schemaChangeThreadPool.shutdown();
         }
+        if (requestTimeoutScheduler != null) {
+            requestTimeoutScheduler.shutdownNow();
+        }
     }
 
     private List<SchemaChangeEvent> calculateDerivedSchemaChangeEvents(SchemaChangeEvent event) {
@@ -466,26 +634,36 @@ public class SchemaRegistryRequestHandler implements Closeable {
                 && (schemaChangeBehavior == SchemaChangeBehavior.TRY_EVOLVE);
     }
 
-    private List<SchemaChangeEvent> clearCurrentSchemaChangeRequest() {
+    private void clearCurrentSchemaChangeRequests() {
         if (currentChangeException != null) {
             context.failJob(
                     new RuntimeException("Failed to apply schema change.", currentChangeException));
         }
-        List<SchemaChangeEvent> finishedSchemaChanges =
-                new ArrayList<>(currentFinishedSchemaChanges);
         flushedSinkWriters.clear();
+        currentSchemaChangeRequests.clear();
         currentDerivedSchemaChangeEvents.clear();
         currentFinishedSchemaChanges.clear();
+        currentAffectedTables.clear();
         currentIgnoredSchemaChanges.clear();
         currentChangeException = null;
-        return finishedSchemaChanges;
+    }
+
+    /** A request held until it could be handled, along with its response future. */
+    private static class PendingRequest<T> {
+        private final T request;
+        private final CompletableFuture<CoordinationResponse> response;
+
+        private PendingRequest(T request, CompletableFuture<CoordinationResponse> response) {
+            this.request = request;
+            this.response = response;
+        }
     }
 
     // Schema change event state could transfer in the following way:
     //
-    //      -------- B --------
-    //      |                 |
-    //      v                 |
+    //                             -- B --
+    //                             |     |
+    //                             |     v
     //  --------           ---------------------
     //  | IDLE | --- A --> | WAITING_FOR_FLUSH |
     //  --------           ---------------------
@@ -496,14 +674,14 @@ public class SchemaRegistryRequestHandler implements Closeable {
     //  | FINISHED | <-- D -- | APPLYING |
     //  ------------          ------------
     //
-    //  A: When a request came to an idling request handler.
-    //  B: When current request is duplicate or ignored by LENIENT / routed table merging
-    // strategies.
-    //  C: When schema registry collected enough flush success events, and actually started to apply
-    // schema changes.
+    //  A: When a request which is neither duplicate nor ignored by LENIENT / routed table merging
+    // strategies came to an idling request handler.
+    //  B: When a request of tables unrelated to the current flush round joins the round.
+    //  C: When schema registry collected enough flush success events for all tables in the round,
+    // and actually started to apply schema changes.
     //  D: When schema change application finishes (successfully or with exceptions)
-    //  E: When current schema change request result has been retrieved by SchemaOperator, and ready
-    // for the next request.
+    //  E: When all schema change request results of the round have been retrieved by
+    // SchemaOperators, and ready for the next round.
     private enum RequestStatus {
         IDLE,
         WAITING_FOR_FLUSH,
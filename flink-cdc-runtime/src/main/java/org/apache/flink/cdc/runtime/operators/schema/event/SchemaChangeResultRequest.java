@@ -21,6 +21,8 @@ import org.apache.flink.cdc.runtime.operators.schema.SchemaOperator;
 import org.apache.flink.cdc.runtime.operators.schema.coordinator.SchemaRegistry;
 import org.apache.flink.runtime.operators.coordination.CoordinationRequest;
 
+import java.util.Objects;
+
 /**
  * request from {@link SchemaOperator} to {@link SchemaRegistry} for getting result of applying
  * schema change.
@@ -28,4 +30,32 @@ import org.apache.flink.runtime.operators.coordination.CoordinationRequest;
 public class SchemaChangeResultRequest implements CoordinationRequest {
 
     private static final long serialVersionUID = 1L;
+
+    /** The ID of subTask that initiated the schema change request. */
+    private final int subTaskId;
+
+    public SchemaChangeResultRequest(int subTaskId) {
+        this.subTaskId = subTaskId;
+    }
+
+    public int getSubTaskId() {
+        return subTaskId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SchemaChangeResultRequest)) {
+            return false;
+        }
+        SchemaChangeResultRequest that = (SchemaChangeResultRequest) o;
+        return subTaskId == that.subTaskId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(subTaskId);
+    }
 }
@@ -17,10 +17,13 @@
 
 package org.apache.flink.cdc.runtime.operators.schema.metrics;
 
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
 import org.apache.flink.cdc.common.pipeline.SchemaChangeBehavior;
 import org.apache.flink.cdc.runtime.operators.schema.SchemaOperator;
 import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.Histogram;
 import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.runtime.metrics.DescriptiveStatisticsHistogram;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -54,10 +57,20 @@ public class SchemaOperatorMetrics {
     /** Number of schema change events ignored. */
     public static final String NUM_IGNORED_SCHEMA_CHANGE_EVENTS = "numIgnoredSchemaChangeEvents";
 
+    /** Time in milliseconds that each schema change event blocked the stream. */
+    public static final String SCHEMA_CHANGE_BLOCKED_TIME = "schemaChangeBlockedTimeMs";
+
+    /** Total time in milliseconds that schema change events blocked the stream. */
+    public static final String TOTAL_SCHEMA_CHANGE_BLOCKED_TIME = "totalSchemaChangeBlockedTimeMs";
+
+    private static final int BLOCKED_TIME_HISTOGRAM_WINDOW_SIZE = 100;
+
     private final Counter numSchemaChangeEventsCounter;
     private final Counter numFinishedSchemaChangeEventsCounter;
     private final Counter numFailedSchemaChangeEventsCounter;
     private final Counter numIgnoredSchemaChangeEventsCounter;
+    private final Histogram schemaChangeBlockedTimeHistogram;
+    private final Counter totalSchemaChangeBlockedTimeCounter;
 
     public SchemaOperatorMetrics(MetricGroup metricGroup, SchemaChangeBehavior behavior) {
         numSchemaChangeEventsCounter = metricGroup.counter(NUM_SCHEMA_CHANGE_EVENTS);
@@ -65,6 +78,11 @@ public class SchemaOperatorMetrics {
                 metricGroup.counter(NUM_FINISHED_SCHEMA_CHANGE_EVENTS);
         numFailedSchemaChangeEventsCounter = metricGroup.counter(NUM_FAILED_SCHEMA_CHANGE_EVENTS);
         numIgnoredSchemaChangeEventsCounter = metricGroup.counter(NUM_IGNORED_SCHEMA_CHANGE_EVENTS);
+        schemaChangeBlockedTimeHistogram =
+                metricGroup.histogram(
+                        SCHEMA_CHANGE_BLOCKED_TIME,
+                        new DescriptiveStatisticsHistogram(BLOCKED_TIME_HISTOGRAM_WINDOW_SIZE));
+        totalSchemaChangeBlockedTimeCounter = metricGroup.counter(TOTAL_SCHEMA_CHANGE_BLOCKED_TIME);
         metricGroup.gauge(
                 SCHEMA_CHANGE_BEHAVIOR, () -> SCHEMA_CHANGE_BEHAVIOR_INTEGER_MAP.get(behavior));
     }
@@ -84,4 +102,14 @@ public class SchemaOperatorMetrics {
     public void increaseIgnoredSchemaChangeEvents(long count) {
         numIgnoredSchemaChangeEventsCounter.inc(count);
     }
+
+    public void recordSchemaChangeBlockedTime(long blockedTimeMillis) {
+        schemaChangeBlockedTimeHistogram.update(blockedTimeMillis);
+        totalSchemaChangeBlockedTimeCounter.inc(blockedTimeMillis);
+    }
+
+    @VisibleForTesting
+    public long getTotalSchemaChangeBlockedTime() {
+        return totalSchemaChangeBlockedTimeCounter.getCount();
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.runtime.serializer.InternalSerializers;
+import org.apache.flink.cdc.runtime.serializer.NullableSerializerWrapper;
+import org.apache.flink.cdc.runtime.serializer.data.writer.BinaryRecordDataWriter;
+import org.apache.flink.cdc.runtime.serializer.data.writer.BinaryWriter;
+import org.apache.flink.cdc.runtime.typeutils.DataTypeConverter;
+
+import javax.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * The base class of the code generated by {@link TransformRuleCodeGenerator}. A generated rule
+ * evaluates the filter and the projection of one {@link TransformRule} against one table schema,
+ * reading the arguments directly from the {@link BinaryRecordData} and writing the projected
+ * columns directly into a {@link BinaryRecordDataWriter}.
+ */
+@Internal
+public abstract class GeneratedTransformRule {
+
+    protected final PostTransformChangeInfo tableInfo;
+    protected final BinaryRecordDataWriter writer;
+
+    private final boolean hasFilter;
+    private final boolean hasProjection;
+    private final RecordData.FieldGetter[] preTransformedFieldGetters;
+    private final DataType[] preTransformedTypes;
+    private final DataType[] postTransformedTypes;
+    private final TypeSerializer<?>[] postTransformedSerializers;
+    private final BinaryRecordData reuseRecordData;
+
+    protected GeneratedTransformRule(
+            PostTransformChangeInfo tableInfo, boolean hasFilter, boolean hasProjection) {
+        this.tableInfo = tableInfo;
+        this.hasFilter = hasFilter;
+        this.hasProjection = hasProjection;
+        this.preTransformedFieldGetters = tableInfo.getPreTransformedFieldGetters();
+        this.preTransformedTypes = toTypes(tableInfo.getPreTransformedSchema().getColumns());
+        this.postTransformedTypes = toTypes(tableInfo.getPostTransformedSchema().getColumns());
+        this.postTransformedSerializers = new TypeSerializer<?>[postTransformedTypes.length];
+        for (int i = 0; i < postTransformedTypes.length; i++) {
+            postTransformedSerializers[i] =
+                    new NullableSerializerWrapper(
+                            InternalSerializers.create(postTransformedTypes[i]));
+        }
+        this.reuseRecordData = new BinaryRecordData(postTransformedTypes.length);
+        this.writer = new BinaryRecordDataWriter(reuseRecordData);
+    }
+
+    public boolean hasFilter() {
+        return hasFilter;
+    }
+
+    public boolean hasProjection() {
+        return hasProjection;
+    }
+
+    /** Evaluates the filter on the record, it's always true if the rule has no filter. */
+    public abstract boolean filter(BinaryRecordData record, long epochTime, String opType);
+
+    /**
+     * Evaluates the filter on the record and projects the accepted record.
+     *
+     * @return the projected record, or null if the record is filtered out. The record is returned
+     *     as is if the rule has no projection.
+     */
+    @Nullable
+    public abstract BinaryRecordData filterAndProject(
+            BinaryRecordData record, long epochTime, String opType);
+
+    /**
+     * Projects the record without evaluating the filter. The record is returned as is if the rule
+     * has no projection.
+     */
+    public abstract BinaryRecordData project(
+            BinaryRecordData record, long epochTime, String opType);
+
+    /** Reads a pre-transformed field as the original class of its type. */
+    protected final Object readField(BinaryRecordData record, int pos) {
+        return DataTypeConverter.convertToOriginal(
+                preTransformedFieldGetters[pos].getFieldOrNull(record), preTransformedTypes[pos]);
+    }
+
+    /** Copies a pre-transformed field to the post-transformed field at the given position. */
+    protected final void copyField(BinaryRecordData record, int fromPos, int toPos) {
+        writeField(toPos, preTransformedFieldGetters[fromPos].getFieldOrNull(record));
+    }
+
+    /** Writes a value to the post-transformed field, converting it to the field type first. */
+    protected final void writeField(int pos, @Nullable Object value) {
+        Object internalValue = DataTypeConverter.convert(value, postTransformedTypes[pos]);
+        if (internalValue == null) {
+            writer.setNullAt(pos);
+        } else {
+            BinaryWriter.write(
+                    writer,
+                    pos,
+                    internalValue,
+                    postTransformedTypes[pos],
+                    postTransformedSerializers[pos]);
+        }
+    }
+
+    /** Completes the written record and returns a copy of it. */
+    protected final BinaryRecordData completeRecord() {
+        writer.complete();
+        return reuseRecordData.copy();
+    }
+
+    private static DataType[] toTypes(List<Column> columns) {
+        return columns.stream().map(Column::getType).toArray(DataType[]::new);
+    }
+}
@@ -38,6 +38,9 @@ import org.apache.flink.streaming.api.operators.Output;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 import org.apache.flink.streaming.runtime.tasks.StreamTask;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 
 import java.io.Serializable;
@@ -62,7 +65,13 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
 
     private static final long serialVersionUID = 1L;
 
+    private static final Logger LOG = LoggerFactory.getLogger(PostTransformOperator.class);
+
+    private static final String[] BEFORE_ROW_KINDS = opTypesToRowKinds('-');
+    private static final String[] AFTER_ROW_KINDS = opTypesToRowKinds('+');
+
     private final String timezone;
+    private final boolean codegenEnabled;
     private final List<TransformRule> transformRules;
     private transient List<PostTransformer> transforms;
 
@@ -75,8 +84,9 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
 
     private transient Map<Tuple2<TableId, TransformProjection>, TransformProjectionProcessor>
             transformProjectionProcessorMap;
-    private transient Map<Tuple2<TableId, TransformFilter>, TransformFilterProcessor>
-            transformFilterProcessorMap;
+    /** keep the compiled data change event processing plan of each TableId. */
+    private transient Map<TableId, TransformPlan> transformPlanMap;
+
     private final Map<TableId, Boolean> hasAsteriskMap;
     private final Map<TableId, List<String>> projectedColumnsMap;
 
@@ -88,6 +98,7 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
     public static class Builder {
         private final List<TransformRule> transformRules = new ArrayList<>();
         private String timezone;
+        private boolean codegenEnabled;
         private final List<Tuple2<String, String>> udfFunctions = new ArrayList<>();
 
         public PostTransformOperator.Builder addTransform(
@@ -129,19 +140,31 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
             return this;
         }
 
+        /**
+         * Compiles the filter and projection of each transform rule into one generated class per
+         * table, the interpreted evaluation is used for the rules failing to be generated.
+         */
+        public PostTransformOperator.Builder enableCodegen(boolean codegenEnabled) {
+            this.codegenEnabled = codegenEnabled;
+            return this;
+        }
+
         public PostTransformOperator build() {
-            return new PostTransformOperator(transformRules, timezone, udfFunctions);
+            return new PostTransformOperator(
+                    transformRules, timezone, codegenEnabled, udfFunctions);
         }
     }
 
     private PostTransformOperator(
             List<TransformRule> transformRules,
             String timezone,
+            boolean codegenEnabled,
             List<Tuple2<String, String>> udfFunctions) {
         this.transformRules = transformRules;
         this.timezone = timezone;
+        this.codegenEnabled = codegenEnabled;
         this.postTransformChangeInfoMap = new ConcurrentHashMap<>();
-        this.transformFilterProcessorMap = new ConcurrentHashMap<>();
+        this.transformPlanMap = new HashMap<>();
         this.transformProjectionProcessorMap = new ConcurrentHashMap<>();
         this.udfFunctions = udfFunctions;
         this.udfFunctionInstances = new ConcurrentHashMap<>();
@@ -187,7 +210,7 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
                                 })
                         .collect(Collectors.toList());
         this.transformProjectionProcessorMap = new ConcurrentHashMap<>();
-        this.transformFilterProcessorMap = new ConcurrentHashMap<>();
+        this.transformPlanMap = new HashMap<>();
         this.udfFunctionInstances = new ConcurrentHashMap<>();
         udfDescriptors.forEach(
                 udf -> {
@@ -227,15 +250,12 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
             transformProjectionProcessorMap
                     .keySet()
                     .removeIf(e -> Objects.equals(e.f0, schemaChangeEvent.tableId()));
-            transformFilterProcessorMap
-                    .keySet()
-                    .removeIf(e -> Objects.equals(e.f0, schemaChangeEvent.tableId()));
+            transformPlanMap.remove(schemaChangeEvent.tableId());
             cacheSchema(schemaChangeEvent).ifPresent(e -> output.collect(new StreamRecord<>(e)));
         } else if (event instanceof DataChangeEvent) {
-            Optional<DataChangeEvent> dataChangeEventOptional =
-                    processDataChangeEvent(((DataChangeEvent) event));
-            if (dataChangeEventOptional.isPresent()) {
-                output.collect(new StreamRecord<>(dataChangeEventOptional.get()));
+            DataChangeEvent dataChangeEvent = processDataChangeEvent(((DataChangeEvent) event));
+            if (dataChangeEvent != null) {
+                output.collect(new StreamRecord<>(dataChangeEvent));
             }
         }
     }
@@ -357,88 +377,187 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
                 .collect(Collectors.toList());
     }
 
-    private Optional<DataChangeEvent> processDataChangeEvent(DataChangeEvent dataChangeEvent)
-            throws Exception {
-        TableId tableId = dataChangeEvent.tableId();
-        PostTransformChangeInfo tableInfo = getPostTransformChangeInfo(tableId);
-        List<Optional<DataChangeEvent>> transformedDataChangeEventOptionalList = new ArrayList<>();
-        long epochTime = System.currentTimeMillis();
+    private TransformPlan getTransformPlan(TableId tableId) {
+        TransformPlan transformPlan = transformPlanMap.get(tableId);
+        if (transformPlan == null) {
+            transformPlan = compileTransformPlan(getPostTransformChangeInfo(tableId));
+            transformPlanMap.put(tableId, transformPlan);
+        }
+        return transformPlan;
+    }
+
+    private TransformPlan compileTransformPlan(PostTransformChangeInfo tableInfo) {
+        List<GeneratedTransformRule> generatedRules = new ArrayList<>();
+        List<TransformFilterProcessor> filterProcessors = new ArrayList<>();
+        List<TransformProjectionProcessor> projectionProcessors = new ArrayList<>();
         for (PostTransformer transform : transforms) {
-            Selectors selectors = transform.getSelectors();
+            if (!transform.getSelectors().isMatch(tableInfo.getTableId())) {
+                continue;
+            }
+            TransformFilter transformFilter =
+                    transform.getFilter().filter(TransformFilter::isVaild).orElse(null);
+            TransformProjection transformProjection =
+                    transform.getProjection().filter(TransformProjection::isValid).orElse(null);
+            GeneratedTransformRule generatedRule =
+                    codegenEnabled && (transformFilter != null || transformProjection != null)
+                            ? generateTransformRule(tableInfo, transformFilter, transformProjection)
+                            : null;
+            generatedRules.add(generatedRule);
+            if (generatedRule != null) {
+                filterProcessors.add(null);
+                projectionProcessors.add(null);
+                continue;
+            }
+            filterProcessors.add(
+                    transformFilter != null
+                            ? TransformFilterProcessor.of(
+                                    tableInfo,
+                                    transformFilter,
+                                    timezone,
+                                    udfDescriptors,
+                                    getUdfFunctionInstances())
+                            : null);
+            projectionProcessors.add(
+                    transformProjection != null
+                            ? TransformProjectionProcessor.of(
+                                    tableInfo,
+                                    transformProjection,
+                                    timezone,
+                                    udfDescriptors,
+                                    getUdfFunctionInstances())
+                            : null);
+        }
+        return new TransformPlan(
+                tableInfo,
+                generatedRules.toArray(new GeneratedTransformRule[0]),
+                filterProcessors.toArray(new TransformFilterProcessor[0]),
+                projectionProcessors.toArray(new TransformProjectionProcessor[0]));
+    }
 
-            if (selectors.isMatch(tableId)) {
-                Optional<DataChangeEvent> dataChangeEventOptional = Optional.of(dataChangeEvent);
-                Optional<TransformProjection> transformProjectionOptional =
-                        transform.getProjection();
-                Optional<TransformFilter> transformFilterOptional = transform.getFilter();
-
-                if (transformFilterOptional.isPresent()
-                        && transformFilterOptional.get().isVaild()) {
-                    TransformFilter transformFilter = transformFilterOptional.get();
-                    if (!transformFilterProcessorMap.containsKey(
-                            Tuple2.of(tableId, transformFilter))) {
-                        transformFilterProcessorMap.put(
-                                Tuple2.of(tableId, transformFilter),
-                                TransformFilterProcessor.of(
-                                        tableInfo,
-                                        transformFilter,
-                                        timezone,
-                                        udfDescriptors,
-                                        getUdfFunctionInstances()));
-                    }
-                    TransformFilterProcessor transformFilterProcessor =
-                            transformFilterProcessorMap.get(Tuple2.of(tableId, transformFilter));
-                    dataChangeEventOptional =
-                            processFilter(
-                                    transformFilterProcessor,
-                                    dataChangeEventOptional.get(),
-                                    epochTime);
-                }
-                if (dataChangeEventOptional.isPresent()
-                        && transformProjectionOptional.isPresent()
-                        && transformProjectionOptional.get().isValid()) {
-                    TransformProjection transformProjection = transformProjectionOptional.get();
-                    if (!transformProjectionProcessorMap.containsKey(
-                                    Tuple2.of(tableId, transformProjection))
-                            || !transformProjectionProcessorMap
-                                    .get(Tuple2.of(tableId, transformProjection))
-                                    .hasTableInfo()) {
-                        transformProjectionProcessorMap.put(
-                                Tuple2.of(tableId, transformProjection),
-                                TransformProjectionProcessor.of(
-                                        tableInfo,
-                                        transformProjection,
-                                        timezone,
-                                        udfDescriptors,
-                                        getUdfFunctionInstances()));
-                    }
-                    TransformProjectionProcessor postTransformProcessor =
-                            transformProjectionProcessorMap.get(
-                                    Tuple2.of(tableId, transformProjection));
-                    dataChangeEventOptional =
-                            processProjection(
-                                    postTransformProcessor,
-                                    dataChangeEventOptional.get(),
-                                    epochTime);
+    @Nullable
+    private GeneratedTransformRule generateTransformRule(
+            PostTransformChangeInfo tableInfo,
+            @Nullable TransformFilter transformFilter,
+            @Nullable TransformProjection transformProjection) {
+        try {
+            return TransformRuleCodeGenerator.generate(
+                    tableInfo,
+                    transformFilter,
+                    transformProjection,
+                    timezone,
+                    udfDescriptors,
+                    getUdfFunctionInstances());
+        } catch (Exception e) {
+            LOG.warn(
+                    "Failed to generate the transform rule of table {}, fall back to the interpreted evaluation.",
+                    tableInfo.getName(),
+                    e);
+            return null;
+        }
+    }
+
+    @Nullable
+    private DataChangeEvent processDataChangeEvent(DataChangeEvent dataChangeEvent)
+            throws Exception {
+        TransformPlan transformPlan = getTransformPlan(dataChangeEvent.tableId());
+        int transformCount = transformPlan.filterProcessors.length;
+        if (transformCount == 0) {
+            return processPostProjection(transformPlan, dataChangeEvent, false);
+        }
+
+        long epochTime = System.currentTimeMillis();
+        DataChangeEvent transformedDataChangeEvent = null;
+        boolean projected = false;
+        // all matched transforms are evaluated and the first accepted result is emitted
+        for (int i = 0; i < transformCount; i++) {
+            GeneratedTransformRule generatedRule = transformPlan.generatedRules[i];
+            if (generatedRule != null) {
+                DataChangeEvent result =
+                        processGeneratedRule(generatedRule, dataChangeEvent, epochTime);
+                if (result != null && transformedDataChangeEvent == null) {
+                    transformedDataChangeEvent = result;
+                    projected = generatedRule.hasProjection();
                 }
-                transformedDataChangeEventOptionalList.add(dataChangeEventOptional);
+                continue;
+            }
+            TransformFilterProcessor transformFilterProcessor = transformPlan.filterProcessors[i];
+            if (transformFilterProcessor != null
+                    && !processFilter(transformFilterProcessor, dataChangeEvent, epochTime)) {
+                continue;
+            }
+            DataChangeEvent result = dataChangeEvent;
+            TransformProjectionProcessor transformProjectionProcessor =
+                    transformPlan.projectionProcessors[i];
+            if (transformProjectionProcessor != null) {
+                result = processProjection(transformProjectionProcessor, result, epochTime);
+            }
+            if (transformedDataChangeEvent == null) {
+                transformedDataChangeEvent = result;
+                projected = transformProjectionProcessor != null;
             }
         }
 
-        if (transformedDataChangeEventOptionalList.isEmpty()) {
-            return processPostProjection(tableInfo, dataChangeEvent);
-        } else {
-            for (Optional<DataChangeEvent> dataChangeEventOptional :
-                    transformedDataChangeEventOptionalList) {
-                if (dataChangeEventOptional.isPresent()) {
-                    return processPostProjection(tableInfo, dataChangeEventOptional.get());
-                }
+        if (transformedDataChangeEvent == null) {
+            return null;
+        }
+        return processPostProjection(transformPlan, transformedDataChangeEvent, projected);
+    }
+
+    @Nullable
+    private DataChangeEvent processGeneratedRule(
+            GeneratedTransformRule generatedRule, DataChangeEvent dataChangeEvent, long epochTime) {
+        try {
+            return evaluateGeneratedRule(generatedRule, dataChangeEvent, epochTime);
+        } catch (RuntimeException e) {
+            // wrapped like the failures of the interpreted expressions
+            LOG.error(
+                    "Table:{} generated transform rule execute failed. {}",
+                    dataChangeEvent.tableId(),
+                    e);
+            throw new RuntimeException(new InvocationTargetException(e));
+        }
+    }
+
+    @Nullable
+    private DataChangeEvent evaluateGeneratedRule(
+            GeneratedTransformRule generatedRule, DataChangeEvent dataChangeEvent, long epochTime) {
+        BinaryRecordData before = (BinaryRecordData) dataChangeEvent.before();
+        BinaryRecordData after = (BinaryRecordData) dataChangeEvent.after();
+        if (before != null && after != null) {
+            // update event only filters afterData, and projects beforeData first like the
+            // interpreted evaluation
+            if (!generatedRule.filter(after, epochTime, afterRowKind(dataChangeEvent.op()))) {
+                return null;
             }
-            return Optional.empty();
+            if (!generatedRule.hasProjection()) {
+                return dataChangeEvent;
+            }
+            BinaryRecordData projectedBefore =
+                    generatedRule.project(before, epochTime, beforeRowKind(dataChangeEvent.op()));
+            BinaryRecordData projectedAfter =
+                    generatedRule.project(after, epochTime, afterRowKind(dataChangeEvent.op()));
+            return DataChangeEvent.projectAfter(
+                    DataChangeEvent.projectBefore(dataChangeEvent, projectedBefore),
+                    projectedAfter);
+        } else if (after != null) {
+            BinaryRecordData projectedAfter =
+                    generatedRule.filterAndProject(
+                            after, epochTime, afterRowKind(dataChangeEvent.op()));
+            return projectedAfter == null
+                    ? null
+                    : DataChangeEvent.projectAfter(dataChangeEvent, projectedAfter);
+        } else if (before != null) {
+            BinaryRecordData projectedBefore =
+                    generatedRule.filterAndProject(
+                            before, epochTime, beforeRowKind(dataChangeEvent.op()));
+            return projectedBefore == null
+                    ? null
+                    : DataChangeEvent.projectBefore(dataChangeEvent, projectedBefore);
         }
+        return generatedRule.hasFilter() ? null : dataChangeEvent;
     }
 
-    private Optional<DataChangeEvent> processFilter(
+    private boolean processFilter(
             TransformFilterProcessor transformFilterProcessor,
             DataChangeEvent dataChangeEvent,
             long epochTime)
@@ -447,24 +566,16 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
         BinaryRecordData after = (BinaryRecordData) dataChangeEvent.after();
         // insert and update event only process afterData, delete only process beforeData
         if (after != null) {
-            if (transformFilterProcessor.process(
-                    after, epochTime, opTypeToRowKind(dataChangeEvent.op(), '+'))) {
-                return Optional.of(dataChangeEvent);
-            } else {
-                return Optional.empty();
-            }
+            return transformFilterProcessor.process(
+                    after, epochTime, afterRowKind(dataChangeEvent.op()));
         } else if (before != null) {
-            if (transformFilterProcessor.process(
-                    before, epochTime, opTypeToRowKind(dataChangeEvent.op(), '-'))) {
-                return Optional.of(dataChangeEvent);
-            } else {
-                return Optional.empty();
-            }
+            return transformFilterProcessor.process(
+                    before, epochTime, beforeRowKind(dataChangeEvent.op()));
         }
-        return Optional.empty();
+        return false;
     }
 
-    private Optional<DataChangeEvent> processProjection(
+    private DataChangeEvent processProjection(
             TransformProjectionProcessor postTransformProcessor,
             DataChangeEvent dataChangeEvent,
             long epochTime) {
@@ -473,51 +584,52 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
         if (before != null) {
             BinaryRecordData projectedBefore =
                     postTransformProcessor.processData(
-                            before, epochTime, opTypeToRowKind(dataChangeEvent.op(), '-'));
+                            before, epochTime, beforeRowKind(dataChangeEvent.op()));
             dataChangeEvent = DataChangeEvent.projectBefore(dataChangeEvent, projectedBefore);
         }
         if (after != null) {
             BinaryRecordData projectedAfter =
                     postTransformProcessor.processData(
-                            after, epochTime, opTypeToRowKind(dataChangeEvent.op(), '+'));
+                            after, epochTime, afterRowKind(dataChangeEvent.op()));
             dataChangeEvent = DataChangeEvent.projectAfter(dataChangeEvent, projectedAfter);
         }
-        return Optional.of(dataChangeEvent);
+        return dataChangeEvent;
     }
 
-    private Optional<DataChangeEvent> processPostProjection(
-            PostTransformChangeInfo tableInfo, DataChangeEvent dataChangeEvent) throws Exception {
+    private DataChangeEvent processPostProjection(
+            TransformPlan transformPlan, DataChangeEvent dataChangeEvent, boolean projected) {
+        if (projected || transformPlan.identityPostProjection) {
+            // the records are already in the layout of the post-transformed schema
+            return dataChangeEvent;
+        }
         BinaryRecordData before = (BinaryRecordData) dataChangeEvent.before();
         BinaryRecordData after = (BinaryRecordData) dataChangeEvent.after();
         if (before != null) {
-            BinaryRecordData projectedBefore = projectRecord(tableInfo, before);
+            BinaryRecordData projectedBefore = projectRecord(transformPlan, before);
             dataChangeEvent = DataChangeEvent.projectBefore(dataChangeEvent, projectedBefore);
         }
         if (after != null) {
-            BinaryRecordData projectedAfter = projectRecord(tableInfo, after);
+            BinaryRecordData projectedAfter = projectRecord(transformPlan, after);
             dataChangeEvent = DataChangeEvent.projectAfter(dataChangeEvent, projectedAfter);
         }
-        return Optional.of(dataChangeEvent);
+        return dataChangeEvent;
     }
 
     private BinaryRecordData projectRecord(
-            PostTransformChangeInfo tableInfo, BinaryRecordData recordData) {
-        List<Object> valueList = new ArrayList<>();
-        RecordData.FieldGetter[] fieldGetters = tableInfo.getPostTransformedFieldGetters();
-
-        for (RecordData.FieldGetter fieldGetter : fieldGetters) {
-            valueList.add(fieldGetter.getFieldOrNull(recordData));
+            TransformPlan transformPlan, BinaryRecordData recordData) {
+        RecordData.FieldGetter[] fieldGetters =
+                transformPlan.tableInfo.getPostTransformedFieldGetters();
+        Object[] projectedFields = transformPlan.projectedFields;
+        for (int i = 0; i < fieldGetters.length; i++) {
+            projectedFields[i] = fieldGetters[i].getFieldOrNull(recordData);
         }
-
-        return tableInfo
-                .getRecordDataGenerator()
-                .generate(valueList.toArray(new Object[valueList.size()]));
+        return transformPlan.tableInfo.getRecordDataGenerator().generate(projectedFields);
     }
 
     private void clearOperator() {
         this.transforms = null;
         this.transformProjectionProcessorMap = null;
-        this.transformFilterProcessorMap = null;
+        this.transformPlanMap = null;
         TransformExpressionCompiler.cleanUp();
     }
 
@@ -563,7 +675,60 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
                 });
     }
 
-    private String opTypeToRowKind(OperationType opType, char beforeOrAfter) {
-        return String.format("%c%c", beforeOrAfter, opType.name().charAt(0));
+    private static String beforeRowKind(OperationType opType) {
+        return BEFORE_ROW_KINDS[opType.ordinal()];
+    }
+
+    private static String afterRowKind(OperationType opType) {
+        return AFTER_ROW_KINDS[opType.ordinal()];
+    }
+
+    private static String[] opTypesToRowKinds(char beforeOrAfter) {
+        OperationType[] opTypes = OperationType.values();
+        String[] rowKinds = new String[opTypes.length];
+        for (OperationType opType : opTypes) {
+            rowKinds[opType.ordinal()] =
+                    String.format("%c%c", beforeOrAfter, opType.name().charAt(0)).intern();
+        }
+        return rowKinds;
+    }
+
+    /**
+     * The compiled processing plan of a table, it is resolved once per schema of the table and
+     * holds the generated rules or the filter and projection processors of all matched transforms.
+     * The generated rule and processors of the i-th matched transform are at index i, a null
+     * processor means that the transform has no valid filter or projection.
+     */
+    private static class TransformPlan {
+        private final PostTransformChangeInfo tableInfo;
+
+        /** The generated rule of a transform, the processors are null if it's generated. */
+        private final GeneratedTransformRule[] generatedRules;
+
+        private final TransformFilterProcessor[] filterProcessors;
+        private final TransformProjectionProcessor[] projectionProcessors;
+
+        /** Post-projection would copy the record as is if both schemas have the same types. */
+        private final boolean identityPostProjection;
+
+        /** Reused field buffer of the post-projection, the generator copies the fields. */
+        private final Object[] projectedFields;
+
+        private TransformPlan(
+                PostTransformChangeInfo tableInfo,
+                GeneratedTransformRule[] generatedRules,
+                TransformFilterProcessor[] filterProcessors,
+                TransformProjectionProcessor[] projectionProcessors) {
+            this.tableInfo = tableInfo;
+            this.generatedRules = generatedRules;
+            this.filterProcessors = filterProcessors;
+            this.projectionProcessors = projectionProcessors;
+            this.identityPostProjection =
+                    tableInfo
+                            .getPreTransformedSchema()
+                            .getColumnDataTypes()
+                            .equals(tableInfo.getPostTransformedSchema().getColumnDataTypes());
+            this.projectedFields = new Object[tableInfo.getPostTransformedFieldGetters().length];
+        }
     }
 }
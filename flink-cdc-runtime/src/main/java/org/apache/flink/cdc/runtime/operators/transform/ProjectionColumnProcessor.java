@@ -17,11 +17,9 @@
 
 package org.apache.flink.cdc.runtime.operators.transform;
 
-import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
 import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.runtime.parser.JaninoCompiler;
-import org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns;
 import org.apache.flink.cdc.runtime.typeutils.DataTypeConverter;
 
 import org.codehaus.janino.ExpressionEvaluator;
@@ -49,6 +47,7 @@ public class ProjectionColumnProcessor {
     private final List<UserDefinedFunctionDescriptor> udfDescriptors;
     private final transient List<Object> udfFunctionInstances;
     private transient ExpressionEvaluator expressionEvaluator;
+    private transient TransformExpressionArguments expressionArguments;
 
     public ProjectionColumnProcessor(
             PostTransformChangeInfo tableInfo,
@@ -60,11 +59,12 @@ public class ProjectionColumnProcessor {
         this.projectionColumn = projectionColumn;
         this.timezone = timezone;
         this.udfDescriptors = udfDescriptors;
-        this.transformExpressionKey = generateTransformExpressionKey();
+        this.udfFunctionInstances = udfFunctionInstances;
+        this.transformExpressionKey = generateTransformExpressionKey(tableInfo, projectionColumn);
+        this.expressionArguments = generateExpressionArguments(transformExpressionKey);
         this.expressionEvaluator =
                 TransformExpressionCompiler.compileExpression(
                         transformExpressionKey, udfDescriptors);
-        this.udfFunctionInstances = udfFunctionInstances;
     }
 
     public static ProjectionColumnProcessor of(
@@ -83,7 +83,8 @@ public class ProjectionColumnProcessor {
 
     public Object evaluate(BinaryRecordData record, long epochTime, String opType) {
         try {
-            return expressionEvaluator.evaluate(generateParams(record, epochTime, opType));
+            return expressionEvaluator.evaluate(
+                    expressionArguments.bind(record, epochTime, opType));
         } catch (InvocationTargetException e) {
             LOG.error(
                     "Table:{} column:{} projection:{} execute failed. {}",
@@ -95,57 +96,8 @@ public class ProjectionColumnProcessor {
         }
     }
 
-    private Object[] generateParams(BinaryRecordData record, long epochTime, String opType) {
-        List<Object> params = new ArrayList<>();
-        List<Column> columns = tableInfo.getPreTransformedSchema().getColumns();
-
-        // 1 - Add referenced columns
-        RecordData.FieldGetter[] fieldGetters = tableInfo.getPreTransformedFieldGetters();
-        LinkedHashSet<String> originalColumnNames =
-                new LinkedHashSet<>(projectionColumn.getOriginalColumnNames());
-        for (String originalColumnName : originalColumnNames) {
-            switch (originalColumnName) {
-                case MetadataColumns.DEFAULT_NAMESPACE_NAME:
-                    params.add(tableInfo.getNamespace());
-                    continue;
-                case MetadataColumns.DEFAULT_SCHEMA_NAME:
-                    params.add(tableInfo.getSchemaName());
-                    continue;
-                case MetadataColumns.DEFAULT_TABLE_NAME:
-                    params.add(tableInfo.getTableName());
-                    continue;
-                case MetadataColumns.DEFAULT_DATA_EVENT_TYPE:
-                    params.add(opType);
-                    continue;
-            }
-
-            boolean argumentFound = false;
-            for (int i = 0; i < columns.size(); i++) {
-                Column column = columns.get(i);
-                if (column.getName().equals(originalColumnName)) {
-                    params.add(
-                            DataTypeConverter.convertToOriginal(
-                                    fieldGetters[i].getFieldOrNull(record), column.getType()));
-                    argumentFound = true;
-                    break;
-                }
-            }
-            if (!argumentFound) {
-                throw new IllegalArgumentException(
-                        "Failed to evaluate argument " + originalColumnName);
-            }
-        }
-
-        // 2 - Add time-sensitive function arguments
-        params.add(timezone);
-        params.add(epochTime);
-
-        // 3 - Add UDF function instances
-        params.addAll(udfFunctionInstances);
-        return params.toArray();
-    }
-
-    private TransformExpressionKey generateTransformExpressionKey() {
+    static TransformExpressionKey generateTransformExpressionKey(
+            PostTransformChangeInfo tableInfo, ProjectionColumn projectionColumn) {
         List<String> argumentNames = new ArrayList<>();
         List<Class<?>> paramTypes = new ArrayList<>();
         List<Column> columns = tableInfo.getPreTransformedSchema().getColumns();
@@ -153,13 +105,19 @@ public class ProjectionColumnProcessor {
         LinkedHashSet<String> originalColumnNames =
                 new LinkedHashSet<>(projectionColumn.getOriginalColumnNames());
         for (String originalColumnName : originalColumnNames) {
+            boolean argumentFound = false;
             for (Column column : columns) {
                 if (column.getName().equals(originalColumnName)) {
                     argumentNames.add(originalColumnName);
                     paramTypes.add(DataTypeConverter.convertOriginalClass(column.getType()));
+                    argumentFound = true;
                     break;
                 }
             }
+            if (!argumentFound && !isMetadataColumn(originalColumnName)) {
+                throw new IllegalArgumentException(
+                        "Failed to evaluate argument " + originalColumnName);
+            }
         }
 
         for (String originalColumnName : originalColumnNames) {
@@ -184,4 +142,19 @@ public class ProjectionColumnProcessor {
                 paramTypes,
                 DataTypeConverter.convertOriginalClass(projectionColumn.getDataType()));
     }
+
+    private TransformExpressionArguments generateExpressionArguments(
+            TransformExpressionKey transformExpressionKey) {
+        List<String> argumentNames = transformExpressionKey.getArgumentNames();
+        // the time zone and epoch time arguments are bound separately
+        return new TransformExpressionArguments(
+                tableInfo,
+                argumentNames.subList(0, argumentNames.size() - 2),
+                timezone,
+                udfFunctionInstances);
+    }
+
+    private static boolean isMetadataColumn(String columnName) {
+        return METADATA_COLUMNS.stream().anyMatch(col -> col.f0.equals(columnName));
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns;
+import org.apache.flink.cdc.runtime.typeutils.DataTypeConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The argument binding of a compiled transform expression.
+ *
+ * <p>The slot of each argument is resolved once against the pre-transformed schema of the table:
+ * column arguments are bound to the index of their field getter, metadata columns except the data
+ * event type are bound as constants, followed by the time zone, the epoch time and the UDF
+ * instances. The arguments are written into a reused array for every evaluation.
+ */
+class TransformExpressionArguments {
+
+    private final Object[] arguments;
+    private final int[] fieldArgumentSlots;
+    private final RecordData.FieldGetter[] fieldGetters;
+    private final DataType[] fieldTypes;
+    private final int[] opTypeArgumentSlots;
+    private final int epochTimeSlot;
+
+    /**
+     * Creates the argument binding for the given argument names, the time zone and epoch time
+     * arguments are appended after them, and the UDF instances at last.
+     */
+    TransformExpressionArguments(
+            PostTransformChangeInfo tableInfo,
+            List<String> argumentNames,
+            String timezone,
+            List<Object> udfFunctionInstances) {
+        List<Column> columns = tableInfo.getPreTransformedSchema().getColumns();
+        RecordData.FieldGetter[] preTransformedFieldGetters =
+                tableInfo.getPreTransformedFieldGetters();
+        int argumentCount = argumentNames.size();
+        this.arguments = new Object[argumentCount + 2 + udfFunctionInstances.size()];
+
+        List<Integer> fieldSlots = new ArrayList<>();
+        List<RecordData.FieldGetter> getters = new ArrayList<>();
+        List<DataType> types = new ArrayList<>();
+        List<Integer> opTypeSlots = new ArrayList<>();
+        for (int slot = 0; slot < argumentCount; slot++) {
+            String argumentName = argumentNames.get(slot);
+            switch (argumentName) {
+                case MetadataColumns.DEFAULT_NAMESPACE_NAME:
+                    arguments[slot] = tableInfo.getNamespace();
+                    continue;
+                case MetadataColumns.DEFAULT_SCHEMA_NAME:
+                    arguments[slot] = tableInfo.getSchemaName();
+                    continue;
+                case MetadataColumns.DEFAULT_TABLE_NAME:
+                    arguments[slot] = tableInfo.getTableName();
+                    continue;
+                case MetadataColumns.DEFAULT_DATA_EVENT_TYPE:
+                    opTypeSlots.add(slot);
+                    continue;
+            }
+            int fieldIndex = indexOf(columns, argumentName);
+            if (fieldIndex < 0) {
+                throw new IllegalArgumentException("Failed to evaluate argument " + argumentName);
+            }
+            fieldSlots.add(slot);
+            getters.add(preTransformedFieldGetters[fieldIndex]);
+            types.add(columns.get(fieldIndex).getType());
+        }
+        this.fieldArgumentSlots = fieldSlots.stream().mapToInt(Integer::intValue).toArray();
+        this.fieldGetters = getters.toArray(new RecordData.FieldGetter[0]);
+        this.fieldTypes = types.toArray(new DataType[0]);
+        this.opTypeArgumentSlots = opTypeSlots.stream().mapToInt(Integer::intValue).toArray();
+
+        arguments[argumentCount] = timezone;
+        this.epochTimeSlot = argumentCount + 1;
+        for (int i = 0; i < udfFunctionInstances.size(); i++) {
+            arguments[argumentCount + 2 + i] = udfFunctionInstances.get(i);
+        }
+    }
+
+    /**
+     * Binds the arguments for an evaluation on the given record. The returned array is reused by
+     * the next call.
+     */
+    Object[] bind(BinaryRecordData record, long epochTime, String opType) {
+        for (int i = 0; i < fieldArgumentSlots.length; i++) {
+            arguments[fieldArgumentSlots[i]] =
+                    DataTypeConverter.convertToOriginal(
+                            fieldGetters[i].getFieldOrNull(record), fieldTypes[i]);
+        }
+        for (int slot : opTypeArgumentSlots) {
+            arguments[slot] = opType;
+        }
+        arguments[epochTimeSlot] = epochTime;
+        return arguments;
+    }
+
+    private static int indexOf(List<Column> columns, String columnName) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).getName().equals(columnName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
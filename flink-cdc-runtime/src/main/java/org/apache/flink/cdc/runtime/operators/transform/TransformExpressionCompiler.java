@@ -25,6 +25,7 @@ import org.apache.flink.shaded.guava31.com.google.common.cache.CacheBuilder;
 
 import org.codehaus.commons.compiler.CompileException;
 import org.codehaus.janino.ExpressionEvaluator;
+import org.codehaus.janino.SimpleCompiler;
 
 import java.util.List;
 
@@ -37,12 +38,16 @@ public class TransformExpressionCompiler {
     static final Cache<TransformExpressionKey, ExpressionEvaluator> COMPILED_EXPRESSION_CACHE =
             CacheBuilder.newBuilder().softValues().build();
 
+    static final Cache<String, Class<?>> COMPILED_CLASS_CACHE =
+            CacheBuilder.newBuilder().softValues().build();
+
     /** Triggers internal garbage collection of expired cache entries. */
     public static void cleanUp() {
         // com.google.common.cache.Cache from Guava isn't guaranteed to clear all cached records
         // when invoking Cache#cleanUp, which may cause classloader leakage. Use #invalidateAll
         // instead to ensure all key / value pairs to be correctly discarded.
         COMPILED_EXPRESSION_CACHE.invalidateAll();
+        COMPILED_CLASS_CACHE.invalidateAll();
     }
 
     /** Compiles an expression code to a janino {@link ExpressionEvaluator}. */
@@ -84,4 +89,24 @@ public class TransformExpressionCompiler {
             throw new FlinkRuntimeException(e.getMessage(), e);
         }
     }
+
+    /** Compiles a compilation unit and loads the class of the given name from it. */
+    public static Class<?> compileClass(String className, String code) {
+        try {
+            return COMPILED_CLASS_CACHE.get(
+                    code,
+                    () -> {
+                        SimpleCompiler compiler = new SimpleCompiler();
+                        try {
+                            compiler.cook(code);
+                        } catch (CompileException e) {
+                            throw new InvalidProgramException(
+                                    "Class cannot be compiled.\nCode:\n" + code, e);
+                        }
+                        return compiler.getClassLoader().loadClass(className);
+                    });
+        } catch (Exception e) {
+            throw new FlinkRuntimeException(e.getMessage(), e);
+        }
+    }
 }
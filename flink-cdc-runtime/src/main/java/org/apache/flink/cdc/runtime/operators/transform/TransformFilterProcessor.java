@@ -18,11 +18,9 @@
 package org.apache.flink.cdc.runtime.operators.transform;
 
 import org.apache.flink.api.java.tuple.Tuple2;
-import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
 import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.runtime.parser.JaninoCompiler;
-import org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns;
 import org.apache.flink.cdc.runtime.typeutils.DataTypeConverter;
 
 import org.codehaus.janino.ExpressionEvaluator;
@@ -45,6 +43,7 @@ public class TransformFilterProcessor {
     private TransformExpressionKey transformExpressionKey;
     private final transient List<Object> udfFunctionInstances;
     private transient ExpressionEvaluator expressionEvaluator;
+    private transient TransformExpressionArguments expressionArguments;
 
     public TransformFilterProcessor(
             PostTransformChangeInfo tableInfo,
@@ -55,8 +54,9 @@ public class TransformFilterProcessor {
         this.tableInfo = tableInfo;
         this.transformFilter = transformFilter;
         this.timezone = timezone;
-        this.transformExpressionKey = generateTransformExpressionKey();
+        this.transformExpressionKey = generateTransformExpressionKey(tableInfo, transformFilter);
         this.udfFunctionInstances = udfFunctionInstances;
+        this.expressionArguments = generateExpressionArguments(transformExpressionKey);
         this.expressionEvaluator =
                 TransformExpressionCompiler.compileExpression(
                         transformExpressionKey, udfDescriptors);
@@ -75,7 +75,8 @@ public class TransformFilterProcessor {
     public boolean process(BinaryRecordData record, long epochTime, String opType) {
         try {
             return (Boolean)
-                    expressionEvaluator.evaluate(generateParams(record, epochTime, opType));
+                    expressionEvaluator.evaluate(
+                            expressionArguments.bind(record, epochTime, opType));
         } catch (InvocationTargetException e) {
             LOG.error(
                     "Table:{} filter:{} execute failed. {}",
@@ -86,7 +87,8 @@ public class TransformFilterProcessor {
         }
     }
 
-    private Tuple2<List<String>, List<Class<?>>> generateArguments() {
+    private static Tuple2<List<String>, List<Class<?>>> generateArguments(
+            PostTransformChangeInfo tableInfo, TransformFilter transformFilter) {
         List<String> argNames = new ArrayList<>();
         List<Class<?>> argTypes = new ArrayList<>();
         String scriptExpression = transformFilter.getScriptExpression();
@@ -113,50 +115,20 @@ public class TransformFilterProcessor {
         return Tuple2.of(argNames, argTypes);
     }
 
-    private Object[] generateParams(BinaryRecordData record, long epochTime, String opType) {
-        List<Object> params = new ArrayList<>();
-        List<Column> columns = tableInfo.getPreTransformedSchema().getColumns();
-
-        // 1 - Add referenced columns
-        Tuple2<List<String>, List<Class<?>>> args = generateArguments();
-        RecordData.FieldGetter[] fieldGetters = tableInfo.getPreTransformedFieldGetters();
-        for (String columnName : args.f0) {
-            switch (columnName) {
-                case MetadataColumns.DEFAULT_NAMESPACE_NAME:
-                    params.add(tableInfo.getNamespace());
-                    continue;
-                case MetadataColumns.DEFAULT_SCHEMA_NAME:
-                    params.add(tableInfo.getSchemaName());
-                    continue;
-                case MetadataColumns.DEFAULT_TABLE_NAME:
-                    params.add(tableInfo.getTableName());
-                    continue;
-                case MetadataColumns.DEFAULT_DATA_EVENT_TYPE:
-                    params.add(opType);
-                    continue;
-            }
-            for (int i = 0; i < columns.size(); i++) {
-                Column column = columns.get(i);
-                if (column.getName().equals(columnName)) {
-                    params.add(
-                            DataTypeConverter.convertToOriginal(
-                                    fieldGetters[i].getFieldOrNull(record), column.getType()));
-                    break;
-                }
-            }
-        }
-
-        // 2 - Add time-sensitive function arguments
-        params.add(timezone);
-        params.add(epochTime);
-
-        // 3 - Add UDF function instances
-        params.addAll(udfFunctionInstances);
-        return params.toArray();
+    private TransformExpressionArguments generateExpressionArguments(
+            TransformExpressionKey transformExpressionKey) {
+        List<String> argumentNames = transformExpressionKey.getArgumentNames();
+        // the time zone and epoch time arguments are bound separately
+        return new TransformExpressionArguments(
+                tableInfo,
+                argumentNames.subList(0, argumentNames.size() - 2),
+                timezone,
+                udfFunctionInstances);
     }
 
-    private TransformExpressionKey generateTransformExpressionKey() {
-        Tuple2<List<String>, List<Class<?>>> args = generateArguments();
+    static TransformExpressionKey generateTransformExpressionKey(
+            PostTransformChangeInfo tableInfo, TransformFilter transformFilter) {
+        Tuple2<List<String>, List<Class<?>>> args = generateArguments(tableInfo, transformFilter);
 
         args.f0.add(JaninoCompiler.DEFAULT_TIME_ZONE);
         args.f1.add(String.class);
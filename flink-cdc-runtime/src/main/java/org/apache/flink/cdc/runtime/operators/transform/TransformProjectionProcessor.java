@@ -21,7 +21,6 @@ import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
 import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
-import org.apache.flink.cdc.common.types.DataType;
 import org.apache.flink.cdc.runtime.parser.TransformParser;
 import org.apache.flink.cdc.runtime.typeutils.DataTypeConverter;
 
@@ -51,6 +50,11 @@ public class TransformProjectionProcessor {
     private final TransformProjection transformProjection;
     private final String timezone;
     private final List<ProjectionColumnProcessor> cachedProjectionColumnProcessors;
+    /** The pre-transformed field index of each not computed post-transformed column, or -1. */
+    private final int[] preTransformedFieldIndexes;
+    /** Reused field buffer of the projected record, the generator copies the fields. */
+    private final Object[] projectedFields;
+
     private final List<UserDefinedFunctionDescriptor> udfDescriptors;
     private final transient List<Object> udfFunctionInstances;
 
@@ -69,6 +73,8 @@ public class TransformProjectionProcessor {
         // Create cached projection column processors after setting all other fields.
         this.cachedProjectionColumnProcessors =
                 cacheProjectionColumnProcessors(postTransformChangeInfo, transformProjection);
+        this.preTransformedFieldIndexes = cachePreTransformedFieldIndexes(postTransformChangeInfo);
+        this.projectedFields = new Object[preTransformedFieldIndexes.length];
     }
 
     public boolean hasTableInfo() {
@@ -114,48 +120,51 @@ public class TransformProjectionProcessor {
     }
 
     public BinaryRecordData processData(BinaryRecordData payload, long epochTime, String opType) {
-        List<Object> valueList = new ArrayList<>();
         List<Column> columns = postTransformChangeInfo.getPostTransformedSchema().getColumns();
+        RecordData.FieldGetter[] fieldGetters =
+                postTransformChangeInfo.getPreTransformedFieldGetters();
 
-        for (int i = 0; i < columns.size(); i++) {
+        for (int i = 0; i < projectedFields.length; i++) {
             ProjectionColumnProcessor projectionColumnProcessor =
                     cachedProjectionColumnProcessors.get(i);
             if (projectionColumnProcessor != null) {
                 ProjectionColumn projectionColumn = projectionColumnProcessor.getProjectionColumn();
-                valueList.add(
+                projectedFields[i] =
                         DataTypeConverter.convert(
                                 projectionColumnProcessor.evaluate(payload, epochTime, opType),
-                                projectionColumn.getDataType()));
+                                projectionColumn.getDataType());
             } else {
-                Column column = columns.get(i);
-                valueList.add(
-                        getValueFromBinaryRecordData(
-                                column.getName(),
-                                column.getType(),
-                                payload,
-                                postTransformChangeInfo.getPreTransformedSchema().getColumns(),
-                                postTransformChangeInfo.getPreTransformedFieldGetters()));
+                int fieldIndex = preTransformedFieldIndexes[i];
+                projectedFields[i] =
+                        fieldIndex < 0
+                                ? null
+                                : DataTypeConverter.convert(
+                                        fieldGetters[fieldIndex].getFieldOrNull(payload),
+                                        columns.get(i).getType());
             }
         }
 
-        return postTransformChangeInfo
-                .getRecordDataGenerator()
-                .generate(valueList.toArray(new Object[0]));
+        return postTransformChangeInfo.getRecordDataGenerator().generate(projectedFields);
     }
 
-    private Object getValueFromBinaryRecordData(
-            String columnName,
-            DataType expectedType,
-            BinaryRecordData binaryRecordData,
-            List<Column> columns,
-            RecordData.FieldGetter[] fieldGetters) {
-        for (int i = 0; i < columns.size(); i++) {
-            if (columnName.equals(columns.get(i).getName())) {
-                return DataTypeConverter.convert(
-                        fieldGetters[i].getFieldOrNull(binaryRecordData), expectedType);
+    private int[] cachePreTransformedFieldIndexes(PostTransformChangeInfo tableInfo) {
+        if (!hasTableInfo()) {
+            return new int[0];
+        }
+        List<Column> postTransformedColumns = tableInfo.getPostTransformedSchema().getColumns();
+        List<Column> preTransformedColumns = tableInfo.getPreTransformedSchema().getColumns();
+        int[] fieldIndexes = new int[postTransformedColumns.size()];
+        for (int i = 0; i < fieldIndexes.length; i++) {
+            fieldIndexes[i] = -1;
+            String columnName = postTransformedColumns.get(i).getName();
+            for (int j = 0; j < preTransformedColumns.size(); j++) {
+                if (columnName.equals(preTransformedColumns.get(j).getName())) {
+                    fieldIndexes[i] = j;
+                    break;
+                }
             }
         }
-        return null;
+        return fieldIndexes;
     }
 
     private List<ProjectionColumnProcessor> cacheProjectionColumnProcessors(
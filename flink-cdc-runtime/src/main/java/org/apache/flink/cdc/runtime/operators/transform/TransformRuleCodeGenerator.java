@@ -0,0 +1,444 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypeRoot;
+import org.apache.flink.cdc.runtime.parser.JaninoCompiler;
+import org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates a {@link GeneratedTransformRule} for a {@link TransformRule} and a table schema.
+ *
+ * <p>The filter and all computed columns of the projection are compiled into one class. The
+ * arguments of the expressions are declared as local variables with the same names as the
+ * parameters of the interpreted {@link TransformExpressionKey}, so that the script expressions
+ * translated by {@link JaninoCompiler} are embedded as is. The filter is evaluated first and the
+ * columns only used by the projection are read after the record is accepted.
+ */
+class TransformRuleCodeGenerator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TransformRuleCodeGenerator.class);
+
+    private static final String CLASS_NAME = "GeneratedTransformRuleImpl";
+
+    private final PostTransformChangeInfo tableInfo;
+    @Nullable private final TransformFilter transformFilter;
+    @Nullable private final TransformProjection transformProjection;
+    private final List<UserDefinedFunctionDescriptor> udfDescriptors;
+    private final List<Column> preTransformedColumns;
+
+    private TransformRuleCodeGenerator(
+            PostTransformChangeInfo tableInfo,
+            @Nullable TransformFilter transformFilter,
+            @Nullable TransformProjection transformProjection,
+            List<UserDefinedFunctionDescriptor> udfDescriptors) {
+        this.tableInfo = tableInfo;
+        this.transformFilter = transformFilter;
+        this.transformProjection = transformProjection;
+        this.udfDescriptors = udfDescriptors;
+        this.preTransformedColumns = tableInfo.getPreTransformedSchema().getColumns();
+    }
+
+    /**
+     * Generates and instantiates the rule. The generated classes are cached by their code, so the
+     * tables with the same schema share the compiled class of a rule.
+     */
+    static GeneratedTransformRule generate(
+            PostTransformChangeInfo tableInfo,
+            @Nullable TransformFilter transformFilter,
+            @Nullable TransformProjection transformProjection,
+            String timezone,
+            List<UserDefinedFunctionDescriptor> udfDescriptors,
+            List<Object> udfFunctionInstances)
+            throws Exception {
+        String code =
+                new TransformRuleCodeGenerator(
+                                tableInfo, transformFilter, transformProjection, udfDescriptors)
+                        .generateCode();
+        Class<?> generatedClass = TransformExpressionCompiler.compileClass(CLASS_NAME, code);
+        return (GeneratedTransformRule)
+                generatedClass
+                        .getConstructor(PostTransformChangeInfo.class, String.class, Object[].class)
+                        .newInstance(tableInfo, timezone, udfFunctionInstances.toArray());
+    }
+
+    private String generateCode() throws ClassNotFoundException {
+        StringBuilder code = new StringBuilder();
+        code.append("import static org.apache.flink.cdc.runtime.functions.SystemFunctionUtils.*;\n")
+                .append("import org.apache.flink.cdc.common.data.binary.BinaryRecordData;\n")
+                .append("import org.apache.flink.cdc.common.data.binary.BinaryStringData;\n")
+                .append("import org.apache.flink.cdc.runtime.operators.transform.*;\n\n")
+                .append("public final class ")
+                .append(CLASS_NAME)
+                .append(" extends GeneratedTransformRule {\n");
+
+        // constant arguments, they are accessed by the expressions with their simple names
+        code.append("  private final String ")
+                .append(JaninoCompiler.DEFAULT_TIME_ZONE)
+                .append(";\n");
+        code.append("  private final String ")
+                .append(MetadataColumns.DEFAULT_NAMESPACE_NAME)
+                .append(";\n");
+        code.append("  private final String ")
+                .append(MetadataColumns.DEFAULT_SCHEMA_NAME)
+                .append(";\n");
+        code.append("  private final String ")
+                .append(MetadataColumns.DEFAULT_TABLE_NAME)
+                .append(";\n");
+        for (UserDefinedFunctionDescriptor udfDescriptor : udfDescriptors) {
+            code.append("  private final ")
+                    .append(loadUdfClass(udfDescriptor).getCanonicalName())
+                    .append(" __instanceOf")
+                    .append(udfDescriptor.getClassName())
+                    .append(";\n");
+        }
+
+        code.append("\n  public ")
+                .append(CLASS_NAME)
+                .append(
+                        "(PostTransformChangeInfo $tableInfo, String $timezone, Object[] $udfs) {\n")
+                .append("    super($tableInfo, ")
+                .append(transformFilter != null)
+                .append(", ")
+                .append(transformProjection != null)
+                .append(");\n");
+        code.append("    this.").append(JaninoCompiler.DEFAULT_TIME_ZONE).append(" = $timezone;\n");
+        code.append("    this.")
+                .append(MetadataColumns.DEFAULT_NAMESPACE_NAME)
+                .append(" = $tableInfo.getNamespace();\n");
+        code.append("    this.")
+                .append(MetadataColumns.DEFAULT_SCHEMA_NAME)
+                .append(" = $tableInfo.getSchemaName();\n");
+        code.append("    this.")
+                .append(MetadataColumns.DEFAULT_TABLE_NAME)
+                .append(" = $tableInfo.getTableName();\n");
+        for (int i = 0; i < udfDescriptors.size(); i++) {
+            UserDefinedFunctionDescriptor udfDescriptor = udfDescriptors.get(i);
+            code.append("    this.__instanceOf")
+                    .append(udfDescriptor.getClassName())
+                    .append(" = (")
+                    .append(loadUdfClass(udfDescriptor).getCanonicalName())
+                    .append(") $udfs[")
+                    .append(i)
+                    .append("];\n");
+        }
+        code.append("  }\n\n");
+
+        String methodSignature = "(BinaryRecordData $record, long $epochTime, String $opType) {\n";
+        code.append("  public boolean filter").append(methodSignature);
+        if (transformFilter != null) {
+            generateFilter(code, new HashSet<>());
+            code.append("    return $accepted;\n");
+        } else {
+            code.append("    return true;\n");
+        }
+        code.append("  }\n\n");
+
+        code.append("  public BinaryRecordData filterAndProject").append(methodSignature);
+        Set<String> declaredArguments = new HashSet<>();
+        if (transformFilter != null) {
+            generateFilter(code, declaredArguments);
+            code.append("    if (!$accepted) {\n      return null;\n    }\n");
+        }
+        generateProjection(code, declaredArguments);
+        code.append("  }\n\n");
+
+        code.append("  public BinaryRecordData project").append(methodSignature);
+        generateProjection(code, new HashSet<>());
+        code.append("  }\n");
+
+        return code.append("}\n").toString();
+    }
+
+    /**
+     * Loads the class of a UDF with the context class loader, which is the user code class loader
+     * the generated class and the interpreted expressions are compiled with.
+     */
+    private static Class<?> loadUdfClass(UserDefinedFunctionDescriptor udfDescriptor)
+            throws ClassNotFoundException {
+        ClassLoader userCodeClassLoader = Thread.currentThread().getContextClassLoader();
+        if (userCodeClassLoader != null) {
+            try {
+                return Class.forName(udfDescriptor.getClasspath(), true, userCodeClassLoader);
+            } catch (ClassNotFoundException e) {
+                LOG.warn(
+                        "UDF class {} is not found by the user code class loader, fall back to the class loader of the transform operator.",
+                        udfDescriptor.getClasspath());
+            }
+        }
+        return Class.forName(udfDescriptor.getClasspath());
+    }
+
+    private void generateFilter(StringBuilder code, Set<String> declaredArguments) {
+        TransformExpressionKey key =
+                TransformFilterProcessor.generateTransformExpressionKey(tableInfo, transformFilter);
+        generateArgumentDeclarations(code, key, declaredArguments);
+        code.append("    final Boolean $accepted = (")
+                .append(transformFilter.getScriptExpression())
+                .append(");\n");
+    }
+
+    private void generateProjection(StringBuilder code, Set<String> declaredArguments) {
+        if (transformProjection == null) {
+            code.append("    return $record;\n");
+            return;
+        }
+        List<Column> postTransformedColumns = tableInfo.getPostTransformedSchema().getColumns();
+        List<String> statements = new ArrayList<>();
+        for (int pos = 0; pos < postTransformedColumns.size(); pos++) {
+            Column column = postTransformedColumns.get(pos);
+            ProjectionColumn projectionColumn = findProjectionColumn(column.getName());
+            if (projectionColumn != null) {
+                TransformExpressionKey key =
+                        ProjectionColumnProcessor.generateTransformExpressionKey(
+                                tableInfo, projectionColumn);
+                generateArgumentDeclarations(code, key, declaredArguments);
+                String value = "$value" + pos;
+                code.append("    final ")
+                        .append(key.getReturnClass().getCanonicalName())
+                        .append(' ')
+                        .append(value)
+                        .append(" = (")
+                        .append(projectionColumn.getScriptExpression())
+                        .append(");\n");
+                statements.add(
+                        generateWriteComputedField(
+                                pos, value, projectionColumn.getDataType(), column.getType()));
+            } else {
+                statements.add(generateCopyField(pos, column));
+            }
+        }
+        // all expressions are evaluated before writing, an expression may fail the record
+        code.append("    this.writer.reset();\n");
+        for (String statement : statements) {
+            code.append(statement);
+        }
+        code.append("    return this.completeRecord();\n");
+    }
+
+    @Nullable
+    private ProjectionColumn findProjectionColumn(String columnName) {
+        for (ProjectionColumn projectionColumn : transformProjection.getProjectionColumns()) {
+            if (columnName.equals(projectionColumn.getColumnName())
+                    && projectionColumn.isValidTransformedProjectionColumn()) {
+                return projectionColumn;
+            }
+        }
+        return null;
+    }
+
+    private void generateArgumentDeclarations(
+            StringBuilder code, TransformExpressionKey key, Set<String> declaredArguments) {
+        List<String> argumentNames = key.getArgumentNames();
+        List<Class<?>> argumentClasses = key.getArgumentClasses();
+        for (int i = 0; i < argumentNames.size(); i++) {
+            String argumentName = argumentNames.get(i);
+            if (!declaredArguments.add(argumentName)) {
+                continue;
+            }
+            switch (argumentName) {
+                case JaninoCompiler.DEFAULT_TIME_ZONE:
+                case MetadataColumns.DEFAULT_NAMESPACE_NAME:
+                case MetadataColumns.DEFAULT_SCHEMA_NAME:
+                case MetadataColumns.DEFAULT_TABLE_NAME:
+                    // bound as fields
+                    continue;
+                case JaninoCompiler.DEFAULT_EPOCH_TIME:
+                    code.append("    final long ").append(argumentName).append(" = $epochTime;\n");
+                    continue;
+                case MetadataColumns.DEFAULT_DATA_EVENT_TYPE:
+                    code.append("    final String ").append(argumentName).append(" = $opType;\n");
+                    continue;
+                default:
+                    break;
+            }
+            int pos = indexOfPreTransformedColumn(argumentName);
+            code.append("    final ")
+                    .append(argumentClasses.get(i).getCanonicalName())
+                    .append(' ')
+                    .append(argumentName)
+                    .append(" = ")
+                    .append(
+                            generateReadField(
+                                    pos,
+                                    preTransformedColumns.get(pos).getType(),
+                                    argumentClasses.get(i)))
+                    .append(";\n");
+        }
+    }
+
+    private int indexOfPreTransformedColumn(String columnName) {
+        for (int i = 0; i < preTransformedColumns.size(); i++) {
+            if (preTransformedColumns.get(i).getName().equals(columnName)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Failed to evaluate argument " + columnName);
+    }
+
+    /** Reads a field as the original class of its type, see DataTypeConverter#convertToOriginal. */
+    private static String generateReadField(int pos, DataType type, Class<?> originalClass) {
+        String getter;
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+                getter = "Boolean.valueOf($record.getBoolean(" + pos + "))";
+                break;
+            case TINYINT:
+                getter = "Byte.valueOf($record.getByte(" + pos + "))";
+                break;
+            case SMALLINT:
+                getter = "Short.valueOf($record.getShort(" + pos + "))";
+                break;
+            case INTEGER:
+                getter = "Integer.valueOf($record.getInt(" + pos + "))";
+                break;
+            case BIGINT:
+                getter = "Long.valueOf($record.getLong(" + pos + "))";
+                break;
+            case FLOAT:
+                getter = "Float.valueOf($record.getFloat(" + pos + "))";
+                break;
+            case DOUBLE:
+                getter = "Double.valueOf($record.getDouble(" + pos + "))";
+                break;
+            case CHAR:
+            case VARCHAR:
+                getter = "$record.getString(" + pos + ").toString()";
+                break;
+            default:
+                return String.format(
+                        "(%s) this.readField($record, %d)", originalClass.getCanonicalName(), pos);
+        }
+        return String.format("$record.isNullAt(%d) ? null : %s", pos, getter);
+    }
+
+    /** Writes a computed value, see DataTypeConverter#convert. */
+    private static String generateWriteComputedField(
+            int pos, String value, DataType valueType, DataType fieldType) {
+        String write = null;
+        if (valueType.getTypeRoot() == fieldType.getTypeRoot()) {
+            switch (fieldType.getTypeRoot()) {
+                case BOOLEAN:
+                    write = "writeBoolean(" + pos + ", " + value + ".booleanValue())";
+                    break;
+                case TINYINT:
+                    write = "writeByte(" + pos + ", " + value + ".byteValue())";
+                    break;
+                case SMALLINT:
+                    write = "writeShort(" + pos + ", " + value + ".shortValue())";
+                    break;
+                case INTEGER:
+                    write = "writeInt(" + pos + ", " + value + ".intValue())";
+                    break;
+                case BIGINT:
+                    write = "writeLong(" + pos + ", " + value + ".longValue())";
+                    break;
+                case FLOAT:
+                    write = "writeFloat(" + pos + ", " + value + ".floatValue())";
+                    break;
+                case DOUBLE:
+                    write = "writeDouble(" + pos + ", " + value + ".doubleValue())";
+                    break;
+                case CHAR:
+                case VARCHAR:
+                    write =
+                            "writeString("
+                                    + pos
+                                    + ", BinaryStringData.fromString("
+                                    + value
+                                    + ".toString()))";
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (write == null) {
+            return String.format("    this.writeField(%d, %s);\n", pos, value);
+        }
+        return String.format(
+                "    if (%s == null) {\n      this.writer.setNullAt(%d);\n    } else {\n"
+                        + "      this.writer.%s;\n    }\n",
+                value, pos, write);
+    }
+
+    /** Copies a not computed column from the pre-transformed record, or writes null. */
+    private String generateCopyField(int pos, Column column) {
+        int fromPos = -1;
+        for (int i = 0; i < preTransformedColumns.size(); i++) {
+            if (preTransformedColumns.get(i).getName().equals(column.getName())) {
+                fromPos = i;
+                break;
+            }
+        }
+        if (fromPos < 0) {
+            return String.format("    this.writer.setNullAt(%d);\n", pos);
+        }
+        DataTypeRoot typeRoot = column.getType().getTypeRoot();
+        if (typeRoot != preTransformedColumns.get(fromPos).getType().getTypeRoot()) {
+            return String.format("    this.copyField($record, %d, %d);\n", fromPos, pos);
+        }
+        String write;
+        switch (typeRoot) {
+            case BOOLEAN:
+                write = "writeBoolean(%d, $record.getBoolean(%d))";
+                break;
+            case TINYINT:
+                write = "writeByte(%d, $record.getByte(%d))";
+                break;
+            case SMALLINT:
+                write = "writeShort(%d, $record.getShort(%d))";
+                break;
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                write = "writeInt(%d, $record.getInt(%d))";
+                break;
+            case BIGINT:
+                write = "writeLong(%d, $record.getLong(%d))";
+                break;
+            case FLOAT:
+                write = "writeFloat(%d, $record.getFloat(%d))";
+                break;
+            case DOUBLE:
+                write = "writeDouble(%d, $record.getDouble(%d))";
+                break;
+            case CHAR:
+            case VARCHAR:
+                write = "writeString(%d, $record.getString(%d))";
+                break;
+            default:
+                return String.format("    this.copyField($record, %d, %d);\n", fromPos, pos);
+        }
+        return String.format(
+                "    if ($record.isNullAt(%d)) {\n      this.writer.setNullAt(%d);\n    } else {\n"
+                        + "      this.writer.%s;\n    }\n",
+                fromPos, pos, String.format(write, pos, fromPos));
+    }
+}
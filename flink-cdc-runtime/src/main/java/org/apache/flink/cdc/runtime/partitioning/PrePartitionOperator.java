@@ -28,7 +28,6 @@ import org.apache.flink.cdc.common.function.HashFunctionProvider;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.runtime.operators.schema.SchemaOperator;
 import org.apache.flink.cdc.runtime.operators.sink.SchemaEvolutionClient;
-import org.apache.flink.cdc.runtime.serializer.event.EventSerializer;
 import org.apache.flink.runtime.jobgraph.OperatorID;
 import org.apache.flink.runtime.jobgraph.tasks.TaskOperatorEventGateway;
 import org.apache.flink.runtime.state.StateSnapshotContext;
@@ -109,11 +108,13 @@ public class PrePartitionOperator extends AbstractStreamOperator<PartitioningEve
     }
 
     private void broadcastEvent(Event toBroadcast) {
+        // The payload is shared by all partitioning events instead of being deep-copied for each
+        // downstream subtask. The output of this operator is always shuffled by the custom
+        // partitioner, which never chains the downstream operator, so each record is serialized
+        // when it is collected and downstream subtasks never observe the same instance even when
+        // they run in the same JVM.
         for (int i = 0; i < downstreamParallelism; i++) {
-            // Deep-copying each event is required since downstream subTasks might run in the same
-            // JVM
-            Event copiedEvent = EventSerializer.INSTANCE.copy(toBroadcast);
-            output.collect(new StreamRecord<>(new PartitioningEvent(copiedEvent, i)));
+            output.collect(new StreamRecord<>(new PartitioningEvent(toBroadcast, i)));
         }
     }
 
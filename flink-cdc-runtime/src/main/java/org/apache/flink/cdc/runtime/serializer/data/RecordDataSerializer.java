@@ -57,6 +57,7 @@ public class RecordDataSerializer extends TypeSerializerSingleton<RecordData> {
 
     @Override
     public RecordData deserialize(RecordData reuse, DataInputView source) throws IOException {
+        // BinaryRecordData is the only implementation of RecordData
         return binarySerializer.deserialize((BinaryRecordData) reuse, source);
     }
 
@@ -74,7 +75,7 @@ public class RecordDataSerializer extends TypeSerializerSingleton<RecordData> {
 
     @Override
     public void copy(DataInputView source, DataOutputView target) throws IOException {
-        serialize(deserialize(source), target);
+        binarySerializer.copy(source, target);
     }
 
     @Override
@@ -88,24 +88,28 @@ public class BinaryRecordDataSerializer extends TypeSerializerSingleton<BinaryRe
         return row;
     }
 
+    /**
+     * Deserializes the record into the buffer of {@code reuse}, which is only allocated again if it
+     * is too small. A new {@link BinaryRecordData} pointing to that buffer is returned if the arity
+     * of {@code reuse} is different, because the layout of the fields depends on the arity.
+     */
     @Override
-    @SuppressWarnings("unused")
     public BinaryRecordData deserialize(BinaryRecordData reuse, DataInputView source)
             throws IOException {
-        MemorySegment[] segments = reuse.getSegments();
-        checkArgument(
-                segments == null || (segments.length == 1 && reuse.getOffset() == 0),
-                "Reuse BinaryRecordData should have no segments or only one segment and offset start at 0.");
-        // Note: arity is not used in BinaryRecordData, so we can ignore it here.But we still need
-        // to read it.
         int arity = source.readInt();
         int length = source.readInt();
-        if (segments == null || segments[0].size() < length) {
+        MemorySegment[] segments = reuse.getSegments();
+        if (segments == null
+                || segments.length != 1
+                || reuse.getOffset() != 0
+                || segments[0].isOffHeap()
+                || segments[0].size() < length) {
             segments = new MemorySegment[] {MemorySegmentFactory.wrap(new byte[length])};
         }
         source.readFully(segments[0].getArray(), 0, length);
-        reuse.pointTo(segments, 0, length);
-        return reuse;
+        BinaryRecordData row = reuse.getArity() == arity ? reuse : new BinaryRecordData(arity);
+        row.pointTo(segments, 0, length);
+        return row;
     }
 
     // ============================ Page related operations ===================================
@@ -141,6 +145,7 @@ public class BinaryRecordDataSerializer extends TypeSerializerSingleton<BinaryRe
 
     @Override
     public void copy(DataInputView source, DataOutputView target) throws IOException {
+        target.writeInt(source.readInt());
         int length = source.readInt();
         target.writeInt(length);
         target.write(source, length);
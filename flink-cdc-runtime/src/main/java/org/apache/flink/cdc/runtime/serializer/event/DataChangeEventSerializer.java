@@ -20,10 +20,10 @@ package org.apache.flink.cdc.runtime.serializer.event;
 import org.apache.flink.api.common.typeutils.SimpleTypeSerializerSnapshot;
 import org.apache.flink.api.common.typeutils.TypeSerializer;
 import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.OperationType;
 import org.apache.flink.cdc.common.event.TableId;
-import org.apache.flink.cdc.runtime.serializer.EnumSerializer;
 import org.apache.flink.cdc.runtime.serializer.MapSerializer;
 import org.apache.flink.cdc.runtime.serializer.NullableSerializerWrapper;
 import org.apache.flink.cdc.runtime.serializer.StringSerializer;
@@ -33,10 +33,21 @@ import org.apache.flink.cdc.runtime.serializer.data.RecordDataSerializer;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
 
-/** A {@link TypeSerializer} for {@link DataChangeEvent}. */
+/**
+ * A {@link TypeSerializer} for {@link DataChangeEvent}.
+ *
+ * <p>An event starts with a header byte, which packs the operation type, the number of parts of the
+ * {@link TableId} and whether the meta is null, empty or present, followed by the parts of the
+ * table id, the records and the meta if present. The highest bit of the header is always set, so
+ * that events serialized in the previous format, which starts with the operation type as an int,
+ * can still be deserialized.
+ */
 public class DataChangeEventSerializer extends TypeSerializerSingleton<DataChangeEvent> {
 
     private static final long serialVersionUID = 1L;
@@ -45,13 +56,24 @@ public class DataChangeEventSerializer extends TypeSerializerSingleton<DataChang
     public static final DataChangeEventSerializer INSTANCE = new DataChangeEventSerializer();
 
     private final TableIdSerializer tableIdSerializer = TableIdSerializer.INSTANCE;
+    private final MapSerializer<String, String> nonNullMetaSerializer =
+            new MapSerializer<>(StringSerializer.INSTANCE, StringSerializer.INSTANCE);
     private final TypeSerializer<Map<String, String>> metaSerializer =
-            new NullableSerializerWrapper<>(
-                    new MapSerializer<>(StringSerializer.INSTANCE, StringSerializer.INSTANCE));
-    private final EnumSerializer<OperationType> opSerializer =
-            new EnumSerializer<>(OperationType.class);
+            new NullableSerializerWrapper<>(nonNullMetaSerializer);
     private final RecordDataSerializer recordDataSerializer = RecordDataSerializer.INSTANCE;
 
+    private static final OperationType[] OPERATION_TYPES = OperationType.values();
+
+    // layout of the header byte: 1 (1 bit) | meta (2 bits) | table id parts (2 bits) | op (3 bits)
+    private static final int HEADER_FLAG = 0x80;
+    private static final int META_SHIFT = 5;
+    private static final int PARTS_SHIFT = 3;
+    private static final int OP_MASK = 0x07;
+
+    private static final int META_NULL = 0;
+    private static final int META_EMPTY = 1;
+    private static final int META_PRESENT = 2;
+
     @Override
     public DataChangeEvent createInstance() {
         return DataChangeEvent.deleteEvent(TableId.tableId("unknown"), null);
@@ -59,8 +81,21 @@ public class DataChangeEventSerializer extends TypeSerializerSingleton<DataChang
 
     @Override
     public void serialize(DataChangeEvent event, DataOutputView target) throws IOException {
-        opSerializer.serialize(event.op(), target);
-        tableIdSerializer.serialize(event.tableId(), target);
+        TableId tableId = event.tableId();
+        Map<String, String> meta = event.meta();
+        int parts = 1;
+        parts += tableId.getNamespace() == null ? 0 : 1;
+        parts += tableId.getSchemaName() == null ? 0 : 1;
+        int metaFlag = meta == null ? META_NULL : meta.isEmpty() ? META_EMPTY : META_PRESENT;
+        target.writeByte(
+                HEADER_FLAG | metaFlag << META_SHIFT | parts << PARTS_SHIFT | event.op().ordinal());
+        if (tableId.getNamespace() != null) {
+            target.writeUTF(tableId.getNamespace());
+        }
+        if (tableId.getSchemaName() != null) {
+            target.writeUTF(tableId.getSchemaName());
+        }
+        target.writeUTF(tableId.getTableName());
 
         if (event.before() != null) {
             recordDataSerializer.serialize(event.before(), target);
@@ -68,45 +103,114 @@ public class DataChangeEventSerializer extends TypeSerializerSingleton<DataChang
         if (event.after() != null) {
             recordDataSerializer.serialize(event.after(), target);
         }
-        metaSerializer.serialize(event.meta(), target);
+        if (metaFlag == META_PRESENT) {
+            nonNullMetaSerializer.serialize(meta, target);
+        }
     }
 
     @Override
     public DataChangeEvent deserialize(DataInputView source) throws IOException {
-        OperationType op = opSerializer.deserialize(source);
+        return deserialize(null, source);
+    }
+
+    /**
+     * Deserializes the event and reuses the {@link RecordData} of {@code reuse}, if any, whose
+     * buffers are overwritten by the records of the deserialized event.
+     */
+    @Override
+    public DataChangeEvent deserialize(@Nullable DataChangeEvent reuse, DataInputView source)
+            throws IOException {
+        int header = source.readUnsignedByte();
+        if ((header & HEADER_FLAG) == 0) {
+            return deserializeLegacy(header, source, reuse);
+        }
+        OperationType op = OPERATION_TYPES[header & OP_MASK];
+        int parts = (header >>> PARTS_SHIFT) & 0x03;
+        TableId tableId;
+        if (parts == 3) {
+            tableId = TableId.tableId(source.readUTF(), source.readUTF(), source.readUTF());
+        } else if (parts == 2) {
+            tableId = TableId.tableId(source.readUTF(), source.readUTF());
+        } else {
+            tableId = TableId.tableId(source.readUTF());
+        }
+        int metaFlag = (header >>> META_SHIFT) & 0x03;
+        return createEvent(op, tableId, source, metaFlag, reuse);
+    }
+
+    /** Deserializes an event whose first byte is the highest byte of the operation type. */
+    private DataChangeEvent deserializeLegacy(
+            int firstByte, DataInputView source, @Nullable DataChangeEvent reuse)
+            throws IOException {
+        int ordinal =
+                firstByte << 24
+                        | source.readUnsignedByte() << 16
+                        | source.readUnsignedByte() << 8
+                        | source.readUnsignedByte();
+        OperationType op = OPERATION_TYPES[ordinal];
         TableId tableId = tableIdSerializer.deserialize(source);
+        return createEvent(op, tableId, source, -1, reuse);
+    }
 
+    /**
+     * Reads the records and the meta of an event, where the meta of the previous format is
+     * serialized as a nullable map, which is marked by a negative {@code metaFlag}.
+     */
+    private DataChangeEvent createEvent(
+            OperationType op,
+            TableId tableId,
+            DataInputView source,
+            int metaFlag,
+            @Nullable DataChangeEvent reuse)
+            throws IOException {
+        RecordData reuseBefore = reuse == null ? null : reuse.before();
+        RecordData reuseAfter = reuse == null ? null : reuse.after();
         switch (op) {
             case DELETE:
                 return DataChangeEvent.deleteEvent(
                         tableId,
-                        recordDataSerializer.deserialize(source),
-                        metaSerializer.deserialize(source));
+                        deserializeRecord(source, reuseBefore != null ? reuseBefore : reuseAfter),
+                        deserializeMeta(source, metaFlag));
             case INSERT:
                 return DataChangeEvent.insertEvent(
                         tableId,
-                        recordDataSerializer.deserialize(source),
-                        metaSerializer.deserialize(source));
+                        deserializeRecord(source, reuseAfter != null ? reuseAfter : reuseBefore),
+                        deserializeMeta(source, metaFlag));
             case UPDATE:
                 return DataChangeEvent.updateEvent(
                         tableId,
-                        recordDataSerializer.deserialize(source),
-                        recordDataSerializer.deserialize(source),
-                        metaSerializer.deserialize(source));
+                        deserializeRecord(source, reuseBefore),
+                        deserializeRecord(source, reuseAfter != reuseBefore ? reuseAfter : null),
+                        deserializeMeta(source, metaFlag));
             case REPLACE:
                 return DataChangeEvent.replaceEvent(
                         tableId,
-                        recordDataSerializer.deserialize(source),
-                        metaSerializer.deserialize(source));
+                        deserializeRecord(source, reuseAfter != null ? reuseAfter : reuseBefore),
+                        deserializeMeta(source, metaFlag));
             default:
                 throw new IllegalArgumentException("Unsupported data change event: " + op);
         }
     }
 
-    @Override
-    public DataChangeEvent deserialize(DataChangeEvent reuse, DataInputView source)
+    private RecordData deserializeRecord(DataInputView source, @Nullable RecordData reuse)
             throws IOException {
-        return deserialize(source);
+        return reuse == null
+                ? recordDataSerializer.deserialize(source)
+                : recordDataSerializer.deserialize(reuse, source);
+    }
+
+    private Map<String, String> deserializeMeta(DataInputView source, int metaFlag)
+            throws IOException {
+        switch (metaFlag) {
+            case META_NULL:
+                return null;
+            case META_EMPTY:
+                return Collections.emptyMap();
+            case META_PRESENT:
+                return nonNullMetaSerializer.deserialize(source);
+            default:
+                return metaSerializer.deserialize(source);
+        }
     }
 
     @Override
@@ -146,7 +250,26 @@ public class DataChangeEventSerializer extends TypeSerializerSingleton<DataChang
 
     @Override
     public void copy(DataInputView source, DataOutputView target) throws IOException {
-        serialize(deserialize(source), target);
+        int header = source.readUnsignedByte();
+        if ((header & HEADER_FLAG) == 0) {
+            serialize(deserializeLegacy(header, source, null), target);
+            return;
+        }
+        target.writeByte(header);
+        int parts = (header >>> PARTS_SHIFT) & 0x03;
+        for (int i = 0; i < parts; i++) {
+            // the length of a string written by writeUTF, followed by its bytes
+            int length = source.readUnsignedShort();
+            target.writeShort(length);
+            target.write(source, length);
+        }
+        recordDataSerializer.copy(source, target);
+        if (OPERATION_TYPES[header & OP_MASK] == OperationType.UPDATE) {
+            recordDataSerializer.copy(source, target);
+        }
+        if (((header >>> META_SHIFT) & 0x03) == META_PRESENT) {
+            nonNullMetaSerializer.copy(source, target);
+        }
     }
 
     @Override
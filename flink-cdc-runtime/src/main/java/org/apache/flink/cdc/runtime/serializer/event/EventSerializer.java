@@ -98,12 +98,36 @@ public final class EventSerializer extends TypeSerializerSingleton<Event> {
 
     @Override
     public Event deserialize(DataInputView source) throws IOException {
+        return deserialize(null, source);
+    }
+
+    @Override
+    public Event deserialize(Event reuse, DataInputView source) throws IOException {
         EventClass eventClass = enumSerializer.deserialize(source);
+        if (eventClass == EventClass.DATA_CHANGE_EVENT) {
+            return dataChangeEventSerializer.deserialize(
+                    reuse instanceof DataChangeEvent ? (DataChangeEvent) reuse : null, source);
+        }
+        return deserializeNonDataChangeEvent(eventClass, source);
+    }
+
+    @Override
+    public void copy(DataInputView source, DataOutputView target) throws IOException {
+        EventClass eventClass = enumSerializer.deserialize(source);
+        if (eventClass == EventClass.DATA_CHANGE_EVENT) {
+            // data change events are copied without being deserialized
+            enumSerializer.serialize(eventClass, target);
+            dataChangeEventSerializer.copy(source, target);
+        } else {
+            serialize(deserializeNonDataChangeEvent(eventClass, source), target);
+        }
+    }
+
+    private Event deserializeNonDataChangeEvent(EventClass eventClass, DataInputView source)
+            throws IOException {
         switch (eventClass) {
             case FLUSH_EVENT:
                 return new FlushEvent(tableIdSerializer.deserialize(source));
-            case DATA_CHANGE_EVENT:
-                return dataChangeEventSerializer.deserialize(source);
             case SCHEME_CHANGE_EVENT:
                 return schemaChangeEventSerializer.deserialize(source);
             default:
@@ -111,16 +135,6 @@ public final class EventSerializer extends TypeSerializerSingleton<Event> {
         }
     }
 
-    @Override
-    public Event deserialize(Event reuse, DataInputView source) throws IOException {
-        return deserialize(source);
-    }
-
-    @Override
-    public void copy(DataInputView source, DataOutputView target) throws IOException {
-        serialize(deserialize(source), target);
-    }
-
     @Override
     public TypeSerializerSnapshot<Event> snapshotConfiguration() {
         return new EventSerializerSnapshot();
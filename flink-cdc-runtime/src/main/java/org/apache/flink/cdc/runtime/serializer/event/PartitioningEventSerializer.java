@@ -78,13 +78,16 @@ public class PartitioningEventSerializer extends TypeSerializerSingleton<Partiti
     @Override
     public PartitioningEvent deserialize(PartitioningEvent reuse, DataInputView source)
             throws IOException {
-        return deserialize(source);
+        Event payload =
+                eventSerializer.deserialize(reuse == null ? null : reuse.getPayload(), source);
+        int targetPartition = source.readInt();
+        return new PartitioningEvent(payload, targetPartition);
     }
 
     @Override
     public void copy(DataInputView source, DataOutputView target) throws IOException {
-        PartitioningEvent deserialized = deserialize(source);
-        serialize(deserialized, target);
+        eventSerializer.copy(source, target);
+        target.writeInt(source.readInt());
     }
 
     @Override
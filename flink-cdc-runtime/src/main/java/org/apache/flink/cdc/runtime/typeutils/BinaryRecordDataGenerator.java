@@ -75,11 +75,13 @@ public class BinaryRecordDataGenerator {
      * <p>Note: All fields of the record must be internal data structures. See {@link RecordData}.
      */
     public BinaryRecordData generate(Object[] rowFields) {
-        checkArgument(
-                dataTypes.length == rowFields.length,
-                String.format(
-                        "The types and values must have the same length. But types is %d and values is %d",
-                        dataTypes.length, rowFields.length));
+        // Avoid formatting the error message for every record
+        if (dataTypes.length != rowFields.length) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The types and values must have the same length. But types is %d and values is %d",
+                            dataTypes.length, rowFields.length));
+        }
 
         reuseWriter.reset();
         for (int i = 0; i < dataTypes.length; i++) {
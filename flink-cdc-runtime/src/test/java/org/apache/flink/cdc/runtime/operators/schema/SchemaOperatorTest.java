@@ -17,14 +17,26 @@
 
 package org.apache.flink.cdc.runtime.operators.schema;
 
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.StringData;
 import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.route.RouteRule;
+import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
 import org.apache.flink.cdc.common.types.DataTypes;
 import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.common.utils.SchemaUtils;
+import org.apache.flink.cdc.runtime.operators.schema.coordinator.SchemaRegistry;
+import org.apache.flink.cdc.runtime.operators.schema.event.FlushSuccessEvent;
+import org.apache.flink.cdc.runtime.operators.schema.event.SchemaChangeRequest;
+import org.apache.flink.cdc.runtime.operators.schema.event.SchemaChangeResponse;
+import org.apache.flink.cdc.runtime.operators.schema.event.SchemaChangeResultRequest;
 import org.apache.flink.cdc.runtime.serializer.event.EventSerializer;
 import org.apache.flink.cdc.runtime.testutils.operators.EventOperatorTestHarness;
 import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
@@ -39,13 +51,16 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
+import static org.apache.flink.cdc.runtime.operators.schema.event.CoordinationResponseUtils.unwrap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Unit tests for the {@link SchemaOperator}. */
 public class SchemaOperatorTest {
@@ -60,6 +75,31 @@ public class SchemaOperatorTest {
                     .primaryKey("id")
                     .build();
 
+    private static final TableId CUSTOMERS_1 =
+            TableId.tableId("my_company", "my_branch", "customers_1");
+    private static final Schema CUSTOMERS_1_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .primaryKey("id")
+                    .build();
+    private static final TableId CUSTOMERS_2 =
+            TableId.tableId("my_company", "my_branch", "customers_2");
+    private static final Schema CUSTOMERS_2_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("id", DataTypes.BIGINT())
+                    .primaryKey("id")
+                    .build();
+    private static final TableId MERGED_CUSTOMERS =
+            TableId.tableId("my_company", "my_branch", "merged_customers");
+    private static final List<RouteRule> MERGING_ROUTES =
+            Collections.singletonList(
+                    new RouteRule(
+                            "my_company.my_branch.customers_[0-9]",
+                            MERGED_CUSTOMERS.toString(),
+                            null));
+
     @Test
     void testProcessElement() throws Exception {
         final int maxParallelism = 4;
@@ -123,6 +163,9 @@ public class SchemaOperatorTest {
                         schemaOperator.processElement(
                                 new StreamRecord<>(
                                         new CreateTableEvent(CUSTOMERS, CUSTOMERS_SCHEMA))));
+        // the timed out schema change blocked the stream as well
+        assertThat(schemaOperator.getSchemaOperatorMetrics().getTotalSchemaChangeBlockedTime())
+                .isGreaterThanOrEqualTo(1000L);
         harness.close();
     }
 
@@ -141,6 +184,218 @@ public class SchemaOperatorTest {
         harness.close();
     }
 
+    @Test
+    void testProcessSchemaChangeEventWhenRegistryIsBusy() throws Exception {
+        SchemaOperator schemaOperator =
+                new SchemaOperator(new ArrayList<>(), Duration.ofSeconds(3));
+        EventOperatorTestHarness<SchemaOperator, Event> harness =
+                new EventOperatorTestHarness<>(schemaOperator, 1, Duration.ofSeconds(2));
+        harness.open();
+        schemaOperator.processElement(
+                new StreamRecord<>(new CreateTableEvent(CUSTOMERS, CUSTOMERS_SCHEMA)));
+
+        // Another subTask changes the schema of the table, which keeps the registry busy for
+        // about 2 seconds
+        SchemaRegistry schemaRegistry = harness.getSchemaRegistry();
+        AddColumnEvent addEmail =
+                new AddColumnEvent(
+                        CUSTOMERS,
+                        Collections.singletonList(
+                                new AddColumnEvent.ColumnWithPosition(
+                                        Column.physicalColumn("email", DataTypes.STRING()))));
+        assertThat(
+                        ((SchemaChangeResponse)
+                                        unwrap(
+                                                schemaRegistry
+                                                        .handleCoordinationRequest(
+                                                                new SchemaChangeRequest(
+                                                                        CUSTOMERS, addEmail, 1))
+                                                        .get()))
+                                .isAccepted())
+                .isTrue();
+        schemaRegistry.handleEventFromOperator(0, 0, new FlushSuccessEvent(0, CUSTOMERS));
+        schemaRegistry.handleCoordinationRequest(new SchemaChangeResultRequest(1));
+
+        // Waiting for the registry and applying the schema change take about 2 seconds each,
+        // which are both within the RPC timeout, while the sum of them is not
+        AddColumnEvent addAddress =
+                new AddColumnEvent(
+                        CUSTOMERS,
+                        Collections.singletonList(
+                                new AddColumnEvent.ColumnWithPosition(
+                                        Column.physicalColumn("address", DataTypes.STRING()))));
+        Assertions.assertDoesNotThrow(
+                () -> schemaOperator.processElement(new StreamRecord<>(addAddress)));
+        assertThat(harness.getLatestEvolvedSchema(CUSTOMERS).getColumnNames())
+                .containsExactly("id", "name", "phone", "email", "address");
+        harness.close();
+    }
+
+    @Test
+    void testNormalizeMergedTables() throws Exception {
+        SchemaOperator schemaOperator = new SchemaOperator(MERGING_ROUTES, Duration.ofSeconds(30));
+        EventOperatorTestHarness<SchemaOperator, Event> harness =
+                new EventOperatorTestHarness<>(
+                        schemaOperator, 1, Duration.ofSeconds(3), MERGING_ROUTES);
+        harness.open();
+
+        // The first table is forwarded as it is, since the merged table has its schema
+        processEvent(schemaOperator, new CreateTableEvent(CUSTOMERS_1, CUSTOMERS_1_SCHEMA));
+        processEvent(
+                schemaOperator,
+                DataChangeEvent.insertEvent(
+                        CUSTOMERS_1, record(CUSTOMERS_1_SCHEMA, 1, "Alice"), new HashMap<>()));
+        assertThat(mergedRows(harness)).containsExactly(Arrays.asList(1, "Alice"));
+
+        // The second table widens the id column and lists its columns in another order
+        processEvent(schemaOperator, new CreateTableEvent(CUSTOMERS_2, CUSTOMERS_2_SCHEMA));
+        assertThat(harness.getLatestEvolvedSchema(MERGED_CUSTOMERS).getColumns())
+                .containsExactly(
+                        Column.physicalColumn("id", DataTypes.BIGINT()),
+                        Column.physicalColumn("name", DataTypes.STRING()));
+        processEvent(
+                schemaOperator,
+                DataChangeEvent.insertEvent(
+                        CUSTOMERS_2, record(CUSTOMERS_2_SCHEMA, "Bob", 2L), new HashMap<>()));
+        processEvent(
+                schemaOperator,
+                DataChangeEvent.updateEvent(
+                        CUSTOMERS_1,
+                        record(CUSTOMERS_1_SCHEMA, 1, "Alice"),
+                        record(CUSTOMERS_1_SCHEMA, 1, "Carol"),
+                        new HashMap<>()));
+        assertThat(mergedRows(harness))
+                .containsExactly(
+                        Arrays.asList(2L, "Bob"),
+                        Arrays.asList(1L, "Alice"),
+                        Arrays.asList(1L, "Carol"));
+        harness.close();
+    }
+
+    @Test
+    void testRebuildNormalizationPlanAfterSchemaChange() throws Exception {
+        SchemaOperator schemaOperator = new SchemaOperator(MERGING_ROUTES, Duration.ofSeconds(30));
+        EventOperatorTestHarness<SchemaOperator, Event> harness =
+                new EventOperatorTestHarness<>(
+                        schemaOperator, 1, Duration.ofSeconds(3), MERGING_ROUTES);
+        harness.open();
+        processEvent(schemaOperator, new CreateTableEvent(CUSTOMERS_1, CUSTOMERS_1_SCHEMA));
+        processEvent(schemaOperator, new CreateTableEvent(CUSTOMERS_2, CUSTOMERS_2_SCHEMA));
+        processEvent(
+                schemaOperator,
+                DataChangeEvent.insertEvent(
+                        CUSTOMERS_2, record(CUSTOMERS_2_SCHEMA, "Bob", 2L), new HashMap<>()));
+        assertThat(mergedRows(harness)).containsExactly(Arrays.asList(2L, "Bob"));
+
+        // The cached plan of the second table must pick up the column added by the first table
+        processEvent(
+                schemaOperator,
+                new AddColumnEvent(
+                        CUSTOMERS_1,
+                        Collections.singletonList(
+                                new AddColumnEvent.ColumnWithPosition(
+                                        Column.physicalColumn("phone", DataTypes.BIGINT())))));
+        Schema customers1Schema =
+                CUSTOMERS_1_SCHEMA.copy(
+                        Arrays.asList(
+                                Column.physicalColumn("id", DataTypes.INT()),
+                                Column.physicalColumn("name", DataTypes.STRING()),
+                                Column.physicalColumn("phone", DataTypes.BIGINT())));
+        processEvent(
+                schemaOperator,
+                DataChangeEvent.insertEvent(
+                        CUSTOMERS_2, record(CUSTOMERS_2_SCHEMA, "Dave", 4L), new HashMap<>()));
+        processEvent(
+                schemaOperator,
+                DataChangeEvent.insertEvent(
+                        CUSTOMERS_1, record(customers1Schema, 5, "Eve", 12345L), new HashMap<>()));
+        assertThat(mergedRows(harness))
+                .containsExactly(Arrays.asList(4L, "Dave", null), Arrays.asList(5L, "Eve", 12345L));
+        harness.close();
+    }
+
+    @Test
+    void testNormalizationPlanInTolerantMode() {
+        Schema originalSchema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT())
+                        .physicalColumn("score", DataTypes.FLOAT())
+                        .primaryKey("id")
+                        .build();
+        Schema evolvedSchema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.BIGINT())
+                        .physicalColumn("score", DataTypes.BIGINT())
+                        .physicalColumn("name", DataTypes.STRING())
+                        .primaryKey("id")
+                        .build();
+        RecordData record = record(originalSchema, 1, 99.5f);
+
+        // A FLOAT doesn't fit into a BIGINT column, which is filled with null in tolerant mode
+        SchemaOperator.SchemaNormalizationPlan tolerantPlan =
+                new SchemaOperator.SchemaNormalizationPlan(originalSchema, evolvedSchema, true);
+        assertThat(tolerantPlan.isIdentity()).isFalse();
+        assertThat(fields(evolvedSchema, tolerantPlan.normalize(record)))
+                .containsExactly(1L, null, null);
+
+        SchemaOperator.SchemaNormalizationPlan strictPlan =
+                new SchemaOperator.SchemaNormalizationPlan(originalSchema, evolvedSchema, false);
+        assertThatThrownBy(() -> strictPlan.normalize(record))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("into a BIGINT column");
+
+        assertThat(
+                        new SchemaOperator.SchemaNormalizationPlan(
+                                        originalSchema, originalSchema, false)
+                                .isIdentity())
+                .isTrue();
+    }
+
+    private static void processEvent(SchemaOperator schemaOperator, Event event) throws Exception {
+        schemaOperator.processElement(new StreamRecord<>(event));
+    }
+
+    /** Returns the fields of the data changes emitted to the merged table, and clears them. */
+    private static List<List<Object>> mergedRows(
+            EventOperatorTestHarness<SchemaOperator, Event> harness) throws Exception {
+        Schema mergedSchema = harness.getLatestEvolvedSchema(MERGED_CUSTOMERS);
+        List<List<Object>> rows = new ArrayList<>();
+        for (StreamRecord<Event> record : harness.getOutputRecords()) {
+            if (record.getValue() instanceof DataChangeEvent) {
+                DataChangeEvent event = (DataChangeEvent) record.getValue();
+                assertThat(event.tableId()).isEqualTo(MERGED_CUSTOMERS);
+                if (event.before() != null) {
+                    rows.add(fields(mergedSchema, event.before()));
+                }
+                if (event.after() != null) {
+                    rows.add(fields(mergedSchema, event.after()));
+                }
+            }
+        }
+        harness.clearOutputRecords();
+        return rows;
+    }
+
+    private static List<Object> fields(Schema schema, RecordData recordData) {
+        return SchemaUtils.createFieldGetters(schema).stream()
+                .map(getter -> getter.getFieldOrNull(recordData))
+                .map(field -> field instanceof StringData ? field.toString() : field)
+                .collect(Collectors.toList());
+    }
+
+    private static RecordData record(Schema schema, Object... fields) {
+        return new BinaryRecordDataGenerator(schema.getColumnDataTypes().toArray(new DataType[0]))
+                .generate(
+                        Arrays.stream(fields)
+                                .map(
+                                        field ->
+                                                field instanceof String
+                                                        ? BinaryStringData.fromString(
+                                                                (String) field)
+                                                        : field)
+                                .toArray());
+    }
+
     private OneInputStreamOperatorTestHarness<Event, Event> createTestHarness(
             int maxParallelism, int parallelism, int subtaskIndex, OperatorID opID)
             throws Exception {
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.schema.coordinator;
+
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.pipeline.SchemaChangeBehavior;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.runtime.operators.schema.event.FlushSuccessEvent;
+import org.apache.flink.cdc.runtime.operators.schema.event.GetEvolvedSchemaRequest;
+import org.apache.flink.cdc.runtime.operators.schema.event.SchemaChangeRequest;
+import org.apache.flink.cdc.runtime.operators.schema.event.SchemaChangeResponse;
+import org.apache.flink.cdc.runtime.operators.schema.event.SchemaChangeResultRequest;
+import org.apache.flink.cdc.runtime.operators.schema.event.SchemaChangeResultResponse;
+import org.apache.flink.cdc.runtime.operators.schema.event.SinkWriterRegisterEvent;
+import org.apache.flink.cdc.runtime.testutils.operators.MockedOperatorCoordinatorContext;
+import org.apache.flink.cdc.runtime.testutils.schema.CollectingMetadataApplier;
+import org.apache.flink.runtime.jobgraph.OperatorID;
+import org.apache.flink.runtime.operators.coordination.CoordinationResponse;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.flink.cdc.runtime.operators.schema.event.CoordinationResponseUtils.unwrap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit test for {@link SchemaRegistry}. */
+class SchemaRegistryTest {
+    private static final TableId CUSTOMERS =
+            TableId.tableId("my_company", "my_branch", "customers");
+    private static final Schema CUSTOMERS_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("phone", DataTypes.BIGINT())
+                    .primaryKey("id")
+                    .build();
+
+    private static final TableId PRODUCTS = TableId.tableId("my_company", "my_branch", "products");
+    private static final Schema PRODUCTS_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("description", DataTypes.STRING())
+                    .primaryKey("id")
+                    .build();
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Test
+    void testSchemaChangeRequestsOfDifferentTablesAreBatched() throws Exception {
+        CollectingMetadataApplier metadataApplier = new CollectingMetadataApplier(null);
+        SchemaRegistry schemaRegistry =
+                new SchemaRegistry(
+                        "SchemaOperator",
+                        new MockedOperatorCoordinatorContext(
+                                new OperatorID(), Thread.currentThread().getContextClassLoader()),
+                        Executors.newSingleThreadExecutor(),
+                        metadataApplier,
+                        new ArrayList<>(),
+                        SchemaChangeBehavior.EVOLVE);
+        schemaRegistry.start();
+        schemaRegistry.handleEventFromOperator(0, 0, new SinkWriterRegisterEvent(0));
+
+        CreateTableEvent createCustomers = new CreateTableEvent(CUSTOMERS, CUSTOMERS_SCHEMA);
+        CreateTableEvent createProducts = new CreateTableEvent(PRODUCTS, PRODUCTS_SCHEMA);
+        SchemaChangeResponse customersResponse =
+                getResponse(
+                        schemaRegistry.handleCoordinationRequest(
+                                new SchemaChangeRequest(CUSTOMERS, createCustomers, 0)));
+        assertThat(customersResponse.isAccepted()).isTrue();
+
+        // The request of another table from another subTask joins the current flush round
+        SchemaChangeResponse productsResponse =
+                getResponse(
+                        schemaRegistry.handleCoordinationRequest(
+                                new SchemaChangeRequest(PRODUCTS, createProducts, 1)));
+        assertThat(productsResponse.isAccepted()).isTrue();
+
+        // The request of a table in the current flush round is held until the round finishes
+        CompletableFuture<CoordinationResponse> conflictingFuture =
+                schemaRegistry.handleCoordinationRequest(
+                        new SchemaChangeRequest(CUSTOMERS, createCustomers, 2));
+        CompletableFuture<CoordinationResponse> customersResultFuture =
+                schemaRegistry.handleCoordinationRequest(new SchemaChangeResultRequest(0));
+        CompletableFuture<CoordinationResponse> productsResultFuture =
+                schemaRegistry.handleCoordinationRequest(new SchemaChangeResultRequest(1));
+
+        // The round is applied only after all tables in it have been flushed
+        schemaRegistry.handleEventFromOperator(0, 0, new FlushSuccessEvent(0, CUSTOMERS));
+        waitForEventLoop(schemaRegistry);
+        assertThat(conflictingFuture).isNotDone();
+        assertThat(customersResultFuture).isNotDone();
+        assertThat(productsResultFuture).isNotDone();
+        assertThat(metadataApplier.getSchemaChangeEvents()).isEmpty();
+
+        schemaRegistry.handleEventFromOperator(0, 0, new FlushSuccessEvent(0, PRODUCTS));
+        assertThat(
+                        this.<SchemaChangeResultResponse>getResponse(customersResultFuture)
+                                .getFinishedSchemaChangeEvents())
+                .containsExactly(createCustomers);
+        assertThat(
+                        this.<SchemaChangeResultResponse>getResponse(productsResultFuture)
+                                .getFinishedSchemaChangeEvents())
+                .containsExactly(createProducts);
+        assertThat(metadataApplier.getSchemaChangeEvents())
+                .containsExactly(createCustomers, createProducts);
+
+        // The held request is handled as soon as the round finishes
+        assertThat(this.<SchemaChangeResponse>getResponse(conflictingFuture).isDuplicate())
+                .isTrue();
+        schemaRegistry.close();
+    }
+
+    @Test
+    void testResultRequestIsHeldUntilSchemaChangeApplied() throws Exception {
+        CollectingMetadataApplier metadataApplier =
+                new CollectingMetadataApplier(Duration.ofSeconds(1));
+        SchemaRegistry schemaRegistry =
+                new SchemaRegistry(
+                        "SchemaOperator",
+                        new MockedOperatorCoordinatorContext(
+                                new OperatorID(), Thread.currentThread().getContextClassLoader()),
+                        Executors.newSingleThreadExecutor(),
+                        metadataApplier,
+                        new ArrayList<>(),
+                        SchemaChangeBehavior.EVOLVE);
+        schemaRegistry.start();
+        schemaRegistry.handleEventFromOperator(0, 0, new SinkWriterRegisterEvent(0));
+
+        CreateTableEvent createCustomers = new CreateTableEvent(CUSTOMERS, CUSTOMERS_SCHEMA);
+        assertThat(
+                        this.<SchemaChangeResponse>getResponse(
+                                        schemaRegistry.handleCoordinationRequest(
+                                                new SchemaChangeRequest(
+                                                        CUSTOMERS, createCustomers, 0)))
+                                .isAccepted())
+                .isTrue();
+        schemaRegistry.handleEventFromOperator(0, 0, new FlushSuccessEvent(0, CUSTOMERS));
+
+        // The result is answered once applied, instead of a processing response to poll again
+        assertThat(
+                        this.<SchemaChangeResultResponse>getResponse(
+                                        schemaRegistry.handleCoordinationRequest(
+                                                new SchemaChangeResultRequest(0)))
+                                .getFinishedSchemaChangeEvents())
+                .isEqualTo(Collections.singletonList(createCustomers));
+        schemaRegistry.close();
+    }
+
+    private <R extends CoordinationResponse> R getResponse(
+            CompletableFuture<CoordinationResponse> future) throws Exception {
+        return unwrap(future.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    /** Waits until all events submitted to the event loop before have been processed. */
+    private void waitForEventLoop(SchemaRegistry schemaRegistry) throws Exception {
+        schemaRegistry
+                .handleCoordinationRequest(
+                        new GetEvolvedSchemaRequest(
+                                CUSTOMERS, GetEvolvedSchemaRequest.LATEST_SCHEMA_VERSION))
+                .get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
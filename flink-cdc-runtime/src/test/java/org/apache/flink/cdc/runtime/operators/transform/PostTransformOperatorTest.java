@@ -17,16 +17,21 @@
 
 package org.apache.flink.cdc.runtime.operators.transform;
 
+import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.cdc.common.data.DecimalData;
 import org.apache.flink.cdc.common.data.TimestampData;
 import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
 import org.apache.flink.cdc.common.types.DataTypes;
 import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.common.udf.UserDefinedFunction;
 import org.apache.flink.cdc.runtime.testutils.operators.EventOperatorTestHarness;
 import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
@@ -35,7 +40,9 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.shaded.com.google.common.collect.ImmutableMap;
 
+import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
+import java.util.Collections;
 
 /** Unit tests for the {@link PostTransformOperator}. */
 public class PostTransformOperatorTest {
@@ -96,6 +103,23 @@ public class PostTransformOperatorTest {
                     .primaryKey("sid")
                     .build();
 
+    private static final TableId METADATA_FIRST_TABLEID =
+            TableId.tableId("my_company", "my_branch", "metadata_first_table");
+    private static final Schema METADATA_FIRST_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("sid", DataTypes.INT())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .primaryKey("sid")
+                    .build();
+    private static final Schema EXPECTED_METADATA_FIRST_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("op", DataTypes.STRING())
+                    .physicalColumn("tag", DataTypes.STRING())
+                    .physicalColumn("sid", DataTypes.INT())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .primaryKey("sid")
+                    .build();
+
     private static final TableId TIMESTAMP_TABLEID =
             TableId.tableId("my_company", "my_branch", "timestamp_table");
     private static final Schema TIMESTAMP_SCHEMA =
@@ -226,6 +250,15 @@ public class PostTransformOperatorTest {
                     .options(ImmutableMap.of("key1", "value1", "key2", "value2"))
                     .build();
 
+    private static final TableId PLAN_TABLEID =
+            TableId.tableId("my_company", "my_branch", "plan_table");
+    private static final Schema PLAN_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .primaryKey("id")
+                    .build();
+
     private static final TableId COLUMN_SQUARE_TABLE =
             TableId.tableId("my_company", "my_branch", "column_square");
     private static final Schema COLUMN_SQUARE_SCHEMA =
@@ -238,12 +271,22 @@ public class PostTransformOperatorTest {
 
     @Test
     void testDataChangeEventTransform() throws Exception {
+        testDataChangeEventTransform(false);
+    }
+
+    @Test
+    void testDataChangeEventTransformWithCodegen() throws Exception {
+        testDataChangeEventTransform(true);
+    }
+
+    private void testDataChangeEventTransform(boolean codegenEnabled) throws Exception {
         PostTransformOperator transform =
                 PostTransformOperator.newBuilder()
                         .addTransform(
                                 CUSTOMERS_TABLEID.identifier(),
                                 "*, concat(col1,col2) col12",
                                 "col1 = '1'")
+                        .enableCodegen(codegenEnabled)
                         .build();
         EventOperatorTestHarness<PostTransformOperator, Event>
                 transformFunctionEventEventOperatorTestHarness =
@@ -326,6 +369,15 @@ public class PostTransformOperatorTest {
 
     @Test
     void testDataChangeEventTransformTwice() throws Exception {
+        testDataChangeEventTransformTwice(false);
+    }
+
+    @Test
+    void testDataChangeEventTransformTwiceWithCodegen() throws Exception {
+        testDataChangeEventTransformTwice(true);
+    }
+
+    private void testDataChangeEventTransformTwice(boolean codegenEnabled) throws Exception {
         PostTransformOperator transform =
                 PostTransformOperator.newBuilder()
                         .addTransform(
@@ -336,6 +388,7 @@ public class PostTransformOperatorTest {
                                 CUSTOMERS_TABLEID.identifier(),
                                 "*, concat(col1, '2') col12",
                                 "col1 = '2'")
+                        .enableCodegen(codegenEnabled)
                         .build();
         EventOperatorTestHarness<PostTransformOperator, Event>
                 transformFunctionEventEventOperatorTestHarness =
@@ -477,12 +530,22 @@ public class PostTransformOperatorTest {
 
     @Test
     void testMetadataTransform() throws Exception {
+        testMetadataTransform(false);
+    }
+
+    @Test
+    void testMetadataTransformWithCodegen() throws Exception {
+        testMetadataTransform(true);
+    }
+
+    private void testMetadataTransform(boolean codegenEnabled) throws Exception {
         PostTransformOperator transform =
                 PostTransformOperator.newBuilder()
                         .addTransform(
                                 METADATA_TABLEID.identifier(),
                                 "*, __namespace_name__ || '.' || __schema_name__ || '.' || __table_name__ identifier_name, __namespace_name__, __schema_name__, __table_name__",
                                 " __table_name__ = 'metadata_table' ")
+                        .enableCodegen(codegenEnabled)
                         .build();
         EventOperatorTestHarness<PostTransformOperator, Event>
                 transformFunctionEventEventOperatorTestHarness =
@@ -570,6 +633,115 @@ public class PostTransformOperatorTest {
                 .isEqualTo(new StreamRecord<>(insertEventExpect));
     }
 
+    @Test
+    void testMetadataBeforePhysicalColumnsTransform() throws Exception {
+        testMetadataBeforePhysicalColumnsTransform(false);
+    }
+
+    @Test
+    void testMetadataBeforePhysicalColumnsTransformWithCodegen() throws Exception {
+        testMetadataBeforePhysicalColumnsTransform(true);
+    }
+
+    private void testMetadataBeforePhysicalColumnsTransform(boolean codegenEnabled)
+            throws Exception {
+        // the metadata columns are referenced before the physical columns in every expression
+        PostTransformOperator transform =
+                PostTransformOperator.newBuilder()
+                        .addTransform(
+                                METADATA_FIRST_TABLEID.identifier(),
+                                "__data_event_type__ AS op, __table_name__ || ':' || __data_event_type__ || ':' || name AS tag, sid, name",
+                                "__table_name__ = 'metadata_first_table' AND __data_event_type__ <> '-D' AND sid > 0")
+                        .enableCodegen(codegenEnabled)
+                        .build();
+        EventOperatorTestHarness<PostTransformOperator, Event>
+                transformFunctionEventEventOperatorTestHarness =
+                        new EventOperatorTestHarness<>(transform, 1);
+        // Initialization
+        transformFunctionEventEventOperatorTestHarness.open();
+        // Create table
+        CreateTableEvent createTableEvent =
+                new CreateTableEvent(METADATA_FIRST_TABLEID, METADATA_FIRST_SCHEMA);
+        BinaryRecordDataGenerator recordDataGenerator =
+                new BinaryRecordDataGenerator(((RowType) METADATA_FIRST_SCHEMA.toRowDataType()));
+        BinaryRecordDataGenerator expectedRecordDataGenerator =
+                new BinaryRecordDataGenerator(
+                        ((RowType) EXPECTED_METADATA_FIRST_SCHEMA.toRowDataType()));
+        // Insert
+        DataChangeEvent insertEvent =
+                DataChangeEvent.insertEvent(
+                        METADATA_FIRST_TABLEID,
+                        recordDataGenerator.generate(
+                                new Object[] {1, new BinaryStringData("abc")}));
+        DataChangeEvent insertEventExpect =
+                DataChangeEvent.insertEvent(
+                        METADATA_FIRST_TABLEID,
+                        expectedRecordDataGenerator.generate(
+                                new Object[] {
+                                    new BinaryStringData("+I"),
+                                    new BinaryStringData("metadata_first_table:+I:abc"),
+                                    1,
+                                    new BinaryStringData("abc")
+                                }));
+        // Insert, which is filtered out by the physical column
+        DataChangeEvent filteredInsertEvent =
+                DataChangeEvent.insertEvent(
+                        METADATA_FIRST_TABLEID,
+                        recordDataGenerator.generate(
+                                new Object[] {0, new BinaryStringData("def")}));
+        // Update
+        DataChangeEvent updateEvent =
+                DataChangeEvent.updateEvent(
+                        METADATA_FIRST_TABLEID,
+                        recordDataGenerator.generate(new Object[] {1, new BinaryStringData("abc")}),
+                        recordDataGenerator.generate(
+                                new Object[] {1, new BinaryStringData("xyz")}));
+        DataChangeEvent updateEventExpect =
+                DataChangeEvent.updateEvent(
+                        METADATA_FIRST_TABLEID,
+                        expectedRecordDataGenerator.generate(
+                                new Object[] {
+                                    new BinaryStringData("-U"),
+                                    new BinaryStringData("metadata_first_table:-U:abc"),
+                                    1,
+                                    new BinaryStringData("abc")
+                                }),
+                        expectedRecordDataGenerator.generate(
+                                new Object[] {
+                                    new BinaryStringData("+U"),
+                                    new BinaryStringData("metadata_first_table:+U:xyz"),
+                                    1,
+                                    new BinaryStringData("xyz")
+                                }));
+        // Delete, which is filtered out by the metadata column
+        DataChangeEvent deleteEvent =
+                DataChangeEvent.deleteEvent(
+                        METADATA_FIRST_TABLEID,
+                        recordDataGenerator.generate(
+                                new Object[] {1, new BinaryStringData("xyz")}));
+
+        transform.processElement(new StreamRecord<>(createTableEvent));
+        Assertions.assertThat(
+                        transformFunctionEventEventOperatorTestHarness.getOutputRecords().poll())
+                .isEqualTo(
+                        new StreamRecord<>(
+                                new CreateTableEvent(
+                                        METADATA_FIRST_TABLEID, EXPECTED_METADATA_FIRST_SCHEMA)));
+        transform.processElement(new StreamRecord<>(insertEvent));
+        Assertions.assertThat(
+                        transformFunctionEventEventOperatorTestHarness.getOutputRecords().poll())
+                .isEqualTo(new StreamRecord<>(insertEventExpect));
+        transform.processElement(new StreamRecord<>(filteredInsertEvent));
+        transform.processElement(new StreamRecord<>(updateEvent));
+        Assertions.assertThat(
+                        transformFunctionEventEventOperatorTestHarness.getOutputRecords().poll())
+                .isEqualTo(new StreamRecord<>(updateEventExpect));
+        transform.processElement(new StreamRecord<>(deleteEvent));
+        Assertions.assertThat(
+                        transformFunctionEventEventOperatorTestHarness.getOutputRecords().poll())
+                .isNull();
+    }
+
     @Test
     void testDataChangeEventTransformWithDuplicateColumns() throws Exception {
         PostTransformOperator transform =
@@ -747,6 +919,15 @@ public class PostTransformOperatorTest {
 
     @Test
     void testTimezoneTransform() throws Exception {
+        testTimezoneTransform(false);
+    }
+
+    @Test
+    void testTimezoneTransformWithCodegen() throws Exception {
+        testTimezoneTransform(true);
+    }
+
+    private void testTimezoneTransform(boolean codegenEnabled) throws Exception {
         PostTransformOperator transform =
                 PostTransformOperator.newBuilder()
                         .addTransform(
@@ -754,6 +935,7 @@ public class PostTransformOperatorTest {
                                 "col1, DATE_FORMAT(TO_TIMESTAMP('2024-08-01 00:00:00'), 'yyyy-MM-dd HH:mm:ss') as datetime",
                                 null)
                         .addTimezone("UTC")
+                        .enableCodegen(codegenEnabled)
                         .build();
         EventOperatorTestHarness<PostTransformOperator, Event>
                 transformFunctionEventEventOperatorTestHarness =
@@ -792,6 +974,15 @@ public class PostTransformOperatorTest {
 
     @Test
     void testNullCastTransform() throws Exception {
+        testNullCastTransform(false);
+    }
+
+    @Test
+    void testNullCastTransformWithCodegen() throws Exception {
+        testNullCastTransform(true);
+    }
+
+    private void testNullCastTransform(boolean codegenEnabled) throws Exception {
         PostTransformOperator transform =
                 PostTransformOperator.newBuilder()
                         .addTransform(
@@ -810,6 +1001,7 @@ public class PostTransformOperatorTest {
                                         + ",cast(colString as DECIMAL(4,2)) as nullDecimal"
                                         + ",cast(colString as TIMESTAMP(3)) as nullTimestamp",
                                 null)
+                        .enableCodegen(codegenEnabled)
                         .build();
         EventOperatorTestHarness<PostTransformOperator, Event>
                 transformFunctionEventEventOperatorTestHarness =
@@ -852,6 +1044,15 @@ public class PostTransformOperatorTest {
 
     @Test
     void testCastTransform() throws Exception {
+        testCastTransform(false);
+    }
+
+    @Test
+    void testCastTransformWithCodegen() throws Exception {
+        testCastTransform(true);
+    }
+
+    private void testCastTransform(boolean codegenEnabled) throws Exception {
         PostTransformOperator transform =
                 PostTransformOperator.newBuilder()
                         .addTransform(
@@ -1004,6 +1205,7 @@ public class PostTransformOperatorTest {
                                         + ",castDecimal"
                                         + ",cast('1970-01-01T00:00:01.234' as TIMESTAMP(3)) as castTimestamp",
                                 "col1 = '10'")
+                        .enableCodegen(codegenEnabled)
                         .build();
         EventOperatorTestHarness<PostTransformOperator, Event>
                 transformFunctionEventEventOperatorTestHarness =
@@ -1544,6 +1746,12 @@ public class PostTransformOperatorTest {
     }
 
     private void testExpressionConditionTransform(String expression) throws Exception {
+        testExpressionConditionTransform(expression, false);
+        testExpressionConditionTransform(expression, true);
+    }
+
+    private void testExpressionConditionTransform(String expression, boolean codegenEnabled)
+            throws Exception {
         PostTransformOperator transform =
                 PostTransformOperator.newBuilder()
                         .addTransform(
@@ -1551,6 +1759,7 @@ public class PostTransformOperatorTest {
                                 "col1, IF(" + expression + ", true, false) as condition_result",
                                 expression)
                         .addTimezone("UTC")
+                        .enableCodegen(codegenEnabled)
                         .build();
         EventOperatorTestHarness<PostTransformOperator, Event>
                 transformFunctionEventEventOperatorTestHarness =
@@ -1587,6 +1796,15 @@ public class PostTransformOperatorTest {
 
     @Test
     public void testReduceSchemaTransform() throws Exception {
+        testReduceSchemaTransform(false);
+    }
+
+    @Test
+    public void testReduceSchemaTransformWithCodegen() throws Exception {
+        testReduceSchemaTransform(true);
+    }
+
+    private void testReduceSchemaTransform(boolean codegenEnabled) throws Exception {
         PostTransformOperator transform =
                 PostTransformOperator.newBuilder()
                         .addTransform(
@@ -1594,6 +1812,7 @@ public class PostTransformOperatorTest {
                                 "id, upper(id) as uid, age + 1 as newage, lower(ref1) as ref1, 17 as seventeen",
                                 "newage > 17 and ref2 > 17")
                         .addTimezone("GMT")
+                        .enableCodegen(codegenEnabled)
                         .build();
         EventOperatorTestHarness<PostTransformOperator, Event>
                 transformFunctionEventEventOperatorTestHarness =
@@ -1782,4 +2001,212 @@ public class PostTransformOperatorTest {
                         transformFunctionEventEventOperatorTestHarness.getOutputRecords().poll())
                 .isEqualTo(new StreamRecord<>(updateEventExpect));
     }
+
+    @Test
+    void testRebuildTransformPlanAfterSchemaChange() throws Exception {
+        testRebuildTransformPlanAfterSchemaChange(false);
+    }
+
+    @Test
+    void testRebuildTransformPlanAfterSchemaChangeWithCodegen() throws Exception {
+        testRebuildTransformPlanAfterSchemaChange(true);
+    }
+
+    private void testRebuildTransformPlanAfterSchemaChange(boolean codegenEnabled)
+            throws Exception {
+        PostTransformOperator transform =
+                PostTransformOperator.newBuilder()
+                        .addTransform(PLAN_TABLEID.identifier(), "*, upper(name) as uname", null)
+                        .enableCodegen(codegenEnabled)
+                        .build();
+        EventOperatorTestHarness<PostTransformOperator, Event>
+                transformFunctionEventEventOperatorTestHarness =
+                        new EventOperatorTestHarness<>(transform, 1);
+        // Initialization
+        transformFunctionEventEventOperatorTestHarness.open();
+        transform.processElement(
+                new StreamRecord<>(new CreateTableEvent(PLAN_TABLEID, PLAN_SCHEMA)));
+        transformFunctionEventEventOperatorTestHarness.clearOutputRecords();
+
+        BinaryRecordDataGenerator recordDataGenerator =
+                new BinaryRecordDataGenerator(((RowType) PLAN_SCHEMA.toRowDataType()));
+        BinaryRecordDataGenerator expectedRecordDataGenerator =
+                new BinaryRecordDataGenerator(
+                        new DataType[] {DataTypes.INT(), DataTypes.STRING(), DataTypes.STRING()});
+        transform.processElement(
+                new StreamRecord<>(
+                        DataChangeEvent.insertEvent(
+                                PLAN_TABLEID,
+                                recordDataGenerator.generate(
+                                        new Object[] {1, new BinaryStringData("alice")}))));
+        Assertions.assertThat(
+                        transformFunctionEventEventOperatorTestHarness.getOutputRecords().poll())
+                .isEqualTo(
+                        new StreamRecord<>(
+                                DataChangeEvent.insertEvent(
+                                        PLAN_TABLEID,
+                                        expectedRecordDataGenerator.generate(
+                                                new Object[] {
+                                                    1,
+                                                    new BinaryStringData("alice"),
+                                                    new BinaryStringData("ALICE")
+                                                }))));
+
+        // The plan compiled for the previous schema must not be applied to the new records
+        transform.processElement(
+                new StreamRecord<>(
+                        new AddColumnEvent(
+                                PLAN_TABLEID,
+                                Collections.singletonList(
+                                        new AddColumnEvent.ColumnWithPosition(
+                                                Column.physicalColumn("age", DataTypes.INT()))))));
+        transformFunctionEventEventOperatorTestHarness.clearOutputRecords();
+
+        BinaryRecordDataGenerator evolvedRecordDataGenerator =
+                new BinaryRecordDataGenerator(
+                        new DataType[] {DataTypes.INT(), DataTypes.STRING(), DataTypes.INT()});
+        BinaryRecordDataGenerator expectedEvolvedRecordDataGenerator =
+                new BinaryRecordDataGenerator(
+                        new DataType[] {
+                            DataTypes.INT(), DataTypes.STRING(), DataTypes.INT(), DataTypes.STRING()
+                        });
+        transform.processElement(
+                new StreamRecord<>(
+                        DataChangeEvent.insertEvent(
+                                PLAN_TABLEID,
+                                evolvedRecordDataGenerator.generate(
+                                        new Object[] {2, new BinaryStringData("bob"), 17}))));
+        Assertions.assertThat(
+                        transformFunctionEventEventOperatorTestHarness.getOutputRecords().poll())
+                .isEqualTo(
+                        new StreamRecord<>(
+                                DataChangeEvent.insertEvent(
+                                        PLAN_TABLEID,
+                                        expectedEvolvedRecordDataGenerator.generate(
+                                                new Object[] {
+                                                    2,
+                                                    new BinaryStringData("bob"),
+                                                    17,
+                                                    new BinaryStringData("BOB")
+                                                }))));
+    }
+
+    @Test
+    void testSkipIdentityPostProjection() throws Exception {
+        PostTransformOperator transform =
+                PostTransformOperator.newBuilder()
+                        .addTransform(PLAN_TABLEID.identifier(), null, "id > 1")
+                        .build();
+        EventOperatorTestHarness<PostTransformOperator, Event>
+                transformFunctionEventEventOperatorTestHarness =
+                        new EventOperatorTestHarness<>(transform, 1);
+        // Initialization
+        transformFunctionEventEventOperatorTestHarness.open();
+        transform.processElement(
+                new StreamRecord<>(new CreateTableEvent(CUSTOMERS_TABLEID, CUSTOMERS_SCHEMA)));
+        transform.processElement(
+                new StreamRecord<>(new CreateTableEvent(PLAN_TABLEID, PLAN_SCHEMA)));
+        transformFunctionEventEventOperatorTestHarness.clearOutputRecords();
+
+        // The records of a table without transform keep their layout, so they are not copied
+        DataChangeEvent untransformedEvent =
+                DataChangeEvent.insertEvent(
+                        CUSTOMERS_TABLEID,
+                        new BinaryRecordDataGenerator(((RowType) CUSTOMERS_SCHEMA.toRowDataType()))
+                                .generate(
+                                        new Object[] {
+                                            new BinaryStringData("1"),
+                                            new BinaryStringData("2"),
+                                            new BinaryStringData("12")
+                                        }));
+        transform.processElement(new StreamRecord<>(untransformedEvent));
+        Assertions.assertThat(
+                        transformFunctionEventEventOperatorTestHarness
+                                .getOutputRecords()
+                                .poll()
+                                .getValue())
+                .isSameAs(untransformedEvent);
+
+        // Neither are the records of a table with a filter only
+        BinaryRecordDataGenerator recordDataGenerator =
+                new BinaryRecordDataGenerator(((RowType) PLAN_SCHEMA.toRowDataType()));
+        DataChangeEvent filteredEvent =
+                DataChangeEvent.insertEvent(
+                        PLAN_TABLEID,
+                        recordDataGenerator.generate(
+                                new Object[] {2, new BinaryStringData("bob")}));
+        transform.processElement(
+                new StreamRecord<>(
+                        DataChangeEvent.insertEvent(
+                                PLAN_TABLEID,
+                                recordDataGenerator.generate(
+                                        new Object[] {1, new BinaryStringData("alice")}))));
+        transform.processElement(new StreamRecord<>(filteredEvent));
+        Assertions.assertThat(
+                        transformFunctionEventEventOperatorTestHarness
+                                .getOutputRecords()
+                                .poll()
+                                .getValue())
+                .isSameAs(filteredEvent);
+        Assertions.assertThat(transformFunctionEventEventOperatorTestHarness.getOutputRecords())
+                .isEmpty();
+    }
+
+    @Test
+    void testFailingUdf() throws Exception {
+        testFailingUdf(false);
+    }
+
+    @Test
+    void testFailingUdfWithCodegen() throws Exception {
+        testFailingUdf(true);
+    }
+
+    private void testFailingUdf(boolean codegenEnabled) throws Exception {
+        PostTransformOperator transform =
+                PostTransformOperator.newBuilder()
+                        .addTransform(
+                                CUSTOMERS_TABLEID.identifier(),
+                                "col1, col2, failing_udf(col1) AS col12",
+                                null)
+                        .addUdfFunctions(
+                                Collections.singletonList(
+                                        Tuple2.of("failing_udf", FailingUdf.class.getName())))
+                        .enableCodegen(codegenEnabled)
+                        .build();
+        EventOperatorTestHarness<PostTransformOperator, Event>
+                transformFunctionEventEventOperatorTestHarness =
+                        new EventOperatorTestHarness<>(transform, 1);
+        // Initialization
+        transformFunctionEventEventOperatorTestHarness.open();
+        transform.processElement(
+                new StreamRecord<>(new CreateTableEvent(CUSTOMERS_TABLEID, CUSTOMERS_SCHEMA)));
+        DataChangeEvent insertEvent =
+                DataChangeEvent.insertEvent(
+                        CUSTOMERS_TABLEID,
+                        new BinaryRecordDataGenerator(((RowType) CUSTOMERS_SCHEMA.toRowDataType()))
+                                .generate(
+                                        new Object[] {
+                                            new BinaryStringData("1"),
+                                            new BinaryStringData("2"),
+                                            null
+                                        }));
+
+        // the failures of the UDF are wrapped the same way with and without codegen
+        Assertions.assertThatThrownBy(
+                        () -> transform.processElement(new StreamRecord<>(insertEvent)))
+                .isExactlyInstanceOf(RuntimeException.class)
+                .cause()
+                .isInstanceOf(InvocationTargetException.class)
+                .cause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Failed to evaluate 1");
+    }
+
+    /** A UDF which always fails. */
+    public static class FailingUdf implements UserDefinedFunction {
+        public String eval(String value) {
+            throw new IllegalStateException("Failed to evaluate " + value);
+        }
+    }
 }
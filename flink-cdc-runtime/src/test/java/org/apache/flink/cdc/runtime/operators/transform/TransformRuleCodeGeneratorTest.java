@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+/** Unit tests for the {@link TransformRuleCodeGenerator}. */
+public class TransformRuleCodeGeneratorTest {
+
+    private static final TableId TABLE_ID = TableId.tableId("my_company", "my_branch", "orders");
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("price", DataTypes.DOUBLE())
+                    .physicalColumn("amount", DataTypes.DECIMAL(10, 2))
+                    .physicalColumn("created", DataTypes.TIMESTAMP(3))
+                    .primaryKey("id")
+                    .build();
+
+    @Test
+    void testGeneratedRuleMatchesInterpretedEvaluation() throws Exception {
+        TransformProjection transformProjection =
+                TransformProjection.of(
+                                "*, upper(name) AS upper_name, price * 2 AS double_price, "
+                                        + "__table_name__ AS tbl, __data_event_type__ AS op")
+                        .get();
+        TransformFilter transformFilter =
+                TransformFilter.of("id > 1 AND name IS NOT NULL", Collections.emptyList()).get();
+        Schema postTransformedSchema =
+                TransformProjectionProcessor.of(
+                                transformProjection,
+                                Collections.emptyList(),
+                                Collections.emptyList())
+                        .processSchemaChangeEvent(SCHEMA);
+        PostTransformChangeInfo tableInfo =
+                PostTransformChangeInfo.of(TABLE_ID, postTransformedSchema, SCHEMA);
+
+        GeneratedTransformRule generatedRule =
+                TransformRuleCodeGenerator.generate(
+                        tableInfo,
+                        transformFilter,
+                        transformProjection,
+                        "UTC",
+                        Collections.emptyList(),
+                        Collections.emptyList());
+        TransformFilterProcessor filterProcessor =
+                TransformFilterProcessor.of(
+                        tableInfo,
+                        transformFilter,
+                        "UTC",
+                        Collections.emptyList(),
+                        Collections.emptyList());
+        TransformProjectionProcessor projectionProcessor =
+                TransformProjectionProcessor.of(
+                        tableInfo,
+                        transformProjection,
+                        "UTC",
+                        Collections.emptyList(),
+                        Collections.emptyList());
+
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator((RowType) SCHEMA.toRowDataType());
+        BinaryRecordData[] records =
+                new BinaryRecordData[] {
+                    generator.generate(
+                            new Object[] {
+                                2,
+                                BinaryStringData.fromString("apple"),
+                                1.5,
+                                DecimalData.fromBigDecimal(new BigDecimal("12.34"), 10, 2),
+                                TimestampData.fromMillis(1000L)
+                            }),
+                    generator.generate(
+                            new Object[] {3, BinaryStringData.fromString("kiwi"), 3.0, null, null}),
+                    generator.generate(
+                            new Object[] {1, BinaryStringData.fromString("pear"), 2.0, null, null})
+                };
+        for (BinaryRecordData record : records) {
+            boolean accepted = filterProcessor.process(record, 0L, "+I");
+            Assertions.assertThat(generatedRule.filter(record, 0L, "+I")).isEqualTo(accepted);
+            Assertions.assertThat(generatedRule.filterAndProject(record, 0L, "+I"))
+                    .isEqualTo(accepted ? projectionProcessor.processData(record, 0L, "+I") : null);
+            Assertions.assertThat(generatedRule.project(record, 0L, "-U"))
+                    .isEqualTo(projectionProcessor.processData(record, 0L, "-U"));
+        }
+    }
+
+    @Test
+    void testGenerateInvalidExpression() {
+        PostTransformChangeInfo tableInfo = PostTransformChangeInfo.of(TABLE_ID, SCHEMA, SCHEMA);
+        TransformFilter transformFilter =
+                new TransformFilter("id >", "id >", Collections.singletonList("id"));
+        // the operator falls back to the interpreted evaluation on the failure
+        Assertions.assertThatThrownBy(
+                        () ->
+                                TransformRuleCodeGenerator.generate(
+                                        tableInfo,
+                                        transformFilter,
+                                        null,
+                                        "UTC",
+                                        Collections.emptyList(),
+                                        Collections.emptyList()))
+                .hasMessageContaining("cannot be compiled");
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.partitioning;
+
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.function.HashFunction;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.sink.DefaultDataChangeEventHashFunctionProvider;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit test for the default {@link HashFunction} of {@link DataChangeEvent}. */
+class DefaultDataChangeEventHashFunctionTest {
+
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("c_boolean", DataTypes.BOOLEAN())
+                    .physicalColumn("c_tinyint", DataTypes.TINYINT())
+                    .physicalColumn("c_smallint", DataTypes.SMALLINT())
+                    .physicalColumn("c_int", DataTypes.INT())
+                    .physicalColumn("c_bigint", DataTypes.BIGINT())
+                    .physicalColumn("c_float", DataTypes.FLOAT())
+                    .physicalColumn("c_double", DataTypes.DOUBLE())
+                    .physicalColumn("c_short_string", DataTypes.STRING())
+                    .physicalColumn("c_long_string", DataTypes.VARCHAR(100))
+                    .physicalColumn("c_decimal", DataTypes.DECIMAL(10, 2))
+                    .physicalColumn("c_big_decimal", DataTypes.DECIMAL(30, 5))
+                    .physicalColumn("c_timestamp", DataTypes.TIMESTAMP(3))
+                    .physicalColumn("c_timestamp_ltz", DataTypes.TIMESTAMP_LTZ(6))
+                    .physicalColumn("c_date", DataTypes.DATE())
+                    .physicalColumn("value", DataTypes.STRING())
+                    .primaryKey(
+                            "c_boolean",
+                            "c_tinyint",
+                            "c_smallint",
+                            "c_int",
+                            "c_bigint",
+                            "c_float",
+                            "c_double",
+                            "c_short_string",
+                            "c_long_string",
+                            "c_decimal",
+                            "c_big_decimal",
+                            "c_timestamp",
+                            "c_timestamp_ltz",
+                            "c_date")
+                    .build();
+
+    @Test
+    void testHashCodeIsCompatible() {
+        HashFunction<DataChangeEvent> hashFunction =
+                new DefaultDataChangeEventHashFunctionProvider().getHashFunction(null, SCHEMA);
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator((RowType) SCHEMA.toRowDataType());
+        BinaryRecordData[] records =
+                new BinaryRecordData[] {
+                    generator.generate(
+                            new Object[] {
+                                true,
+                                (byte) 1,
+                                (short) -2,
+                                3,
+                                -4L,
+                                5.5f,
+                                -6.6,
+                                BinaryStringData.fromString("short"),
+                                BinaryStringData.fromString("a string longer than seven bytes"),
+                                DecimalData.fromBigDecimal(new BigDecimal("-12.34"), 10, 2),
+                                DecimalData.fromBigDecimal(
+                                        new BigDecimal("1234567890123456789.12345"), 30, 5),
+                                TimestampData.fromMillis(1704067200123L),
+                                LocalZonedTimestampData.fromEpochMillis(-1000L, 123000),
+                                19723,
+                                BinaryStringData.fromString("value")
+                            }),
+                    generator.generate(
+                            new Object[] {
+                                false,
+                                Byte.MIN_VALUE,
+                                Short.MAX_VALUE,
+                                Integer.MIN_VALUE,
+                                Long.MAX_VALUE,
+                                -0.0f,
+                                Double.NaN,
+                                BinaryStringData.fromString(""),
+                                BinaryStringData.fromString("中文字符串"),
+                                DecimalData.fromBigDecimal(new BigDecimal("99999999.99"), 10, 2),
+                                DecimalData.fromBigDecimal(new BigDecimal("-0.00001"), 30, 5),
+                                TimestampData.fromMillis(-1L),
+                                LocalZonedTimestampData.fromEpochMillis(0L),
+                                0,
+                                null
+                            }),
+                    generator.generate(new Object[15])
+                };
+
+        for (BinaryRecordData record : records) {
+            for (TableId tableId :
+                    new TableId[] {
+                        TableId.tableId("my_table"),
+                        TableId.tableId("my_db", "my_table"),
+                        TableId.tableId("my_company", "my_branch", "my_table"),
+                        // the cached table id hash is reused for an equal table id
+                        TableId.tableId("my_company", "my_branch", "my_table")
+                    }) {
+                DataChangeEvent insertEvent = DataChangeEvent.insertEvent(tableId, record);
+                assertThat(hashFunction.hashcode(insertEvent))
+                        .isEqualTo(legacyHashCode(tableId, record));
+                DataChangeEvent deleteEvent = DataChangeEvent.deleteEvent(tableId, record);
+                assertThat(hashFunction.hashcode(deleteEvent))
+                        .isEqualTo(legacyHashCode(tableId, record));
+            }
+        }
+    }
+
+    @Test
+    void testHashCodeOfBinaryPrimaryKey() {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.VARBINARY(20))
+                        .primaryKey("id")
+                        .build();
+        HashFunction<DataChangeEvent> hashFunction =
+                new DefaultDataChangeEventHashFunctionProvider().getHashFunction(null, schema);
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator((RowType) schema.toRowDataType());
+        TableId tableId = TableId.tableId("my_db", "my_table");
+
+        // equal binary keys must be assigned to the same partition
+        assertThat(
+                        hashFunction.hashcode(
+                                DataChangeEvent.insertEvent(
+                                        tableId,
+                                        generator.generate(new Object[] {new byte[] {1, 2, 3}}))))
+                .isEqualTo(
+                        hashFunction.hashcode(
+                                DataChangeEvent.insertEvent(
+                                        tableId,
+                                        generator.generate(new Object[] {new byte[] {1, 2, 3}}))));
+    }
+
+    /** The hash code computed by the previous implementation based on {@link Objects#hash}. */
+    private static int legacyHashCode(TableId tableId, RecordData record) {
+        List<Object> objectsToHash = new ArrayList<>();
+        if (tableId.getNamespace() != null) {
+            objectsToHash.add(tableId.getNamespace());
+        }
+        if (tableId.getSchemaName() != null) {
+            objectsToHash.add(tableId.getSchemaName());
+        }
+        objectsToHash.add(tableId.getTableName());
+        List<String> columnNames =
+                SCHEMA.getColumns().stream().map(Column::getName).collect(Collectors.toList());
+        for (String primaryKey : SCHEMA.primaryKeys()) {
+            int pos = columnNames.indexOf(primaryKey);
+            objectsToHash.add(
+                    RecordData.createFieldGetter(SCHEMA.getColumns().get(pos).getType(), pos)
+                            .getFieldOrNull(record));
+        }
+        return (Objects.hash(objectsToHash.toArray()) * 31) & 0x7FFFFFFF;
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.runtime.partitioning;
 
 import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AlterColumnTypeEvent;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.FlushEvent;
@@ -26,14 +27,22 @@ import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.sink.DefaultDataChangeEventHashFunctionProvider;
 import org.apache.flink.cdc.common.types.DataTypes;
 import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.runtime.serializer.event.PartitioningEventSerializer;
 import org.apache.flink.cdc.runtime.testutils.operators.EventOperatorTestHarness;
 import org.apache.flink.cdc.runtime.testutils.schema.TestingSchemaRegistryGateway;
 import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 /** Unit test for {@link PrePartitionOperator}. */
 class PrePartitionOperatorTest {
@@ -88,6 +97,54 @@ class PrePartitionOperatorTest {
         }
     }
 
+    @Test
+    void testBroadcastingWithoutCopyDoesNotLeakAcrossChannels() throws Exception {
+        try (EventOperatorTestHarness<PrePartitionOperator, PartitioningEvent> testHarness =
+                createTestHarness()) {
+            // Initialization
+            testHarness.open();
+            testHarness.registerTableSchema(CUSTOMERS, CUSTOMERS_SCHEMA);
+
+            // AlterColumnTypeEvent
+            PrePartitionOperator operator = testHarness.getOperator();
+            AlterColumnTypeEvent alterColumnTypeEvent =
+                    new AlterColumnTypeEvent(
+                            CUSTOMERS, Collections.singletonMap("phone", DataTypes.STRING()));
+            operator.processElement(new StreamRecord<>(alterColumnTypeEvent));
+            assertThat(testHarness.getOutputRecords()).hasSize(DOWNSTREAM_PARALLELISM);
+
+            // The payload is shared by all channels instead of being copied
+            List<PartitioningEvent> broadcast = new ArrayList<>();
+            for (StreamRecord<PartitioningEvent> record : testHarness.getOutputRecords()) {
+                assertThat(record.getValue().getPayload()).isSameAs(alterColumnTypeEvent);
+                broadcast.add(record.getValue());
+            }
+
+            // Each channel receives its own instance after going through the network
+            List<AlterColumnTypeEvent> received = new ArrayList<>();
+            DataOutputSerializer outputView = new DataOutputSerializer(128);
+            for (PartitioningEvent partitioningEvent : broadcast) {
+                outputView.clear();
+                PartitioningEventSerializer.INSTANCE.serialize(partitioningEvent, outputView);
+                PartitioningEvent deserialized =
+                        PartitioningEventSerializer.INSTANCE.deserialize(
+                                new DataInputDeserializer(outputView.getCopyOfBuffer()));
+                assertThat(deserialized).isEqualTo(partitioningEvent);
+                received.add((AlterColumnTypeEvent) deserialized.getPayload());
+            }
+
+            // Mutating the event on one channel is not visible on the others
+            received.get(0).fillPreSchema(CUSTOMERS_SCHEMA);
+            assertThat(received.get(0).getOldTypeMapping())
+                    .containsExactly(entry("phone", DataTypes.BIGINT()));
+            for (int i = 1; i < DOWNSTREAM_PARALLELISM; i++) {
+                assertThat(received.get(i)).isNotSameAs(received.get(0));
+                assertThat(received.get(i).hasPreSchema()).isFalse();
+            }
+            assertThat(alterColumnTypeEvent.hasPreSchema()).isFalse();
+        }
+    }
+
     @Test
     void testPartitioningDataChangeEvent() throws Exception {
         try (EventOperatorTestHarness<PrePartitionOperator, PartitioningEvent> testHarness =
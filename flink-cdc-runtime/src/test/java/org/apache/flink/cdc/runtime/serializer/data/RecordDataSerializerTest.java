@@ -18,11 +18,20 @@
 package org.apache.flink.cdc.runtime.serializer.data;
 
 import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
 import org.apache.flink.cdc.common.data.binary.BinaryStringData;
 import org.apache.flink.cdc.common.types.DataTypes;
 import org.apache.flink.cdc.common.types.RowType;
 import org.apache.flink.cdc.runtime.serializer.SerializerTestBase;
 import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 /** A test for the {@link StringDataSerializer}. */
 public class RecordDataSerializerTest extends SerializerTestBase<RecordData> {
@@ -49,7 +58,33 @@ public class RecordDataSerializerTest extends SerializerTestBase<RecordData> {
         return new RecordData[] {
             generator.generate(new Object[] {1L, BinaryStringData.fromString("test1")}),
             generator.generate(new Object[] {2L, BinaryStringData.fromString("test2")}),
-            generator.generate(new Object[] {3L, null})
+            generator.generate(new Object[] {3L, null}),
+            new BinaryRecordDataGenerator(
+                            RowType.of(DataTypes.INT(), DataTypes.STRING(), DataTypes.BOOLEAN()))
+                    .generate(new Object[] {4, BinaryStringData.fromString("test4"), true})
         };
     }
+
+    @Test
+    void testDeserializeIntoReusedBuffer() throws IOException {
+        RecordData[] testData = getTestData();
+        DataOutputSerializer output = new DataOutputSerializer(256);
+        for (RecordData record : testData) {
+            RecordDataSerializer.INSTANCE.serialize(record, output);
+        }
+        DataInputDeserializer input = new DataInputDeserializer(output.getCopyOfBuffer());
+
+        BinaryRecordData reuse = (BinaryRecordData) RecordDataSerializer.INSTANCE.copy(testData[0]);
+        byte[] buffer = reuse.getSegments()[0].getArray();
+        for (RecordData expected : testData) {
+            BinaryRecordData deserialized =
+                    (BinaryRecordData) RecordDataSerializer.INSTANCE.deserialize(reuse, input);
+            assertThat(deserialized).isEqualTo(expected);
+            if (expected.getArity() == reuse.getArity()
+                    && ((BinaryRecordData) expected).getSizeInBytes() <= buffer.length) {
+                assertThat(deserialized).isSameAs(reuse);
+                assertThat(deserialized.getSegments()[0].getArray()).isSameAs(buffer);
+            }
+        }
+    }
 }
@@ -24,12 +24,24 @@ import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.types.DataTypes;
 import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.runtime.serializer.MapSerializer;
+import org.apache.flink.cdc.runtime.serializer.NullableSerializerWrapper;
 import org.apache.flink.cdc.runtime.serializer.SerializerTestBase;
+import org.apache.flink.cdc.runtime.serializer.StringSerializer;
+import org.apache.flink.cdc.runtime.serializer.TableIdSerializer;
+import org.apache.flink.cdc.runtime.serializer.data.RecordDataSerializer;
 import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
 
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 /** A test for the {@link DataChangeEventSerializer}. */
 public class DataChangeEventSerializerTest extends SerializerTestBase<DataChangeEvent> {
     @Override
@@ -75,7 +87,53 @@ public class DataChangeEventSerializerTest extends SerializerTestBase<DataChange
             DataChangeEvent.updateEvent(
                     TableId.tableId("namespace", "schema", "table"), before, after),
             DataChangeEvent.updateEvent(
-                    TableId.tableId("namespace", "schema", "table"), before, after, meta)
+                    TableId.tableId("namespace", "schema", "table"), before, after, meta),
+            DataChangeEvent.insertEvent(TableId.tableId("schema", "table"), after, null)
         };
     }
+
+    @Test
+    void testDeserializeLegacyFormat() throws IOException {
+        DataOutputSerializer legacyOutput = new DataOutputSerializer(256);
+        for (DataChangeEvent event : getTestData()) {
+            serializeLegacy(event, legacyOutput);
+        }
+        DataInputDeserializer input = new DataInputDeserializer(legacyOutput.getCopyOfBuffer());
+        for (DataChangeEvent event : getTestData()) {
+            assertThat(DataChangeEventSerializer.INSTANCE.deserialize(input)).isEqualTo(event);
+        }
+        assertThat(input.available()).isZero();
+    }
+
+    @Test
+    void testSerializedSize() throws IOException {
+        // the op, the number of table id parts and the empty meta are encoded in one byte
+        DataChangeEvent event =
+                DataChangeEvent.insertEvent(
+                        TableId.tableId("schema", "table"),
+                        new BinaryRecordDataGenerator(RowType.of(DataTypes.INT()))
+                                .generate(new Object[] {1}));
+        DataOutputSerializer output = new DataOutputSerializer(64);
+        serializeLegacy(event, output);
+        int legacySize = output.length();
+        output.clear();
+        DataChangeEventSerializer.INSTANCE.serialize(event, output);
+        assertThat(output.length()).isEqualTo(legacySize - 12);
+    }
+
+    /** Serializes the event in the format before the header byte was introduced. */
+    private static void serializeLegacy(DataChangeEvent event, DataOutputSerializer target)
+            throws IOException {
+        target.writeInt(event.op().ordinal());
+        TableIdSerializer.INSTANCE.serialize(event.tableId(), target);
+        if (event.before() != null) {
+            RecordDataSerializer.INSTANCE.serialize(event.before(), target);
+        }
+        if (event.after() != null) {
+            RecordDataSerializer.INSTANCE.serialize(event.after(), target);
+        }
+        new NullableSerializerWrapper<>(
+                        new MapSerializer<>(StringSerializer.INSTANCE, StringSerializer.INSTANCE))
+                .serialize(event.meta(), target);
+    }
 }
@@ -23,6 +23,7 @@ import org.apache.flink.cdc.common.event.FlushEvent;
 import org.apache.flink.cdc.common.event.SchemaChangeEventType;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.pipeline.SchemaChangeBehavior;
+import org.apache.flink.cdc.common.route.RouteRule;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.runtime.operators.schema.coordinator.SchemaRegistry;
 import org.apache.flink.cdc.runtime.operators.schema.event.FlushSuccessEvent;
@@ -54,6 +55,7 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executors;
 
@@ -109,6 +111,24 @@ public class EventOperatorTestHarness<OP extends AbstractStreamOperator<E>, E ex
         schemaRegistryGateway = new TestingSchemaRegistryGateway(schemaRegistry);
     }
 
+    public EventOperatorTestHarness(
+            OP operator, int numOutputs, Duration duration, List<RouteRule> routingRules) {
+        this.operator = operator;
+        this.numOutputs = numOutputs;
+        this.mockedContext =
+                new MockedOperatorCoordinatorContext(
+                        SCHEMA_OPERATOR_ID, Thread.currentThread().getContextClassLoader());
+        schemaRegistry =
+                new SchemaRegistry(
+                        "SchemaOperator",
+                        mockedContext,
+                        Executors.newFixedThreadPool(1),
+                        new CollectingMetadataApplier(duration),
+                        routingRules,
+                        SchemaChangeBehavior.EVOLVE);
+        schemaRegistryGateway = new TestingSchemaRegistryGateway(schemaRegistry);
+    }
+
     public EventOperatorTestHarness(
             OP operator,
             int numOutputs,
@@ -172,6 +192,10 @@ public class EventOperatorTestHarness<OP extends AbstractStreamOperator<E>, E ex
         return operator;
     }
 
+    public SchemaRegistry getSchemaRegistry() {
+        return schemaRegistry;
+    }
+
     public void registerTableSchema(TableId tableId, Schema schema) {
         schemaRegistry.handleCoordinationRequest(
                 new SchemaChangeRequest(tableId, new CreateTableEvent(tableId, schema), 0));